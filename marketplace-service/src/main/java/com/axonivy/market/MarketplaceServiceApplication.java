@@ -1,6 +1,10 @@
 package com.axonivy.market;
 
+import com.axonivy.market.bo.DocumentSyncStatistics;
 import com.axonivy.market.service.ExternalDocumentService;
+import com.axonivy.market.service.FeedbackService;
+import com.axonivy.market.service.ImageService;
+import com.axonivy.market.service.ProductMarketplaceDataService;
 import com.axonivy.market.service.ProductService;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -14,7 +18,6 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Log4j2
@@ -26,6 +29,9 @@ public class MarketplaceServiceApplication {
 
   final ProductService productService;
   final ExternalDocumentService externalDocumentService;
+  final ImageService imageService;
+  final ProductMarketplaceDataService productMarketplaceDataService;
+  final FeedbackService feedbackService;
 
   public static void main(String[] args) {
     SpringApplication.run(MarketplaceServiceApplication.class, args);
@@ -34,6 +40,11 @@ public class MarketplaceServiceApplication {
   @Async
   @EventListener(ApplicationStartedEvent.class)
   public void startInitializeSystem() {
+    imageService.ensureImageIndexes();
+    imageService.migrateImageDataToBlobStore();
+    log.warn("Migrating installation counts: Migrated legacy counts of {} products",
+        productMarketplaceDataService.migrateLegacyInstallationCounts());
+    feedbackService.rebuildProductRatings();
     List<String> productIds = syncProductData();
     syncExternalDocumentData(productIds);
   }
@@ -61,9 +72,9 @@ public class MarketplaceServiceApplication {
     if (ObjectUtils.isEmpty(productIds)) {
       log.warn("Synchronizing External Document: Nothing updated");
     }
-    productIds.forEach(id -> externalDocumentService.syncDocumentForProduct(id, new ArrayList<>(), false));
+    DocumentSyncStatistics statistics = externalDocumentService.syncDocumentForProducts(productIds, false);
     watch.stop();
-    log.warn("Synchronizing External Document: Finished synchronizing data for Document in [{}] milliseconds",
-        watch.getTime());
+    log.warn("Synchronizing External Document: Finished synchronizing data for Document in [{}] milliseconds, {}",
+        watch.getTime(), statistics.getSummary());
   }
 }
@@ -3,14 +3,21 @@ package com.axonivy.market.assembler;
 import com.axonivy.market.controller.FeedbackController;
 import com.axonivy.market.entity.Feedback;
 import com.axonivy.market.entity.User;
-import com.axonivy.market.exceptions.model.NotFoundException;
 import com.axonivy.market.model.FeedbackModel;
 import com.axonivy.market.service.UserService;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
@@ -27,17 +34,27 @@ public class FeedbackModelAssembler extends RepresentationModelAssemblerSupport<
 
   @Override
   public FeedbackModel toModel(Feedback feedback) {
-    FeedbackModel resource = new FeedbackModel();
-    resource.add(linkTo(methodOn(FeedbackController.class).findFeedback(feedback.getId())).withSelfRel());
-    return createResource(resource, feedback);
+    return forPage(List.of(feedback)).toModel(feedback);
+  }
+
+  /**
+   * An assembler for the given page of feedbacks. The users of all feedbacks are resolved with one query up front,
+   * so assembling the page does not look up the user of each feedback on its own.
+   */
+  public RepresentationModelAssembler<Feedback, FeedbackModel> forPage(Collection<Feedback> feedbacks) {
+    Set<String> userIds = feedbacks.stream().map(Feedback::getUserId).filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    Map<String, User> users = userService.findUsersByIds(userIds);
+    return feedback -> {
+      FeedbackModel resource = new FeedbackModel();
+      resource.add(linkTo(methodOn(FeedbackController.class).findFeedback(feedback.getId())).withSelfRel());
+      return createResource(resource, feedback, users.get(feedback.getUserId()));
+    };
   }
 
-  private FeedbackModel createResource(FeedbackModel model, Feedback feedback) {
-    User user;
-    try {
-      user = userService.findUser(feedback.getUserId());
-    } catch (NotFoundException e) {
-      log.warn(e.getMessage());
+  private FeedbackModel createResource(FeedbackModel model, Feedback feedback, User user) {
+    if (user == null) {
+      log.debug("Not found user with id: {}", feedback.getUserId());
       user = new User();
     }
     model.setId(feedback.getId());
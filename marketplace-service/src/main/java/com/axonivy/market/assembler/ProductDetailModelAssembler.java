@@ -82,13 +82,14 @@ public class ProductDetailModelAssembler extends RepresentationModelAssemblerSup
     model.setCompatibilityRange(product.getCompatibilityRange());
     model.setProductModuleContent(ImageUtils.mappingImageForProductModuleContent(product.getProductModuleContent()));
     if (StringUtils.isNotBlank(product.getVendorImage())) {
-      Link vendorLink = linkTo(methodOn(ImageController.class).findImageById(product.getVendorImage())).withSelfRel();
-      model.setVendorImage(vendorLink.getHref());
+      Link vendorLink = linkTo(methodOn(ImageController.class).findImageById(product.getVendorImage(), null, null,
+          null)).withSelfRel();
+      model.setVendorImage(vendorLink.expand().getHref());
     }
     if (StringUtils.isNotBlank(product.getVendorImageDarkMode())) {
-      Link vendorDarkModeLink =
-          linkTo(methodOn(ImageController.class).findImageById(product.getVendorImageDarkMode())).withSelfRel();
-      model.setVendorImageDarkMode(vendorDarkModeLink.getHref());
+      Link vendorDarkModeLink = linkTo(methodOn(ImageController.class).findImageById(
+          product.getVendorImageDarkMode(), null, null, null)).withSelfRel();
+      model.setVendorImageDarkMode(vendorDarkModeLink.expand().getHref());
     }
     model.setMavenDropins(product.isMavenDropins());
   }
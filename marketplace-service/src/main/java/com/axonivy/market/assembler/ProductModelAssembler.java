@@ -14,6 +14,8 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @Component
 public class ProductModelAssembler extends RepresentationModelAssemblerSupport<Product, ProductModel> {
 
+  public static final int LOGO_THUMBNAIL_WIDTH = 64;
+
   public ProductModelAssembler() {
     super(ProductDetailsController.class, ProductModel.class);
   }
@@ -22,7 +24,12 @@ public class ProductModelAssembler extends RepresentationModelAssemblerSupport<P
   public ProductModel toModel(Product product) {
     ProductModel resource = new ProductModel();
     resource.add(linkTo(methodOn(ProductDetailsController.class).findProductDetails(product.getId(),false)).withSelfRel());
-    return createResource(resource, product);
+    createResource(resource, product);
+    // The listing cards show the logo small, so they get the thumbnail instead of the original upload
+    Link logoThumbnailLink = linkTo(methodOn(ImageController.class).findImageById(product.getLogoId(), null,
+        LOGO_THUMBNAIL_WIDTH, null)).withSelfRel();
+    resource.setLogoUrl(logoThumbnailLink.expand().getHref());
+    return resource;
   }
 
   public ProductModel createResource(ProductModel model, Product product) {
@@ -32,8 +39,9 @@ public class ProductModelAssembler extends RepresentationModelAssemblerSupport<P
     model.setType(product.getType());
     model.setTags(product.getTags());
 
-    Link logoLink = linkTo(methodOn(ImageController.class).findImageById(product.getLogoId())).withSelfRel();
-    model.setLogoUrl(logoLink.getHref());
+    Link logoLink = linkTo(methodOn(ImageController.class).findImageById(product.getLogoId(), null, null, null))
+        .withSelfRel();
+    model.setLogoUrl(logoLink.expand().getHref());
     return model;
   }
 
@@ -0,0 +1,63 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.enums.DocumentSyncStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the outcome and the duration of every documentation version of one documentation sync. The versions are
+ * synchronized by several workers, so every operation is thread-safe.
+ */
+public class DocumentSyncStatistics {
+  private static final String VERSION_KEY_FORMAT = "%s/%s";
+  private static final String SUMMARY_FORMAT = "%s of %s versions %s";
+  private final int totalVersions;
+  private final AtomicInteger finishedVersions = new AtomicInteger();
+  private final Map<DocumentSyncStatus, LongAdder> statusCounts = new EnumMap<>(DocumentSyncStatus.class);
+  private final Map<String, Long> versionDurations = new ConcurrentHashMap<>();
+
+  public DocumentSyncStatistics(int totalVersions) {
+    this.totalVersions = totalVersions;
+    for (var status : DocumentSyncStatus.values()) {
+      statusCounts.put(status, new LongAdder());
+    }
+  }
+
+  /**
+   * Records one finished version and returns how many versions are finished so far.
+   */
+  public int recordVersion(String productId, String version, DocumentSyncStatus status, long durationInMillis) {
+    statusCounts.get(status).increment();
+    versionDurations.put(String.format(VERSION_KEY_FORMAT, productId, version), durationInMillis);
+    return finishedVersions.incrementAndGet();
+  }
+
+  public int getTotalVersions() {
+    return totalVersions;
+  }
+
+  public int getFinishedVersions() {
+    return finishedVersions.get();
+  }
+
+  public long getCount(DocumentSyncStatus status) {
+    return statusCounts.get(status).sum();
+  }
+
+  public Map<String, Long> getVersionDurations() {
+    return Collections.unmodifiableMap(versionDurations);
+  }
+
+  public String getSummary() {
+    String counts = statusCounts.entrySet().stream()
+        .map(entry -> String.format("%s=%s", entry.getKey().getCode(), entry.getValue().sum()))
+        .collect(Collectors.joining(", ", "[", "]"));
+    return String.format(SUMMARY_FORMAT, finishedVersions.get(), totalVersions, counts);
+  }
+}
@@ -0,0 +1,8 @@
+package com.axonivy.market.bo;
+
+/**
+ * A snapshot of the counters of the hot image cache.
+ */
+public record ImageCacheStatistics(long hitCount, long missCount, long evictionCount, int imageCount,
+    long cachedBytes, long capacityInBytes) {
+}
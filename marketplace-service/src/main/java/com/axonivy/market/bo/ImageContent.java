@@ -0,0 +1,11 @@
+package com.axonivy.market.bo;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+/**
+ * The content of an image as a resource, so it can be streamed to the client without loading it in one array. The
+ * ETag is the one of the image, its variants share it.
+ */
+public record ImageContent(Resource resource, long contentLength, MediaType mediaType, String eTag) {
+}
@@ -0,0 +1,21 @@
+package com.axonivy.market.bo;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDate;
+
+/**
+ * Installations of a product on one day from one designer major version, the key its installations are counted by
+ * until they are written into the rollups. The major version is null if the designer did not send its version.
+ */
+public record InstallationEvent(String productId, LocalDate date, String designerMajorVersion) {
+
+  public static InstallationEvent of(String productId, String designerVersion, LocalDate date) {
+    String designerMajorVersion = null;
+    if (StringUtils.isNotBlank(designerVersion)) {
+      int[] segments = MavenVersion.of(designerVersion).segments();
+      designerMajorVersion = segments.length > 0 ? String.valueOf(segments[0]) : null;
+    }
+    return new InstallationEvent(productId, date, designerMajorVersion);
+  }
+}
@@ -0,0 +1,17 @@
+package com.axonivy.market.bo;
+
+import java.util.List;
+
+/**
+ * The values of a maven-metadata.xml which are used by the sync. For a SNAPSHOT metadata, the snapshot timestamp and
+ * the value of the first snapshot version are filled instead of the release values.
+ */
+public record MavenMetadata(List<String> versions, String latest, String release, String lastUpdated,
+    String snapshotTimestamp, String snapshotValue) {
+
+  public static final MavenMetadata EMPTY = new MavenMetadata(List.of(), null, null, null, null, null);
+
+  public MavenMetadata {
+    versions = List.copyOf(versions);
+  }
+}
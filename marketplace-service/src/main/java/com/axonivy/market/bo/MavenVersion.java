@@ -0,0 +1,123 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.constants.CommonConstants;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.axonivy.market.constants.CommonConstants.DASH_SEPARATOR;
+import static com.axonivy.market.constants.MavenConstants.MAIN_VERSION_REGEX;
+import static com.axonivy.market.constants.MavenConstants.SNAPSHOT_VERSION;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+/**
+ * A version string parsed once into its numeric segments and qualifier, so comparing two versions does not split or
+ * parse them again. Parsed versions are shared through a bounded cache, as the same few thousand versions are compared
+ * over and over. The least recently used version is evicted once the cache is full.
+ */
+public record MavenVersion(int[] segments, String qualifier, int qualifierRank) implements Comparable<MavenVersion> {
+  public static final int SNAPSHOT_RANK = 0;
+  public static final int QUALIFIER_RANK = 1;
+  public static final int RELEASE_RANK = 2;
+  private static final int MAX_CACHED_VERSIONS = 10_000;
+  private static final Pattern DIGIT_PATTERN = Pattern.compile(CommonConstants.DIGIT_REGEX);
+  private static final ReentrantLock CACHE_LOCK = new ReentrantLock();
+  private static final Map<String, MavenVersion> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, MavenVersion> eldest) {
+      return size() > MAX_CACHED_VERSIONS;
+    }
+  };
+
+  public static MavenVersion of(String version) {
+    MavenVersion parsedVersion = getCachedVersion(version);
+    if (parsedVersion != null) {
+      return parsedVersion;
+    }
+    parsedVersion = parse(version);
+    CACHE_LOCK.lock();
+    try {
+      MavenVersion cachedVersion = CACHE.putIfAbsent(version, parsedVersion);
+      return cachedVersion == null ? parsedVersion : cachedVersion;
+    } finally {
+      CACHE_LOCK.unlock();
+    }
+  }
+
+  /**
+   * Reading an access-ordered map moves the entry, so it is guarded by the lock like the writes.
+   */
+  private static MavenVersion getCachedVersion(String version) {
+    CACHE_LOCK.lock();
+    try {
+      return CACHE.get(version);
+    } finally {
+      CACHE_LOCK.unlock();
+    }
+  }
+
+  /**
+   * Leading non digit characters are ignored, the main version is split by dots and everything after the first dash
+   * is the qualifier. Segments which are not a number count as 0.
+   */
+  private static MavenVersion parse(String version) {
+    Matcher matcher = DIGIT_PATTERN.matcher(version);
+    String strippedVersion = matcher.find() ? matcher.group(1) : version;
+    String[] versionParts = StringUtils.defaultIfBlank(strippedVersion, EMPTY).split(DASH_SEPARATOR, 2);
+    String[] mainParts = versionParts[0].split(MAIN_VERSION_REGEX);
+    int[] segments = new int[mainParts.length];
+    for (int i = 0; i < mainParts.length; i++) {
+      segments[i] = NumberUtils.isDigits(mainParts[i]) ? NumberUtils.toInt(mainParts[i]) : 0;
+    }
+    String qualifier = versionParts.length > 1 ? versionParts[1] : EMPTY;
+    int qualifierRank = QUALIFIER_RANK;
+    if (qualifier.isEmpty()) {
+      qualifierRank = RELEASE_RANK;
+    } else if (SNAPSHOT_VERSION.equals(qualifier)) {
+      qualifierRank = SNAPSHOT_RANK;
+    }
+    return new MavenVersion(segments, qualifier, qualifierRank);
+  }
+
+  /**
+   * Compares the main version segment by segment, missing segments count as 0. On the same main version a release is
+   * higher than any qualifier and a SNAPSHOT is lower than any other qualifier, the others are compared as text.
+   */
+  @Override
+  public int compareTo(MavenVersion other) {
+    int length = Math.max(segments.length, other.segments.length);
+    for (int i = 0; i < length; i++) {
+      int segment = i < segments.length ? segments[i] : 0;
+      int otherSegment = i < other.segments.length ? other.segments[i] : 0;
+      if (segment != otherSegment) {
+        return segment - otherSegment;
+      }
+    }
+    if (qualifierRank != other.qualifierRank) {
+      return qualifierRank > other.qualifierRank ? 1 : -1;
+    }
+    return qualifierRank == QUALIFIER_RANK ? qualifier.compareTo(other.qualifier) : 0;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof MavenVersion otherVersion && Arrays.equals(segments, otherVersion.segments)
+        && qualifier.equals(otherVersion.qualifier);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(segments) + qualifier.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "MavenVersion[segments=" + Arrays.toString(segments) + ", qualifier=" + qualifier + "]";
+  }
+}
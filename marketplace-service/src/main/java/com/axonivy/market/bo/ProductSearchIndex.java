@@ -0,0 +1,146 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.entity.Product;
+import com.axonivy.market.enums.DocumentField;
+import com.axonivy.market.enums.Language;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable n-gram index over the searchable text fields of the products, one per {@link Language}. A keyword matches
+ * a field if the field contains it, ignoring case. Every n-gram of up to {@link #MAX_GRAM_LENGTH} characters is indexed,
+ * so short keywords are answered by a single lookup and longer ones by intersecting their n-grams before the final
+ * contains check on the few remaining candidates.
+ */
+public class ProductSearchIndex {
+  private static final int MAX_GRAM_LENGTH = 3;
+  private static final String VALUE_SEPARATOR = "\n";
+  private static final Map<DocumentField, Integer> FIELD_WEIGHTS = new EnumMap<>(Map.of(
+      DocumentField.NAMES, 8, DocumentField.TAGS, 4, DocumentField.VENDOR, 2, DocumentField.SHORT_DESCRIPTIONS, 1,
+      DocumentField.MARKET_DIRECTORY, 1, DocumentField.TYPE, 1));
+  private final List<String> productIds;
+  private final Map<Language, Map<DocumentField, FieldIndex>> languageIndexes = new EnumMap<>(Language.class);
+
+  public ProductSearchIndex(List<Product> products) {
+    productIds = products.stream().map(Product::getId).toList();
+    for (Language language : Language.values()) {
+      Map<DocumentField, FieldIndex> fieldIndexes = new EnumMap<>(DocumentField.class);
+      for (DocumentField field : FIELD_WEIGHTS.keySet()) {
+        fieldIndexes.put(field, new FieldIndex(products.stream()
+            .map(product -> normalize(getFieldValue(product, field, language))).toList()));
+      }
+      languageIndexes.put(language, fieldIndexes);
+    }
+  }
+
+  /**
+   * Returns the ids of the products having the keyword in any of the given fields, best matches first. A match in a
+   * more relevant field (name before tags, vendor and description) and a match at the start of a word rank higher.
+   */
+  public List<String> search(String keyword, Language language, Collection<DocumentField> fields) {
+    String normalizedKeyword = normalize(keyword);
+    if (StringUtils.isEmpty(normalizedKeyword)) {
+      return List.of();
+    }
+    Map<DocumentField, FieldIndex> fieldIndexes = languageIndexes.get(Objects.requireNonNullElse(language,
+        Language.EN));
+    int[] scores = new int[productIds.size()];
+    for (DocumentField field : fields) {
+      FieldIndex fieldIndex = fieldIndexes.get(field);
+      if (fieldIndex != null) {
+        fieldIndex.score(normalizedKeyword, FIELD_WEIGHTS.get(field), scores);
+      }
+    }
+    return IntStream.range(0, scores.length).filter(ordinal -> scores[ordinal] > 0).boxed()
+        .sorted(Comparator.<Integer>comparingInt(ordinal -> scores[ordinal]).reversed()
+            .thenComparing(productIds::get))
+        .map(productIds::get).toList();
+  }
+
+  private static String getFieldValue(Product product, DocumentField field, Language language) {
+    return switch (field) {
+      case NAMES -> getLocalizedValue(product.getNames(), language);
+      case SHORT_DESCRIPTIONS -> getLocalizedValue(product.getShortDescriptions(), language);
+      case TAGS -> product.getTags() == null ? null : String.join(VALUE_SEPARATOR, product.getTags());
+      case VENDOR -> product.getVendor();
+      case MARKET_DIRECTORY -> product.getMarketDirectory();
+      case TYPE -> product.getType();
+      default -> null;
+    };
+  }
+
+  private static String getLocalizedValue(Map<String, String> values, Language language) {
+    return values == null ? null : values.get(language.getValue());
+  }
+
+  private static String normalize(String value) {
+    return value == null ? StringUtils.EMPTY : value.toLowerCase(Locale.ROOT);
+  }
+
+  private static class FieldIndex {
+    private final List<String> texts;
+    private final Map<String, BitSet> postings = new HashMap<>();
+
+    FieldIndex(List<String> texts) {
+      this.texts = texts;
+      for (int ordinal = 0; ordinal < texts.size(); ordinal++) {
+        String text = texts.get(ordinal);
+        for (int start = 0; start < text.length(); start++) {
+          for (int end = start + 1; end <= Math.min(start + MAX_GRAM_LENGTH, text.length()); end++) {
+            postings.computeIfAbsent(text.substring(start, end), gram -> new BitSet()).set(ordinal);
+          }
+        }
+      }
+    }
+
+    void score(String keyword, int weight, int[] scores) {
+      BitSet candidates = findCandidates(keyword);
+      for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+        String text = texts.get(ordinal);
+        int position = text.indexOf(keyword);
+        if (position >= 0) {
+          scores[ordinal] += isAtWordStart(text, keyword, position) ? weight * 2 : weight;
+        }
+      }
+    }
+
+    private static boolean isAtWordStart(String text, String keyword, int firstPosition) {
+      for (int position = firstPosition; position >= 0; position = text.indexOf(keyword, position + 1)) {
+        if (position == 0 || !Character.isLetterOrDigit(text.charAt(position - 1))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private BitSet findCandidates(String keyword) {
+      if (keyword.length() <= MAX_GRAM_LENGTH) {
+        BitSet posting = postings.get(keyword);
+        return posting == null ? new BitSet() : posting;
+      }
+      List<BitSet> gramPostings = new ArrayList<>();
+      for (int start = 0; start + MAX_GRAM_LENGTH <= keyword.length(); start++) {
+        BitSet posting = postings.get(keyword.substring(start, start + MAX_GRAM_LENGTH));
+        if (posting == null) {
+          return new BitSet();
+        }
+        gramPostings.add(posting);
+      }
+      gramPostings.sort(Comparator.comparingInt(BitSet::cardinality));
+      BitSet candidates = (BitSet) gramPostings.get(0).clone();
+      gramPostings.stream().skip(1).forEach(candidates::and);
+      return candidates;
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.entity.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One page of the product search together with the total number of matched products, as returned by the $facet
+ * aggregation of the product repository.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResult {
+  private List<Product> content;
+  private Long total;
+}
@@ -0,0 +1,68 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.constants.CommonConstants;
+import com.axonivy.market.constants.ReadmeConstants;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * The files of one uploaded release preview. The extracted folder is walked once after the upload, so its README files
+ * are known and its images are found by name without touching the file system again. Each upload has its own folder,
+ * so previews of different maintainers never overwrite each other, and it expires after its time to live.
+ */
+@Getter
+public class ReleasePreviewSession {
+  private final String id;
+  private final Path directory;
+  private final Instant expiresAt;
+  private final List<Path> readmeFiles = new ArrayList<>();
+  private final List<Path> imageFiles = new ArrayList<>();
+  private final Map<String, Path> filesByName = new HashMap<>();
+
+  private ReleasePreviewSession(String id, Path directory, Instant expiresAt) {
+    this.id = id;
+    this.directory = directory;
+    this.expiresAt = expiresAt;
+  }
+
+  public static ReleasePreviewSession index(String id, Path directory, Instant expiresAt) throws IOException {
+    var session = new ReleasePreviewSession(id, directory, expiresAt);
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.filter(Files::isRegularFile).forEach(session::add);
+    }
+    return session;
+  }
+
+  private void add(Path file) {
+    String fileName = file.getFileName().toString();
+    if (fileName.startsWith(ReadmeConstants.README_FILE_NAME)) {
+      readmeFiles.add(file);
+    }
+    String lowerCaseFileName = fileName.toLowerCase(Locale.ROOT);
+    if (lowerCaseFileName.matches(CommonConstants.IMAGE_EXTENSION)) {
+      imageFiles.add(file);
+    }
+    filesByName.putIfAbsent(lowerCaseFileName, file);
+  }
+
+  /**
+   * The first file of the upload with the given name, ignoring the case as the README links are not consistent.
+   */
+  public Path findImage(String imageName) {
+    return imageName == null ? null : filesByName.get(imageName.toLowerCase(Locale.ROOT));
+  }
+
+  public boolean isExpired(Instant now) {
+    return now.isAfter(expiresAt);
+  }
+}
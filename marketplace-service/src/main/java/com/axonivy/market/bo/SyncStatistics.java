@@ -0,0 +1,50 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.enums.SyncStage;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the accumulated duration of each {@link SyncStage} and the products which could not be synchronized. It is
+ * shared by all sync workers, so every operation is thread-safe.
+ */
+public class SyncStatistics {
+  private static final String SUMMARY_FORMAT = "stages %s, failed products %s";
+  private final Map<SyncStage, LongAdder> stageDurations = new EnumMap<>(SyncStage.class);
+  private final Set<String> failedProductIds = ConcurrentHashMap.newKeySet();
+
+  public SyncStatistics() {
+    for (var stage : SyncStage.values()) {
+      stageDurations.put(stage, new LongAdder());
+    }
+  }
+
+  public void recordStageDuration(SyncStage stage, long durationInMillis) {
+    stageDurations.get(stage).add(durationInMillis);
+  }
+
+  public long getStageDuration(SyncStage stage) {
+    return stageDurations.get(stage).sum();
+  }
+
+  public void addFailedProduct(String productId) {
+    failedProductIds.add(productId);
+  }
+
+  public Set<String> getFailedProductIds() {
+    return Collections.unmodifiableSet(failedProductIds);
+  }
+
+  public String getSummary() {
+    String stages = stageDurations.entrySet().stream()
+        .map(entry -> String.format("%s=%sms", entry.getKey().getCode(), entry.getValue().sum()))
+        .collect(Collectors.joining(", ", "[", "]"));
+    return String.format(SUMMARY_FORMAT, stages, failedProductIds);
+  }
+}
@@ -0,0 +1,64 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.util.VersionUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.axonivy.market.constants.MavenConstants.SNAPSHOT_RELEASE_POSTFIX;
+import static com.axonivy.market.constants.MavenConstants.SPRINT_RELEASE_POSTFIX;
+
+/**
+ * Classifies the versions of one version set. The bugfix keys of all released versions are grouped in a single pass,
+ * so asking whether a dev version is already covered by a release is a set lookup instead of a scan of the whole set.
+ */
+public class VersionClassifier {
+  private final Set<String> releasedBugfixVersions = new HashSet<>();
+
+  private VersionClassifier(Collection<String> versions) {
+    for (String version : versions) {
+      if (VersionUtils.isReleasedVersion(version)) {
+        releasedBugfixVersions.add(VersionUtils.getBugfixVersion(version));
+      }
+    }
+  }
+
+  public static VersionClassifier of(Collection<String> versions) {
+    return new VersionClassifier(versions);
+  }
+
+  public boolean isReleasedVersion(String version) {
+    return VersionUtils.isReleasedVersion(version);
+  }
+
+  public boolean isSnapshotVersion(String version) {
+    return VersionUtils.isSnapshotVersion(version);
+  }
+
+  public boolean isSprintVersion(String version) {
+    return VersionUtils.isSprintVersion(version);
+  }
+
+  /**
+   * A snapshot or sprint version whose bugfix version has no released version in the set yet.
+   */
+  public boolean isUnreleasedDevVersion(String version) {
+    if (isReleasedVersion(version) || !VersionUtils.isValidFormatReleasedVersion(version)) {
+      return false;
+    }
+    return !releasedBugfixVersions.contains(getDevBugfixVersion(version));
+  }
+
+  public boolean isOfficialVersionOrUnReleasedDevVersion(String version) {
+    return isReleasedVersion(version) || isUnreleasedDevVersion(version);
+  }
+
+  private static String getDevBugfixVersion(String version) {
+    if (VersionUtils.isSnapshotVersion(version)) {
+      return VersionUtils.getBugfixVersion(version.replace(SNAPSHOT_RELEASE_POSTFIX, StringUtils.EMPTY));
+    }
+    return VersionUtils.getBugfixVersion(version.split(SPRINT_RELEASE_POSTFIX)[0]);
+  }
+}
@@ -0,0 +1,123 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.comparator.LatestVersionComparator;
+import com.axonivy.market.util.VersionUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Answers the version lookups of the Designer on one version set without scanning it. The versions are sorted once,
+ * the released versions are kept in a navigable map by parsed version and all versions are kept in a prefix trie whose
+ * nodes know the newest version below them. Build it once per version set and reuse it across requests.
+ */
+public class VersionResolver {
+  private final Set<String> versions = new HashSet<>();
+  private final TreeMap<MavenVersion, String> releasedVersions = new TreeMap<>();
+  private final PrefixNode versionsByPrefix = new PrefixNode();
+  private final PrefixNode releasedVersionsByPrefix = new PrefixNode();
+
+  private VersionResolver(Collection<String> versions) {
+    List<String> sortedVersions = versions.stream().filter(Objects::nonNull)
+        .sorted(new LatestVersionComparator()).toList();
+    for (String version : sortedVersions) {
+      this.versions.add(version);
+      versionsByPrefix.add(version);
+      if (VersionUtils.isReleasedVersion(version)) {
+        releasedVersions.putIfAbsent(MavenVersion.of(version), version);
+        releasedVersionsByPrefix.add(version);
+      }
+    }
+  }
+
+  public static VersionResolver of(Collection<String> versions) {
+    return new VersionResolver(Optional.ofNullable(versions).orElse(List.of()));
+  }
+
+  public boolean isEmpty() {
+    return versions.isEmpty();
+  }
+
+  public boolean hasReleasedVersion() {
+    return !releasedVersions.isEmpty();
+  }
+
+  public boolean contains(String version) {
+    return versions.contains(version);
+  }
+
+  public String getLatestVersion() {
+    return versionsByPrefix.latestVersion;
+  }
+
+  public String getLatestReleasedVersion() {
+    return releasedVersionsByPrefix.latestVersion;
+  }
+
+  public String getHighestReleasedVersionBelow(String version) {
+    Map.Entry<MavenVersion, String> lowerVersion = releasedVersions.lowerEntry(MavenVersion.of(version));
+    return lowerVersion == null ? null : lowerVersion.getValue();
+  }
+
+  /**
+   * The newest version starting with the given text, ex: 10.0 or 10.0.1, or null if there is none.
+   */
+  public String findLatestVersionStartWith(String prefix) {
+    return versionsByPrefix.find(prefix);
+  }
+
+  public String findLatestReleasedVersionStartWith(String prefix) {
+    return releasedVersionsByPrefix.find(prefix);
+  }
+
+  /**
+   * The requested version itself if it exists, otherwise the highest released version below it, otherwise the newest
+   * released version and at last the newest version.
+   */
+  public String getBestMatchVersion(String designerVersion) {
+    if (contains(designerVersion)) {
+      return designerVersion;
+    }
+    String bestMatchVersion = getHighestReleasedVersionBelow(designerVersion);
+    if (bestMatchVersion == null) {
+      bestMatchVersion = Optional.ofNullable(getLatestReleasedVersion()).orElse(getLatestVersion());
+    }
+    return bestMatchVersion;
+  }
+
+  private static class PrefixNode {
+    private final Map<Character, PrefixNode> children = new HashMap<>();
+    private String latestVersion;
+
+    /**
+     * The versions must be added from the newest to the oldest, so the first version passing a node is its newest.
+     */
+    private void add(String version) {
+      PrefixNode node = this;
+      for (int i = 0; i < version.length(); i++) {
+        if (node.latestVersion == null) {
+          node.latestVersion = version;
+        }
+        node = node.children.computeIfAbsent(version.charAt(i), key -> new PrefixNode());
+      }
+      if (node.latestVersion == null) {
+        node.latestVersion = version;
+      }
+    }
+
+    private String find(String prefix) {
+      PrefixNode node = this;
+      for (int i = 0; i < prefix.length() && node != null; i++) {
+        node = node.children.get(prefix.charAt(i));
+      }
+      return node == null ? null : node.latestVersion;
+    }
+  }
+}
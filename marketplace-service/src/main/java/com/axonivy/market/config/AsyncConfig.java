@@ -1,15 +1,21 @@
 package com.axonivy.market.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class AsyncConfig implements AsyncConfigurer {
 
   private static final String THREAD_NAME_PREFIX = "AC-Thread-";
+  private static final String PRODUCT_DETAIL_THREAD_NAME_PREFIX = "PD-Thread-";
+  private static final int PRODUCT_DETAIL_QUEUE_CAPACITY = 100;
+  private static final String DOCUMENT_SYNC_THREAD_NAME_PREFIX = "DOC-Thread-";
 
   @Override
   public Executor getAsyncExecutor() {
@@ -21,4 +27,36 @@ public class AsyncConfig implements AsyncConfigurer {
     executor.initialize();
     return executor;
   }
-}
\ No newline at end of file
+
+  /**
+   * Runs the independent reads of one product detail request side by side. If the pool and its queue are full, the
+   * request thread runs the read itself, so a burst of requests degrades to sequential reads instead of failing.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor productDetailExecutor(
+      @Value("${market.product-detail.fetch-pool-size}") int fetchPoolSize) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(fetchPoolSize);
+    executor.setMaxPoolSize(fetchPoolSize);
+    executor.setQueueCapacity(PRODUCT_DETAIL_QUEUE_CAPACITY);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix(PRODUCT_DETAIL_THREAD_NAME_PREFIX);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Downloads and extracts the documentation versions side by side. It is separate from the product sync workers, which
+   * wait for the documentation of their product.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor documentSyncExecutor(
+      @Value("${market.document-sync.worker-pool-size}") int workerPoolSize) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(workerPoolSize);
+    executor.setMaxPoolSize(workerPoolSize);
+    executor.setThreadNamePrefix(DOCUMENT_SYNC_THREAD_NAME_PREFIX);
+    executor.initialize();
+    return executor;
+  }
+}
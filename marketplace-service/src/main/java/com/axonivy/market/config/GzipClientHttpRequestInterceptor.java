@@ -0,0 +1,84 @@
+package com.axonivy.market.config;
+
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Asks for gzip encoded responses and transparently decompresses them, the JDK HTTP client does not do it on its own.
+ */
+public class GzipClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+  private static final String GZIP_ENCODING = "gzip";
+
+  @Override
+  @NonNull
+  public ClientHttpResponse intercept(@NonNull HttpRequest request, @NonNull byte[] body,
+      @NonNull ClientHttpRequestExecution execution) throws IOException {
+    if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+      request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP_ENCODING);
+    }
+    ClientHttpResponse response = execution.execute(request, body);
+    if (GZIP_ENCODING.equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+      return new GzipClientHttpResponse(response);
+    }
+    return response;
+  }
+
+  @AllArgsConstructor
+  private static class GzipClientHttpResponse implements ClientHttpResponse {
+    private final ClientHttpResponse response;
+
+    @Override
+    @NonNull
+    public HttpStatusCode getStatusCode() throws IOException {
+      return response.getStatusCode();
+    }
+
+    @Override
+    @NonNull
+    public String getStatusText() throws IOException {
+      return response.getStatusText();
+    }
+
+    @Override
+    @NonNull
+    public HttpHeaders getHeaders() {
+      var headers = new HttpHeaders();
+      headers.putAll(response.getHeaders());
+      headers.remove(HttpHeaders.CONTENT_ENCODING);
+      headers.remove(HttpHeaders.CONTENT_LENGTH);
+      return headers;
+    }
+
+    @Override
+    @NonNull
+    public InputStream getBody() throws IOException {
+      InputStream body = response.getBody();
+      // Responses without a body, e.g. 304, are announced as gzip but carry nothing to decompress
+      if (!body.markSupported()) {
+        body = new BufferedInputStream(body);
+      }
+      body.mark(1);
+      if (body.read() == -1) {
+        return InputStream.nullInputStream();
+      }
+      body.reset();
+      return new GZIPInputStream(body);
+    }
+
+    @Override
+    public void close() {
+      response.close();
+    }
+  }
+}
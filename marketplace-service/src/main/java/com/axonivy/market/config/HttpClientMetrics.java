@@ -0,0 +1,100 @@
+package com.axonivy.market.config;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Per-host counters of the outbound HTTP traffic: number of requests, bytes received and a latency histogram.
+ */
+@Component
+public class HttpClientMetrics {
+  private static final long[] LATENCY_BUCKET_BOUNDS_MS = {50, 100, 250, 500, 1000, 2500, 5000};
+  private final Map<String, HostMetrics> hostMetrics = new ConcurrentHashMap<>();
+
+  public void recordRequest(String host, long latencyMs) {
+    HostMetrics metrics = getHostMetrics(host);
+    metrics.requestCount.increment();
+    metrics.latencyBuckets[getLatencyBucketIndex(latencyMs)].increment();
+  }
+
+  public void recordError(String host) {
+    getHostMetrics(host).errorCount.increment();
+  }
+
+  public void recordBytes(String host, long bytes) {
+    getHostMetrics(host).bytesReceived.add(bytes);
+  }
+
+  public HostMetrics getHostMetrics(String host) {
+    return hostMetrics.computeIfAbsent(host, key -> new HostMetrics());
+  }
+
+  public String getSummary() {
+    return new TreeMap<>(hostMetrics).entrySet().stream()
+        .map(entry -> entry.getKey() + entry.getValue())
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+  private static int getLatencyBucketIndex(long latencyMs) {
+    for (int i = 0; i < LATENCY_BUCKET_BOUNDS_MS.length; i++) {
+      if (latencyMs <= LATENCY_BUCKET_BOUNDS_MS[i]) {
+        return i;
+      }
+    }
+    return LATENCY_BUCKET_BOUNDS_MS.length;
+  }
+
+  public static class HostMetrics {
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder[] latencyBuckets = new LongAdder[LATENCY_BUCKET_BOUNDS_MS.length + 1];
+
+    HostMetrics() {
+      for (int i = 0; i < latencyBuckets.length; i++) {
+        latencyBuckets[i] = new LongAdder();
+      }
+    }
+
+    public long getRequestCount() {
+      return requestCount.sum();
+    }
+
+    public long getErrorCount() {
+      return errorCount.sum();
+    }
+
+    public long getBytesReceived() {
+      return bytesReceived.sum();
+    }
+
+    /**
+     * The request counts per latency bucket, the last bucket holds the requests slower than the highest bound.
+     */
+    public long[] getLatencyHistogram() {
+      long[] histogram = new long[latencyBuckets.length];
+      for (int i = 0; i < latencyBuckets.length; i++) {
+        histogram[i] = latencyBuckets[i].sum();
+      }
+      return histogram;
+    }
+
+    @Override
+    public String toString() {
+      var histogram = new StringBuilder();
+      long[] counts = getLatencyHistogram();
+      for (int i = 0; i < counts.length; i++) {
+        String bound = i < LATENCY_BUCKET_BOUNDS_MS.length ? "<=" + LATENCY_BUCKET_BOUNDS_MS[i] : ">"
+            + LATENCY_BUCKET_BOUNDS_MS[LATENCY_BUCKET_BOUNDS_MS.length - 1];
+        histogram.append(i == 0 ? "" : " ").append(bound).append("ms:").append(counts[i]);
+      }
+      return String.format("{requests=%d, errors=%d, bytes=%d, latency=[%s]}", getRequestCount(), getErrorCount(),
+          getBytesReceived(), histogram);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.axonivy.market.config;
+
+import com.axonivy.market.util.MavenUtils;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Switches the static HTTP helpers of {@link MavenUtils} to the shared, pooled client once it is created, so the
+ * {@link RestTemplateConfig} factories stay free of side effects.
+ */
+@Component
+public class MavenHttpClientInitializer {
+  private final RestTemplate restTemplate;
+  private final ThreadPoolTaskExecutor httpClientExecutor;
+
+  public MavenHttpClientInitializer(RestTemplate restTemplate,
+      @Qualifier("httpClientExecutor") ThreadPoolTaskExecutor httpClientExecutor) {
+    this.restTemplate = restTemplate;
+    this.httpClientExecutor = httpClientExecutor;
+  }
+
+  @PostConstruct
+  public void init() {
+    MavenUtils.useHttpClient(restTemplate, httpClientExecutor);
+  }
+}
@@ -0,0 +1,94 @@
+package com.axonivy.market.config;
+
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Records the request count, latency and received bytes of every outbound request into {@link HttpClientMetrics}.
+ */
+@AllArgsConstructor
+public class MetricsClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+  private final HttpClientMetrics httpClientMetrics;
+
+  @Override
+  @NonNull
+  public ClientHttpResponse intercept(@NonNull HttpRequest request, @NonNull byte[] body,
+      @NonNull ClientHttpRequestExecution execution) throws IOException {
+    String host = request.getURI().getHost();
+    long start = System.nanoTime();
+    try {
+      ClientHttpResponse response = execution.execute(request, body);
+      httpClientMetrics.recordRequest(host, (System.nanoTime() - start) / 1_000_000);
+      if (response.getStatusCode().isError()) {
+        httpClientMetrics.recordError(host);
+      }
+      return new CountingClientHttpResponse(response, host);
+    } catch (IOException e) {
+      httpClientMetrics.recordError(host);
+      throw e;
+    }
+  }
+
+  @AllArgsConstructor
+  private class CountingClientHttpResponse implements ClientHttpResponse {
+    private final ClientHttpResponse response;
+    private final String host;
+
+    @Override
+    @NonNull
+    public HttpStatusCode getStatusCode() throws IOException {
+      return response.getStatusCode();
+    }
+
+    @Override
+    @NonNull
+    public String getStatusText() throws IOException {
+      return response.getStatusText();
+    }
+
+    @Override
+    @NonNull
+    public HttpHeaders getHeaders() {
+      return response.getHeaders();
+    }
+
+    @Override
+    @NonNull
+    public InputStream getBody() throws IOException {
+      return new FilterInputStream(response.getBody()) {
+        @Override
+        public int read() throws IOException {
+          int value = super.read();
+          if (value != -1) {
+            httpClientMetrics.recordBytes(host, 1);
+          }
+          return value;
+        }
+
+        @Override
+        public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+          int count = super.read(buffer, offset, length);
+          if (count > 0) {
+            httpClientMetrics.recordBytes(host, count);
+          }
+          return count;
+        }
+      };
+    }
+
+    @Override
+    public void close() {
+      response.close();
+    }
+  }
+}
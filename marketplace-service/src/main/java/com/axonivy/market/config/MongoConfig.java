@@ -15,8 +15,11 @@ import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import static com.axonivy.market.constants.EntityConstants.IMAGE_BLOB;
+
 @Configuration
 @EnableMongoRepositories(basePackages = "com.axonivy.market.repository")
 @EnableMongoAuditing
@@ -57,4 +60,9 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     converter.setMapKeyDotReplacement("_");
     return converter;
   }
+
+  @Bean
+  public GridFsTemplate gridFsTemplate(MongoDatabaseFactory databaseFactory, MappingMongoConverter converter) {
+    return new GridFsTemplate(databaseFactory, converter, IMAGE_BLOB);
+  }
 }
@@ -1,14 +1,67 @@
 package com.axonivy.market.config;
 
+import com.axonivy.market.util.MavenUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The one HTTP client shared by all outbound Maven, GitHub and document traffic. The JDK client keeps a pool of
+ * keep-alive connections per host and negotiates HTTP/2 when the server supports it.
+ */
 @Configuration
 public class RestTemplateConfig {
+  private static final String THREAD_NAME_PREFIX = "HTTP-Thread-";
 
+  /**
+   * Runs the async requests of {@link MavenUtils}. It is kept apart from the internal executor of the JDK client, as
+   * its threads block until the response is read.
+   */
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public ThreadPoolTaskExecutor httpClientExecutor(@Value("${market.http.async-pool-size}") int asyncPoolSize) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(asyncPoolSize);
+    executor.setMaxPoolSize(asyncPoolSize);
+    executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean
+  public HttpClient httpClient(@Value("${market.http.connect-timeout}") long connectTimeoutMs) {
+    return HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+        .build();
+  }
+
+  @Bean
+  public RestTemplate restTemplate(HttpClient httpClient, HttpClientMetrics httpClientMetrics,
+      @Value("${market.http.read-timeout}") long readTimeoutMs, @Value("${market.http.max-retries}") int maxRetries,
+      @Value("${market.http.retry-backoff}") long backoffMs) {
+    var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+    var restTemplate = new RestTemplate(requestFactory);
+    restTemplate.setInterceptors(createInterceptors(httpClientMetrics, maxRetries, backoffMs));
+    return restTemplate;
+  }
+
+  /**
+   * A retry executes the rest of the interceptor chain again, so the retry comes last and wraps only the raw request.
+   * The gzip decoding and the metrics then apply to the final response of every call.
+   */
+  static List<ClientHttpRequestInterceptor> createInterceptors(HttpClientMetrics httpClientMetrics, int maxRetries,
+      long backoffMs) {
+    return List.of(new GzipClientHttpRequestInterceptor(), new MetricsClientHttpRequestInterceptor(httpClientMetrics),
+        new RetryClientHttpRequestInterceptor(maxRetries, backoffMs));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.axonivy.market.config;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * Retries a request answered with a server error or 429 (Too Many Requests), waiting an exponential backoff between
+ * the attempts or the Retry-After delay if the server sent one.
+ */
+@Log4j2
+@AllArgsConstructor
+public class RetryClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+  private static final long MAX_BACKOFF_MS = 30_000;
+  private final int maxRetries;
+  private final long backoffMs;
+
+  @Override
+  @NonNull
+  public ClientHttpResponse intercept(@NonNull HttpRequest request, @NonNull byte[] body,
+      @NonNull ClientHttpRequestExecution execution) throws IOException {
+    ClientHttpResponse response = execution.execute(request, body);
+    for (int attempt = 0; attempt < maxRetries && isRetryable(response.getStatusCode()); attempt++) {
+      long delay = getDelay(response, attempt);
+      log.warn("Request {} answered with {}, retry in {} ms", request.getURI(), response.getStatusCode(), delay);
+      response.close();
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting to retry " + request.getURI());
+      }
+      response = execution.execute(request, body);
+    }
+    return response;
+  }
+
+  private static boolean isRetryable(HttpStatusCode statusCode) {
+    return statusCode.is5xxServerError() || statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+  }
+
+  private long getDelay(ClientHttpResponse response, int attempt) {
+    long retryAfterSeconds = NumberUtils.toLong(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER), -1);
+    long delay = retryAfterSeconds >= 0 ? retryAfterSeconds * 1000 : backoffMs << attempt;
+    return Math.min(delay, MAX_BACKOFF_MS);
+  }
+}
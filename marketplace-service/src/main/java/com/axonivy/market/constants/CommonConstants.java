@@ -11,6 +11,7 @@ public class CommonConstants {
   public static final String DOT_SEPARATOR = ".";
   public static final String PLUS = "+";
   public static final String DASH_SEPARATOR = "-";
+  public static final String COMMA = ",";
   public static final String SPACE_SEPARATOR = " ";
   public static final String BEARER = "Bearer";
   public static final String DIGIT_REGEX = "([0-9]+.*)";
@@ -8,15 +8,20 @@ public class EntityConstants {
   public static final String USER = "User";
   public static final String PRODUCT = "Product";
   public static final String PRODUCT_DESIGNER_INSTALLATION = "ProductDesignerInstallation";
+  public static final String PRODUCT_INSTALLATION_ROLLUP = "ProductInstallationRollup";
   public static final String MAVEN_METADATA_SYNC = "MavenMetadataSync";
   public static final String METADATA = "Metadata";
   public static final String GH_REPO_META = "GitHubRepoMeta";
   public static final String FEEDBACK = "Feedback";
+  public static final String PRODUCT_RATING_SUMMARY = "ProductRatingSummary";
   public static final String PRODUCT_CUSTOM_SORT = "ProductCustomSort";
   public static final String PRODUCT_JSON_CONTENT = "ProductJsonContent";
   public static final String PRODUCT_MODULE_CONTENT = "ProductModuleContent";
   public static final String IMAGE = "Image";
+  public static final String IMAGE_BLOB = "ImageBlob";
   public static final String MAVEN_ARTIFACT_VERSION = "MavenArtifactVersion";
   public static final String EXTERNAL_DOCUMENT_META = "ExternalDocumentMeta";
   public static final String PRODUCT_MARKETPLACE_DATA = "ProductMarketplaceData";
+  public static final String METADATA_REVISION = "MetadataRevision";
+  public static final String PRODUCT_VERSION_INDEX = "ProductVersionIndex";
 }
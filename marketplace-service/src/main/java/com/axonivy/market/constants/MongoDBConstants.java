@@ -12,10 +12,23 @@ public class MongoDBConstants {
   public static final String MARKETPLACE_DATA_CUSTOM_ORDER = "marketplaceData.customOrder";
   public static final String INSTALLATION_COUNT = "InstallationCount";
   public static final String SYNCHRONIZED_INSTALLATION_COUNT = "SynchronizedInstallationCount";
+  public static final String INSTALLATION_COUNT_MIGRATION_ID = "installationCountMigrationId";
   public static final String PRODUCT_ID = "productId";
+  public static final String USER_ID = "userId";
+  public static final String RATING = "rating";
+  public static final String CONTENT = "content";
+  public static final String CREATED_AT = "createdAt";
+  public static final String UPDATED_AT = "updatedAt";
+  public static final String RATING_COUNTS = "ratingCounts";
+  public static final String COUNT = "count";
   public static final String DESIGNER_VERSION = "designerVersion";
+  public static final String PERIOD = "period";
+  public static final String BUCKET = "bucket";
+  public static final String INSTALLATION_COUNT_BY_MAJOR_VERSION = "installationCountByMajorVersion";
   public static final String VERSION = "version";
   public static final String RELEASED_VERSIONS = "releasedVersions";
   public static final String ARTIFACTS = "artifacts";
   public static final String ARTIFACTS_DOC = "artifacts.doc";
+  public static final String CONTENT_HASH = "contentHash";
+  public static final String VARIANT_HASHES = "variantHashes";
 }
@@ -8,6 +8,6 @@ public class PreviewConstants {
 
   public static final String PREVIEW_DIR = "data/work/preview";
 
-  public static final String IMAGE_DOWNLOAD_URL = "%s/api/image/preview/%s";
+  public static final String IMAGE_DOWNLOAD_URL = "%s/api/image/preview/%s/%s";
 
 }
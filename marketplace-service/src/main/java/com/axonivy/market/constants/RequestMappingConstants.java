@@ -19,7 +19,8 @@ public class RequestMappingConstants {
   public static final String GIT_HUB_LOGIN = "/github/login";
   public static final String AUTH = "/auth";
   public static final String BY_ID = "/{id}";
-  public static final String BY_FILE_NAME = "/preview/{imageName}";
+  public static final String BY_FILE_NAME = "/preview/{sessionId}/{imageName}";
+  public static final String CACHE_STATISTICS = "/cache/statistics";
   public static final String BY_ID_AND_VERSION = "/{id}/{version}";
   public static final String BEST_MATCH_BY_ID_AND_VERSION = "/{id}/{version}/bestmatch";
   public static final String VERSIONS_BY_ID = "/{id}/versions";
@@ -29,6 +30,7 @@ public class RequestMappingConstants {
   public static final String PRODUCT_JSON_CONTENT_BY_PRODUCT_ID_AND_VERSION = "/{id}/{version}/json";
   public static final String VERSIONS_IN_DESIGNER = "/{id}/designerversions";
   public static final String DESIGNER_INSTALLATION_BY_ID = "/installation/{id}/designer";
+  public static final String INSTALLATION_TRENDS_BY_ID = "/installation/{id}/trends";
   public static final String CUSTOM_SORT = "custom-sort";
   public static final String LATEST_ARTIFACT_DOWNLOAD_URL_BY_ID = "/{id}/artifact";
   public static final String EXTERNAL_DOCUMENT = API + "/externaldocument";
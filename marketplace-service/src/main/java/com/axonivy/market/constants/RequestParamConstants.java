@@ -6,15 +6,20 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class RequestParamConstants {
   public static final String ID = "id";
+  public static final String WIDTH = "w";
+  public static final String FORMAT = "format";
   public static final String TYPE = "type";
   public static final String KEYWORD = "keyword";
   public static final String LANGUAGE = "language";
   public static final String IS_REST_CLIENT = "isRESTClient";
+  public static final String AFTER_PRODUCT_ID = "afterProductId";
   public static final String USER_ID = "userId";
   public static final String X_AUTHORIZATION = "X-Authorization";
   public static final String RESET_SYNC = "resetSync";
   public static final String SHOW_DEV_VERSION = "isShowDevVersion";
   public static final String DESIGNER_VERSION = "designerVersion";
+  public static final String PERIOD = "period";
+  public static final String BUCKETS = "buckets";
   public static final String VERSION = "version";
   public static final String ARTIFACT = "artifact";
   public static final String MARKET_ITEM_PATH = "marketItemPath";
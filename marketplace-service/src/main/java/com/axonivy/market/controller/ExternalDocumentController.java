@@ -1,5 +1,6 @@
 package com.axonivy.market.controller;
 
+import com.axonivy.market.bo.DocumentSyncStatistics;
 import com.axonivy.market.constants.GitHubConstants;
 import com.axonivy.market.entity.ExternalDocumentMeta;
 import com.axonivy.market.entity.Product;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,7 +27,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.axonivy.market.constants.RequestMappingConstants.*;
@@ -75,12 +76,13 @@ public class ExternalDocumentController {
       return new ResponseEntity<>(message, HttpStatus.NO_CONTENT);
     }
 
-    for (Product product : products) {
-      externalDocumentService.syncDocumentForProduct(product.getId(), new ArrayList<>(), resetSync);
-    }
+    List<String> productIds = products.stream().map(Product::getId).toList();
+    DocumentSyncStatistics statistics = externalDocumentService.syncDocumentForProducts(productIds,
+        BooleanUtils.isTrue(resetSync));
 
     message.setHelpCode(ErrorCode.SUCCESSFUL.getCode());
     message.setHelpText(ErrorCode.SUCCESSFUL.getHelpText());
+    message.setMessageDetails(String.format("Finished sync documentation with %s", statistics.getSummary()));
     return new ResponseEntity<>(message, HttpStatus.OK);
   }
 }
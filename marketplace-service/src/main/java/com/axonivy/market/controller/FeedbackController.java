@@ -82,7 +82,8 @@ public class FeedbackController {
       return generateEmptyPagedModel();
     }
     var responseContent = new PageImpl<>(results.getContent(), pageable, results.getTotalElements());
-    var pageResources = pagedResourcesAssembler.toModel(responseContent, feedbackModelAssembler);
+    var pageResources = pagedResourcesAssembler.toModel(responseContent,
+        feedbackModelAssembler.forPage(results.getContent()));
     return new ResponseEntity<>(pageResources, HttpStatus.OK);
   }
 
@@ -1,7 +1,12 @@
 package com.axonivy.market.controller;
 
+import com.axonivy.market.bo.ImageCacheStatistics;
+import com.axonivy.market.bo.ImageContent;
+import com.axonivy.market.constants.CommonConstants;
 import com.axonivy.market.entity.Image;
 import com.axonivy.market.service.ImageService;
+import com.axonivy.market.service.ImageVariantService;
+import com.axonivy.market.util.ImageUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -9,63 +14,156 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.Arrays;
+
 import static com.axonivy.market.constants.RequestMappingConstants.BY_ID;
+import static com.axonivy.market.constants.RequestMappingConstants.CACHE_STATISTICS;
 import static com.axonivy.market.constants.RequestMappingConstants.IMAGE;
 import static com.axonivy.market.constants.RequestMappingConstants.BY_FILE_NAME;
+import static com.axonivy.market.constants.RequestParamConstants.FORMAT;
 import static com.axonivy.market.constants.RequestParamConstants.ID;
+import static com.axonivy.market.constants.RequestParamConstants.WIDTH;
 
 @RestController
 @RequestMapping(IMAGE)
 @Tag(name = "Image Controllers", description = "API collection to get image's detail.")
 public class ImageController {
+  private static final CacheControl IMAGE_CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+  private static final String WEAK_ETAG_PREFIX = "W/";
+  private static final String ANY_ETAG = "*";
+  private static final String QUOTE = "\"";
+  private static final String X_CONTENT_TYPE_OPTIONS = "X-Content-Type-Options";
+  private static final String NO_SNIFF = "nosniff";
+  private static final String CONTENT_SECURITY_POLICY = "Content-Security-Policy";
+  private static final String SVG_CONTENT_SECURITY_POLICY = "default-src 'none'; style-src 'unsafe-inline'; sandbox";
   private final ImageService imageService;
+  private final ImageVariantService imageVariantService;
 
-  public ImageController(ImageService imageService) {
+  public ImageController(ImageService imageService, ImageVariantService imageVariantService) {
     this.imageService = imageService;
+    this.imageVariantService = imageVariantService;
   }
 
   @GetMapping(BY_ID)
   @Operation(summary = "Get the image content by id",
-      description = "Collect the byte[] of image with contentType in header is PNG")
+      description = "Stream the content of image with its detected contentType in header. The response carries a " +
+          "strong ETag and may be cached forever, a matching If-None-Match is answered with 304 Not Modified. " +
+          "A width or format returns a resized or re-encoded variant of the image")
   @ApiResponse(responseCode = "200", description = "Image found and returned",
       content = @Content(mediaType = MediaType.IMAGE_PNG_VALUE, schema = @Schema(implementation = Image.class)))
+  @ApiResponse(responseCode = "304", description = "Image not modified")
   @ApiResponse(responseCode = "404", description = "Image not found")
   @ApiResponse(responseCode = "204", description = "No content (image empty)")
-  public ResponseEntity<byte[]> findImageById(
+  public ResponseEntity<Resource> findImageById(
       @PathVariable(ID) @Parameter(description = "The image id", example = "66e7efc8a24f36158df06fc7",
-          in = ParameterIn.PATH) String id) {
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.IMAGE_PNG);
-    byte[] imageData = imageService.readImage(id);
-    if (imageData == null) {
+          in = ParameterIn.PATH) String id,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(hidden = true)
+      String ifNoneMatch,
+      @RequestParam(value = WIDTH, required = false) @Parameter(description = "The maximal width of the variant",
+          example = "64", in = ParameterIn.QUERY) Integer width,
+      @RequestParam(value = FORMAT, required = false) @Parameter(description = "The format of the variant, png or jpeg",
+          example = "png", in = ParameterIn.QUERY) String format) {
+    boolean isVariant = width != null || format != null;
+    String variantSuffix = isVariant ?
+        CommonConstants.DASH_SEPARATOR + imageVariantService.getVariantKey(width, format) : StringUtils.EMPTY;
+    ImageContent imageContent = isVariant ? imageVariantService.findCachedVariant(id, width, format) :
+        imageService.findCachedImage(id);
+    if (imageContent == null && StringUtils.isNotBlank(ifNoneMatch)) {
+      // The validator of an image which is not cached is read without its content
+      String eTag = imageService.getImageETag(id);
+      if (eTag == null) {
+        return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+      }
+      if (isMatchingETag(ifNoneMatch, eTag + variantSuffix)) {
+        return notModified(eTag + variantSuffix);
+      }
+    }
+
+    if (imageContent == null && isVariant) {
+      imageContent = imageVariantService.getVariant(id, width, format);
+    }
+    if (imageContent == null) {
+      imageContent = imageService.readImage(id);
+    }
+    if (imageContent == null) {
       return new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
+    String eTag = imageContent.eTag() + variantSuffix;
+    if (isMatchingETag(ifNoneMatch, eTag)) {
+      return notModified(eTag);
+    }
 
-    if (imageData.length == 0) {
+    if (imageContent.contentLength() == 0) {
       return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
-    return new ResponseEntity<>(imageData, headers, HttpStatus.OK);
+    return ResponseEntity.ok().headers(getSecurityHeaders(imageContent.mediaType())).eTag(eTag)
+        .cacheControl(IMAGE_CACHE_CONTROL).contentType(imageContent.mediaType())
+        .contentLength(imageContent.contentLength()).body(imageContent.resource());
+  }
+
+  private static ResponseEntity<Resource> notModified(String eTag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(IMAGE_CACHE_CONTROL).build();
   }
 
   @GetMapping(BY_FILE_NAME)
   @Operation(hidden = true)
-  public ResponseEntity<byte[]> findPreviewImageByName(
+  public ResponseEntity<byte[]> findPreviewImageByName(@PathVariable("sessionId") String sessionId,
       @PathVariable("imageName") String imageName) {
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.IMAGE_PNG);
-    byte[] imageData = imageService.readPreviewImageByName(imageName);
+    byte[] imageData = imageService.readPreviewImageByName(sessionId, imageName);
     if (imageData.length == 0) {
       return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+    MediaType mediaType = ImageUtils.getMediaType(imageData);
+    HttpHeaders headers = getSecurityHeaders(mediaType);
+    headers.setContentType(mediaType);
     return new ResponseEntity<>(imageData, headers, HttpStatus.OK);
   }
+
+  @GetMapping(CACHE_STATISTICS)
+  @Operation(hidden = true)
+  public ResponseEntity<ImageCacheStatistics> getImageCacheStatistics() {
+    return ResponseEntity.ok(imageService.getImageCacheStatistics());
+  }
+
+  /**
+   * Images are served from the API origin, so the browser must not sniff them into something else, and SVG may neither
+   * run scripts nor load anything.
+   */
+  private static HttpHeaders getSecurityHeaders(MediaType mediaType) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(X_CONTENT_TYPE_OPTIONS, NO_SNIFF);
+    if (ImageUtils.isSvg(mediaType)) {
+      headers.set(CONTENT_SECURITY_POLICY, SVG_CONTENT_SECURITY_POLICY);
+    }
+    return headers;
+  }
+
+  /**
+   * If-None-Match uses the weak comparison, so a weak tag of the browser still matches our strong ETag.
+   */
+  private static boolean isMatchingETag(String ifNoneMatch, String eTag) {
+    if (StringUtils.isBlank(ifNoneMatch)) {
+      return false;
+    }
+    String quotedETag = QUOTE + eTag + QUOTE;
+    return Arrays.stream(ifNoneMatch.split(CommonConstants.COMMA)).map(String::trim)
+        .map(tag -> StringUtils.removeStart(tag, WEAK_ETAG_PREFIX))
+        .anyMatch(tag -> ANY_ETAG.equals(tag) || quotedETag.equals(tag));
+  }
 }
@@ -1,6 +1,7 @@
 package com.axonivy.market.controller;
 
 import com.axonivy.market.assembler.ProductModelAssembler;
+import com.axonivy.market.bo.SyncStatistics;
 import com.axonivy.market.constants.GitHubConstants;
 import com.axonivy.market.entity.Product;
 import com.axonivy.market.enums.ErrorCode;
@@ -78,8 +79,12 @@ public class ProductController {
       @RequestParam(name = IS_REST_CLIENT) @Parameter(
           description = "Option to render the website in the REST Client Editor of Designer",
           in = ParameterIn.QUERY) Boolean isRESTClient,
+      @RequestParam(required = false, name = AFTER_PRODUCT_ID) @Parameter(
+          description = "Id of the last loaded product, the page then starts right after it", example = "a-trust",
+          in = ParameterIn.QUERY) String afterProductId,
       @ParameterObject Pageable pageable) {
-    Page<Product> results = productService.findProducts(type, keyword, language, isRESTClient, pageable);
+    Page<Product> results = productService.findProducts(type, keyword, language, isRESTClient, afterProductId,
+        pageable);
     if (results.isEmpty()) {
       return generateEmptyPagedModel();
     }
@@ -98,7 +103,8 @@ public class ProductController {
 
     var stopWatch = new StopWatch();
     stopWatch.start();
-    List<String> syncedProductIds = productService.syncLatestDataFromMarketRepo(resetSync);
+    var statistics = new SyncStatistics();
+    List<String> syncedProductIds = productService.syncLatestDataFromMarketRepo(resetSync, statistics);
     var message = new Message();
     message.setHelpCode(ErrorCode.SUCCESSFUL.getCode());
     message.setHelpText(ErrorCode.SUCCESSFUL.getHelpText());
@@ -106,8 +112,8 @@ public class ProductController {
       message.setMessageDetails("Data is already up to date, nothing to sync");
     } else {
       stopWatch.stop();
-      message.setMessageDetails(String.format("Finished sync [%s] data in [%s] milliseconds", syncedProductIds,
-          stopWatch.getTime()));
+      message.setMessageDetails(String.format("Finished sync [%s] data in [%s] milliseconds with %s",
+          syncedProductIds, stopWatch.getTime(), statistics.getSummary()));
     }
     return new ResponseEntity<>(message, HttpStatus.OK);
   }
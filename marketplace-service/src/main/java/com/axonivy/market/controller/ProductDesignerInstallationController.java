@@ -2,6 +2,7 @@ package com.axonivy.market.controller;
 
 import com.axonivy.market.logging.Loggable;
 import com.axonivy.market.model.DesignerInstallation;
+import com.axonivy.market.model.InstallationTrend;
 import com.axonivy.market.service.ProductDesignerInstallationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,13 +13,17 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
 
 import static com.axonivy.market.constants.RequestMappingConstants.DESIGNER_INSTALLATION_BY_ID;
+import static com.axonivy.market.constants.RequestMappingConstants.INSTALLATION_TRENDS_BY_ID;
 import static com.axonivy.market.constants.RequestMappingConstants.PRODUCT_DESIGNER_INSTALLATION;
+import static com.axonivy.market.constants.RequestParamConstants.BUCKETS;
 import static com.axonivy.market.constants.RequestParamConstants.ID;
+import static com.axonivy.market.constants.RequestParamConstants.PERIOD;
 
 @RestController
 @RequestMapping(PRODUCT_DESIGNER_INSTALLATION)
@@ -41,4 +46,20 @@ public class ProductDesignerInstallationController {
     List<DesignerInstallation> models = productDesignerInstallationService.findByProductId(productId);
     return new ResponseEntity<>(models, HttpStatus.OK);
   }
+
+  @Loggable
+  @GetMapping(INSTALLATION_TRENDS_BY_ID)
+  @Operation(summary = "Get installation trends by product id.",
+      description = "get the installations of the latest days or months by product id, the oldest first")
+  public ResponseEntity<List<InstallationTrend>> getInstallationTrendsByProductId(
+      @PathVariable(ID) @Parameter(description = "Product id (from meta.json)", example = "adobe-acrobat-connector",
+          in = ParameterIn.PATH) String productId,
+      @RequestParam(name = PERIOD, defaultValue = "month") @Parameter(description = "Bucket size: day or month",
+          in = ParameterIn.QUERY) String period,
+      @RequestParam(name = BUCKETS, defaultValue = "12") @Parameter(description = "Number of buckets, at most 366",
+          in = ParameterIn.QUERY) int bucketCount) {
+    List<InstallationTrend> trends = productDesignerInstallationService.findInstallationTrends(productId, period,
+        bucketCount);
+    return new ResponseEntity<>(trends, HttpStatus.OK);
+  }
 }
@@ -11,13 +11,16 @@ import java.util.List;
 
 import static com.axonivy.market.enums.DocumentField.NAMES;
 import static com.axonivy.market.enums.DocumentField.SHORT_DESCRIPTIONS;
+import static com.axonivy.market.enums.DocumentField.TAGS;
+import static com.axonivy.market.enums.DocumentField.VENDOR;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductSearchCriteria {
 
-  public static final List<DocumentField> DEFAULT_SEARCH_FIELDS = List.of(NAMES, SHORT_DESCRIPTIONS);
+  public static final List<DocumentField> DEFAULT_SEARCH_FIELDS = List.of(NAMES, SHORT_DESCRIPTIONS, TAGS,
+      VENDOR);
 
   private String keyword;
   private TypeOption type;
@@ -25,5 +28,6 @@ public class ProductSearchCriteria {
   private List<DocumentField> fields;
   private List<DocumentField> excludeFields;
   private boolean isListed;
+  private String afterProductId;
 
 }
@@ -29,6 +29,7 @@ public class ExternalDocumentMeta {
   private String version;
   private String storageDirectory;
   private String relativeLink;
+  private String checksum;
   @CreatedDate
   private Date createdAt;
   @LastModifiedDate
@@ -10,6 +10,8 @@ import org.bson.types.Binary;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.util.Map;
+
 import static com.axonivy.market.constants.EntityConstants.IMAGE;
 
 @Getter
@@ -26,9 +28,23 @@ public class Image {
   @Schema(description = "The download url from github",
       example = "https://raw.githubusercontent.comamazon-comprehend/logo.png")
   private String imageUrl;
+  /**
+   * Only set on images stored before the content moved to the {@link com.axonivy.market.service.ImageBlobStore},
+   * until they are migrated.
+   */
   @Schema(description = "The image content as binary type",
       example = "Binary(Buffer.from(\"89504e470d0a1a0a0000000d\", \"hex\"), 0)")
   private Binary imageData;
+  @Schema(description = "The SHA-256 of the image content, which addresses it in the image blob store",
+      example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+  private String contentHash;
+  @Schema(description = "The detected media type of the image", example = "image/png")
+  private String contentType;
+  @Schema(description = "The size of the image content in bytes", example = "5120")
+  private Long size;
+  @Schema(description = "The content hashes of the generated variants by variant key",
+      example = "{\"64-png\": \"9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08\"}")
+  private Map<String, String> variantHashes;
   @Schema(description = "The SHA from github", example = "93b1e2f1595d3a85e51b01")
   private String sha;
 }
@@ -0,0 +1,40 @@
+package com.axonivy.market.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+import static com.axonivy.market.constants.EntityConstants.METADATA_REVISION;
+
+/**
+ * The last seen revision of a maven-metadata.xml, used to send conditional requests and to detect whether the metadata
+ * has changed since the previous sync.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(METADATA_REVISION)
+public class MetadataRevision {
+  @Id
+  private String url;
+  private String productId;
+  private String eTag;
+  private String lastModified;
+  private String lastUpdated;
+  @LastModifiedDate
+  private Date updatedAt;
+  @Transient
+  private String content;
+  @Transient
+  private boolean changed;
+}
@@ -0,0 +1,45 @@
+package com.axonivy.market.entity;
+
+import com.axonivy.market.enums.InstallationPeriod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.axonivy.market.constants.EntityConstants.PRODUCT_INSTALLATION_ROLLUP;
+
+/**
+ * The installations of a product in one day or month, in total and by designer major version. The id is derived from
+ * the product, period and bucket, so a bucket is read or upserted by its id directly.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(PRODUCT_INSTALLATION_ROLLUP)
+public class ProductInstallationRollup implements Serializable {
+  @Serial
+  private static final long serialVersionUID = 1L;
+  private static final String ID_SEPARATOR = ":";
+  @Id
+  private String id;
+  private String productId;
+  private InstallationPeriod period;
+  private String bucket;
+  private long installationCount;
+  @Builder.Default
+  private Map<String, Long> installationCountByMajorVersion = new HashMap<>();
+
+  public static String createId(String productId, InstallationPeriod period, String bucket) {
+    return String.join(ID_SEPARATOR, productId, period.name(), bucket);
+  }
+}
@@ -0,0 +1,36 @@
+package com.axonivy.market.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.axonivy.market.constants.EntityConstants.PRODUCT_RATING_SUMMARY;
+
+/**
+ * The number of feedbacks per star rating of a product, keyed by the product id. It is kept up to date with $inc
+ * deltas when a feedback is created or its rating changes, so the rating of a product is read from this document
+ * instead of counting its feedbacks.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(PRODUCT_RATING_SUMMARY)
+public class ProductRatingSummary implements Serializable {
+  @Serial
+  private static final long serialVersionUID = 1L;
+  @Id
+  private String id;
+  @Builder.Default
+  private Map<String, Integer> ratingCounts = new HashMap<>();
+}
@@ -0,0 +1,54 @@
+package com.axonivy.market.entity;
+
+import com.axonivy.market.bo.VersionResolver;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static com.axonivy.market.constants.EntityConstants.PRODUCT_VERSION_INDEX;
+
+/**
+ * The version lists of one product as shown by the read endpoints, computed once whenever the maven data of the
+ * product is synchronized. All lists are sorted from the newest to the oldest version.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(PRODUCT_VERSION_INDEX)
+public class ProductVersionIndex {
+  @Id
+  private String productId;
+  private List<String> releasedVersions;
+  private List<String> devVersions;
+  private List<String> installableVersions;
+  private List<String> designerVersions;
+  private String compatibilityRange;
+  @LastModifiedDate
+  private Date updatedAt;
+  @Transient
+  private Map<String, List<String>> releasedVersionsByMinor;
+  @Transient
+  private VersionResolver installableVersionResolver;
+
+  /**
+   * Built on first use, a rebuilt index replaces this instance so the resolver never outlives its versions.
+   */
+  public VersionResolver getInstallableVersionResolver() {
+    if (installableVersionResolver == null) {
+      installableVersionResolver = VersionResolver.of(installableVersions);
+    }
+    return installableVersionResolver;
+  }
+}
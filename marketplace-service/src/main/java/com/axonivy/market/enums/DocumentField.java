@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public enum DocumentField {
   LISTED("listed", false), TYPE("type", false), NAMES("names", true), SHORT_DESCRIPTIONS("shortDescriptions", true),
-  MARKET_DIRECTORY("marketDirectory", false);
+  MARKET_DIRECTORY("marketDirectory", false), TAGS("tags", false), VENDOR("vendor", false);
 
   private String fieldName;
   private boolean isLocalizedSupport;
@@ -0,0 +1,12 @@
+package com.axonivy.market.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum DocumentSyncStatus {
+  SYNCED("synced"), UNCHANGED("unchanged"), FAILED("failed");
+
+  private final String code;
+}
@@ -20,7 +20,7 @@ public enum ErrorCode {
   FEEDBACK_NOT_FOUND("3103", "FEEDBACK_NOT_FOUND"), NO_FEEDBACK_OF_USER_FOR_PRODUCT("3103",
       "NO_FEEDBACK_OF_USER_FOR_PRODUCT"), ARGUMENT_BAD_REQUEST("4000", "ARGUMENT_BAD_REQUEST"),
   MAVEN_VERSION_SYNC_FAILED("1104","PRODUCT_MAVEN_SYNCED_FAILED"), FEEDBACK_SORT_INVALID("3102",
-      "FEEDBACK_SORT_INVALID");
+      "FEEDBACK_SORT_INVALID"), INSTALLATION_PERIOD_INVALID("1105", "INSTALLATION_PERIOD_INVALID");
 
   String code;
   String helpText;
@@ -0,0 +1,48 @@
+package com.axonivy.market.enums;
+
+import com.axonivy.market.exceptions.model.InvalidParamException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public enum InstallationPeriod {
+  DAY("day", DateTimeFormatter.ISO_LOCAL_DATE, ChronoUnit.DAYS),
+  MONTH("month", DateTimeFormatter.ofPattern("yyyy-MM"), ChronoUnit.MONTHS);
+
+  private final String option;
+  private final DateTimeFormatter bucketFormatter;
+  private final ChronoUnit unit;
+
+  public static InstallationPeriod of(String option) {
+    option = StringUtils.isBlank(option) ? option : option.trim();
+    for (var period : values()) {
+      if (StringUtils.equalsIgnoreCase(period.option, option)) {
+        return period;
+      }
+    }
+    throw new InvalidParamException(ErrorCode.INSTALLATION_PERIOD_INVALID, "InstallationPeriod: " + option);
+  }
+
+  public String getBucket(LocalDate date) {
+    return bucketFormatter.format(date);
+  }
+
+  /**
+   * The given number of buckets up to the one of the given date, the oldest first.
+   */
+  public List<String> getLatestBuckets(LocalDate date, int bucketCount) {
+    List<String> buckets = new ArrayList<>();
+    for (int i = bucketCount - 1; i >= 0; i--) {
+      buckets.add(getBucket(date.minus(i, unit)));
+    }
+    return buckets;
+  }
+}
@@ -0,0 +1,12 @@
+package com.axonivy.market.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum SyncStage {
+  GITHUB_CONTENT("github-content"), MAVEN_RELEASES("maven-releases"), PERSISTENCE("persistence");
+
+  private final String code;
+}
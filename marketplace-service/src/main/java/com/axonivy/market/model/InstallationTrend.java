@@ -0,0 +1,21 @@
+package com.axonivy.market.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class InstallationTrend {
+  @Schema(description = "Day or month of the installations", example = "2024-10")
+  private String bucket;
+  private long numberOfDownloads;
+  @Schema(description = "Installations by designer major version, the latest version first")
+  private List<DesignerInstallation> designerInstallations;
+}
@@ -0,0 +1,13 @@
+package com.axonivy.market.repository;
+
+import com.axonivy.market.entity.Feedback;
+
+import java.util.Map;
+
+public interface CustomFeedbackRepository {
+  Feedback upsertByUserIdAndProductId(Feedback feedback);
+
+  Map<String, Map<Integer, Integer>> countRatingsByProductId();
+
+  void ensureUserIdAndProductIdIndex();
+}
@@ -0,0 +1,7 @@
+package com.axonivy.market.repository;
+
+public interface CustomImageRepository {
+  void ensureProductIdAndContentHashIndex();
+
+  void setVariantHash(String id, String variantKey, String variantHash);
+}
@@ -0,0 +1,9 @@
+package com.axonivy.market.repository;
+
+import com.axonivy.market.bo.InstallationEvent;
+
+import java.util.Map;
+
+public interface CustomProductInstallationRollupRepository {
+  void increaseInstallationCounts(Map<InstallationEvent, Long> installationCounts);
+}
@@ -1,12 +1,17 @@
 package com.axonivy.market.repository;
 
+import java.util.List;
+import java.util.Map;
+
 public interface CustomProductMarketplaceDataRepository {
 
-  int updateInitialCount(String productId, int initialCount);
+  void checkAndInitProductMarketplaceDataIfNotExist(String productId);
+
+  List<String> findIdsWithoutSynchronizedInstallationCount();
 
-  int increaseInstallationCount(String productId);
+  List<String> updateInitialCounts(Map<String, Integer> initialCounts);
 
-  void increaseInstallationCountForProductByDesignerVersion(String productId, String designerVersion);
+  void increaseInstallationCounts(Map<String, Long> installationCounts);
 
-  void checkAndInitProductMarketplaceDataIfNotExist(String productId);
+  void increaseInstallationCountsByDesignerVersion(Map<String, Map<String, Long>> installationCountsByDesignerVersion);
 }
@@ -0,0 +1,9 @@
+package com.axonivy.market.repository;
+
+import java.util.Map;
+
+public interface CustomProductRatingSummaryRepository {
+  void increaseRatingCounts(String productId, Map<Integer, Integer> ratingDeltas);
+
+  void replaceRatingCounts(Map<String, Map<Integer, Integer>> ratingCountsByProductId);
+}
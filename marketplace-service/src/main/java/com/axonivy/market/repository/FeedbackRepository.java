@@ -10,7 +10,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface FeedbackRepository extends MongoRepository<Feedback, String> {
+public interface FeedbackRepository extends MongoRepository<Feedback, String>, CustomFeedbackRepository {
 
   @Query("{ 'productId': ?0 }")
   Page<Feedback> searchByProductId(String productId, Pageable pageable);
@@ -2,12 +2,30 @@ package com.axonivy.market.repository;
 
 import com.axonivy.market.entity.Image;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ImageRepository extends MongoRepository<Image, String> {
+public interface ImageRepository extends MongoRepository<Image, String>, CustomImageRepository {
+  /**
+   * Reads the image without its embedded binary.
+   */
+  @Query(value = "{ '_id': ?0 }", fields = "{ 'imageData': 0 }")
+  Optional<Image> findMetadataById(String id);
+
+  @Query(value = "{ 'imageData': { '$exists': true } }", fields = "{ '_id': 1 }")
+  List<Image> findIdsWithImageData();
+
+  @Query(value = "{ 'contentHash': { '$exists': true } }", fields = "{ 'contentHash': 1, 'variantHashes': 1 }")
+  List<Image> findAllContentHashes();
+
+  @Query(value = "{ 'productId': ?0, 'contentHash': { '$in': ?1 } }", fields = "{ 'imageData': 0 }")
+  List<Image> findByProductIdAndContentHashIn(String productId, Collection<String> contentHashes);
+
   List<Image> findByProductIdAndSha(String productId, String sha);
 
   List<Image> findByImageUrlEndsWithIgnoreCase(String fileName);
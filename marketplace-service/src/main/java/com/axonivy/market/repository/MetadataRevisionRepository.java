@@ -0,0 +1,8 @@
+package com.axonivy.market.repository;
+
+import com.axonivy.market.entity.MetadataRevision;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface MetadataRevisionRepository extends MongoRepository<MetadataRevision, String> {
+  void deleteAllByProductId(String productId);
+}
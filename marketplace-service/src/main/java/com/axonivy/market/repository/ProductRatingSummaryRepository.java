@@ -0,0 +1,10 @@
+package com.axonivy.market.repository;
+
+import com.axonivy.market.entity.ProductRatingSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductRatingSummaryRepository extends MongoRepository<ProductRatingSummary, String>,
+    CustomProductRatingSummaryRepository {
+}
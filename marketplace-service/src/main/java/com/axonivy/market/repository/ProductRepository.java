@@ -2,6 +2,7 @@ package com.axonivy.market.repository;
 
 import com.axonivy.market.entity.Product;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +10,7 @@ import java.util.List;
 @Repository
 public interface ProductRepository extends MongoRepository<Product, String>, CustomProductRepository {
   List<Product> findByMarketDirectory(String marketDirectory);
+
+  @Query(value = "{}", fields = "{ 'logoId': 1 }")
+  List<Product> findAllLogoIds();
 }
@@ -0,0 +1,9 @@
+package com.axonivy.market.repository;
+
+import com.axonivy.market.entity.ProductVersionIndex;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductVersionIndexRepository extends MongoRepository<ProductVersionIndex, String> {
+}
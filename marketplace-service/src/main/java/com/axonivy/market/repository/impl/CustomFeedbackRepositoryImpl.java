@@ -0,0 +1,76 @@
+package com.axonivy.market.repository.impl;
+
+import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.entity.Feedback;
+import com.axonivy.market.repository.CustomFeedbackRepository;
+import com.axonivy.market.repository.CustomRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+@Builder
+@AllArgsConstructor
+public class CustomFeedbackRepositoryImpl extends CustomRepository implements CustomFeedbackRepository {
+  private static final String USER_ID_PRODUCT_ID_INDEX = "userId_productId";
+
+  final MongoTemplate mongoTemplate;
+
+  /**
+   * Inserts or updates the feedback of the user for the product in one round trip and returns the feedback as it was
+   * before, or null if it is new. The id and creation date of the stored feedback are set on the given one.
+   */
+  @Override
+  public Feedback upsertByUserIdAndProductId(Feedback feedback) {
+    var now = new Date();
+    var newId = new ObjectId();
+    Query query = new Query(Criteria.where(MongoDBConstants.USER_ID).is(feedback.getUserId())
+        .and(MongoDBConstants.PRODUCT_ID).is(feedback.getProductId()));
+    Update update = new Update().set(MongoDBConstants.RATING, feedback.getRating())
+        .set(MongoDBConstants.CONTENT, feedback.getContent())
+        .set(MongoDBConstants.UPDATED_AT, now)
+        .setOnInsert(MongoDBConstants.ID, newId)
+        .setOnInsert(MongoDBConstants.CREATED_AT, now);
+    Feedback previousFeedback = mongoTemplate.findAndModify(query, update,
+        FindAndModifyOptions.options().upsert(true).returnNew(false), Feedback.class);
+    feedback.setId(previousFeedback == null ? newId.toHexString() : previousFeedback.getId());
+    feedback.setCreatedAt(previousFeedback == null ? now : previousFeedback.getCreatedAt());
+    feedback.setUpdatedAt(now);
+    return previousFeedback;
+  }
+
+  @Override
+  public Map<String, Map<Integer, Integer>> countRatingsByProductId() {
+    Aggregation aggregation = Aggregation.newAggregation(
+        Aggregation.match(Criteria.where(MongoDBConstants.RATING).ne(null)),
+        Aggregation.group(MongoDBConstants.PRODUCT_ID, MongoDBConstants.RATING).count().as(MongoDBConstants.COUNT));
+    Map<String, Map<Integer, Integer>> ratingCountsByProductId = new HashMap<>();
+    for (Document result : mongoTemplate.aggregate(aggregation, Feedback.class, Document.class)) {
+      Document group = result.get(MongoDBConstants.ID, Document.class);
+      ratingCountsByProductId.computeIfAbsent(group.getString(MongoDBConstants.PRODUCT_ID), id -> new HashMap<>())
+          .put(group.getInteger(MongoDBConstants.RATING), result.getInteger(MongoDBConstants.COUNT));
+    }
+    return ratingCountsByProductId;
+  }
+
+  /**
+   * A user has one feedback per product, the unique index keeps concurrent upserts from inserting it twice.
+   */
+  @Override
+  public void ensureUserIdAndProductIdIndex() {
+    mongoTemplate.indexOps(Feedback.class).ensureIndex(new Index().on(MongoDBConstants.USER_ID, Sort.Direction.ASC)
+        .on(MongoDBConstants.PRODUCT_ID, Sort.Direction.ASC).unique().named(USER_ID_PRODUCT_ID_INDEX));
+  }
+}
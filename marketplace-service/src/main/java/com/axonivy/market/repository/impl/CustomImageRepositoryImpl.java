@@ -0,0 +1,41 @@
+package com.axonivy.market.repository.impl;
+
+import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.entity.Image;
+import com.axonivy.market.repository.CustomImageRepository;
+import com.axonivy.market.repository.CustomRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static com.axonivy.market.constants.CommonConstants.DOT_SEPARATOR;
+
+@Builder
+@AllArgsConstructor
+public class CustomImageRepositoryImpl extends CustomRepository implements CustomImageRepository {
+  private static final String PRODUCT_ID_CONTENT_HASH_INDEX = "productId_contentHash";
+
+  final MongoTemplate mongoTemplate;
+
+  /**
+   * The images of a downloaded product version are resolved by their content hashes, the automatic index creation is
+   * disabled so the index is created here.
+   */
+  @Override
+  public void ensureProductIdAndContentHashIndex() {
+    mongoTemplate.indexOps(Image.class).ensureIndex(new Index().on(MongoDBConstants.PRODUCT_ID, Sort.Direction.ASC)
+        .on(MongoDBConstants.CONTENT_HASH, Sort.Direction.ASC).named(PRODUCT_ID_CONTENT_HASH_INDEX));
+  }
+
+  /**
+   * Sets only the hash of the given variant, so variants generated side by side do not overwrite each other.
+   */
+  @Override
+  public void setVariantHash(String id, String variantKey, String variantHash) {
+    mongoTemplate.updateFirst(createQueryById(id),
+        new Update().set(MongoDBConstants.VARIANT_HASHES + DOT_SEPARATOR + variantKey, variantHash), Image.class);
+  }
+}
@@ -0,0 +1,64 @@
+package com.axonivy.market.repository.impl;
+
+import com.axonivy.market.bo.InstallationEvent;
+import com.axonivy.market.constants.CommonConstants;
+import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.entity.ProductInstallationRollup;
+import com.axonivy.market.enums.InstallationPeriod;
+import com.axonivy.market.repository.CustomProductInstallationRollupRepository;
+import com.axonivy.market.repository.CustomRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Builder
+@AllArgsConstructor
+public class CustomProductInstallationRollupRepositoryImpl extends CustomRepository
+    implements CustomProductInstallationRollupRepository {
+
+  final MongoTemplate mongoTemplate;
+
+  /**
+   * Adds the installations to the day and month buckets of their products in one unordered bulk write. The
+   * installations are summed up per bucket first, so each bucket gets a single $inc upsert.
+   */
+  @Override
+  public void increaseInstallationCounts(Map<InstallationEvent, Long> installationCounts) {
+    if (installationCounts.isEmpty()) {
+      return;
+    }
+    Map<String, ProductInstallationRollup> rollups = new LinkedHashMap<>();
+    installationCounts.forEach((event, count) -> {
+      for (InstallationPeriod period : InstallationPeriod.values()) {
+        String bucket = period.getBucket(event.date());
+        ProductInstallationRollup rollup = rollups.computeIfAbsent(
+            ProductInstallationRollup.createId(event.productId(), period, bucket),
+            id -> ProductInstallationRollup.builder().id(id).productId(event.productId()).period(period)
+                .bucket(bucket).build());
+        rollup.setInstallationCount(rollup.getInstallationCount() + count);
+        if (event.designerMajorVersion() != null) {
+          rollup.getInstallationCountByMajorVersion().merge(event.designerMajorVersion(), count, Long::sum);
+        }
+      }
+    });
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+        ProductInstallationRollup.class);
+    rollups.values().forEach(rollup -> bulkOperations.upsert(createQueryById(rollup.getId()), createUpdate(rollup)));
+    bulkOperations.execute();
+  }
+
+  private static Update createUpdate(ProductInstallationRollup rollup) {
+    Update update = new Update().setOnInsert(MongoDBConstants.PRODUCT_ID, rollup.getProductId())
+        .setOnInsert(MongoDBConstants.PERIOD, rollup.getPeriod().name())
+        .setOnInsert(MongoDBConstants.BUCKET, rollup.getBucket())
+        .inc(MongoDBConstants.INSTALLATION_COUNT, rollup.getInstallationCount());
+    rollup.getInstallationCountByMajorVersion().forEach((majorVersion, count) -> update.inc(String.join(
+        CommonConstants.DOT_SEPARATOR, MongoDBConstants.INSTALLATION_COUNT_BY_MAJOR_VERSION, majorVersion), count));
+    return update;
+  }
+}
@@ -7,12 +7,16 @@ import com.axonivy.market.repository.CustomProductMarketplaceDataRepository;
 import com.axonivy.market.repository.CustomRepository;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 @Builder
 @AllArgsConstructor
 public class CustomProductMarketplaceDataRepositoryImpl extends CustomRepository implements CustomProductMarketplaceDataRepository {
@@ -20,37 +24,87 @@ public class CustomProductMarketplaceDataRepositoryImpl extends CustomRepository
   final MongoTemplate mongoTemplate;
 
   @Override
-  public int updateInitialCount(String productId, int initialCount) {
-    Update update = new Update().inc(MongoDBConstants.INSTALLATION_COUNT, initialCount).set(
-        MongoDBConstants.SYNCHRONIZED_INSTALLATION_COUNT, true);
-    ProductMarketplaceData updatedProductMarketplaceData = mongoTemplate.findAndModify(createQueryById(productId),
-        update, FindAndModifyOptions.options().returnNew(true), ProductMarketplaceData.class);
-    return updatedProductMarketplaceData != null ? updatedProductMarketplaceData.getInstallationCount() : 0;
+  public void checkAndInitProductMarketplaceDataIfNotExist(String productId) {
+    Query query = new Query(Criteria.where(MongoDBConstants.ID).is(productId));
+    if (!mongoTemplate.exists(query, ProductMarketplaceData.class)) {
+      ProductMarketplaceData productMarketplaceData = new ProductMarketplaceData();
+      productMarketplaceData.setId(productId);
+      mongoTemplate.insert(productMarketplaceData);
+    }
+  }
+
+  @Override
+  public List<String> findIdsWithoutSynchronizedInstallationCount() {
+    Query query = new Query(Criteria.where(MongoDBConstants.SYNCHRONIZED_INSTALLATION_COUNT).ne(true));
+    query.fields().include(MongoDBConstants.ID);
+    return mongoTemplate.find(query, ProductMarketplaceData.class).stream().map(ProductMarketplaceData::getId).toList();
   }
 
+  /**
+   * Seeds the initial counts in one unordered bulk write. Products which got synchronized meanwhile are left as they
+   * are, so running it twice never adds the initial count twice. The seeded products are tagged with the id of this
+   * run, as the bulk result only counts them, and the tag is removed once they are read.
+   *
+   * @return the ids of the products seeded by this call
+   */
   @Override
-  public int increaseInstallationCount(String productId) {
-    Update update = new Update().inc(MongoDBConstants.INSTALLATION_COUNT, 1);
-    ProductMarketplaceData updatedProduct = mongoTemplate.findAndModify(createQueryById(productId), update,
-        FindAndModifyOptions.options().returnNew(true), ProductMarketplaceData.class);
-    return updatedProduct != null ? updatedProduct.getInstallationCount() : 0;
+  public List<String> updateInitialCounts(Map<String, Integer> initialCounts) {
+    if (initialCounts.isEmpty()) {
+      return List.of();
+    }
+    String migrationId = UUID.randomUUID().toString();
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+        ProductMarketplaceData.class);
+    initialCounts.forEach((productId, initialCount) -> bulkOperations.updateOne(
+        new Query(Criteria.where(MongoDBConstants.ID).is(productId)
+            .and(MongoDBConstants.SYNCHRONIZED_INSTALLATION_COUNT).ne(true)),
+        new Update().inc(MongoDBConstants.INSTALLATION_COUNT, initialCount)
+            .set(MongoDBConstants.SYNCHRONIZED_INSTALLATION_COUNT, true)
+            .set(MongoDBConstants.INSTALLATION_COUNT_MIGRATION_ID, migrationId)));
+    if (bulkOperations.execute().getModifiedCount() == 0) {
+      return List.of();
+    }
+    Query migratedQuery = new Query(Criteria.where(MongoDBConstants.INSTALLATION_COUNT_MIGRATION_ID).is(migrationId));
+    migratedQuery.fields().include(MongoDBConstants.ID);
+    List<String> migratedIds = mongoTemplate.find(migratedQuery, ProductMarketplaceData.class).stream()
+        .map(ProductMarketplaceData::getId).toList();
+    mongoTemplate.updateMulti(migratedQuery, new Update().unset(MongoDBConstants.INSTALLATION_COUNT_MIGRATION_ID),
+        ProductMarketplaceData.class);
+    return migratedIds;
   }
 
+  /**
+   * Adds the given increments to the installation counts of the products in one unordered bulk write.
+   */
   @Override
-  public void increaseInstallationCountForProductByDesignerVersion(String productId, String designerVersion) {
-    Update update = new Update().inc(MongoDBConstants.INSTALLATION_COUNT, 1);
-    mongoTemplate.upsert(createQueryByProductIdAndDesignerVersion(productId, designerVersion),
-        update, ProductDesignerInstallation.class);
+  public void increaseInstallationCounts(Map<String, Long> installationCounts) {
+    if (installationCounts.isEmpty()) {
+      return;
+    }
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+        ProductMarketplaceData.class);
+    installationCounts.forEach((productId, count) -> bulkOperations.updateOne(createQueryById(productId),
+        new Update().inc(MongoDBConstants.INSTALLATION_COUNT, count)));
+    bulkOperations.execute();
   }
 
+  /**
+   * Adds the given increments per product and designer version in one unordered bulk write, missing entries are
+   * created.
+   */
   @Override
-  public void checkAndInitProductMarketplaceDataIfNotExist(String productId) {
-    Query query = new Query(Criteria.where(MongoDBConstants.ID).is(productId));
-    if (!mongoTemplate.exists(query, ProductMarketplaceData.class)) {
-      ProductMarketplaceData productMarketplaceData = new ProductMarketplaceData();
-      productMarketplaceData.setId(productId);
-      mongoTemplate.insert(productMarketplaceData);
+  public void increaseInstallationCountsByDesignerVersion(
+      Map<String, Map<String, Long>> installationCountsByDesignerVersion) {
+    if (installationCountsByDesignerVersion.isEmpty()) {
+      return;
     }
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+        ProductDesignerInstallation.class);
+    installationCountsByDesignerVersion.forEach((productId, countByDesignerVersion) ->
+        countByDesignerVersion.forEach((designerVersion, count) -> bulkOperations.upsert(
+            createQueryByProductIdAndDesignerVersion(productId, designerVersion),
+            new Update().inc(MongoDBConstants.INSTALLATION_COUNT, count))));
+    bulkOperations.execute();
   }
 
   private Query createQueryByProductIdAndDesignerVersion(String productId, String designerVersion) {
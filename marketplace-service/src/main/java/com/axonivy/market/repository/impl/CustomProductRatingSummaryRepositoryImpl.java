@@ -0,0 +1,64 @@
+package com.axonivy.market.repository.impl;
+
+import com.axonivy.market.constants.CommonConstants;
+import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.entity.ProductRatingSummary;
+import com.axonivy.market.repository.CustomProductRatingSummaryRepository;
+import com.axonivy.market.repository.CustomRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Builder
+@AllArgsConstructor
+public class CustomProductRatingSummaryRepositoryImpl extends CustomRepository
+    implements CustomProductRatingSummaryRepository {
+
+  final MongoTemplate mongoTemplate;
+
+  /**
+   * Adds the deltas to the star ratings of the product in one atomic upsert, ex: +1 on 5 and -1 on 3 when a feedback
+   * changes its rating from 3 to 5.
+   */
+  @Override
+  public void increaseRatingCounts(String productId, Map<Integer, Integer> ratingDeltas) {
+    if (ratingDeltas.isEmpty()) {
+      return;
+    }
+    var update = new Update();
+    ratingDeltas.forEach((rating, delta) -> update.inc(createRatingCountField(rating), delta));
+    mongoTemplate.upsert(createQueryById(productId), update, ProductRatingSummary.class);
+  }
+
+  /**
+   * Overwrites the rating counts of all products in one unordered bulk write and drops the summaries of products
+   * without feedback.
+   */
+  @Override
+  public void replaceRatingCounts(Map<String, Map<Integer, Integer>> ratingCountsByProductId) {
+    if (!ratingCountsByProductId.isEmpty()) {
+      BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+          ProductRatingSummary.class);
+      ratingCountsByProductId.forEach((productId, ratingCounts) -> {
+        Map<String, Integer> storedRatingCounts = new HashMap<>();
+        ratingCounts.forEach((rating, count) -> storedRatingCounts.put(String.valueOf(rating), count));
+        bulkOperations.upsert(createQueryById(productId),
+            new Update().set(MongoDBConstants.RATING_COUNTS, storedRatingCounts));
+      });
+      bulkOperations.execute();
+    }
+    mongoTemplate.remove(new Query(Criteria.where(MongoDBConstants.ID).nin(ratingCountsByProductId.keySet())),
+        ProductRatingSummary.class);
+  }
+
+  private static String createRatingCountField(int rating) {
+    return String.join(CommonConstants.DOT_SEPARATOR, MongoDBConstants.RATING_COUNTS, String.valueOf(rating));
+  }
+}
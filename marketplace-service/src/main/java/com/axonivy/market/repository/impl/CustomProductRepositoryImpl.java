@@ -1,5 +1,6 @@
 package com.axonivy.market.repository.impl;
 
+import com.axonivy.market.bo.ProductSearchResult;
 import com.axonivy.market.constants.EntityConstants;
 import com.axonivy.market.constants.MongoDBConstants;
 import com.axonivy.market.criteria.ProductSearchCriteria;
@@ -15,12 +16,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.BsonRegularExpression;
+import org.bson.Document;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.util.CollectionUtils;
@@ -39,6 +44,9 @@ import static com.axonivy.market.enums.DocumentField.TYPE;
 public class CustomProductRepositoryImpl extends CustomRepository implements CustomProductRepository {
   public static final String CASE_INSENSITIVITY_OPTION = "i";
   public static final String LOCALIZE_SEARCH_PATTERN = "%s.%s";
+  private static final String MARKETPLACE_DATA_PREFIX = MongoDBConstants.MARKETPLACE_DATA + ".";
+  private static final String CONTENT_FACET = "content";
+  private static final String TOTAL_FACET = "total";
 
   final MongoTemplate mongoTemplate;
   final ProductModuleContentRepository contentRepository;
@@ -93,7 +101,7 @@ public class CustomProductRepositoryImpl extends CustomRepository implements Cus
 
   @Override
   public Page<Product> searchByCriteria(ProductSearchCriteria searchCriteria, Pageable pageable) {
-    return getResultAsPageable(pageable, buildCriteriaSearch(searchCriteria));
+    return getResultAsPageable(pageable, buildCriteriaSearch(searchCriteria), searchCriteria.getAfterProductId());
   }
 
   @Override
@@ -110,22 +118,113 @@ public class CustomProductRepositoryImpl extends CustomRepository implements Cus
     return mongoTemplate.find(new Query(criteria), Product.class);
   }
 
-  private Page<Product> getResultAsPageable(Pageable pageable, Criteria criteria) {
-    int skip = (int) pageable.getOffset();
-    int limit = pageable.getPageSize();
+  /**
+   * Loads the page and the total count in one round-trip with a $facet. The marketplace data is joined after the limit,
+   * unless the page is sorted by it. In keyset mode the page starts right after the given product instead of skipping
+   * the offset.
+   */
+  private Page<Product> getResultAsPageable(Pageable pageable, Criteria criteria, String afterProductId) {
+    Sort sort = pageable.getSort();
+    boolean isSortedByMarketplaceData = sort.stream()
+        .anyMatch(order -> order.getProperty().startsWith(MARKETPLACE_DATA_PREFIX));
+    Criteria keysetCriteria = createKeysetCriteria(afterProductId, sort);
+
+    List<AggregationOperation> contentOperations = new ArrayList<>();
+    if (isSortedByMarketplaceData) {
+      contentOperations.add(createMarketplaceDataLookup());
+    }
+    if (keysetCriteria != null) {
+      contentOperations.add(Aggregation.match(keysetCriteria));
+    }
+    if (sort.isSorted()) {
+      contentOperations.add(Aggregation.sort(sort));
+    }
+    if (keysetCriteria == null) {
+      contentOperations.add(Aggregation.skip(pageable.getOffset()));
+    }
+    contentOperations.add(Aggregation.limit(pageable.getPageSize()));
+    if (!isSortedByMarketplaceData) {
+      contentOperations.add(createMarketplaceDataLookup());
+    }
+
     Aggregation aggregation = Aggregation.newAggregation(
         Aggregation.match(criteria),
-        Aggregation.lookup(MongoDBConstants.PRODUCT_MARKETPLACE_COLLECTION, MongoDBConstants.ID, MongoDBConstants.ID,
-            MongoDBConstants.MARKETPLACE_DATA),
-        Aggregation.sort(pageable.getSort()),
-        Aggregation.skip(skip),
-        Aggregation.limit(limit)
+        Aggregation.facet(contentOperations.toArray(AggregationOperation[]::new)).as(CONTENT_FACET)
+            .and(Aggregation.count().as(TOTAL_FACET)).as(TOTAL_FACET),
+        Aggregation.project(CONTENT_FACET).and(ArrayOperators.ArrayElemAt.arrayOf(
+            LOCALIZE_SEARCH_PATTERN.formatted(TOTAL_FACET, TOTAL_FACET)).elementAt(0)).as(TOTAL_FACET)
     );
 
-    List<Product> entities = mongoTemplate.aggregate(aggregation, MongoDBConstants.PRODUCT_COLLECTION,
-        Product.class).getMappedResults();
-    long count = mongoTemplate.count(new Query(criteria), Product.class);
-    return new PageImpl<>(entities, pageable, count);
+    ProductSearchResult result = mongoTemplate.aggregate(aggregation, MongoDBConstants.PRODUCT_COLLECTION,
+        ProductSearchResult.class).getUniqueMappedResult();
+    if (result == null || result.getContent() == null) {
+      return new PageImpl<>(Collections.emptyList(), pageable, 0);
+    }
+    long total = Optional.ofNullable(result.getTotal()).orElse(0L);
+    return new PageImpl<>(result.getContent(), pageable, total);
+  }
+
+  private static AggregationOperation createMarketplaceDataLookup() {
+    return Aggregation.lookup(MongoDBConstants.PRODUCT_MARKETPLACE_COLLECTION, MongoDBConstants.ID,
+        MongoDBConstants.ID, MongoDBConstants.MARKETPLACE_DATA);
+  }
+
+  /**
+   * Builds the filter for the products sorted after the given one: for each sort key, the previous keys are equal to
+   * the ones of that product and the key itself comes after it. Missing values come first in ascending order and last
+   * in descending order, as in the Mongo sort. It is null if no product id is given or the product does not exist.
+   */
+  private Criteria createKeysetCriteria(String afterProductId, Sort sort) {
+    if (StringUtils.isBlank(afterProductId)) {
+      return null;
+    }
+    Aggregation aggregation = Aggregation.newAggregation(createIdMatchOperation(afterProductId),
+        createMarketplaceDataLookup());
+    Document afterProduct = mongoTemplate.aggregate(aggregation, MongoDBConstants.PRODUCT_COLLECTION,
+        Document.class).getUniqueMappedResult();
+    if (afterProduct == null) {
+      return null;
+    }
+
+    List<Criteria> orFilters = new ArrayList<>();
+    List<Criteria> equalFilters = new ArrayList<>();
+    for (Sort.Order order : sort) {
+      Object value = getSortValue(afterProduct, order.getProperty());
+      Criteria afterCriteria = createAfterValueCriteria(order, value);
+      if (afterCriteria != null) {
+        List<Criteria> andFilters = new ArrayList<>(equalFilters);
+        andFilters.add(afterCriteria);
+        orFilters.add(andFilters.size() == 1 ? afterCriteria : new Criteria().andOperator(andFilters));
+      }
+      equalFilters.add(Criteria.where(order.getProperty()).is(value));
+    }
+    return orFilters.isEmpty() ? null : new Criteria().orOperator(orFilters);
+  }
+
+  private static Criteria createAfterValueCriteria(Sort.Order order, Object value) {
+    if (order.isAscending()) {
+      return value == null ? Criteria.where(order.getProperty()).ne(null) :
+          Criteria.where(order.getProperty()).gt(value);
+    }
+    if (value == null) {
+      return null;
+    }
+    return new Criteria().orOperator(Criteria.where(order.getProperty()).lt(value),
+        Criteria.where(order.getProperty()).is(null));
+  }
+
+  private static Object getSortValue(Document document, String property) {
+    Object value = document;
+    for (String key : StringUtils.split(property, '.')) {
+      if (value instanceof List<?> values) {
+        value = values.isEmpty() ? null : values.get(0);
+      }
+      if (!(value instanceof Document currentDocument)) {
+        return null;
+      }
+      value = currentDocument.get(key);
+    }
+    return value;
   }
 
   private Criteria buildCriteriaSearch(ProductSearchCriteria searchCriteria) {
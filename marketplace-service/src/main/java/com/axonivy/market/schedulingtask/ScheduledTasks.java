@@ -1,14 +1,19 @@
 package com.axonivy.market.schedulingtask;
 
+import com.axonivy.market.config.HttpClientMetrics;
+import com.axonivy.market.entity.Product;
 import com.axonivy.market.repository.ProductRepository;
 import com.axonivy.market.service.ExternalDocumentService;
+import com.axonivy.market.service.FeedbackService;
+import com.axonivy.market.service.ImageService;
 import com.axonivy.market.service.ProductService;
+import com.axonivy.market.service.ReleasePreviewService;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
+import java.util.List;
 
 @Log4j2
 @Component
@@ -18,22 +23,51 @@ public class ScheduledTasks {
   private static final String SCHEDULING_TASK_PRODUCTS_CRON = "0 0 0/1 ? * *";
   // External documentation sync will start at 00:40 in order to prevent running at the same time with other
   private static final String SCHEDULING_TASK_DOCUMENTS_CRON = "0 40 0 * * *";
+  private static final String SCHEDULING_TASK_PRODUCT_RATINGS_CRON = "0 20 0 * * *";
+  private static final String SCHEDULING_TASK_IMAGE_BLOBS_CRON = "0 30 1 * * *";
+  private static final String SCHEDULING_TASK_RELEASE_PREVIEWS_CRON = "0 0/10 * * * *";
 
   final ProductRepository productRepo;
   final ProductService productService;
   final ExternalDocumentService externalDocumentService;
+  final HttpClientMetrics httpClientMetrics;
+  final FeedbackService feedbackService;
+  final ImageService imageService;
+  final ReleasePreviewService releasePreviewService;
 
   @Scheduled(cron = SCHEDULING_TASK_PRODUCTS_CRON)
   public void syncDataForProductFromGitHubRepo() {
     log.warn("Started sync data for product from GitHub repo");
     productService.syncLatestDataFromMarketRepo(false);
+    log.info("Outbound HTTP traffic per host: {}", httpClientMetrics.getSummary());
   }
 
   @Scheduled(cron = SCHEDULING_TASK_DOCUMENTS_CRON)
   public void syncDataForProductDocuments() {
     log.warn("Started sync data for product document");
-    for (var product : productRepo.findAllProductsHaveDocument()) {
-      externalDocumentService.syncDocumentForProduct(product.getId(), new ArrayList<>(), false);
+    List<String> productIds = productRepo.findAllProductsHaveDocument().stream().map(Product::getId).toList();
+    externalDocumentService.syncDocumentForProducts(productIds, false);
+  }
+
+  @Scheduled(cron = SCHEDULING_TASK_PRODUCT_RATINGS_CRON)
+  public void rebuildProductRatings() {
+    log.warn("Started rebuild of the product rating summaries");
+    feedbackService.rebuildProductRatings();
+  }
+
+  @Scheduled(cron = SCHEDULING_TASK_IMAGE_BLOBS_CRON)
+  public void deleteUnreferencedImageBlobs() {
+    // A running sync may reuse blobs which its images do not reference yet, the next run catches up
+    if (productService.isSyncRunning()) {
+      log.warn("Skipped deletion of the unreferenced image blobs, a product sync is running");
+      return;
     }
+    log.warn("Started deletion of the unreferenced image blobs");
+    imageService.deleteUnreferencedImageBlobs();
+  }
+
+  @Scheduled(cron = SCHEDULING_TASK_RELEASE_PREVIEWS_CRON)
+  public void removeExpiredReleasePreviews() {
+    releasePreviewService.removeExpiredSessions();
   }
 }
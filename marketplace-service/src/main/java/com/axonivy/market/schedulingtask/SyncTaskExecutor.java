@@ -0,0 +1,97 @@
+package com.axonivy.market.schedulingtask;
+
+import com.axonivy.market.bo.SyncStatistics;
+import com.axonivy.market.enums.SyncStage;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.time.StopWatch;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Worker pool for the product synchronization. Products are processed independently by the workers while the number
+ * of concurrent requests against GitHub and the Maven repository is capped by one semaphore per host.
+ */
+@Log4j2
+@Component
+public class SyncTaskExecutor implements DisposableBean {
+  private static final String THREAD_NAME_PREFIX = "SYNC-Thread-";
+  private final ThreadPoolTaskExecutor executor;
+  private final Map<SyncStage, Semaphore> stagePermits = new EnumMap<>(SyncStage.class);
+
+  public SyncTaskExecutor(@Value("${market.sync.worker-pool-size}") int workerPoolSize,
+      @Value("${market.sync.github.max-concurrent-requests}") int gitHubMaxConcurrentRequests,
+      @Value("${market.sync.maven.max-concurrent-requests}") int mavenMaxConcurrentRequests) {
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(workerPoolSize);
+    executor.setMaxPoolSize(workerPoolSize);
+    executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+    executor.initialize();
+    stagePermits.put(SyncStage.GITHUB_CONTENT, new Semaphore(gitHubMaxConcurrentRequests, true));
+    stagePermits.put(SyncStage.MAVEN_RELEASES, new Semaphore(mavenMaxConcurrentRequests, true));
+  }
+
+  /**
+   * Submits all tasks to the worker pool and waits for their results in submission order. A failed task is logged and
+   * skipped, so it never aborts the others.
+   */
+  public <T> List<T> invokeAll(List<Callable<T>> tasks) {
+    List<Future<T>> futures = tasks.stream().map(executor::submit).toList();
+    List<T> results = new ArrayList<>();
+    for (Future<T> future : futures) {
+      try {
+        results.add(future.get());
+      } catch (ExecutionException e) {
+        log.error("Sync task failed: ", e.getCause());
+      } catch (InterruptedException e) {
+        log.error("Sync was interrupted, cancel the remaining tasks");
+        futures.forEach(remainingFuture -> remainingFuture.cancel(true));
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Runs the given stage of one product sync, waiting for a permit of the host behind that stage if it is capped, and
+   * records its duration into the statistics.
+   */
+  public <T> T callStage(SyncStage stage, SyncStatistics statistics, Callable<T> task) throws Exception {
+    Semaphore permits = stagePermits.get(stage);
+    if (permits != null) {
+      permits.acquire();
+    }
+    var watch = new StopWatch();
+    watch.start();
+    try {
+      return task.call();
+    } finally {
+      watch.stop();
+      statistics.recordStageDuration(stage, watch.getTime());
+      if (permits != null) {
+        permits.release();
+      }
+    }
+  }
+
+  public void runStage(SyncStage stage, SyncStatistics statistics, Runnable task) throws Exception {
+    callStage(stage, statistics, Executors.callable(task));
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+}
@@ -1,5 +1,6 @@
 package com.axonivy.market.service;
 
+import com.axonivy.market.bo.DocumentSyncStatistics;
 import com.axonivy.market.entity.ExternalDocumentMeta;
 import com.axonivy.market.entity.Product;
 
@@ -8,6 +9,8 @@ import java.util.List;
 public interface ExternalDocumentService {
   void syncDocumentForProduct(String productId, List<String> nonSyncReleasedVersions, boolean isResetSync);
 
+  DocumentSyncStatistics syncDocumentForProducts(List<String> productIds, boolean isResetSync);
+
   List<Product> findAllProductsHaveDocument();
 
   ExternalDocumentMeta findExternalDocument(String productId, String version);
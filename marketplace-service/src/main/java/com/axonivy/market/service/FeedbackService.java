@@ -19,4 +19,6 @@ public interface FeedbackService {
   Feedback upsertFeedback(FeedbackModelRequest feedback, String userId) throws NotFoundException;
 
   List<ProductRating> getProductRatingById(String productId);
+
+  int rebuildProductRatings();
 }
@@ -14,6 +14,8 @@ public interface FileDownloadService {
 
   byte[] downloadFile(String url);
 
+  String downloadChecksum(String url);
+
   String downloadAndUnzipProductContentFile(String url, Artifact artifact) throws IOException;
 
   void deleteDirectory(Path path);
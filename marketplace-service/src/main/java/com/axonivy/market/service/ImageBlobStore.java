@@ -0,0 +1,30 @@
+package com.axonivy.market.service;
+
+import org.springframework.core.io.Resource;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Keeps the bytes of the images outside the Image documents. Blobs are addressed by the SHA-256 of their content, so
+ * storing the same content twice keeps one blob.
+ */
+public interface ImageBlobStore {
+  /**
+   * @return the content hash to read the blob with, or null if it could not be stored
+   */
+  String store(byte[] content);
+
+  /**
+   * @return a resource streaming the blob, or null if there is no blob for the hash
+   */
+  Resource read(String contentHash);
+
+  /**
+   * Deletes the blobs stored before the given instant which are not referenced anymore. Recent blobs are kept, as their
+   * image may not be inserted yet.
+   *
+   * @return the number of deleted blobs
+   */
+  int deleteUnreferenced(Set<String> referencedContentHashes, Instant storedBefore);
+}
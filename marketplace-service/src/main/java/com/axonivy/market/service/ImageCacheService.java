@@ -0,0 +1,18 @@
+package com.axonivy.market.service;
+
+import com.axonivy.market.bo.ImageCacheStatistics;
+import com.axonivy.market.bo.ImageContent;
+
+public interface ImageCacheService {
+  ImageContent get(String id);
+
+  boolean contains(String id);
+
+  ImageContent put(String id, String productId, ImageContent imageContent);
+
+  void evict(String id);
+
+  void evictByProductId(String productId);
+
+  ImageCacheStatistics getStatistics();
+}
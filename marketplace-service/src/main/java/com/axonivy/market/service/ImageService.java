@@ -1,19 +1,42 @@
 package com.axonivy.market.service;
 
+import com.axonivy.market.bo.ImageCacheStatistics;
+import com.axonivy.market.bo.ImageContent;
 import com.axonivy.market.entity.Image;
 import org.bson.types.Binary;
 import org.kohsuke.github.GHContent;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface ImageService {
   Binary getImageBinary(GHContent ghContent);
 
   Image mappingImageFromGHContent(String productId, GHContent ghContent);
 
-  Image mappingImageFromDownloadedFolder(String productId, Path imagePath);
+  Map<Path, Image> mappingImagesFromDownloadedFolder(String productId, List<Path> imagePaths);
 
-  byte[] readImage(String id);
+  ImageContent readImage(String id);
 
-  byte[] readPreviewImageByName(String imageName);
+  ImageContent findCachedImage(String id);
+
+  String getImageETag(String id);
+
+  void warmUpImageCache(Collection<String> imageIds, Integer width);
+
+  ImageCacheStatistics getImageCacheStatistics();
+
+  void evictCachedImage(String id);
+
+  void evictCachedImagesByProductId(String productId);
+
+  void ensureImageIndexes();
+
+  int migrateImageDataToBlobStore();
+
+  int deleteUnreferencedImageBlobs();
+
+  byte[] readPreviewImageByName(String sessionId, String imageName);
 }
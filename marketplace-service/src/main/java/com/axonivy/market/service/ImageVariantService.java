@@ -0,0 +1,20 @@
+package com.axonivy.market.service;
+
+import com.axonivy.market.bo.ImageContent;
+
+public interface ImageVariantService {
+  /**
+   * @return the key of the variant for the requested width and format, ex: 64-png
+   */
+  String getVariantKey(Integer width, String format);
+
+  /**
+   * @return the variant of the image, or null if the image has no stored content to derive a variant from
+   */
+  ImageContent getVariant(String id, Integer width, String format);
+
+  /**
+   * @return the variant if it is in the hot image cache, without touching the database
+   */
+  ImageContent findCachedVariant(String id, Integer width, String format);
+}
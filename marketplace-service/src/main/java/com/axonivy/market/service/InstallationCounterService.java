@@ -0,0 +1,20 @@
+package com.axonivy.market.service;
+
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+public interface InstallationCounterService {
+  int increase(String productId, String designerVersion, IntSupplier persistedCountLoader);
+
+  int getInstallationCount(String productId, IntSupplier persistedCountLoader);
+
+  Map<String, Integer> getInstallationCounts();
+
+  long getLoadStamp();
+
+  void addPersistedCounts(Map<String, Integer> persistedCounts, long loadStamp);
+
+  long getPendingCount();
+
+  void flush();
+}
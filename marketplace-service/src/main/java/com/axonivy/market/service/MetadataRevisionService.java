@@ -0,0 +1,13 @@
+package com.axonivy.market.service;
+
+import com.axonivy.market.entity.MetadataRevision;
+
+import java.util.List;
+
+public interface MetadataRevisionService {
+  MetadataRevision fetchMetadata(String productId, String metadataUrl, boolean isConditional);
+
+  void saveRevisions(List<MetadataRevision> revisions);
+
+  void deleteRevisionsByProductId(String productId);
+}
@@ -0,0 +1,14 @@
+package com.axonivy.market.service;
+
+import com.axonivy.market.criteria.ProductSearchCriteria;
+import com.axonivy.market.entity.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+
+public interface ProductCatalogService {
+  void rebuild();
+
+  Optional<Page<Product>> searchByCriteria(ProductSearchCriteria criteria, Pageable pageable);
+}
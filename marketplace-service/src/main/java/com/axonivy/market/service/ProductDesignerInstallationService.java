@@ -1,9 +1,12 @@
 package com.axonivy.market.service;
 
 import com.axonivy.market.model.DesignerInstallation;
+import com.axonivy.market.model.InstallationTrend;
 
 import java.util.List;
 
 public interface ProductDesignerInstallationService {
   List<DesignerInstallation> findByProductId(String productId);
+
+  List<InstallationTrend> findInstallationTrends(String productId, String period, int bucketCount);
 }
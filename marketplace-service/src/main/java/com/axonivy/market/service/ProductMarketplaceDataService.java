@@ -10,5 +10,7 @@ public interface ProductMarketplaceDataService {
 
   int updateProductInstallationCount(String id);
 
+  int migrateLegacyInstallationCounts();
+
   ProductMarketplaceData getProductMarketplaceData(String id);
 }
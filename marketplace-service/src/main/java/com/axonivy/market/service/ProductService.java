@@ -1,5 +1,6 @@
 package com.axonivy.market.service;
 
+import com.axonivy.market.bo.SyncStatistics;
 import com.axonivy.market.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -7,10 +8,15 @@ import org.springframework.data.domain.Pageable;
 import java.util.List;
 
 public interface ProductService {
-  Page<Product> findProducts(String type, String keyword, String language, Boolean isRESTClient, Pageable pageable);
+  Page<Product> findProducts(String type, String keyword, String language, Boolean isRESTClient,
+      String afterProductId, Pageable pageable);
 
   List<String> syncLatestDataFromMarketRepo(Boolean resetSync);
 
+  List<String> syncLatestDataFromMarketRepo(Boolean resetSync, SyncStatistics statistics);
+
+  boolean isSyncRunning();
+
   Product fetchProductDetail(String id, Boolean isShowDevVersion);
 
   String getCompatibilityFromOldestVersion(String oldestVersion);
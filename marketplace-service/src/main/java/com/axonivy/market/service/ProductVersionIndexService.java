@@ -0,0 +1,15 @@
+package com.axonivy.market.service;
+
+import com.axonivy.market.entity.ProductVersionIndex;
+
+import java.util.List;
+
+public interface ProductVersionIndexService {
+  ProductVersionIndex getIndex(String productId);
+
+  List<String> getVersionsToDisplay(String productId, Boolean isShowDevVersion, String designerVersion);
+
+  ProductVersionIndex rebuild(String productId);
+
+  void delete(String productId);
+}
@@ -3,8 +3,14 @@ package com.axonivy.market.service;
 import com.axonivy.market.model.ReleasePreview;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+
 public interface ReleasePreviewService {
 
   ReleasePreview extract(MultipartFile file, String baseUrl);
 
+  Path findPreviewImage(String sessionId, String imageName);
+
+  void removeExpiredSessions();
+
 }
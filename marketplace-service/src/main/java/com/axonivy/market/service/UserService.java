@@ -3,7 +3,9 @@ package com.axonivy.market.service;
 import com.axonivy.market.entity.User;
 import com.axonivy.market.exceptions.model.NotFoundException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface UserService {
   List<User> getAllUsers();
@@ -11,4 +13,6 @@ public interface UserService {
   User createUser(User user);
 
   User findUser(String id) throws NotFoundException;
+
+  Map<String, User> findUsersByIds(Collection<String> ids);
 }
@@ -1,10 +1,12 @@
 package com.axonivy.market.service.impl;
 
 import com.axonivy.market.bo.Artifact;
+import com.axonivy.market.bo.DocumentSyncStatistics;
 import com.axonivy.market.constants.CommonConstants;
 import com.axonivy.market.constants.DirectoryConstants;
 import com.axonivy.market.entity.ExternalDocumentMeta;
 import com.axonivy.market.entity.Product;
+import com.axonivy.market.enums.DocumentSyncStatus;
 import com.axonivy.market.factory.VersionFactory;
 import com.axonivy.market.repository.ExternalDocumentMetaRepository;
 import com.axonivy.market.repository.ProductRepository;
@@ -12,22 +14,26 @@ import com.axonivy.market.service.ExternalDocumentService;
 import com.axonivy.market.service.FileDownloadService;
 import com.axonivy.market.util.MavenUtils;
 import com.axonivy.market.util.VersionUtils;
-import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.RegExUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.StopWatch;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 @Log4j2
-@AllArgsConstructor
 @Service
 public class ExternalDocumentServiceImpl implements ExternalDocumentService {
 
@@ -36,26 +42,34 @@ public class ExternalDocumentServiceImpl implements ExternalDocumentService {
   final ProductRepository productRepo;
   final ExternalDocumentMetaRepository externalDocumentMetaRepo;
   final FileDownloadService fileDownloadService;
+  final TaskExecutor documentSyncExecutor;
+
+  public ExternalDocumentServiceImpl(ProductRepository productRepo,
+      ExternalDocumentMetaRepository externalDocumentMetaRepo, FileDownloadService fileDownloadService,
+      @Qualifier("documentSyncExecutor") TaskExecutor documentSyncExecutor) {
+    this.productRepo = productRepo;
+    this.externalDocumentMetaRepo = externalDocumentMetaRepo;
+    this.fileDownloadService = fileDownloadService;
+    this.documentSyncExecutor = documentSyncExecutor;
+  }
 
   @Override
   public void syncDocumentForProduct(String productId, List<String> nonSyncReleasedVersions, boolean isResetSync) {
-    productRepo.findById(productId).ifPresent(product -> {
-      var docArtifacts = Optional.ofNullable(product.getArtifacts()).orElse(List.of())
-          .stream().filter(artifact -> BooleanUtils.isTrue(artifact.getDoc())).toList();
-
-      List<String> releasedVersions = ObjectUtils.isEmpty(nonSyncReleasedVersions)
-          ? Optional.ofNullable(product.getReleasedVersions()).orElse(new ArrayList<>())
-          : nonSyncReleasedVersions;
-      releasedVersions = releasedVersions.stream().filter(VersionUtils::isValidFormatReleasedVersion).toList();
-
-      if (ObjectUtils.isEmpty(docArtifacts) || ObjectUtils.isEmpty(releasedVersions) ) {
-        return;
-      }
+    productRepo.findById(productId).ifPresent(product ->
+        syncDocumentVersions(getDocumentVersions(product, nonSyncReleasedVersions), isResetSync));
+  }
 
-      for (var artifact : docArtifacts) {
-        syncDocumentationForProduct(productId, isResetSync, artifact, releasedVersions);
-      }
-    });
+  /**
+   * Synchronizes the documentation of all released versions of the given products at once, so the versions of all
+   * products share the worker pool instead of being synchronized one product after the other.
+   */
+  @Override
+  public DocumentSyncStatistics syncDocumentForProducts(List<String> productIds, boolean isResetSync) {
+    List<DocumentVersion> documentVersions = new ArrayList<>();
+    for (Product product : productRepo.findAllById(productIds)) {
+      documentVersions.addAll(getDocumentVersions(product, List.of()));
+    }
+    return syncDocumentVersions(documentVersions, isResetSync);
   }
 
   @Override
@@ -76,34 +90,111 @@ public class ExternalDocumentServiceImpl implements ExternalDocumentService {
         .findAny().orElse(null);
   }
 
-  private void syncDocumentationForProduct(String productId, boolean isResetSync, Artifact artifact,
-      List<String> releasedVersions) {
-    for (var version : releasedVersions) {
-      if (isResetSync) {
-        externalDocumentMetaRepo.deleteByProductIdAndVersion(productId, version);
-      } else {
-        if (ObjectUtils.isNotEmpty(externalDocumentMetaRepo.findByProductIdAndVersion(productId, version))) {
-          continue;
-        }
+  private static List<DocumentVersion> getDocumentVersions(Product product, List<String> nonSyncReleasedVersions) {
+    var docArtifacts = Optional.ofNullable(product.getArtifacts()).orElse(List.of())
+        .stream().filter(artifact -> BooleanUtils.isTrue(artifact.getDoc())).toList();
+
+    List<String> releasedVersions = ObjectUtils.isEmpty(nonSyncReleasedVersions)
+        ? Optional.ofNullable(product.getReleasedVersions()).orElse(new ArrayList<>())
+        : nonSyncReleasedVersions;
+    releasedVersions = releasedVersions.stream().filter(VersionUtils::isValidFormatReleasedVersion).toList();
+
+    List<DocumentVersion> documentVersions = new ArrayList<>();
+    for (var artifact : docArtifacts) {
+      for (var version : releasedVersions) {
+        documentVersions.add(new DocumentVersion(product.getId(), artifact, version));
       }
+    }
+    return documentVersions;
+  }
+
+  private DocumentSyncStatistics syncDocumentVersions(List<DocumentVersion> documentVersions, boolean isResetSync) {
+    var statistics = new DocumentSyncStatistics(documentVersions.size());
+    if (documentVersions.isEmpty()) {
+      return statistics;
+    }
+    CompletableFuture<?>[] versionSyncs = documentVersions.stream()
+        .map(documentVersion -> CompletableFuture.runAsync(
+            () -> syncDocumentVersion(documentVersion, isResetSync, statistics), documentSyncExecutor))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(versionSyncs).join();
+    log.info("Synchronizing External Document: finished {}", statistics.getSummary());
+    return statistics;
+  }
+
+  private void syncDocumentVersion(DocumentVersion documentVersion, boolean isResetSync,
+      DocumentSyncStatistics statistics) {
+    var watch = new StopWatch();
+    watch.start();
+    DocumentSyncStatus status;
+    try {
+      status = syncDocumentVersion(documentVersion, isResetSync);
+    } catch (Exception e) {
+      log.error("Cannot sync the documentation of {} {}", documentVersion.productId(), documentVersion.version(), e);
+      status = DocumentSyncStatus.FAILED;
+    }
+    watch.stop();
+    int finishedVersions = statistics.recordVersion(documentVersion.productId(), documentVersion.version(), status,
+        watch.getTime());
+    log.info("Synchronizing External Document: {}/{} {} {} {} in {} ms", finishedVersions,
+        statistics.getTotalVersions(), documentVersion.productId(), documentVersion.version(), status.getCode(),
+        watch.getTime());
+  }
 
-      String downloadDocUrl = MavenUtils.buildDownloadUrl(artifact, version);
-      String location = downloadDocAndUnzipToShareFolder(downloadDocUrl, isResetSync);
-      if (StringUtils.isNoneBlank(location)) {
-        var documentMeta = new ExternalDocumentMeta();
-        documentMeta.setProductId(productId);
-        documentMeta.setArtifactId(artifact.getArtifactId());
-        documentMeta.setArtifactName(artifact.getName());
-        documentMeta.setVersion(version);
-        documentMeta.setStorageDirectory(location);
-        // remove prefix 'data' and replace all ms win separator to slash if present
-        var locationRelative = location.substring(location.indexOf(DirectoryConstants.CACHE_DIR));
-        locationRelative = RegExUtils.replaceAll(String.format(DOC_URL_PATTERN, locationRelative), MS_WIN_SEPARATOR,
-            CommonConstants.SLASH);
-        documentMeta.setRelativeLink(locationRelative);
-        externalDocumentMetaRepo.save(documentMeta);
+  /**
+   * A version is downloaded again only if the checksum of its artifact changed or its files are missing, also on a
+   * reset. Documentation synchronized before checksums were kept gets the checksum of its artifact on the next sync.
+   */
+  private DocumentSyncStatus syncDocumentVersion(DocumentVersion documentVersion, boolean isResetSync) {
+    String productId = documentVersion.productId();
+    String version = documentVersion.version();
+    Artifact artifact = documentVersion.artifact();
+    ExternalDocumentMeta documentMeta = externalDocumentMetaRepo.findByProductIdAndVersion(productId, version)
+        .stream().filter(meta -> meta.getArtifactId() == null
+            || StringUtils.equals(meta.getArtifactId(), artifact.getArtifactId()))
+        .findFirst().orElse(null);
+    String downloadDocUrl = MavenUtils.buildDownloadUrl(artifact, version);
+    String checksum = fileDownloadService.downloadChecksum(downloadDocUrl);
+
+    if (documentMeta != null && isStored(documentMeta)) {
+      if (checksum != null && checksum.equals(documentMeta.getChecksum())) {
+        return DocumentSyncStatus.UNCHANGED;
+      }
+      if (!isResetSync && (checksum == null || documentMeta.getChecksum() == null)) {
+        if (checksum != null) {
+          documentMeta.setChecksum(checksum);
+          externalDocumentMetaRepo.save(documentMeta);
+        }
+        return DocumentSyncStatus.UNCHANGED;
       }
     }
+
+    boolean isForce = isResetSync || documentMeta != null;
+    String location = downloadDocAndUnzipToShareFolder(downloadDocUrl, isForce);
+    if (StringUtils.isBlank(location)) {
+      return DocumentSyncStatus.FAILED;
+    }
+    if (documentMeta == null) {
+      documentMeta = new ExternalDocumentMeta();
+    }
+    documentMeta.setProductId(productId);
+    documentMeta.setArtifactId(artifact.getArtifactId());
+    documentMeta.setArtifactName(artifact.getName());
+    documentMeta.setVersion(version);
+    documentMeta.setStorageDirectory(location);
+    documentMeta.setChecksum(checksum);
+    // remove prefix 'data' and replace all ms win separator to slash if present
+    var locationRelative = location.substring(location.indexOf(DirectoryConstants.CACHE_DIR));
+    locationRelative = RegExUtils.replaceAll(String.format(DOC_URL_PATTERN, locationRelative), MS_WIN_SEPARATOR,
+        CommonConstants.SLASH);
+    documentMeta.setRelativeLink(locationRelative);
+    externalDocumentMetaRepo.save(documentMeta);
+    return DocumentSyncStatus.SYNCED;
+  }
+
+  private static boolean isStored(ExternalDocumentMeta documentMeta) {
+    return StringUtils.isNotBlank(documentMeta.getStorageDirectory())
+        && Files.isDirectory(Paths.get(documentMeta.getStorageDirectory()));
   }
 
   private String downloadDocAndUnzipToShareFolder(String downloadDocUrl, boolean isResetSync) {
@@ -114,4 +205,7 @@ public class ExternalDocumentServiceImpl implements ExternalDocumentService {
     }
     return EMPTY;
   }
+
+  private record DocumentVersion(String productId, Artifact artifact, String version) {
+  }
 }
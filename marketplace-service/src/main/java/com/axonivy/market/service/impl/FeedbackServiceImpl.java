@@ -1,6 +1,7 @@
 package com.axonivy.market.service.impl;
 
 import com.axonivy.market.entity.Feedback;
+import com.axonivy.market.entity.ProductRatingSummary;
 import com.axonivy.market.enums.ErrorCode;
 import com.axonivy.market.enums.FeedbackSortOption;
 import com.axonivy.market.exceptions.model.NoContentException;
@@ -8,10 +9,14 @@ import com.axonivy.market.exceptions.model.NotFoundException;
 import com.axonivy.market.model.FeedbackModelRequest;
 import com.axonivy.market.model.ProductRating;
 import com.axonivy.market.repository.FeedbackRepository;
+import com.axonivy.market.repository.ProductRatingSummaryRepository;
 import com.axonivy.market.repository.ProductRepository;
 import com.axonivy.market.repository.UserRepository;
 import com.axonivy.market.service.FeedbackService;
+import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,23 +24,27 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 import java.util.stream.IntStream;
 
+@Log4j2
 @Service
 public class FeedbackServiceImpl implements FeedbackService {
 
   private final FeedbackRepository feedbackRepository;
   private final UserRepository userRepository;
   private final ProductRepository productRepository;
+  private final ProductRatingSummaryRepository productRatingSummaryRepository;
 
   public FeedbackServiceImpl(FeedbackRepository feedbackRepository, UserRepository userRepository,
-      ProductRepository productRepository) {
+      ProductRepository productRepository, ProductRatingSummaryRepository productRatingSummaryRepository) {
     this.feedbackRepository = feedbackRepository;
     this.userRepository = userRepository;
     this.productRepository = productRepository;
+    this.productRatingSummaryRepository = productRatingSummaryRepository;
   }
 
   @Override
@@ -66,45 +75,74 @@ public class FeedbackServiceImpl implements FeedbackService {
     return existingUserFeedback;
   }
 
+  /**
+   * Upserts the feedback in one round trip and moves its rating in the rating summary of the product by the delta to
+   * the previous rating.
+   */
   @Override
   public Feedback upsertFeedback(FeedbackModelRequest feedback, String userId) throws NotFoundException {
     validateUserExists(userId);
 
-    Feedback existingUserFeedback = feedbackRepository.findByUserIdAndProductId(userId,
-        feedback.getProductId());
-    if (existingUserFeedback == null) {
-      Feedback newFeedback = new Feedback();
-      newFeedback.setUserId(userId);
-      newFeedback.setProductId(feedback.getProductId());
-      newFeedback.setRating(feedback.getRating());
-      newFeedback.setContent(feedback.getContent());
-      return feedbackRepository.save(newFeedback);
-    } else {
-      existingUserFeedback.setRating(feedback.getRating());
-      existingUserFeedback.setContent(feedback.getContent());
-      return feedbackRepository.save(existingUserFeedback);
+    Feedback newFeedback = new Feedback();
+    newFeedback.setUserId(userId);
+    newFeedback.setProductId(feedback.getProductId());
+    newFeedback.setRating(feedback.getRating());
+    newFeedback.setContent(feedback.getContent());
+    Feedback previousFeedback;
+    try {
+      previousFeedback = feedbackRepository.upsertByUserIdAndProductId(newFeedback);
+    } catch (DuplicateKeyException e) {
+      // A concurrent request of the same user inserted the feedback first, so this one updates it
+      previousFeedback = feedbackRepository.upsertByUserIdAndProductId(newFeedback);
+    }
+
+    Map<Integer, Integer> ratingDeltas = new HashMap<>();
+    if (newFeedback.getRating() != null) {
+      ratingDeltas.merge(newFeedback.getRating(), 1, Integer::sum);
     }
+    if (previousFeedback != null && previousFeedback.getRating() != null) {
+      ratingDeltas.merge(previousFeedback.getRating(), -1, Integer::sum);
+    }
+    ratingDeltas.values().removeIf(delta -> delta == 0);
+    productRatingSummaryRepository.increaseRatingCounts(newFeedback.getProductId(), ratingDeltas);
+    return newFeedback;
   }
 
   @Override
   public List<ProductRating> getProductRatingById(String productId) {
-    List<Feedback> feedbacks = feedbackRepository.findByProductId(productId);
-    int totalFeedbacks = feedbacks.size();
+    Map<String, Integer> ratingCounts = productRatingSummaryRepository.findById(productId)
+        .map(ProductRatingSummary::getRatingCounts).orElse(Map.of());
+    int totalFeedbacks = ratingCounts.values().stream().filter(Objects::nonNull).mapToInt(Integer::intValue).sum();
 
-    if (totalFeedbacks == 0) {
+    if (totalFeedbacks <= 0) {
       return IntStream.rangeClosed(1, 5).mapToObj(star -> new ProductRating(star, 0, 0)).toList();
     }
 
-    Map<Integer, Long> ratingCountMap = feedbacks.stream()
-        .collect(Collectors.groupingBy(Feedback::getRating, Collectors.counting()));
-
     return IntStream.rangeClosed(1, 5).mapToObj(star -> {
-      long count = ratingCountMap.getOrDefault(star, 0L);
-      int percent = (int) ((count * 100) / totalFeedbacks);
-      return new ProductRating(star, Math.toIntExact(count), percent);
+      int count = Math.max(0, ratingCounts.getOrDefault(String.valueOf(star), 0));
+      int percent = (count * 100) / totalFeedbacks;
+      return new ProductRating(star, count, percent);
     }).toList();
   }
 
+  /**
+   * Recounts the rating summaries of all products from their feedbacks, to reconcile them with deltas that got lost,
+   * ex: if the summary update failed after the feedback was saved.
+   */
+  @Override
+  public int rebuildProductRatings() {
+    try {
+      feedbackRepository.ensureUserIdAndProductIdIndex();
+    } catch (DataAccessException e) {
+      log.error("Cannot create the unique index of the feedbacks, a user has several feedbacks on a product: {}",
+          e.getMessage());
+    }
+    Map<String, Map<Integer, Integer>> ratingCountsByProductId = feedbackRepository.countRatingsByProductId();
+    productRatingSummaryRepository.replaceRatingCounts(ratingCountsByProductId);
+    log.info("Rebuilt the rating summaries of {} products", ratingCountsByProductId.size());
+    return ratingCountsByProductId.size();
+  }
+
   public void validateProductExists(String productId) throws NotFoundException {
     if (productRepository.findById(productId).isEmpty()) {
       throw new NotFoundException(ErrorCode.PRODUCT_NOT_FOUND, "Not found product with id: " + productId);
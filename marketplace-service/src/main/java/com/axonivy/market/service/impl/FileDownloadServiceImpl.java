@@ -3,10 +3,12 @@ package com.axonivy.market.service.impl;
 import com.axonivy.market.bo.Artifact;
 import com.axonivy.market.service.FileDownloadService;
 import com.axonivy.market.util.FileUtils;
+import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.SystemUtils;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -19,6 +21,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -32,17 +35,35 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 @Service
 @Log4j2
+@AllArgsConstructor
 public class FileDownloadServiceImpl implements FileDownloadService {
   private static final String DOC_DIR = "doc";
   private static final String ZIP_EXTENSION = ".zip";
+  private static final String SHA1_EXTENSION = ".sha1";
   private static final Set<PosixFilePermission> PERMS = EnumSet.allOf(PosixFilePermission.class);
   private static final int THRESHOLD_ENTRIES = 10000;
   private static final int THRESHOLD_SIZE = 1000000000;
   private static final double THRESHOLD_RATIO = 10;
+  private final RestTemplate restTemplate;
 
   @Override
   public byte[] downloadFile(String url) {
-    return new RestTemplate().getForObject(url, byte[].class);
+    return restTemplate.getForObject(url, byte[].class);
+  }
+
+  /**
+   * Reads the SHA-1 checksum which Maven repositories publish next to every artifact. Some checksum files also name the
+   * artifact after the hash, only the hash is returned. Artifacts without checksum return null.
+   */
+  @Override
+  public String downloadChecksum(String url) {
+    try {
+      String checksum = restTemplate.getForObject(url + SHA1_EXTENSION, String.class);
+      return StringUtils.isBlank(checksum) ? null : StringUtils.split(checksum.trim())[0].toLowerCase();
+    } catch (Exception e) {
+      log.warn("Cannot download the checksum of {}: {}", url, e.getMessage());
+      return null;
+    }
   }
 
   @Override
@@ -85,11 +106,23 @@ public class FileDownloadServiceImpl implements FileDownloadService {
     }
 
     Path tempZipPath = createTempFile();
-    Files.write(tempZipPath, downloadFile(url));
+    downloadFileToPath(url, tempZipPath);
     unzipFile(tempZipPath.toString(), location);
     return tempZipPath;
   }
 
+  /**
+   * Streams the response straight into the given file, so the archive is never held in memory as a whole.
+   */
+  public Path downloadFileToPath(String url, Path targetPath) {
+    return restTemplate.execute(url, HttpMethod.GET, null, response -> {
+      try (InputStream body = response.getBody()) {
+        Files.copy(body, targetPath, StandardCopyOption.REPLACE_EXISTING);
+      }
+      return targetPath;
+    });
+  }
+
   private Path createTempFile() throws IOException {
     Path tempZipPath;
     var tempFileName = UUID.randomUUID().toString();
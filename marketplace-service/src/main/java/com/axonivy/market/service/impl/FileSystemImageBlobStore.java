@@ -0,0 +1,118 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.service.ImageBlobStore;
+import com.axonivy.market.util.ImageUtils;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the blobs as files below the configured directory, in sub folders named by the first two characters of the
+ * content hash. A blob is written to a temporary file first and then moved in place, so readers never see a partial
+ * file. Storing existing content refreshes its last modified time, so a blob reused by a sync is not swept.
+ */
+@Log4j2
+@Service
+@ConditionalOnProperty(value = "market.image.store.type", havingValue = "filesystem")
+public class FileSystemImageBlobStore implements ImageBlobStore {
+  private static final int FOLDER_NAME_LENGTH = 2;
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+  private final Path rootDirectory;
+
+  public FileSystemImageBlobStore(@Value("${market.image.store.directory}") String rootDirectory) {
+    this.rootDirectory = Paths.get(rootDirectory);
+  }
+
+  @Override
+  public String store(byte[] content) {
+    String contentHash = ImageUtils.getContentHash(content);
+    Path blobPath = getBlobPath(contentHash);
+    if (touchFile(blobPath)) {
+      return contentHash;
+    }
+    try {
+      Files.createDirectories(blobPath.getParent());
+      Path tempPath = Files.createTempFile(blobPath.getParent(), contentHash, TEMP_FILE_SUFFIX);
+      Files.write(tempPath, content);
+      Files.move(tempPath, blobPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      return contentHash;
+    } catch (IOException e) {
+      log.error("Cannot store the image blob {}: {}", contentHash, e.getMessage());
+      return null;
+    }
+  }
+
+  @Override
+  public Resource read(String contentHash) {
+    Path blobPath = getBlobPath(contentHash);
+    return Files.isRegularFile(blobPath) ? new FileSystemResource(blobPath) : null;
+  }
+
+  @Override
+  public int deleteUnreferenced(Set<String> referencedContentHashes, Instant storedBefore) {
+    if (!Files.isDirectory(rootDirectory)) {
+      return 0;
+    }
+    List<Path> unreferencedBlobs;
+    try (Stream<Path> paths = Files.walk(rootDirectory)) {
+      unreferencedBlobs = paths.filter(Files::isRegularFile)
+          .filter(path -> !referencedContentHashes.contains(path.getFileName().toString()))
+          .filter(path -> isStoredBefore(path, storedBefore)).toList();
+    } catch (IOException e) {
+      log.error("Cannot list the image blobs in {}: {}", rootDirectory, e.getMessage());
+      return 0;
+    }
+    int deletedBlobs = 0;
+    for (Path blobPath : unreferencedBlobs) {
+      // A blob stored again since it was listed is kept
+      if (!isStoredBefore(blobPath, storedBefore)) {
+        continue;
+      }
+      try {
+        Files.deleteIfExists(blobPath);
+        deletedBlobs++;
+      } catch (IOException e) {
+        log.error("Cannot delete the image blob {}: {}", blobPath, e.getMessage());
+      }
+    }
+    return deletedBlobs;
+  }
+
+  /**
+   * @return true if the blob exists, its last modified time is then set to now
+   */
+  private static boolean touchFile(Path path) {
+    try {
+      Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static boolean isStoredBefore(Path path, Instant instant) {
+    try {
+      return Files.getLastModifiedTime(path).toInstant().isBefore(instant);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private Path getBlobPath(String contentHash) {
+    return rootDirectory.resolve(contentHash.substring(0, FOLDER_NAME_LENGTH)).resolve(contentHash);
+  }
+}
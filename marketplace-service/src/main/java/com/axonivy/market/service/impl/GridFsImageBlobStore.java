@@ -0,0 +1,93 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.service.ImageBlobStore;
+import com.axonivy.market.util.ImageUtils;
+import com.mongodb.MongoException;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Set;
+
+import static com.axonivy.market.constants.EntityConstants.IMAGE_BLOB;
+import static org.springframework.data.mongodb.gridfs.GridFsCriteria.whereFilename;
+
+/**
+ * Keeps the blobs in the GridFS bucket of the images. Storing existing content refreshes its upload date, so a blob
+ * reused by a sync is never swept as unreferenced before its image is inserted.
+ */
+@Log4j2
+@Service
+@ConditionalOnProperty(value = "market.image.store.type", havingValue = "gridfs", matchIfMissing = true)
+public class GridFsImageBlobStore implements ImageBlobStore {
+  private static final String UPLOAD_DATE = "uploadDate";
+  private static final String FILES_COLLECTION = IMAGE_BLOB + ".files";
+  private final GridFsTemplate gridFsTemplate;
+  private final MongoTemplate mongoTemplate;
+
+  public GridFsImageBlobStore(GridFsTemplate gridFsTemplate, MongoTemplate mongoTemplate) {
+    this.gridFsTemplate = gridFsTemplate;
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  @Override
+  public String store(byte[] content) {
+    String contentHash = ImageUtils.getContentHash(content);
+    try {
+      if (!touchFile(contentHash)) {
+        gridFsTemplate.store(new ByteArrayInputStream(content), contentHash,
+            ImageUtils.getMediaType(content).toString());
+        log.info("Stored image blob {} with {} bytes", contentHash, content.length);
+      }
+      return contentHash;
+    } catch (DataAccessException | MongoException e) {
+      log.error("Cannot store the image blob {}: {}", contentHash, e.getMessage());
+      return null;
+    }
+  }
+
+  @Override
+  public Resource read(String contentHash) {
+    GridFSFile file = findFile(contentHash);
+    return file == null ? null : gridFsTemplate.getResource(file);
+  }
+
+  @Override
+  public int deleteUnreferenced(Set<String> referencedContentHashes, Instant storedBefore) {
+    int deletedBlobs = 0;
+    for (GridFSFile file : gridFsTemplate.find(
+        Query.query(Criteria.where(UPLOAD_DATE).lt(Date.from(storedBefore))))) {
+      if (!referencedContentHashes.contains(file.getFilename())) {
+        // A blob stored again since it was listed has a new upload date and is kept
+        gridFsTemplate.delete(Query.query(Criteria.where(MongoDBConstants.ID).is(file.getObjectId())
+            .and(UPLOAD_DATE).lt(Date.from(storedBefore))));
+        deletedBlobs++;
+      }
+    }
+    return deletedBlobs;
+  }
+
+  /**
+   * @return true if the blob exists, its upload date is then set to now
+   */
+  private boolean touchFile(String contentHash) {
+    return mongoTemplate.updateFirst(Query.query(whereFilename().is(contentHash)),
+        new Update().set(UPLOAD_DATE, new Date()), FILES_COLLECTION).getMatchedCount() > 0;
+  }
+
+  private GridFSFile findFile(String contentHash) {
+    return gridFsTemplate.findOne(Query.query(whereFilename().is(contentHash)));
+  }
+}
@@ -0,0 +1,202 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.bo.ImageCacheStatistics;
+import com.axonivy.market.bo.ImageContent;
+import com.axonivy.market.service.ImageCacheService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.axonivy.market.constants.CommonConstants.DASH_SEPARATOR;
+
+/**
+ * Keeps the content of the most requested images in direct buffers, outside of the heap, so serving the same logos
+ * again neither hits the database nor adds garbage for the collector. The cache is bounded by the configured number of
+ * bytes and evicts the least recently used image first. Images larger than an eighth of the budget are not cached, so
+ * a single screenshot cannot flush all logos. The variants of an image are cached under the image id followed by their
+ * variant key, ex: 66e7efc8a24f36158df06fc7-64-png.
+ */
+@Log4j2
+@Service
+public class ImageCacheServiceImpl implements ImageCacheService {
+  private static final int MAX_ENTRY_FRACTION = 8;
+  private final long capacity;
+  private final long maxEntrySize;
+  private final Map<String, CachedImage> cache = new LinkedHashMap<>(16, 0.75f, true);
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+  private long cachedBytes;
+
+  public ImageCacheServiceImpl(@Value("${market.image.cache.size-bytes}") long capacity) {
+    this.capacity = capacity;
+    this.maxEntrySize = capacity / MAX_ENTRY_FRACTION;
+  }
+
+  @Override
+  public ImageContent get(String id) {
+    CachedImage cachedImage;
+    synchronized (cache) {
+      cachedImage = cache.get(id);
+    }
+    if (cachedImage == null) {
+      missCount.increment();
+      return null;
+    }
+    hitCount.increment();
+    return cachedImage.toImageContent();
+  }
+
+  @Override
+  public boolean contains(String id) {
+    synchronized (cache) {
+      return cache.containsKey(id);
+    }
+  }
+
+  /**
+   * Copies the content into the cache and returns it backed by the cache, as the stream of the given content is
+   * consumed then. Content which does not fit into the cache is returned as it is.
+   */
+  @Override
+  public ImageContent put(String id, String productId, ImageContent imageContent) {
+    if (imageContent.contentLength() <= 0 || imageContent.contentLength() > maxEntrySize) {
+      return imageContent;
+    }
+    byte[] content;
+    try (InputStream contentStream = imageContent.resource().getInputStream()) {
+      content = contentStream.readAllBytes();
+    } catch (IOException e) {
+      log.error("Cannot read the image {} to cache it: {}", id, e.getMessage());
+      return null;
+    }
+    ByteBuffer buffer = ByteBuffer.allocateDirect(content.length).put(content).flip();
+    var cachedImage = new CachedImage(productId, buffer, imageContent.mediaType(), imageContent.eTag());
+    synchronized (cache) {
+      CachedImage replacedImage = cache.put(id, cachedImage);
+      if (replacedImage != null) {
+        cachedBytes -= replacedImage.size();
+      }
+      cachedBytes += cachedImage.size();
+      Iterator<CachedImage> eldestImages = cache.values().iterator();
+      while (cachedBytes > capacity && eldestImages.hasNext()) {
+        cachedBytes -= eldestImages.next().size();
+        eldestImages.remove();
+        evictionCount.increment();
+      }
+    }
+    return cachedImage.toImageContent();
+  }
+
+  /**
+   * Evicts the image together with its variants.
+   */
+  @Override
+  public void evict(String id) {
+    String variantKeyPrefix = id + DASH_SEPARATOR;
+    synchronized (cache) {
+      Iterator<Map.Entry<String, CachedImage>> cachedImages = cache.entrySet().iterator();
+      while (cachedImages.hasNext()) {
+        Map.Entry<String, CachedImage> cachedImage = cachedImages.next();
+        if (cachedImage.getKey().equals(id) || cachedImage.getKey().startsWith(variantKeyPrefix)) {
+          cachedBytes -= cachedImage.getValue().size();
+          cachedImages.remove();
+        }
+      }
+    }
+  }
+
+  @Override
+  public void evictByProductId(String productId) {
+    synchronized (cache) {
+      Iterator<CachedImage> cachedImages = cache.values().iterator();
+      while (cachedImages.hasNext()) {
+        CachedImage cachedImage = cachedImages.next();
+        if (Objects.equals(productId, cachedImage.productId())) {
+          cachedBytes -= cachedImage.size();
+          cachedImages.remove();
+        }
+      }
+    }
+  }
+
+  @Override
+  public ImageCacheStatistics getStatistics() {
+    synchronized (cache) {
+      return new ImageCacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), cache.size(),
+          cachedBytes, capacity);
+    }
+  }
+
+  private record CachedImage(String productId, ByteBuffer content, MediaType mediaType, String eTag) {
+    private long size() {
+      return content.capacity();
+    }
+
+    private ImageContent toImageContent() {
+      return new ImageContent(new ByteBufferResource(content), size(), mediaType, eTag);
+    }
+  }
+
+  /**
+   * A read-only view of a cached buffer. Every stream reads its own duplicate, so concurrent requests do not share a
+   * position.
+   */
+  private static class ByteBufferResource extends AbstractResource {
+    private final ByteBuffer content;
+
+    private ByteBufferResource(ByteBuffer content) {
+      this.content = content;
+    }
+
+    @Override
+    @NonNull
+    public String getDescription() {
+      return "Cached image of " + content.capacity() + " bytes";
+    }
+
+    @Override
+    public long contentLength() {
+      return content.capacity();
+    }
+
+    @Override
+    @NonNull
+    public InputStream getInputStream() {
+      ByteBuffer buffer = content.asReadOnlyBuffer();
+      return new InputStream() {
+        @Override
+        public int read() {
+          return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(@NonNull byte[] bytes, int offset, int length) {
+          if (!buffer.hasRemaining()) {
+            return length == 0 ? 0 : -1;
+          }
+          int readLength = Math.min(length, buffer.remaining());
+          buffer.get(bytes, offset, readLength);
+          return readLength;
+        }
+
+        @Override
+        public int available() {
+          return buffer.remaining();
+        }
+      };
+    }
+  }
+}
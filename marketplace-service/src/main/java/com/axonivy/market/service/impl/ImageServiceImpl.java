@@ -1,17 +1,29 @@
 package com.axonivy.market.service.impl;
 
+import com.axonivy.market.bo.ImageCacheStatistics;
+import com.axonivy.market.bo.ImageContent;
 import com.axonivy.market.entity.Image;
 import com.axonivy.market.github.util.GitHubUtils;
 import com.axonivy.market.repository.ImageRepository;
 import com.axonivy.market.service.FileDownloadService;
+import com.axonivy.market.service.ImageBlobStore;
+import com.axonivy.market.service.ImageCacheService;
 import com.axonivy.market.service.ImageService;
+import com.axonivy.market.service.ImageVariantService;
+import com.axonivy.market.service.ReleasePreviewService;
+import com.axonivy.market.util.ImageUtils;
 import com.axonivy.market.util.MavenUtils;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.bson.types.Binary;
 import org.kohsuke.github.GHContent;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
@@ -19,20 +31,29 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Arrays;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import static com.axonivy.market.constants.PreviewConstants.PREVIEW_DIR;
+import java.util.Set;
 
 @Service
 @Log4j2
 @AllArgsConstructor
 public class ImageServiceImpl implements ImageService {
+  private static final Duration UNREFERENCED_BLOB_MIN_AGE = Duration.ofDays(1);
 
   private final ImageRepository imageRepository;
   private final FileDownloadService fileDownloadService;
+  private final ImageBlobStore imageBlobStore;
+  private final ImageCacheService imageCacheService;
+  private final ReleasePreviewService releasePreviewService;
+  private final ImageVariantService imageVariantService;
 
   @Override
   public Binary getImageBinary(GHContent ghContent) {
@@ -79,62 +100,210 @@ public class ImageServiceImpl implements ImageService {
     Image image = new Image();
     image.setProductId(productId);
     image.setImageUrl(currentImageUrl);
-    image.setImageData(imageContent);
+    Optional.ofNullable(imageContent).map(Binary::getData).ifPresent(content -> storeImageContent(image, content));
     image.setSha(ghContent.getSha());
     return imageRepository.save(image);
   }
 
+  /**
+   * Hashes every image file once, resolves the images of the product which already have one of these hashes with a
+   * single query and inserts the missing images in one batch. Files with the same content share one image.
+   */
   @Override
-  public Image mappingImageFromDownloadedFolder(String productId, Path imagePath) {
-    List<Image> existingImages = imageRepository.findByProductId(productId);
-    try {
-      InputStream contentStream = MavenUtils.extractedContentStream(imagePath);
-      byte[] sourceBytes = IOUtils.toByteArray(contentStream);
-
-      Image existedImage = existingImages.stream().filter(image -> {
-        byte[] imageData = Optional.of(image).map(Image::getImageData).map(Binary::getData).orElse(null);
-        return ObjectUtils.isNotEmpty(imageData) && Arrays.equals(imageData, sourceBytes);
-      }).findAny().orElse(null);
+  public Map<Path, Image> mappingImagesFromDownloadedFolder(String productId, List<Path> imagePaths) {
+    Map<Path, String> contentHashByPath = new LinkedHashMap<>();
+    Map<String, byte[]> contentByHash = new LinkedHashMap<>();
+    for (Path imagePath : imagePaths) {
+      try (InputStream contentStream = MavenUtils.extractedContentStream(imagePath)) {
+        byte[] sourceBytes = IOUtils.toByteArray(contentStream);
+        String contentHash = ImageUtils.getContentHash(sourceBytes);
+        contentHashByPath.put(imagePath, contentHash);
+        contentByHash.putIfAbsent(contentHash, sourceBytes);
+      } catch (IOException | NullPointerException e) {
+        log.error("Cannot get image from downloaded folder {}", e.getMessage());
+      }
+    }
+    if (contentByHash.isEmpty()) {
+      return new LinkedHashMap<>();
+    }
 
-      if (ObjectUtils.isEmpty(existedImage)) {
+    Map<String, Image> imageByHash = new HashMap<>();
+    imageRepository.findByProductIdAndContentHashIn(productId, contentByHash.keySet())
+        .forEach(image -> imageByHash.putIfAbsent(image.getContentHash(), image));
+    List<String> newContentHashes = contentByHash.keySet().stream()
+        .filter(contentHash -> !imageByHash.containsKey(contentHash)).toList();
+    if (!newContentHashes.isEmpty()) {
+      List<Image> newImages = newContentHashes.stream().map(contentHash -> {
         Image image = new Image();
-        image.setImageData(new Binary(sourceBytes));
+        storeImageContent(image, contentByHash.get(contentHash));
         image.setProductId(productId);
-        return imageRepository.save(image);
+        return image;
+      }).toList();
+      List<Image> insertedImages = imageRepository.insert(newImages);
+      for (int i = 0; i < newContentHashes.size(); i++) {
+        imageByHash.put(newContentHashes.get(i), insertedImages.get(i));
       }
-      return existedImage;
-    } catch (IOException | NullPointerException e) {
-      log.error("Cannot get image from downloaded folder {}", e.getMessage());
+    }
+
+    Map<Path, Image> imageByPath = new LinkedHashMap<>();
+    contentHashByPath.forEach((imagePath, contentHash) -> imageByPath.put(imagePath, imageByHash.get(contentHash)));
+    return imageByPath;
+  }
+
+  /**
+   * Serves the image from the hot image cache, or streams it from the blob store and caches it. Images which are not
+   * migrated yet, or whose content the blob store could not take, are read from their document.
+   */
+  @Override
+  public ImageContent readImage(String id) {
+    ImageContent cachedImage = imageCacheService.get(id);
+    if (cachedImage != null) {
+      return cachedImage;
+    }
+    Image image = imageRepository.findMetadataById(id).orElse(null);
+    if (image == null) {
       return null;
     }
+    ImageContent imageContent = loadImage(id, image);
+    return imageContent == null ? null : imageCacheService.put(id, image.getProductId(), imageContent);
+  }
+
+  private ImageContent loadImage(String id, Image image) {
+    String eTag = ImageUtils.getETag(image);
+    if (StringUtils.isNotBlank(image.getContentHash())) {
+      Resource resource = imageBlobStore.read(image.getContentHash());
+      if (resource != null) {
+        return new ImageContent(resource, image.getSize(), MediaType.parseMediaType(image.getContentType()), eTag);
+      }
+    }
+    return imageRepository.findById(id).map(Image::getImageData).map(Binary::getData)
+        .map(data -> new ImageContent(new ByteArrayResource(data), data.length, ImageUtils.getMediaType(data), eTag))
+        .orElse(null);
   }
 
   @Override
-  public byte[] readImage(String id) {
-    return imageRepository.findById(id).map(Image::getImageData).map(Binary::getData).orElse(null);
+  public ImageContent findCachedImage(String id) {
+    return imageCacheService.get(id);
   }
 
+  /**
+   * Loads the given images into the hot image cache, ex: all product logos after a sync. With a width, the variant of
+   * this width is loaded as this is what the clients request, or the original if the image has no such variant.
+   */
   @Override
-  public byte[] readPreviewImageByName(String imageName) {
-    Path previewPath = Paths.get(PREVIEW_DIR);
-    if (!Files.exists(previewPath) || !Files.isDirectory(previewPath)) {
-      log.info("#readPreviewImageByName: Preview folder not found");
-    }
+  public void warmUpImageCache(Collection<String> imageIds, Integer width) {
+    imageIds.stream().filter(StringUtils::isNotBlank).distinct().forEach(id -> {
+      ImageContent variant = width == null ? null : imageVariantService.getVariant(id, width, null);
+      if (variant == null) {
+        readImage(id);
+      }
+    });
+    log.info("Warmed up the image cache: {}", imageCacheService.getStatistics());
+  }
+
+  @Override
+  public ImageCacheStatistics getImageCacheStatistics() {
+    return imageCacheService.getStatistics();
+  }
+
+  @Override
+  public void evictCachedImage(String id) {
+    imageCacheService.evict(id);
+  }
+
+  @Override
+  public void evictCachedImagesByProductId(String productId) {
+    imageCacheService.evictByProductId(productId);
+  }
+
+  /**
+   * The image is read without its binary.
+   */
+  @Override
+  public String getImageETag(String id) {
+    return imageRepository.findMetadataById(id).map(ImageUtils::getETag).orElse(null);
+  }
+
+  @Override
+  public void ensureImageIndexes() {
     try {
-      Optional<Path> imagePath = Files.walk(previewPath)
-          .filter(Files::isRegularFile)
-          .filter(path -> path.getFileName().toString().equalsIgnoreCase(imageName))
-          .findFirst();
-      if (imagePath.isEmpty()) {
-        log.info("#readPreviewImageByName: Image with name {} is missing", imageName);
-        return new byte[0];
+      imageRepository.ensureProductIdAndContentHashIndex();
+    } catch (DataAccessException e) {
+      log.error("Cannot create the content hash index of the images: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Moves the binaries still embedded in the Image documents to the blob store. Migrated images lose their embedded
+   * binary, so running it again only picks up what is left.
+   */
+  @Override
+  public int migrateImageDataToBlobStore() {
+    int migratedImages = 0;
+    for (Image imageId : imageRepository.findIdsWithImageData()) {
+      Image image = imageRepository.findById(imageId.getId()).orElse(null);
+      if (image == null || image.getImageData() == null) {
+        continue;
       }
-      InputStream contentStream = MavenUtils.extractedContentStream(imagePath.get());
-      return IOUtils.toByteArray(contentStream);
+      if (storeImageContent(image, image.getImageData().getData())) {
+        image.setImageData(null);
+        imageRepository.save(image);
+        migratedImages++;
+      }
+    }
+    log.info("Migrated {} images to the image blob store", migratedImages);
+    return migratedImages;
+  }
+
+  /**
+   * Deletes the blobs which neither an image nor one of its variants references anymore, ex: after the images of a
+   * product were deleted. Blobs stored or reused within the last day are kept, as their images may not be inserted
+   * yet. The caller should not run it while a sync is running.
+   */
+  @Override
+  public int deleteUnreferencedImageBlobs() {
+    Set<String> referencedContentHashes = new HashSet<>();
+    for (Image image : imageRepository.findAllContentHashes()) {
+      referencedContentHashes.add(image.getContentHash());
+      Optional.ofNullable(image.getVariantHashes()).map(Map::values).ifPresent(referencedContentHashes::addAll);
+    }
+    int deletedBlobs = imageBlobStore.deleteUnreferenced(referencedContentHashes,
+        Instant.now().minus(UNREFERENCED_BLOB_MIN_AGE));
+    log.info("Deleted {} unreferenced image blobs", deletedBlobs);
+    return deletedBlobs;
+  }
+
+  /**
+   * Keeps the hash, media type and size of the content on the image and puts the content into the blob store. The
+   * hash is kept even if the blob store fails, so later syncs still find the image by its content. The content then
+   * stays embedded in the image so it is not lost, until the migration moves it to the blob store.
+   */
+  private boolean storeImageContent(Image image, byte[] content) {
+    image.setContentHash(ImageUtils.getContentHash(content));
+    image.setContentType(ImageUtils.getMediaType(content).toString());
+    image.setSize((long) content.length);
+    if (imageBlobStore.store(content) == null) {
+      image.setImageData(new Binary(content));
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Looks the image up in the index of its preview session, the preview folder is not walked again.
+   */
+  @Override
+  public byte[] readPreviewImageByName(String sessionId, String imageName) {
+    Path imagePath = releasePreviewService.findPreviewImage(sessionId, imageName);
+    if (imagePath == null) {
+      log.info("#readPreviewImageByName: Image with name {} is missing", imageName);
+      return new byte[0];
+    }
+    try {
+      return Files.readAllBytes(imagePath);
     } catch (IOException e) {
       log.error("#readPreviewImageByName: Error when read preview image {}: {}", imageName, e.getMessage());
       return new byte[0];
     }
   }
-
 }
@@ -0,0 +1,247 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.bo.ImageContent;
+import com.axonivy.market.entity.Image;
+import com.axonivy.market.repository.ImageRepository;
+import com.axonivy.market.service.ImageBlobStore;
+import com.axonivy.market.service.ImageCacheService;
+import com.axonivy.market.service.ImageVariantService;
+import com.axonivy.market.util.ImageUtils;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+import static com.axonivy.market.constants.CommonConstants.DASH_SEPARATOR;
+
+/**
+ * Derives resized or re-encoded variants of the images with the codecs of the JDK. A variant is generated once, kept
+ * in the image blob store and referenced from its image, so it is never generated again. The variants are served from
+ * the hot image cache like the original images. Generating runs on the request thread, so the number of concurrent
+ * generations is capped and images with more pixels than the configured max are served as they are.
+ */
+@Log4j2
+@Service
+public class ImageVariantServiceImpl implements ImageVariantService {
+  private static final int[] VARIANT_WIDTHS = {32, 64, 128, 256, 512};
+  private static final int ORIGINAL_WIDTH = 0;
+  private static final String PNG = "png";
+  private static final String JPEG = "jpeg";
+  private static final String JPG = "jpg";
+  private final ImageRepository imageRepository;
+  private final ImageBlobStore imageBlobStore;
+  private final ImageCacheService imageCacheService;
+  private final long maxSourcePixels;
+  private final Semaphore generationPermits;
+
+  public ImageVariantServiceImpl(ImageRepository imageRepository, ImageBlobStore imageBlobStore,
+      ImageCacheService imageCacheService, @Value("${market.image.variant.max-source-pixels}") long maxSourcePixels,
+      @Value("${market.image.variant.max-concurrent-generations}") int maxConcurrentGenerations) {
+    this.imageRepository = imageRepository;
+    this.imageBlobStore = imageBlobStore;
+    this.imageCacheService = imageCacheService;
+    this.maxSourcePixels = maxSourcePixels;
+    this.generationPermits = new Semaphore(maxConcurrentGenerations);
+  }
+
+  /**
+   * The width is rounded up to the next supported width, so only a handful of variants exist per image. Any format
+   * other than JPEG is served as PNG, the JDK has no WebP encoder.
+   */
+  @Override
+  public String getVariantKey(Integer width, String format) {
+    int variantWidth = ORIGINAL_WIDTH;
+    if (width != null && width > 0) {
+      variantWidth = VARIANT_WIDTHS[VARIANT_WIDTHS.length - 1];
+      for (int supportedWidth : VARIANT_WIDTHS) {
+        if (supportedWidth >= width) {
+          variantWidth = supportedWidth;
+          break;
+        }
+      }
+    }
+    String variantFormat = StringUtils.equalsAnyIgnoreCase(format, JPEG, JPG) ? JPEG : PNG;
+    return variantWidth + DASH_SEPARATOR + variantFormat;
+  }
+
+  @Override
+  public ImageContent findCachedVariant(String id, Integer width, String format) {
+    return imageCacheService.get(getCacheKey(id, getVariantKey(width, format)));
+  }
+
+  /**
+   * @return the variant, or null if there is no such image or all generation permits are taken, then the caller
+   * serves the original
+   */
+  @Override
+  public ImageContent getVariant(String id, Integer width, String format) {
+    String variantKey = getVariantKey(width, format);
+    String cacheKey = getCacheKey(id, variantKey);
+    ImageContent cachedVariant = imageCacheService.get(cacheKey);
+    if (cachedVariant != null) {
+      return cachedVariant;
+    }
+
+    Image image = imageRepository.findMetadataById(id).orElse(null);
+    if (image == null || StringUtils.isBlank(image.getContentHash())) {
+      return null;
+    }
+    String variantHash = Optional.ofNullable(image.getVariantHashes()).map(hashes -> hashes.get(variantKey))
+        .orElse(null);
+    byte[] variant = variantHash == null ? null : readBlob(variantHash);
+    if (variant == null) {
+      if (!generationPermits.tryAcquire()) {
+        log.info("Too many image variants are generated, serve the original of image {}", id);
+        return null;
+      }
+      byte[] content;
+      try {
+        content = readBlob(image.getContentHash());
+        variant = content == null ? null : createVariant(content, variantKey, maxSourcePixels);
+      } finally {
+        generationPermits.release();
+      }
+      if (content == null) {
+        return null;
+      }
+      variantHash = variant == null ? image.getContentHash() : imageBlobStore.store(variant);
+      variant = variant == null ? content : variant;
+      if (variantHash != null) {
+        imageRepository.setVariantHash(image.getId(), variantKey, variantHash);
+      }
+    }
+
+    // The original is its own variant when it is already small enough or cannot be decoded
+    MediaType mediaType = image.getContentHash().equals(variantHash) ?
+        MediaType.parseMediaType(image.getContentType()) : getMediaType(variantKey);
+    var imageContent = new ImageContent(new ByteArrayResource(variant), variant.length, mediaType,
+        ImageUtils.getETag(image));
+    return imageCacheService.put(cacheKey, image.getProductId(), imageContent);
+  }
+
+  private static String getCacheKey(String id, String variantKey) {
+    return id + DASH_SEPARATOR + variantKey;
+  }
+
+  private byte[] readBlob(String contentHash) {
+    Resource resource = imageBlobStore.read(contentHash);
+    if (resource == null) {
+      return null;
+    }
+    try {
+      return resource.getContentAsByteArray();
+    } catch (IOException e) {
+      log.error("Cannot read the image blob {}: {}", contentHash, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * The dimensions are read from the header before the image is decoded, so a small file declaring huge dimensions is
+   * never decoded.
+   *
+   * @return the encoded variant, or null if the original already fits the variant, cannot be decoded or has more
+   * pixels than the max
+   */
+  static byte[] createVariant(byte[] content, String variantKey, long maxSourcePixels) {
+    String[] keyParts = variantKey.split(DASH_SEPARATOR);
+    int width = Integer.parseInt(keyParts[0]);
+    String format = keyParts[1];
+    try {
+      BufferedImage source = readImage(content, maxSourcePixels);
+      if (source == null || source.getWidth() < width) {
+        return null;
+      }
+      int targetWidth = width == ORIGINAL_WIDTH ? source.getWidth() : width;
+      int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+      BufferedImage target = scale(source, targetWidth, targetHeight, JPEG.equals(format));
+      var output = new ByteArrayOutputStream();
+      if (!ImageIO.write(target, format, output)) {
+        return null;
+      }
+      byte[] variant = output.toByteArray();
+      return variant.length < content.length ? variant : null;
+    } catch (IOException | RuntimeException e) {
+      log.error("Cannot create the image variant {}: {}", variantKey, e.getMessage());
+      return null;
+    }
+  }
+
+  private static BufferedImage readImage(byte[] content, long maxSourcePixels) throws IOException {
+    try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+      Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+      if (readers == null || !readers.hasNext()) {
+        return null;
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+        if (pixels > maxSourcePixels) {
+          log.warn("Skip the variant of an image with {} pixels, the max is {}", pixels, maxSourcePixels);
+          return null;
+        }
+        return reader.read(0);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /**
+   * Halves the image step by step before the last scaling, as a single bilinear step loses the details of large
+   * images.
+   */
+  private static BufferedImage scale(BufferedImage source, int width, int height, boolean isOpaque) {
+    BufferedImage current = source;
+    int currentWidth = source.getWidth();
+    int currentHeight = source.getHeight();
+    do {
+      currentWidth = Math.max(width, currentWidth / 2);
+      currentHeight = Math.max(height, currentHeight / 2);
+      if (currentWidth == width) {
+        currentHeight = height;
+      }
+      current = draw(current, currentWidth, currentHeight, isOpaque);
+    } while (currentWidth != width);
+    return current;
+  }
+
+  private static BufferedImage draw(BufferedImage source, int width, int height, boolean isOpaque) {
+    var target = new BufferedImage(width, height, isOpaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = target.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      if (isOpaque) {
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+      }
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return target;
+  }
+
+  private static MediaType getMediaType(String variantKey) {
+    return variantKey.endsWith(JPEG) ? MediaType.IMAGE_JPEG : MediaType.IMAGE_PNG;
+  }
+}
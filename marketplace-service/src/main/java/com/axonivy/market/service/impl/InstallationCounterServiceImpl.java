@@ -0,0 +1,234 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.bo.InstallationEvent;
+import com.axonivy.market.repository.ProductInstallationRollupRepository;
+import com.axonivy.market.repository.ProductMarketplaceDataRepository;
+import com.axonivy.market.service.InstallationCounterService;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * Counts the installations in memory and writes them behind in bulk, so a click from the Designer costs no database
+ * round trip once its product is known. The persisted count of a product is loaded on its first use, the returned
+ * count is this count plus every installation seen since, so it only grows. The increments are written every flush
+ * interval, on shutdown and, once the max pending installations are reached, by a background flush so the click never
+ * waits for Mongo. Each flush also adds the installations to the day and month rollups of the installation trends.
+ * <p>
+ * A crash loses the increments which are not written yet, normally those of one flush interval. Increments of a
+ * failed write are kept and retried by the next flush, so while Mongo is unavailable they pile up in memory and a
+ * crash loses all of them.
+ */
+@Log4j2
+@Service
+public class InstallationCounterServiceImpl implements InstallationCounterService, DisposableBean {
+  private static final String FLUSH_THREAD_NAME_PREFIX = "IC-Flush-Thread-";
+  private final ProductMarketplaceDataRepository productMarketplaceDataRepo;
+  private final ProductInstallationRollupRepository productInstallationRollupRepo;
+  private final long maxPending;
+  private final Map<String, ProductCounter> productCounters = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, LongAdder>> designerVersionCounters = new ConcurrentHashMap<>();
+  private final Map<InstallationEvent, LongAdder> installationEventCounters = new ConcurrentHashMap<>();
+  private final AtomicLong pendingCount = new AtomicLong();
+  private final AtomicLong loadSequence = new AtomicLong();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final AtomicBoolean isFlushRequested = new AtomicBoolean();
+  private final ThreadPoolTaskExecutor flushExecutor;
+
+  public InstallationCounterServiceImpl(ProductMarketplaceDataRepository productMarketplaceDataRepo,
+      ProductInstallationRollupRepository productInstallationRollupRepo,
+      @Value("${market.installation-count.max-pending}") long maxPending) {
+    this.productMarketplaceDataRepo = productMarketplaceDataRepo;
+    this.productInstallationRollupRepo = productInstallationRollupRepo;
+    this.maxPending = maxPending;
+    flushExecutor = new ThreadPoolTaskExecutor();
+    flushExecutor.setCorePoolSize(1);
+    flushExecutor.setMaxPoolSize(1);
+    flushExecutor.setThreadNamePrefix(FLUSH_THREAD_NAME_PREFIX);
+    flushExecutor.initialize();
+  }
+
+  @Override
+  public int increase(String productId, String designerVersion, IntSupplier persistedCountLoader) {
+    ProductCounter productCounter = getProductCounter(productId, persistedCountLoader);
+    if (StringUtils.isNotBlank(designerVersion)) {
+      designerVersionCounters.computeIfAbsent(productId, id -> new ConcurrentHashMap<>())
+          .computeIfAbsent(designerVersion, version -> new LongAdder()).increment();
+    }
+    // Increments inside compute, so a flush never drops the counter between its lookup and its increment
+    installationEventCounters.compute(InstallationEvent.of(productId, designerVersion, LocalDate.now(ZoneOffset.UTC)),
+        (event, counter) -> {
+          LongAdder eventCounter = counter == null ? new LongAdder() : counter;
+          eventCounter.increment();
+          return eventCounter;
+        });
+    productCounter.pending.increment();
+    productCounter.total.increment();
+    // At most one background flush is queued at a time
+    if (pendingCount.incrementAndGet() >= maxPending && isFlushRequested.compareAndSet(false, true)) {
+      flushExecutor.execute(() -> {
+        isFlushRequested.set(false);
+        flush();
+      });
+    }
+    return productCounter.getTotal();
+  }
+
+  @Override
+  public int getInstallationCount(String productId, IntSupplier persistedCountLoader) {
+    return getProductCounter(productId, persistedCountLoader).getTotal();
+  }
+
+  /**
+   * @return a copy of the current counts of the products counted in memory, pending installations included
+   */
+  @Override
+  public Map<String, Integer> getInstallationCounts() {
+    Map<String, Integer> installationCounts = new HashMap<>();
+    productCounters.forEach((productId, productCounter) -> installationCounts.put(productId,
+        productCounter.getTotal()));
+    return installationCounts;
+  }
+
+  /**
+   * @return the stamp to take before writing counts to the database directly, see
+   * {@link #addPersistedCounts(Map, long)}
+   */
+  @Override
+  public long getLoadStamp() {
+    return loadSequence.get();
+  }
+
+  /**
+   * Adds counts written to the database directly to the products which were already counted in memory when the load
+   * stamp was taken. Counters loaded later read these counts from the database already.
+   */
+  @Override
+  public void addPersistedCounts(Map<String, Integer> persistedCounts, long loadStamp) {
+    persistedCounts.forEach((productId, count) -> {
+      ProductCounter productCounter = productCounters.get(productId);
+      if (productCounter != null && productCounter.loadSequence <= loadStamp) {
+        productCounter.total.add(count);
+      }
+    });
+  }
+
+  @Override
+  public long getPendingCount() {
+    return pendingCount.get();
+  }
+
+  @Override
+  @Scheduled(fixedDelayString = "${market.installation-count.flush-interval}")
+  public void flush() {
+    flushLock.lock();
+    try {
+      flushPendingCounts();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @Override
+  public void destroy() {
+    flushExecutor.shutdown();
+    flush();
+  }
+
+  /**
+   * The loader runs once per product, as it may initialize the persisted count, ex: from the legacy installation file.
+   */
+  private ProductCounter getProductCounter(String productId, IntSupplier persistedCountLoader) {
+    return productCounters.computeIfAbsent(productId,
+        id -> new ProductCounter(loadSequence.incrementAndGet(), persistedCountLoader.getAsInt()));
+  }
+
+  private void flushPendingCounts() {
+    Map<String, Long> installationCounts = new HashMap<>();
+    productCounters.forEach((productId, productCounter) -> {
+      long count = productCounter.pending.sumThenReset();
+      if (count > 0) {
+        installationCounts.put(productId, count);
+      }
+    });
+    Map<String, Map<String, Long>> installationCountsByDesignerVersion = new HashMap<>();
+    designerVersionCounters.forEach((productId, counters) -> counters.forEach((designerVersion, counter) -> {
+      long count = counter.sumThenReset();
+      if (count > 0) {
+        installationCountsByDesignerVersion.computeIfAbsent(productId, id -> new HashMap<>())
+            .put(designerVersion, count);
+      }
+    }));
+    Map<InstallationEvent, Long> installationCountsByEvent = new HashMap<>();
+    installationEventCounters.forEach((event, counter) -> {
+      long count = counter.sumThenReset();
+      if (count > 0) {
+        installationCountsByEvent.put(event, count);
+      }
+    });
+    // Only the counters of today are still increased, the drained ones of the days before are dropped
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    installationEventCounters.keySet().stream().filter(event -> event.date().isBefore(today)).toList()
+        .forEach(event -> installationEventCounters.computeIfPresent(event,
+            (key, counter) -> counter.sum() == 0 ? null : counter));
+    if (installationCounts.isEmpty() && installationCountsByDesignerVersion.isEmpty()
+        && installationCountsByEvent.isEmpty()) {
+      return;
+    }
+    long flushedCount = installationCounts.values().stream().mapToLong(Long::longValue).sum();
+    pendingCount.addAndGet(-flushedCount);
+    try {
+      productMarketplaceDataRepo.increaseInstallationCounts(installationCounts);
+    } catch (RuntimeException e) {
+      installationCounts.forEach((productId, count) -> productCounters.get(productId).pending.add(count));
+      pendingCount.addAndGet(flushedCount);
+      log.error("Cannot write the installation counts, keep {} pending installations for the next flush: {}",
+          pendingCount.get(), e.getMessage());
+    }
+    try {
+      productMarketplaceDataRepo.increaseInstallationCountsByDesignerVersion(installationCountsByDesignerVersion);
+    } catch (RuntimeException e) {
+      log.error("Cannot write the installation counts by designer version, keep them for the next flush: {}",
+          e.getMessage());
+      installationCountsByDesignerVersion.forEach((productId, counts) -> counts.forEach(
+          (designerVersion, count) -> designerVersionCounters.get(productId).get(designerVersion).add(count)));
+    }
+    try {
+      productInstallationRollupRepo.increaseInstallationCounts(installationCountsByEvent);
+    } catch (RuntimeException e) {
+      log.error("Cannot write the installation rollups, keep them for the next flush: {}", e.getMessage());
+      installationCountsByEvent.forEach((event, count) -> installationEventCounters.computeIfAbsent(event,
+          key -> new LongAdder()).add(count));
+    }
+  }
+
+  private static class ProductCounter {
+    private final LongAdder total = new LongAdder();
+    private final LongAdder pending = new LongAdder();
+    private final long loadSequence;
+
+    private ProductCounter(long loadSequence, int persistedCount) {
+      this.loadSequence = loadSequence;
+      total.add(persistedCount);
+    }
+
+    private int getTotal() {
+      return total.intValue();
+    }
+  }
+}
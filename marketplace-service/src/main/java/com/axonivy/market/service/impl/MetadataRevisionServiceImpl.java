@@ -0,0 +1,76 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.entity.MetadataRevision;
+import com.axonivy.market.repository.MetadataRevisionRepository;
+import com.axonivy.market.service.MetadataRevisionService;
+import com.axonivy.market.util.MavenUtils;
+import com.axonivy.market.util.MetadataReaderUtils;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+@Log4j2
+@Service
+@AllArgsConstructor
+public class MetadataRevisionServiceImpl implements MetadataRevisionService {
+  private final MetadataRevisionRepository metadataRevisionRepo;
+
+  /**
+   * Fetches the metadata at the given url. When conditional, the validators of the previous revision are sent along
+   * and the returned revision is only marked as changed if the server answered with new content whose lastUpdated
+   * differs from the stored one.
+   */
+  @Override
+  public MetadataRevision fetchMetadata(String productId, String metadataUrl, boolean isConditional) {
+    MetadataRevision revision = metadataRevisionRepo.findById(metadataUrl)
+        .orElse(MetadataRevision.builder().url(metadataUrl).build());
+    revision.setProductId(productId);
+    revision.setChanged(false);
+    revision.setContent(StringUtils.EMPTY);
+
+    var headers = new HttpHeaders();
+    if (isConditional) {
+      if (StringUtils.isNotBlank(revision.getETag())) {
+        headers.setIfNoneMatch(revision.getETag());
+      }
+      if (StringUtils.isNotBlank(revision.getLastModified())) {
+        headers.set(HttpHeaders.IF_MODIFIED_SINCE, revision.getLastModified());
+      }
+    }
+    ResponseEntity<String> response = MavenUtils.getMetadataResponseFromUrl(metadataUrl, headers);
+    if (Objects.isNull(response) || response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+      return revision;
+    }
+
+    String content = StringUtils.defaultString(response.getBody());
+    String lastUpdated = MetadataReaderUtils.getLastUpdatedValue(content);
+    boolean isChanged = StringUtils.isNotBlank(content)
+        && (!isConditional || !StringUtils.equals(lastUpdated, revision.getLastUpdated()));
+    revision.setContent(content);
+    revision.setChanged(isChanged);
+    revision.setLastUpdated(lastUpdated);
+    revision.setETag(response.getHeaders().getETag());
+    revision.setLastModified(response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED));
+    return revision;
+  }
+
+  @Override
+  public void saveRevisions(List<MetadataRevision> revisions) {
+    if (!CollectionUtils.isEmpty(revisions)) {
+      metadataRevisionRepo.saveAll(revisions);
+    }
+  }
+
+  @Override
+  public void deleteRevisionsByProductId(String productId) {
+    metadataRevisionRepo.deleteAllByProductId(productId);
+  }
+}
@@ -1,6 +1,7 @@
 package com.axonivy.market.service.impl;
 
 import com.axonivy.market.bo.Artifact;
+import com.axonivy.market.bo.VersionClassifier;
 import com.axonivy.market.entity.MavenArtifactVersion;
 import com.axonivy.market.entity.Metadata;
 import com.axonivy.market.entity.ProductJsonContent;
@@ -9,6 +10,7 @@ import com.axonivy.market.repository.MavenArtifactVersionRepository;
 import com.axonivy.market.repository.MetadataRepository;
 import com.axonivy.market.repository.ProductJsonContentRepository;
 import com.axonivy.market.service.MetadataService;
+import com.axonivy.market.service.ProductVersionIndexService;
 import com.axonivy.market.util.MavenUtils;
 import com.axonivy.market.util.MetadataReaderUtils;
 import com.axonivy.market.util.VersionUtils;
@@ -24,6 +26,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @AllArgsConstructor
@@ -32,6 +35,7 @@ public class MetadataServiceImpl implements MetadataService {
   private final ProductJsonContentRepository productJsonRepo;
   private final MavenArtifactVersionRepository mavenArtifactVersionRepo;
   private final MetadataRepository metadataRepo;
+  private final ProductVersionIndexService productVersionIndexService;
 
   public void updateMavenArtifactVersionCacheWithModel(MavenArtifactVersion artifactVersionCache,
       String version, Metadata metadata) {
@@ -58,8 +62,13 @@ public class MetadataServiceImpl implements MetadataService {
   }
 
   public void updateMavenArtifactVersionData(Set<Metadata> metadataSet, MavenArtifactVersion artifactVersionCache) {
-    for (Metadata metadata : metadataSet) {
-      String metadataContent = MavenUtils.getMetadataContentFromUrl(metadata.getUrl());
+    // Fetch all metadata at once, the artifact version cache is still updated one metadata after the other
+    List<Metadata> metadataList = new ArrayList<>(metadataSet);
+    List<CompletableFuture<String>> metadataContents = metadataList.stream()
+        .map(metadata -> MavenUtils.getMetadataContentFromUrlAsync(metadata.getUrl())).toList();
+    for (int i = 0; i < metadataList.size(); i++) {
+      Metadata metadata = metadataList.get(i);
+      String metadataContent = metadataContents.get(i).join();
       if (StringUtils.isBlank(metadataContent)) {
         continue;
       }
@@ -100,6 +109,7 @@ public class MetadataServiceImpl implements MetadataService {
 
     mavenArtifactVersionRepo.save(artifactVersion);
     metadataRepo.saveAll(metadataSet);
+    productVersionIndexService.rebuild(productId);
   }
 
   public void updateMavenArtifactVersionFromMetadata(MavenArtifactVersion artifactVersionCache,
@@ -109,10 +119,10 @@ public class MetadataServiceImpl implements MetadataService {
       return;
     }
 
+    VersionClassifier classifier = VersionClassifier.of(metadata.getVersions());
     for (String version : metadata.getVersions()) {
-      boolean isSnapshotVersion = VersionUtils.isSnapshotVersion(version);
-      boolean isOfficialVersionOrUnReleasedDevVersion =
-          VersionUtils.isOfficialVersionOrUnReleasedDevVersion(metadata.getVersions(), version);
+      boolean isSnapshotVersion = classifier.isSnapshotVersion(version);
+      boolean isOfficialVersionOrUnReleasedDevVersion = classifier.isOfficialVersionOrUnReleasedDevVersion(version);
 
       if (isSnapshotVersion && isOfficialVersionOrUnReleasedDevVersion) {
         updateMavenArtifactVersionForNonReleaseDevVersion(artifactVersionCache, metadata, version);
@@ -0,0 +1,228 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.bo.ProductSearchIndex;
+import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.criteria.ProductSearchCriteria;
+import com.axonivy.market.entity.Product;
+import com.axonivy.market.entity.ProductMarketplaceData;
+import com.axonivy.market.enums.DocumentField;
+import com.axonivy.market.enums.Language;
+import com.axonivy.market.enums.SortOption;
+import com.axonivy.market.enums.TypeOption;
+import com.axonivy.market.repository.ProductMarketplaceDataRepository;
+import com.axonivy.market.repository.ProductRepository;
+import com.axonivy.market.service.InstallationCounterService;
+import com.axonivy.market.service.ProductCatalogService;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.StopWatch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static com.axonivy.market.repository.impl.CustomProductRepositoryImpl.LOCALIZE_SEARCH_PATTERN;
+
+/**
+ * Read-only snapshot of the product catalog, so the product listing does not hit Mongo on every request. The snapshot
+ * is replaced as a whole whenever the catalog changes, Mongo stays the source of truth. The installation counts are
+ * written behind by the installation counter, so the popularity is read from the counter for the counted products.
+ */
+@Log4j2
+@Service
+public class ProductCatalogServiceImpl implements ProductCatalogService {
+  private final ProductRepository productRepo;
+  private final ProductMarketplaceDataRepository productMarketplaceDataRepo;
+  private final InstallationCounterService installationCounterService;
+  private final boolean isCacheEnabled;
+  private volatile CatalogSnapshot snapshot;
+
+  public ProductCatalogServiceImpl(ProductRepository productRepo,
+      ProductMarketplaceDataRepository productMarketplaceDataRepo,
+      InstallationCounterService installationCounterService,
+      @Value("${market.catalog.cache.enabled}") boolean isCacheEnabled) {
+    this.productRepo = productRepo;
+    this.productMarketplaceDataRepo = productMarketplaceDataRepo;
+    this.installationCounterService = installationCounterService;
+    this.isCacheEnabled = isCacheEnabled;
+  }
+
+  @Override
+  public synchronized void rebuild() {
+    if (!isCacheEnabled) {
+      return;
+    }
+    var watch = new StopWatch();
+    watch.start();
+    List<Product> products = productRepo.findAll();
+    Map<String, ProductMarketplaceData> marketplaceData = productMarketplaceDataRepo.findAll().stream()
+        .collect(Collectors.toUnmodifiableMap(ProductMarketplaceData::getId, Function.identity()));
+    snapshot = new CatalogSnapshot(List.copyOf(products), marketplaceData, new ProductSearchIndex(products));
+    watch.stop();
+    log.info("**ProductCatalogService: rebuilt the catalog of {} products in {} ms", products.size(),
+        watch.getTime());
+  }
+
+  /**
+   * Searches the catalog snapshot with the same filters and sorting as the Mongo query, keywords are looked up in the
+   * search index. Matches of a keyword are ordered by their rank, the requested sort only breaks ties. It is empty if
+   * the cache is disabled or the requested sort is not supported in memory, then the caller should query Mongo
+   * instead.
+   */
+  @Override
+  public Optional<Page<Product>> searchByCriteria(ProductSearchCriteria criteria, Pageable pageable) {
+    if (!isCacheEnabled) {
+      return Optional.empty();
+    }
+    if (snapshot == null) {
+      rebuild();
+    }
+    CatalogSnapshot currentSnapshot = snapshot;
+    // A copy of the live counts, the sort keys must not change while sorting
+    Map<String, Integer> installationCounts = installationCounterService.getInstallationCounts();
+    Optional<Comparator<Product>> comparator = createComparator(pageable.getSort(), currentSnapshot,
+        installationCounts);
+    if (comparator.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Map<String, Integer> keywordRanks = findKeywordRanks(criteria, currentSnapshot);
+    Predicate<Product> keywordFilter = keywordRanks == null ? product -> true :
+        product -> keywordRanks.containsKey(product.getId());
+    List<Product> matchedProducts = new ArrayList<>(currentSnapshot.products().stream()
+        .filter(product -> isMatched(product, criteria)).filter(keywordFilter).toList());
+    matchedProducts.sort(keywordRanks == null ? comparator.get() :
+        Comparator.<Product, Integer>comparing(product -> keywordRanks.get(product.getId()))
+            .thenComparing(comparator.get()));
+
+    int fromIndex = (int) Math.min(getStartIndex(matchedProducts, criteria.getAfterProductId(), pageable),
+        matchedProducts.size());
+    int toIndex = Math.min(fromIndex + pageable.getPageSize(), matchedProducts.size());
+    return Optional.of(new PageImpl<>(matchedProducts.subList(fromIndex, toIndex), pageable,
+        matchedProducts.size()));
+  }
+
+  /**
+   * In keyset mode the page starts right after the given product, otherwise, or if that product is not matched, at the
+   * offset of the pageable.
+   */
+  private static long getStartIndex(List<Product> sortedProducts, String afterProductId, Pageable pageable) {
+    if (StringUtils.isNotBlank(afterProductId)) {
+      for (int index = 0; index < sortedProducts.size(); index++) {
+        if (afterProductId.equals(sortedProducts.get(index).getId())) {
+          return index + 1L;
+        }
+      }
+    }
+    return pageable.getOffset();
+  }
+
+  private static boolean isMatched(Product product, ProductSearchCriteria criteria) {
+    if (criteria.isListed() && Boolean.FALSE.equals(product.getListed())) {
+      return false;
+    }
+    return criteria.getType() == null || TypeOption.ALL == criteria.getType()
+        || StringUtils.equals(criteria.getType().getCode(), product.getType());
+  }
+
+  /**
+   * @return the rank of each product matching the keyword, the best match has rank 0, or null if there is no keyword
+   * to search for
+   */
+  private static Map<String, Integer> findKeywordRanks(ProductSearchCriteria criteria,
+      CatalogSnapshot catalogSnapshot) {
+    if (StringUtils.isBlank(criteria.getKeyword())) {
+      return null;
+    }
+    List<DocumentField> searchFields = getSearchFields(criteria);
+    if (searchFields.isEmpty()) {
+      return null;
+    }
+    List<String> rankedProductIds = catalogSnapshot.searchIndex().search(criteria.getKeyword(),
+        criteria.getLanguage(), searchFields);
+    Map<String, Integer> keywordRanks = new HashMap<>();
+    for (int rank = 0; rank < rankedProductIds.size(); rank++) {
+      keywordRanks.putIfAbsent(rankedProductIds.get(rank), rank);
+    }
+    return keywordRanks;
+  }
+
+  private static List<DocumentField> getSearchFields(ProductSearchCriteria criteria) {
+    List<DocumentField> searchFields = new ArrayList<>(ProductSearchCriteria.DEFAULT_SEARCH_FIELDS);
+    if (!CollectionUtils.isEmpty(criteria.getFields())) {
+      searchFields.clear();
+      searchFields.addAll(criteria.getFields());
+    }
+    if (!CollectionUtils.isEmpty(criteria.getExcludeFields())) {
+      searchFields.removeAll(criteria.getExcludeFields());
+    }
+    return searchFields;
+  }
+
+  private static String getLocalizedValue(Map<String, String> values, Language language) {
+    return values == null ? null : values.get(language.getValue());
+  }
+
+  /**
+   * Builds the comparator for the orders of the refined pageable. Missing values come first in ascending order and
+   * last in descending order, as in Mongo.
+   */
+  private static Optional<Comparator<Product>> createComparator(Sort sort, CatalogSnapshot catalogSnapshot,
+      Map<String, Integer> installationCounts) {
+    Comparator<Product> comparator = (first, second) -> 0;
+    for (Sort.Order order : sort) {
+      Optional<Function<Product, Comparable<Object>>> sortKey = getSortKey(order.getProperty(), catalogSnapshot,
+          installationCounts);
+      if (sortKey.isEmpty()) {
+        return Optional.empty();
+      }
+      Comparator<Product> orderComparator = Comparator.comparing(sortKey.get(),
+          Comparator.nullsFirst(Comparator.naturalOrder()));
+      comparator = comparator.thenComparing(order.isDescending() ? orderComparator.reversed() : orderComparator);
+    }
+    return Optional.of(comparator);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Optional<Function<Product, Comparable<Object>>> getSortKey(String property,
+      CatalogSnapshot catalogSnapshot, Map<String, Integer> installationCounts) {
+    Function<Product, ? extends Comparable<?>> sortKey = null;
+    if (MongoDBConstants.ID.equals(property)) {
+      sortKey = Product::getId;
+    } else if (SortOption.RECENT.getCode().equals(property)) {
+      sortKey = Product::getFirstPublishedDate;
+    } else if (SortOption.POPULARITY.getCode().equals(property)) {
+      sortKey = product -> Optional.ofNullable(installationCounts.get(product.getId())).orElseGet(
+          () -> Optional.ofNullable(catalogSnapshot.marketplaceData().get(product.getId()))
+              .map(ProductMarketplaceData::getInstallationCount).orElse(null));
+    } else if (MongoDBConstants.MARKETPLACE_DATA_CUSTOM_ORDER.equals(property)) {
+      sortKey = product -> Optional.ofNullable(catalogSnapshot.marketplaceData().get(product.getId()))
+          .map(ProductMarketplaceData::getCustomOrder).orElse(null);
+    } else {
+      for (Language language : Language.values()) {
+        if (LOCALIZE_SEARCH_PATTERN.formatted(SortOption.ALPHABETICALLY.getCode(), language.getValue())
+            .equals(property)) {
+          sortKey = product -> getLocalizedValue(product.getNames(), language);
+        }
+      }
+    }
+    return Optional.ofNullable((Function<Product, Comparable<Object>>) sortKey);
+  }
+
+  private record CatalogSnapshot(List<Product> products, Map<String, ProductMarketplaceData> marketplaceData,
+      ProductSearchIndex searchIndex) {
+  }
+}
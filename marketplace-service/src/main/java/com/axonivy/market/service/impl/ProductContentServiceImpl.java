@@ -4,7 +4,6 @@ import com.axonivy.market.bo.Artifact;
 import com.axonivy.market.constants.CommonConstants;
 import com.axonivy.market.constants.ProductJsonConstants;
 import com.axonivy.market.constants.ReadmeConstants;
-import com.axonivy.market.entity.Image;
 import com.axonivy.market.entity.ProductModuleContent;
 import com.axonivy.market.model.ReadmeContentsModel;
 import com.axonivy.market.service.FileDownloadService;
@@ -26,7 +25,6 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Stream;
 
 @Log4j2
@@ -71,6 +69,7 @@ public class ProductContentServiceImpl implements ProductContentService {
   private void extractReadMeFileFromContents(String productId, String unzippedFolderPath,
       ProductModuleContent productModuleContent) {
     Map<String, Map<String, String>> moduleContents = new HashMap<>();
+    Map<String, String> imageUrls = null;
     try (Stream<Path> readmePathStream = Files.walk(Paths.get(unzippedFolderPath))){
       List<Path> readmeFiles  = readmePathStream.filter(Files::isRegularFile)
           .filter(path -> path.getFileName().toString().startsWith(ReadmeConstants.README_FILE_NAME))
@@ -79,7 +78,11 @@ public class ProductContentServiceImpl implements ProductContentService {
       for (Path readmeFile : readmeFiles) {
         String readmeContents = Files.readString(readmeFile);
         if (ProductContentUtils.hasImageDirectives(readmeContents)) {
-          readmeContents = updateImagesWithDownloadUrl(productId, unzippedFolderPath, readmeContents);
+          // The images are shared by all README files of the version, so they are stored once
+          if (imageUrls == null) {
+            imageUrls = getImageUrls(productId, unzippedFolderPath);
+          }
+          readmeContents = ProductContentUtils.replaceImageDirWithImageCustomId(imageUrls, readmeContents);
         }
 
         ReadmeContentsModel readmeContentsModel = ProductContentUtils.getExtractedPartsOfReadme(readmeContents);
@@ -95,24 +98,24 @@ public class ProductContentServiceImpl implements ProductContentService {
 
   public String updateImagesWithDownloadUrl(String productId, String unzippedFolderPath,
       String readmeContents) {
+    return ProductContentUtils.replaceImageDirWithImageCustomId(getImageUrls(productId, unzippedFolderPath),
+        readmeContents);
+  }
+
+  private Map<String, String> getImageUrls(String productId, String unzippedFolderPath) {
     Map<String, String> imageUrls = new HashMap<>();
     try (Stream<Path> imagePathStream = Files.walk(Paths.get(unzippedFolderPath))) {
       List<Path> allImagePaths = imagePathStream.filter(Files::isRegularFile).filter(
           path -> path.getFileName().toString().toLowerCase().matches(CommonConstants.IMAGE_EXTENSION)).toList();
 
-      for (Path imagePath : allImagePaths) {
-        Image currentImage = imageService.mappingImageFromDownloadedFolder(productId, imagePath);
-        Optional.ofNullable(currentImage).ifPresent(image -> {
-          String imageFileName = imagePath.getFileName().toString();
-          String imageIdFormat = CommonConstants.IMAGE_ID_PREFIX.concat(image.getId());
-          imageUrls.put(imageFileName, imageIdFormat);
-        });
-      }
-
-      return ProductContentUtils.replaceImageDirWithImageCustomId(imageUrls, readmeContents);
+      imageService.mappingImagesFromDownloadedFolder(productId, allImagePaths).forEach((imagePath, image) -> {
+        String imageFileName = imagePath.getFileName().toString();
+        String imageIdFormat = CommonConstants.IMAGE_ID_PREFIX.concat(image.getId());
+        imageUrls.put(imageFileName, imageIdFormat);
+      });
     } catch (Exception e) {
       log.error(e.getMessage());
     }
-    return readmeContents;
+    return imageUrls;
   }
 }
@@ -1,38 +1,85 @@
 package com.axonivy.market.service.impl;
 
-import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.comparator.LatestVersionComparator;
 import com.axonivy.market.entity.ProductDesignerInstallation;
+import com.axonivy.market.entity.ProductInstallationRollup;
+import com.axonivy.market.enums.InstallationPeriod;
 import com.axonivy.market.model.DesignerInstallation;
+import com.axonivy.market.model.InstallationTrend;
 import com.axonivy.market.repository.ProductDesignerInstallationRepository;
+import com.axonivy.market.repository.ProductInstallationRollupRepository;
 import com.axonivy.market.service.ProductDesignerInstallationService;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Log4j2
 @Service
 public class ProductDesignerInstallationServiceImpl implements ProductDesignerInstallationService {
+  private static final int MAX_BUCKET_COUNT = 366;
+  private static final Comparator<String> LATEST_VERSION_COMPARATOR = new LatestVersionComparator();
   private final ProductDesignerInstallationRepository productDesignerInstallationRepository;
+  private final ProductInstallationRollupRepository productInstallationRollupRepository;
 
   public ProductDesignerInstallationServiceImpl(
-      ProductDesignerInstallationRepository productDesignerInstallationRepository) {
+      ProductDesignerInstallationRepository productDesignerInstallationRepository,
+      ProductInstallationRollupRepository productInstallationRollupRepository) {
     this.productDesignerInstallationRepository = productDesignerInstallationRepository;
+    this.productInstallationRollupRepository = productInstallationRollupRepository;
   }
 
+  /**
+   * The installations by designer version, the latest version first. Versions are compared by their parsed segments,
+   * as sorting them as text puts 9.4 before 10.0.
+   */
   @Override
   public List<DesignerInstallation> findByProductId(String productId) {
     List<DesignerInstallation> designerInstallations = new ArrayList<>();
     List<ProductDesignerInstallation> productDesignerInstallations =
-        productDesignerInstallationRepository.findByProductId(productId,
-            Sort.by(Sort.Direction.DESC, MongoDBConstants.DESIGNER_VERSION));
+        productDesignerInstallationRepository.findByProductId(productId, Sort.unsorted());
     for (ProductDesignerInstallation productDesignerInstallation : productDesignerInstallations) {
       DesignerInstallation designerInstallation = new DesignerInstallation(
           productDesignerInstallation.getDesignerVersion(), productDesignerInstallation.getInstallationCount());
       designerInstallations.add(designerInstallation);
     }
+    designerInstallations.sort(Comparator.comparing(DesignerInstallation::getDesignerVersion,
+        LATEST_VERSION_COMPARATOR));
     return designerInstallations;
   }
+
+  /**
+   * The installations of the latest days or months, the oldest first. Each bucket is one pre-aggregated rollup read
+   * by its id, buckets without installations are returned empty.
+   */
+  @Override
+  public List<InstallationTrend> findInstallationTrends(String productId, String period, int bucketCount) {
+    InstallationPeriod installationPeriod = InstallationPeriod.of(period);
+    List<String> buckets = installationPeriod.getLatestBuckets(LocalDate.now(ZoneOffset.UTC),
+        Math.max(1, Math.min(bucketCount, MAX_BUCKET_COUNT)));
+    Map<String, ProductInstallationRollup> rollups = productInstallationRollupRepository.findAllById(
+            buckets.stream().map(bucket -> ProductInstallationRollup.createId(productId, installationPeriod, bucket))
+                .toList())
+        .stream().collect(Collectors.toMap(ProductInstallationRollup::getBucket, Function.identity()));
+    return buckets.stream().map(bucket -> toInstallationTrend(bucket, rollups.get(bucket))).toList();
+  }
+
+  private static InstallationTrend toInstallationTrend(String bucket, ProductInstallationRollup rollup) {
+    if (rollup == null) {
+      return new InstallationTrend(bucket, 0, List.of());
+    }
+    List<DesignerInstallation> designerInstallations = rollup.getInstallationCountByMajorVersion().entrySet()
+        .stream().sorted(Entry.comparingByKey(LATEST_VERSION_COMPARATOR))
+        .map(entry -> new DesignerInstallation(entry.getKey(), entry.getValue().intValue())).toList();
+    return new InstallationTrend(bucket, rollup.getInstallationCount(), designerInstallations);
+  }
 }
@@ -10,12 +10,12 @@ import com.axonivy.market.model.ProductCustomSortRequest;
 import com.axonivy.market.repository.ProductCustomSortRepository;
 import com.axonivy.market.repository.ProductMarketplaceDataRepository;
 import com.axonivy.market.repository.ProductRepository;
+import com.axonivy.market.service.InstallationCounterService;
+import com.axonivy.market.service.ProductCatalogService;
 import com.axonivy.market.service.ProductMarketplaceDataService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -38,17 +38,23 @@ public class ProductMarketplaceDataServiceImpl implements ProductMarketplaceData
   private final ProductCustomSortRepository productCustomSortRepo;
   private final MongoTemplate mongoTemplate;
   private final ProductRepository productRepo;
+  private final ProductCatalogService productCatalogService;
+  private final InstallationCounterService installationCounterService;
   private final ObjectMapper mapper = new ObjectMapper();
   private final SecureRandom random = new SecureRandom();
   @Value("${market.legacy.installation.counts.path}")
   private String legacyInstallationCountPath;
+  private Map<String, Integer> legacyInstallationCounts;
 
   public ProductMarketplaceDataServiceImpl(ProductMarketplaceDataRepository productMarketplaceDataRepo,
-      ProductCustomSortRepository productCustomSortRepo, MongoTemplate mongoTemplate, ProductRepository productRepo) {
+      ProductCustomSortRepository productCustomSortRepo, MongoTemplate mongoTemplate, ProductRepository productRepo,
+      ProductCatalogService productCatalogService, InstallationCounterService installationCounterService) {
     this.productMarketplaceDataRepo = productMarketplaceDataRepo;
     this.productCustomSortRepo = productCustomSortRepo;
     this.mongoTemplate = mongoTemplate;
     this.productRepo = productRepo;
+    this.productCatalogService = productCatalogService;
+    this.installationCounterService = installationCounterService;
   }
 
   @Override
@@ -60,6 +66,7 @@ public class ProductMarketplaceDataServiceImpl implements ProductMarketplaceData
     removeFieldFromAllProductDocuments(ProductJsonConstants.CUSTOM_ORDER);
     productCustomSortRepo.save(productCustomSort);
     productMarketplaceDataRepo.saveAll(refineOrderedListOfProductsInCustomSort(customSort.getOrderedListOfProducts()));
+    productCatalogService.rebuild();
   }
 
   public List<ProductMarketplaceData> refineOrderedListOfProductsInCustomSort(List<String> orderedListOfProducts) {
@@ -81,49 +88,69 @@ public class ProductMarketplaceDataServiceImpl implements ProductMarketplaceData
     mongoTemplate.updateMulti(new Query(), update, ProductMarketplaceData.class);
   }
 
+  /**
+   * Counts the installation in memory, the product and its persisted count are only read on its first installation.
+   */
   @Override
   public int updateInstallationCountForProduct(String productId, String designerVersion) {
-    validateProductExists(productId);
-    ProductMarketplaceData productMarketplaceData = getProductMarketplaceData(productId);
-
     log.info("Increase installation count for product {} By Designer Version {}", productId, designerVersion);
-    if (StringUtils.isNotBlank(designerVersion)) {
-      productMarketplaceDataRepo.increaseInstallationCountForProductByDesignerVersion(productId, designerVersion);
-    }
+    return installationCounterService.increase(productId, designerVersion, () -> {
+      validateProductExists(productId);
+      return getProductMarketplaceData(productId).getInstallationCount();
+    });
+  }
 
-    log.info("updating installation count for product {}", productId);
-    if (BooleanUtils.isTrue(productMarketplaceData.getSynchronizedInstallationCount())) {
-      return productMarketplaceDataRepo.increaseInstallationCount(productId);
+  public int getInstallationCountFromFileOrInitializeRandomly(String productId) {
+    Map<String, Integer> mapping = getLegacyInstallationCounts();
+    if (mapping == null) {
+      return 0;
     }
-    int installationCount = getInstallationCountFromFileOrInitializeRandomly(productId);
-    return productMarketplaceDataRepo.updateInitialCount(productId, installationCount + 1);
+    return mapping.containsKey(productId) ? mapping.get(productId) : random.nextInt(20, 50);
   }
 
-  public int getInstallationCountFromFileOrInitializeRandomly(String productId) {
-    log.info("synchronizing installation count for product {}", productId);
-    int result = 0;
-    try {
-      String installationCounts = Files.readString(Paths.get(legacyInstallationCountPath));
-      Map<String, Integer> mapping = mapper.readValue(installationCounts,
-          new TypeReference<HashMap<String, Integer>>() {
-          });
-      List<String> keyList = mapping.keySet().stream().toList();
-      result = keyList.contains(productId) ? mapping.get(productId) : random.nextInt(20, 50);
-      log.info("synchronized installation count for product {} successfully", productId);
-    } catch (IOException ex) {
-      log.error("Could not read the marketplace-installation file to synchronize", ex);
+  /**
+   * The legacy file is parsed on the first migration only, later runs seed the products added by the sync meanwhile.
+   */
+  private synchronized Map<String, Integer> getLegacyInstallationCounts() {
+    if (legacyInstallationCounts == null) {
+      try {
+        String installationCounts = Files.readString(Paths.get(legacyInstallationCountPath));
+        legacyInstallationCounts = mapper.readValue(installationCounts, new TypeReference<HashMap<String, Integer>>() {
+        });
+      } catch (IOException ex) {
+        log.error("Could not read the marketplace-installation file to synchronize", ex);
+      }
     }
-    return result;
+    return legacyInstallationCounts;
   }
 
   @Override
   public int updateProductInstallationCount(String id) {
-    ProductMarketplaceData productMarketplaceData = getProductMarketplaceData(id);
-    if (BooleanUtils.isNotTrue(productMarketplaceData.getSynchronizedInstallationCount())) {
-      return productMarketplaceDataRepo.updateInitialCount(id,
-          getInstallationCountFromFileOrInitializeRandomly(id));
+    return installationCounterService.getInstallationCount(id,
+        () -> getProductMarketplaceData(id).getInstallationCount());
+  }
+
+  /**
+   * Seeds the products which have no synchronized installation count yet from the legacy file, or randomly if they
+   * are not listed, in one bulk write. Reading a count never has to synchronize it afterwards. Only the products this
+   * run actually seeded are added to the counts in memory, another run or instance may have seeded the others.
+   */
+  @Override
+  public int migrateLegacyInstallationCounts() {
+    List<String> productIds = productMarketplaceDataRepo.findIdsWithoutSynchronizedInstallationCount();
+    if (productIds.isEmpty()) {
+      return 0;
     }
-    return productMarketplaceData.getInstallationCount();
+    Map<String, Integer> initialCounts = new HashMap<>();
+    productIds.forEach(productId ->
+        initialCounts.put(productId, getInstallationCountFromFileOrInitializeRandomly(productId)));
+    long loadStamp = installationCounterService.getLoadStamp();
+    List<String> migratedIds = productMarketplaceDataRepo.updateInitialCounts(initialCounts);
+    Map<String, Integer> migratedCounts = new HashMap<>();
+    migratedIds.forEach(productId -> migratedCounts.put(productId, initialCounts.get(productId)));
+    installationCounterService.addPersistedCounts(migratedCounts, loadStamp);
+    log.info("Migrated the legacy installation counts of {} products", migratedIds.size());
+    return migratedIds.size();
   }
 
   @Override
@@ -1,6 +1,10 @@
 package com.axonivy.market.service.impl;
 
+import com.axonivy.market.assembler.ProductModelAssembler;
 import com.axonivy.market.bo.Artifact;
+import com.axonivy.market.bo.MavenMetadata;
+import com.axonivy.market.bo.SyncStatistics;
+import com.axonivy.market.bo.VersionClassifier;
 import com.axonivy.market.constants.GitHubConstants;
 import com.axonivy.market.constants.MavenConstants;
 import com.axonivy.market.constants.MetaConstants;
@@ -8,6 +12,7 @@ import com.axonivy.market.constants.MongoDBConstants;
 import com.axonivy.market.criteria.ProductSearchCriteria;
 import com.axonivy.market.entity.GitHubRepoMeta;
 import com.axonivy.market.entity.Image;
+import com.axonivy.market.entity.MetadataRevision;
 import com.axonivy.market.entity.Product;
 import com.axonivy.market.entity.ProductCustomSort;
 import com.axonivy.market.entity.ProductJsonContent;
@@ -15,6 +20,7 @@ import com.axonivy.market.entity.ProductModuleContent;
 import com.axonivy.market.enums.FileType;
 import com.axonivy.market.enums.Language;
 import com.axonivy.market.enums.SortOption;
+import com.axonivy.market.enums.SyncStage;
 import com.axonivy.market.enums.TypeOption;
 import com.axonivy.market.factory.ProductFactory;
 import com.axonivy.market.github.model.GitHubFile;
@@ -22,15 +28,17 @@ import com.axonivy.market.github.service.GHAxonIvyMarketRepoService;
 import com.axonivy.market.github.service.GHAxonIvyProductRepoService;
 import com.axonivy.market.github.service.GitHubService;
 import com.axonivy.market.github.util.GitHubUtils;
-import com.axonivy.market.model.VersionAndUrlModel;
 import com.axonivy.market.repository.*;
+import com.axonivy.market.schedulingtask.SyncTaskExecutor;
 import com.axonivy.market.service.ExternalDocumentService;
 import com.axonivy.market.service.ImageService;
+import com.axonivy.market.service.MetadataRevisionService;
 import com.axonivy.market.service.MetadataService;
+import com.axonivy.market.service.ProductCatalogService;
 import com.axonivy.market.service.ProductContentService;
 import com.axonivy.market.service.ProductMarketplaceDataService;
 import com.axonivy.market.service.ProductService;
-import com.axonivy.market.service.VersionService;
+import com.axonivy.market.service.ProductVersionIndexService;
 import com.axonivy.market.util.MavenUtils;
 import com.axonivy.market.util.MetadataReaderUtils;
 import com.axonivy.market.util.VersionUtils;
@@ -43,7 +51,9 @@ import org.kohsuke.github.GHCommit;
 import org.kohsuke.github.GHContent;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GHTag;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -51,8 +61,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
-import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
 
 import java.io.IOException;
 import java.net.URL;
@@ -60,11 +68,15 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static com.axonivy.market.constants.CommonConstants.DOT_SEPARATOR;
 import static com.axonivy.market.constants.CommonConstants.SLASH;
 import static com.axonivy.market.constants.CommonConstants.PLUS;
-import static com.axonivy.market.constants.CommonConstants.COMPATIBILITY_RANGE_FORMAT;
 import static com.axonivy.market.constants.MavenConstants.*;
 import static com.axonivy.market.constants.ProductJsonConstants.EN_LANGUAGE;
 import static com.axonivy.market.constants.ProductJsonConstants.LOGO_FILE;
@@ -98,7 +110,12 @@ public class ProductServiceImpl implements ProductService {
   private final ProductMarketplaceDataService productMarketplaceDataService;
   private final ProductMarketplaceDataRepository productMarketplaceDataRepo;
   private GHCommit lastGHCommit;
-  private final VersionService versionService;
+  private final ProductVersionIndexService productVersionIndexService;
+  private final SyncTaskExecutor syncTaskExecutor;
+  private final MetadataRevisionService metadataRevisionService;
+  private final ProductCatalogService productCatalogService;
+  private final TaskExecutor productDetailExecutor;
+  private final AtomicInteger runningSyncs = new AtomicInteger();
   private GitHubRepoMeta marketRepoMeta;
   @Value("${market.github.market.branch}")
   private String marketRepoBranch;
@@ -111,8 +128,14 @@ public class ProductServiceImpl implements ProductService {
       MetadataSyncRepository metadataSyncRepo, MetadataRepository metadataRepo, ImageService imageService,
       ProductContentService productContentService, MetadataService metadataService,
       ProductMarketplaceDataService productMarketplaceDataService, ExternalDocumentService externalDocumentService,
-      ProductMarketplaceDataRepository productMarketplaceDataRepo, VersionService versionService) {
+      ProductMarketplaceDataRepository productMarketplaceDataRepo, ProductVersionIndexService productVersionIndexService,
+      SyncTaskExecutor syncTaskExecutor, MetadataRevisionService metadataRevisionService,
+      ProductCatalogService productCatalogService,
+      @Qualifier("productDetailExecutor") TaskExecutor productDetailExecutor) {
     this.productRepo = productRepo;
+    this.productDetailExecutor = productDetailExecutor;
+    this.metadataRevisionService = metadataRevisionService;
+    this.productCatalogService = productCatalogService;
     this.productModuleContentRepo = productModuleContentRepo;
     this.axonIvyMarketRepoService = axonIvyMarketRepoService;
     this.axonIvyProductRepoService = axonIvyProductRepoService;
@@ -130,12 +153,13 @@ public class ProductServiceImpl implements ProductService {
     this.productMarketplaceDataService = productMarketplaceDataService;
     this.externalDocumentService = externalDocumentService;
     this.productMarketplaceDataRepo = productMarketplaceDataRepo;
-    this.versionService = versionService;
+    this.productVersionIndexService = productVersionIndexService;
+    this.syncTaskExecutor = syncTaskExecutor;
   }
 
   @Override
   public Page<Product> findProducts(String type, String keyword, String language, Boolean isRESTClient,
-      Pageable pageable) {
+      String afterProductId, Pageable pageable) {
     final var typeOption = TypeOption.of(type);
     final var searchPageable = refinePagination(language, pageable);
     var searchCriteria = new ProductSearchCriteria();
@@ -143,14 +167,35 @@ public class ProductServiceImpl implements ProductService {
     searchCriteria.setKeyword(keyword);
     searchCriteria.setType(typeOption);
     searchCriteria.setLanguage(Language.of(language));
+    searchCriteria.setAfterProductId(afterProductId);
     if (BooleanUtils.isTrue(isRESTClient)) {
       searchCriteria.setExcludeFields(List.of(SHORT_DESCRIPTIONS));
     }
-    return productRepo.searchByCriteria(searchCriteria, searchPageable);
+    return productCatalogService.searchByCriteria(searchCriteria, searchPageable)
+        .orElseGet(() -> productRepo.searchByCriteria(searchCriteria, searchPageable));
   }
 
   @Override
   public List<String> syncLatestDataFromMarketRepo(Boolean resetSync) {
+    return syncLatestDataFromMarketRepo(resetSync, new SyncStatistics());
+  }
+
+  @Override
+  public List<String> syncLatestDataFromMarketRepo(Boolean resetSync, SyncStatistics statistics) {
+    runningSyncs.incrementAndGet();
+    try {
+      return syncLatestData(resetSync, statistics);
+    } finally {
+      runningSyncs.decrementAndGet();
+    }
+  }
+
+  @Override
+  public boolean isSyncRunning() {
+    return runningSyncs.get() > 0;
+  }
+
+  private List<String> syncLatestData(Boolean resetSync, SyncStatistics statistics) {
     List<String> syncedProductIds = new ArrayList<>();
     var isAlreadyUpToDate = false;
     marketRepoMeta = gitHubRepoMetaRepo.findByRepoName(GitHubConstants.AXONIVY_MARKETPLACE_REPO_NAME);
@@ -163,14 +208,19 @@ public class ProductServiceImpl implements ProductService {
 
     if (!isAlreadyUpToDate) {
       if (marketRepoMeta == null) {
-        syncedProductIds = syncProductsFromGitHubRepo(resetSync);
+        syncedProductIds = syncProductsFromGitHubRepo(resetSync, statistics);
         marketRepoMeta = new GitHubRepoMeta();
       } else {
         syncedProductIds = updateLatestChangeToProductsFromGithubRepo();
       }
       syncRepoMetaDataStatus();
+      // Seeds the installation counts of the products added by this sync
+      productMarketplaceDataService.migrateLegacyInstallationCounts();
     }
     updateLatestReleaseVersionContentsFromProductRepo();
+    productCatalogService.rebuild();
+    imageService.warmUpImageCache(productRepo.findAllLogoIds().stream().map(Product::getLogoId).toList(),
+        ProductModelAssembler.LOGO_THUMBNAIL_WIDTH);
     return syncedProductIds.stream().filter(StringUtils::isNotBlank).toList();
   }
 
@@ -229,6 +279,8 @@ public class ProductServiceImpl implements ProductService {
         productId = productList.get(0).getId();
         productRepo.deleteById(productId);
         imageRepo.deleteAllByProductId(productId);
+        imageService.evictCachedImagesByProductId(productId);
+        productVersionIndexService.delete(productId);
       }
     } else {
       List<Image> images = imageRepo.findByImageUrlEndsWithIgnoreCase(file.getFileName());
@@ -237,6 +289,8 @@ public class ProductServiceImpl implements ProductService {
         productId = currentImage.getProductId();
         productRepo.deleteById(productId);
         imageRepo.deleteAllByProductId(productId);
+        imageService.evictCachedImagesByProductId(productId);
+        productVersionIndexService.delete(productId);
       }
     }
     return productId;
@@ -276,6 +330,7 @@ public class ProductServiceImpl implements ProductService {
       Optional.ofNullable(imageService.mappingImageFromGHContent(result.getId(), fileContent)).ifPresent(image -> {
         if (StringUtils.isNotBlank(result.getLogoId())) {
           imageRepo.deleteById(result.getLogoId());
+          imageService.evictCachedImage(result.getLogoId());
         }
         result.setLogoId(image.getId());
         productRepo.save(result);
@@ -343,40 +398,68 @@ public class ProductServiceImpl implements ProductService {
     }
 
     for (Product product : products) {
-      updateProductFromReleasedVersions(product);
-      productRepo.save(product);
+      if (updateProductFromReleasedVersions(product, true)) {
+        productRepo.save(product);
+      }
     }
   }
 
-  private List<String> syncProductsFromGitHubRepo(Boolean resetSync) {
+  private List<String> syncProductsFromGitHubRepo(Boolean resetSync, SyncStatistics statistics) {
     log.warn("**ProductService: synchronize products from scratch based on the Market repo");
-    List<String> syncedProductIds = new ArrayList<>();
     var gitHubContentMap = axonIvyMarketRepoService.fetchAllMarketItems();
-    for (Map.Entry<String, List<GHContent>> ghContentEntity : gitHubContentMap.entrySet()) {
-      var product = new Product();
-      //update the meta.json first
-      ghContentEntity.getValue().sort((f1, f2) -> GitHubUtils.sortMetaJsonFirst(f1.getName(), f2.getName()));
-
-      for (var content : ghContentEntity.getValue()) {
-        ProductFactory.mappingByGHContent(product, content);
-        mappingVendorImageFromGHContent(product, content);
-        mappingLogoFromGHContent(product, content);
-      }
+    List<Callable<String>> syncTasks = gitHubContentMap.entrySet().stream()
+        .map(ghContentEntity -> (Callable<String>) () -> syncProductFromGHContents(ghContentEntity.getKey(),
+            ghContentEntity.getValue(), resetSync, statistics))
+        .toList();
+    return syncTaskExecutor.invokeAll(syncTasks);
+  }
+
+  /**
+   * Runs as one task of the parallel sync. Any failure is isolated to this product: it is logged, reported in the
+   * statistics and the product is left out of the synced ids.
+   */
+  private String syncProductFromGHContents(String marketItemPath, List<GHContent> ghContents, Boolean resetSync,
+      SyncStatistics statistics) {
+    var product = new Product();
+    try {
+      syncTaskExecutor.runStage(SyncStage.GITHUB_CONTENT, statistics, () -> {
+        //update the meta.json first
+        ghContents.sort((f1, f2) -> GitHubUtils.sortMetaJsonFirst(f1.getName(), f2.getName()));
+        for (var content : ghContents) {
+          ProductFactory.mappingByGHContent(product, content);
+          mappingVendorImageFromGHContent(product, content);
+          mappingLogoFromGHContent(product, content);
+        }
+      });
 
       if (BooleanUtils.isTrue(resetSync)) {
-        productModuleContentRepo.deleteAllByProductId(product.getId());
-        productJsonContentRepo.deleteAllByProductId(product.getId());
+        syncTaskExecutor.runStage(SyncStage.PERSISTENCE, statistics, () -> {
+          productModuleContentRepo.deleteAllByProductId(product.getId());
+          productJsonContentRepo.deleteAllByProductId(product.getId());
+        });
       } else if (productRepo.findById(product.getId()).isPresent()) {
-        continue;
+        return EMPTY;
       }
-      updateProductContentForNonStandardProduct(ghContentEntity.getValue(), product);
-      updateFirstPublishedDate(product);
-      updateProductFromReleasedVersions(product);
-      transferComputedDataFromDB(product);
-      productMarketplaceDataRepo.checkAndInitProductMarketplaceDataIfNotExist(product.getId());
-      syncedProductIds.add(productRepo.save(product).getId());
+
+      syncTaskExecutor.runStage(SyncStage.GITHUB_CONTENT, statistics, () -> {
+        updateProductContentForNonStandardProduct(ghContents, product);
+        updateFirstPublishedDate(product);
+      });
+      syncTaskExecutor.runStage(SyncStage.MAVEN_RELEASES, statistics,
+          () -> updateProductFromReleasedVersions(product, false));
+      return syncTaskExecutor.callStage(SyncStage.PERSISTENCE, statistics, () -> {
+        transferComputedDataFromDB(product);
+        productMarketplaceDataRepo.checkAndInitProductMarketplaceDataIfNotExist(product.getId());
+        return productRepo.save(product).getId();
+      });
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      statistics.addFailedProduct(StringUtils.defaultIfBlank(product.getId(), marketItemPath));
+    } catch (Exception e) {
+      log.error("**ProductService: synchronize product {} failed: ", product.getId(), e);
+      statistics.addFailedProduct(StringUtils.defaultIfBlank(product.getId(), marketItemPath));
     }
-    return syncedProductIds;
+    return EMPTY;
   }
 
   private void mappingLogoFromGHContent(Product product, GHContent ghContent) {
@@ -458,9 +541,15 @@ public class ProductServiceImpl implements ProductService {
     return commitDate;
   }
 
-  private void updateProductFromReleasedVersions(Product product) {
+  /**
+   * Refreshes the released versions of the product from its maven metadata. With isSkipUnchangedMetadata, the metadata
+   * is fetched conditionally and the product is left untouched when none of its metadata changed since the last sync.
+   *
+   * @return whether the product was updated
+   */
+  private boolean updateProductFromReleasedVersions(Product product, boolean isSkipUnchangedMetadata) {
     if (ObjectUtils.isEmpty(product.getArtifacts())) {
-      return;
+      return false;
     }
 
     List<Artifact> productArtifacts = product.getArtifacts().stream()
@@ -481,51 +570,56 @@ public class ProductServiceImpl implements ProductService {
     mavenArtifacts.addAll(archivedArtifacts);
 
     List<String> nonSyncReleasedVersions = new ArrayList<>();
+    List<MetadataRevision> changedRevisions = new ArrayList<>();
     for (Artifact mavenArtifact : mavenArtifacts) {
-      getMetadataContent(mavenArtifact, product, nonSyncReleasedVersions);
+      MetadataRevision revision = getMetadataContent(mavenArtifact, product, nonSyncReleasedVersions,
+          isSkipUnchangedMetadata);
+      if (revision.isChanged()) {
+        changedRevisions.add(revision);
+      }
+    }
+    if (isSkipUnchangedMetadata && changedRevisions.isEmpty()) {
+      log.info("**ProductService: metadata of product {} is unchanged, skip updating it", product.getId());
+      return false;
     }
     metadataService.updateArtifactAndMetadata(product.getId(), nonSyncReleasedVersions, product.getArtifacts());
     externalDocumentService.syncDocumentForProduct(product.getId(), nonSyncReleasedVersions, false);
+    metadataRevisionService.saveRevisions(changedRevisions);
+    return true;
   }
 
-  private void getMetadataContent(Artifact artifact, Product product, List<String> nonSyncReleasedVersions) {
+  private MetadataRevision getMetadataContent(Artifact artifact, Product product,
+      List<String> nonSyncReleasedVersions, boolean isConditional) {
     String metadataUrl = MavenUtils.buildMetadataUrlFromArtifactInfo(artifact.getRepoUrl(), artifact.getGroupId(),
         createProductArtifactId(artifact));
-    String metadataContent = MavenUtils.getMetadataContentFromUrl(metadataUrl);
-    if (StringUtils.isNotBlank(metadataContent)) {
-      updateContentsFromMavenXML(product, metadataContent, artifact, nonSyncReleasedVersions);
+    MetadataRevision revision = metadataRevisionService.fetchMetadata(product.getId(), metadataUrl, isConditional);
+    if (revision.isChanged()) {
+      updateContentsFromMavenXML(product, revision.getContent(), artifact, nonSyncReleasedVersions);
     }
+    return revision;
   }
 
   private void updateContentsFromMavenXML(Product product, String metadataContent, Artifact mavenArtifact,
       List<String> nonSyncReleasedVersions) {
-    Document document = MetadataReaderUtils.getDocumentFromXMLContent(metadataContent);
-
-    NodeList versionNodes = document.getElementsByTagName(MavenConstants.VERSION_TAG);
-    List<String> mavenVersions = new ArrayList<>();
-    for (int i = 0; i < versionNodes.getLength(); i++) {
-      mavenVersions.add(versionNodes.item(i).getTextContent());
-    }
+    MavenMetadata mavenMetadata = MetadataReaderUtils.readMavenMetadata(metadataContent);
+    List<String> mavenVersions = mavenMetadata.versions();
 
     // Check if having new released version or unreleased dev version in Maven
     List<String> currentVersions = ObjectUtils.isNotEmpty(product.getReleasedVersions()) ?
         product.getReleasedVersions() :
         productModuleContentRepo.findVersionsByProductId(product.getId());
-    List<String> versionChanges =
-        mavenVersions.stream().filter(
-            version -> !currentVersions.contains(version) || (!VersionUtils.isReleasedVersion(
-                version) && VersionUtils.isOfficialVersionOrUnReleasedDevVersion(
-                mavenVersions, version))).toList();
+    VersionClassifier classifier = VersionClassifier.of(mavenVersions);
+    List<String> versionChanges = mavenVersions.stream().filter(
+        version -> !currentVersions.contains(version) || classifier.isUnreleasedDevVersion(version)).toList();
 
     if (ObjectUtils.isEmpty(versionChanges)) {
       return;
     }
 
-    Date lastUpdated = getLastUpdatedDate(document);
+    Date lastUpdated = getLastUpdatedDate(mavenMetadata);
     if (ObjectUtils.isEmpty(product.getNewestPublishedDate()) || lastUpdated.after(product.getNewestPublishedDate())) {
-      String latestVersion = MetadataReaderUtils.getElementValue(document, MavenConstants.LATEST_VERSION_TAG);
       product.setNewestPublishedDate(lastUpdated);
-      product.setNewestReleaseVersion(latestVersion);
+      product.setNewestReleaseVersion(mavenMetadata.latest());
     }
     updateProductCompatibility(product, versionChanges);
 
@@ -546,11 +640,10 @@ public class ProductServiceImpl implements ProductService {
     }
   }
 
-  private Date getLastUpdatedDate(Document document) {
+  private Date getLastUpdatedDate(MavenMetadata mavenMetadata) {
     DateTimeFormatter lastUpdatedFormatter = DateTimeFormatter.ofPattern(MavenConstants.DATE_TIME_FORMAT);
     LocalDateTime newestPublishedDate =
-        LocalDateTime.parse(Objects.requireNonNull(MetadataReaderUtils.getElementValue(document,
-            MavenConstants.LAST_UPDATED_TAG)), lastUpdatedFormatter);
+        LocalDateTime.parse(Objects.requireNonNull(mavenMetadata.lastUpdated()), lastUpdatedFormatter);
     return Date.from(newestPublishedDate.atZone(ZoneOffset.UTC).toInstant());
   }
 
@@ -610,8 +703,7 @@ public class ProductServiceImpl implements ProductService {
       int installationCount = productMarketplaceDataService.updateProductInstallationCount(id);
       productItem.setInstallationCount(installationCount);
 
-      String compatibilityRange = getCompatibilityRange(id);
-      productItem.setCompatibilityRange(compatibilityRange);
+      productItem.setCompatibilityRange(productVersionIndexService.getIndex(id).getCompatibilityRange());
 
       return productItem;
     }).orElse(null);
@@ -619,9 +711,8 @@ public class ProductServiceImpl implements ProductService {
 
   @Override
   public Product fetchBestMatchProductDetail(String id, String version) {
-    List<String> installableVersions = VersionUtils.getInstallableVersionsFromMetadataList(
-        metadataRepo.findByProductId(id));
-    String bestMatchVersion = VersionUtils.getBestMatchVersion(installableVersions, version);
+    String bestMatchVersion = productVersionIndexService.getIndex(id).getInstallableVersionResolver()
+        .getBestMatchVersion(version);
     // Cover exception case of employee onboarding without any product.json file
     Product product = StringUtils.isBlank(bestMatchVersion) ? getProductByIdWithNewestReleaseVersion(id,
         false) : productRepo.getProductByIdAndVersion(id, bestMatchVersion);
@@ -629,39 +720,62 @@ public class ProductServiceImpl implements ProductService {
       int installationCount = productMarketplaceDataService.updateProductInstallationCount(id);
       productItem.setInstallationCount(installationCount);
 
-      String compatibilityRange = getCompatibilityRange(id);
-      productItem.setCompatibilityRange(compatibilityRange);
+      productItem.setCompatibilityRange(productVersionIndexService.getIndex(id).getCompatibilityRange());
 
       productItem.setBestMatchVersion(bestMatchVersion);
       return productItem;
     }).orElse(null);
   }
 
+  /**
+   * Reads the product together with its version index first, then the module and product.json contents of the
+   * newest version. The reads of each step run side by side, so a detail request waits for two round-trips instead
+   * of one per read.
+   */
   public Product getProductByIdWithNewestReleaseVersion(String id, Boolean isShowDevVersion) {
-    List<String> versions;
-    String version = StringUtils.EMPTY;
-
-    var mavenArtifactVersion = mavenArtifactVersionRepo.findById(id);
-    if (mavenArtifactVersion.isPresent()) {
-      versions = MavenUtils.getAllExistingVersions(mavenArtifactVersion.get(), BooleanUtils.isTrue(isShowDevVersion),
-          StringUtils.EMPTY);
-      version = CollectionUtils.firstElement(versions);
+    CompletableFuture<List<String>> versionsFuture = fetchAsync(
+        () -> productVersionIndexService.getVersionsToDisplay(id, isShowDevVersion, StringUtils.EMPTY));
+    CompletableFuture<Product> productFuture = fetchAsync(() -> productRepo.findProductById(id));
+    List<String> versions = joinFetch(versionsFuture);
+    Product product = joinFetch(productFuture);
+    if (product == null) {
+      return null;
     }
 
+    String version = CollectionUtils.firstElement(versions);
     // Cover exception case of employee onboarding without any product.json file
     if (StringUtils.isBlank(version)) {
-      versions = VersionUtils.getVersionsToDisplay(productRepo.getReleasedVersionsById(id), isShowDevVersion,
+      versions = VersionUtils.getVersionsToDisplay(product.getReleasedVersions(), isShowDevVersion,
           StringUtils.EMPTY);
       version = CollectionUtils.firstElement(versions);
     }
 
-    Product product = productRepo.getProductByIdAndVersion(id, version);
-    productJsonContentRepo.findByProductIdAndVersion(id, version).stream().map(
-        ProductJsonContent::getContent).findFirst().ifPresent(
+    String newestVersion = version;
+    CompletableFuture<ProductModuleContent> contentFuture = fetchAsync(
+        () -> productModuleContentRepo.findByVersionAndProductId(newestVersion, id));
+    CompletableFuture<List<ProductJsonContent>> jsonContentsFuture = fetchAsync(
+        () -> productJsonContentRepo.findByProductIdAndVersion(id, newestVersion));
+    product.setProductModuleContent(joinFetch(contentFuture));
+    joinFetch(jsonContentsFuture).stream().map(ProductJsonContent::getContent).findFirst().ifPresent(
         jsonContent -> product.setMavenDropins(MavenUtils.isJsonContentContainOnlyMavenDropins(jsonContent)));
     return product;
   }
 
+  private <T> CompletableFuture<T> fetchAsync(Supplier<T> reader) {
+    return CompletableFuture.supplyAsync(reader, productDetailExecutor);
+  }
+
+  private static <T> T joinFetch(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
   @Override
   public Product fetchProductDetailByIdAndVersion(String id, String version) {
     return productRepo.getProductByIdAndVersion(id, version);
@@ -675,6 +789,7 @@ public class ProductServiceImpl implements ProductService {
 
   @Override
   public boolean syncOneProduct(String productId, String marketItemPath, Boolean overrideMarketItemPath) {
+    runningSyncs.incrementAndGet();
     try {
       log.info("Sync product {} is starting ...", productId);
       log.info("Clean up product {}", productId);
@@ -686,14 +801,17 @@ public class ProductServiceImpl implements ProductService {
         mappingMetaDataAndLogoFromGHContent(gitHubContents, product);
         updateProductContentForNonStandardProduct(gitHubContents, product);
         updateFirstPublishedDate(product);
-        updateProductFromReleasedVersions(product);
+        updateProductFromReleasedVersions(product, false);
         productMarketplaceDataRepo.checkAndInitProductMarketplaceDataIfNotExist(productId);
         productRepo.save(product);
+        productCatalogService.rebuild();
         log.info("Sync product {} is finished!", productId);
         return true;
       }
     } catch (Exception e) {
       log.error(e.getStackTrace());
+    } finally {
+      runningSyncs.decrementAndGet();
     }
     return false;
   }
@@ -703,9 +821,12 @@ public class ProductServiceImpl implements ProductService {
     productRepo.findById(productId).ifPresent(foundProduct -> {
           ProductFactory.transferComputedPersistedDataToProduct(foundProduct, product);
           imageRepo.deleteAllByProductId(foundProduct.getId());
+          imageService.evictCachedImagesByProductId(foundProduct.getId());
           metadataRepo.deleteAllByProductId(foundProduct.getId());
           metadataSyncRepo.deleteAllByProductId(foundProduct.getId());
+          metadataRevisionService.deleteRevisionsByProductId(foundProduct.getId());
           mavenArtifactVersionRepo.deleteAllById(List.of(foundProduct.getId()));
+          productVersionIndexService.delete(foundProduct.getId());
           productModuleContentRepo.deleteAllByProductId(foundProduct.getId());
           productJsonContentRepo.deleteAllByProductId(foundProduct.getId());
           productRepo.delete(foundProduct);
@@ -748,18 +869,23 @@ public class ProductServiceImpl implements ProductService {
   public boolean syncFirstPublishedDateOfAllProducts() {
     try {
       List<Product> products = productRepo.findAll();
+      boolean isUpdated = false;
       if (!CollectionUtils.isEmpty(products)) {
         for (Product product : products) {
           if (product.getFirstPublishedDate() == null) {
             log.info("sync FirstPublishedDate of product {} is starting ...", product.getId());
             updateFirstPublishedDate(product);
             productRepo.save(product);
+            isUpdated = true;
             log.info("Sync FirstPublishedDate of product {} is finished!", product.getId());
           } else {
             log.info("FirstPublishedDate of product {} is existing!", product.getId());
           }
         }
       }
+      if (isUpdated) {
+        productCatalogService.rebuild();
+      }
       log.info("sync FirstPublishedDate of all products is finished!");
       return true;
     } catch (Exception e) {
@@ -768,30 +894,5 @@ public class ProductServiceImpl implements ProductService {
     }
   }
 
-  /**
-   * MARP-975: Retrieve the list containing all versions for the designer and
-   * split the versions to obtain the first prefix,then format them for compatibility range.
-   * ex: 11.0+ , 10.0 - 12.0+ , ...
-   */
-  private String getCompatibilityRange(String productId) {
-    return Optional.of(versionService.getVersionsForDesigner(productId))
-        .filter(ObjectUtils::isNotEmpty)
-        .map(versions -> versions.stream().map(VersionAndUrlModel::getVersion).toList())
-        .map(versions -> {
-          if (versions.size() == 1) {
-            return splitVersion(versions.get(0)).concat(PLUS);
-          }
-          String maxVersion = splitVersion(versions.get(0)).concat(PLUS);
-          String minVersion = splitVersion(versions.get(versions.size() - 1));
-          return VersionUtils.getPrefixOfVersion(minVersion).equals(VersionUtils.getPrefixOfVersion(maxVersion)) ?
-              minVersion.concat(PLUS) : String.format(COMPATIBILITY_RANGE_FORMAT, minVersion, maxVersion);
-        }).orElse(null);
-  }
-
-  private String splitVersion(String version) {
-    int firstDot = version.indexOf(DOT_SEPARATOR);
-    int secondDot = version.indexOf(DOT_SEPARATOR, firstDot + 1);
-    return version.substring(0, secondDot);
-  }
 
 }
\ No newline at end of file
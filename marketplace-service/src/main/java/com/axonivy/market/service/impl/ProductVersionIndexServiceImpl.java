@@ -0,0 +1,150 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.bo.VersionClassifier;
+import com.axonivy.market.entity.MavenArtifactVersion;
+import com.axonivy.market.entity.ProductVersionIndex;
+import com.axonivy.market.repository.MavenArtifactVersionRepository;
+import com.axonivy.market.repository.MetadataRepository;
+import com.axonivy.market.repository.ProductVersionIndexRepository;
+import com.axonivy.market.service.ProductVersionIndexService;
+import com.axonivy.market.util.MavenUtils;
+import com.axonivy.market.util.VersionUtils;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.axonivy.market.constants.CommonConstants.DOT_SEPARATOR;
+import static com.axonivy.market.constants.MavenConstants.MAIN_VERSION_REGEX;
+
+/**
+ * Serves the version lists of the products from an index which is rebuilt whenever the maven data of a product is
+ * synchronized. The index is stored in Mongo and kept in memory for the configured time to live, so the other instances
+ * pick up a rebuild after at most this time. Products without versions are kept in memory as well, so they are not
+ * looked up again on every request.
+ */
+@Log4j2
+@Service
+public class ProductVersionIndexServiceImpl implements ProductVersionIndexService {
+  private static final int MINOR_VERSION_SEGMENTS = 3;
+  private final ProductVersionIndexRepository productVersionIndexRepo;
+  private final MavenArtifactVersionRepository mavenArtifactVersionRepo;
+  private final MetadataRepository metadataRepo;
+  private final Map<String, CachedIndex> indexCache = new ConcurrentHashMap<>();
+  private final long cacheTtl;
+
+  public ProductVersionIndexServiceImpl(ProductVersionIndexRepository productVersionIndexRepo,
+      MavenArtifactVersionRepository mavenArtifactVersionRepo, MetadataRepository metadataRepo,
+      @Value("${market.version-index.cache-ttl}") long cacheTtl) {
+    this.productVersionIndexRepo = productVersionIndexRepo;
+    this.mavenArtifactVersionRepo = mavenArtifactVersionRepo;
+    this.metadataRepo = metadataRepo;
+    this.cacheTtl = cacheTtl;
+  }
+
+  @Override
+  public ProductVersionIndex getIndex(String productId) {
+    CachedIndex cachedIndex = indexCache.get(productId);
+    if (cachedIndex != null && !cachedIndex.isExpired(Instant.now())) {
+      return cachedIndex.index();
+    }
+    Optional<ProductVersionIndex> storedIndex = productVersionIndexRepo.findById(productId);
+    if (storedIndex.isPresent()) {
+      return cache(storedIndex.get());
+    }
+    // The maven data of the product was synchronized before the index existed
+    ProductVersionIndex index = buildIndex(productId);
+    return cache(isEmpty(index) ? index : productVersionIndexRepo.save(index));
+  }
+
+  /**
+   * Same result as {@link VersionUtils#getVersionsToDisplay} on the maven versions of the product, read from the
+   * index. The versions of a designer version are looked up in the bucket of its major.minor version.
+   */
+  @Override
+  public List<String> getVersionsToDisplay(String productId, Boolean isShowDevVersion, String designerVersion) {
+    ProductVersionIndex index = getIndex(productId);
+    if (StringUtils.isNotBlank(designerVersion)) {
+      String[] segments = designerVersion.split(MAIN_VERSION_REGEX, MINOR_VERSION_SEGMENTS);
+      List<String> candidates = segments.length < MINOR_VERSION_SEGMENTS ? index.getReleasedVersions() :
+          index.getReleasedVersionsByMinor().getOrDefault(getMinorVersion(segments), List.of());
+      return candidates.stream().filter(version -> version.startsWith(designerVersion)).toList();
+    }
+    return BooleanUtils.isTrue(isShowDevVersion) ? index.getDevVersions() : index.getReleasedVersions();
+  }
+
+  @Override
+  public ProductVersionIndex rebuild(String productId) {
+    ProductVersionIndex index = buildIndex(productId);
+    if (isEmpty(index)) {
+      productVersionIndexRepo.deleteById(productId);
+      return cache(index);
+    }
+    log.info("**ProductVersionIndexService: rebuilt the version index of product {}", productId);
+    return cache(productVersionIndexRepo.save(index));
+  }
+
+  @Override
+  public void delete(String productId) {
+    indexCache.remove(productId);
+    productVersionIndexRepo.deleteById(productId);
+  }
+
+  private ProductVersionIndex buildIndex(String productId) {
+    MavenArtifactVersion mavenArtifactVersion = mavenArtifactVersionRepo.findById(productId)
+        .orElse(MavenArtifactVersion.builder().productId(productId).build());
+    List<String> installableVersions = VersionUtils.getInstallableVersionsFromMetadataList(
+        metadataRepo.findByProductId(productId));
+    VersionClassifier classifier = VersionClassifier.of(installableVersions);
+    List<String> designerVersions = installableVersions.stream()
+        .filter(classifier::isOfficialVersionOrUnReleasedDevVersion).toList();
+    return ProductVersionIndex.builder().productId(productId)
+        .releasedVersions(MavenUtils.getAllExistingVersions(mavenArtifactVersion, false, StringUtils.EMPTY))
+        .devVersions(MavenUtils.getAllExistingVersions(mavenArtifactVersion, true, StringUtils.EMPTY))
+        .installableVersions(installableVersions)
+        .designerVersions(designerVersions)
+        .compatibilityRange(VersionUtils.getCompatibilityRange(designerVersions))
+        .build();
+  }
+
+  private static boolean isEmpty(ProductVersionIndex index) {
+    return index.getDevVersions().isEmpty() && index.getInstallableVersions().isEmpty();
+  }
+
+  private ProductVersionIndex cache(ProductVersionIndex index) {
+    indexCache.put(index.getProductId(),
+        new CachedIndex(groupReleasedVersionsByMinor(index), Instant.now().plusMillis(cacheTtl)));
+    return index;
+  }
+
+  private static ProductVersionIndex groupReleasedVersionsByMinor(ProductVersionIndex index) {
+    Map<String, List<String>> releasedVersionsByMinor = new HashMap<>();
+    for (String version : index.getReleasedVersions()) {
+      String[] segments = version.split(MAIN_VERSION_REGEX, MINOR_VERSION_SEGMENTS);
+      if (segments.length > 1) {
+        releasedVersionsByMinor.computeIfAbsent(getMinorVersion(segments), key -> new ArrayList<>()).add(version);
+      }
+    }
+    index.setReleasedVersionsByMinor(releasedVersionsByMinor);
+    return index;
+  }
+
+  private static String getMinorVersion(String[] segments) {
+    return segments[0] + DOT_SEPARATOR + segments[1];
+  }
+
+  private record CachedIndex(ProductVersionIndex index, Instant expiresAt) {
+    private boolean isExpired(Instant now) {
+      return now.isAfter(expiresAt);
+    }
+  }
+}
@@ -1,14 +1,13 @@
 package com.axonivy.market.service.impl;
 
-import com.axonivy.market.constants.CommonConstants;
-import com.axonivy.market.constants.ReadmeConstants;
+import com.axonivy.market.bo.ReleasePreviewSession;
 import com.axonivy.market.model.ReadmeContentsModel;
 import com.axonivy.market.model.ReleasePreview;
 import com.axonivy.market.service.ReleasePreviewService;
 import com.axonivy.market.util.FileUtils;
 import com.axonivy.market.util.ProductContentUtils;
-import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -16,10 +15,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.axonivy.market.constants.PreviewConstants.IMAGE_DOWNLOAD_URL;
@@ -27,66 +29,76 @@ import static com.axonivy.market.constants.PreviewConstants.PREVIEW_DIR;
 
 @Log4j2
 @Service
-@AllArgsConstructor
 public class ReleasePreviewServiceImpl implements ReleasePreviewService {
+  private final Map<String, ReleasePreviewSession> sessions = new ConcurrentHashMap<>();
+  private final long sessionTtl;
 
+  public ReleasePreviewServiceImpl(@Value("${market.release-preview.session-ttl}") long sessionTtl) {
+    this.sessionTtl = sessionTtl;
+  }
+
+  /**
+   * Extracts the upload into a folder of its own and indexes it once, its images are then served from this index
+   * until the session expires.
+   */
   @Override
   public ReleasePreview extract(MultipartFile file, String baseUrl) {
+    removeExpiredSessions();
+    String sessionId = UUID.randomUUID().toString();
+    Path sessionDirectory = Paths.get(PREVIEW_DIR, sessionId);
+    ReleasePreviewSession session;
     try {
-      FileUtils.unzip(file, PREVIEW_DIR);
-    } catch (IOException e){
+      FileUtils.unzip(file, sessionDirectory.toString());
+      session = ReleasePreviewSession.index(sessionId, sessionDirectory, Instant.now().plusMillis(sessionTtl));
+    } catch (IOException e) {
       log.info("#extract Error extracting zip file, message: {}", e.getMessage());
+      deleteDirectory(sessionDirectory);
       return null;
     }
-    return extractReadme(baseUrl, PREVIEW_DIR);
+    sessions.put(sessionId, session);
+    return extractReadme(baseUrl, session);
   }
 
-  public ReleasePreview extractReadme(String baseUrl, String location) {
+  public ReleasePreview extractReadme(String baseUrl, ReleasePreviewSession session) {
+    if (session.getReadmeFiles().isEmpty()) {
+      return null;
+    }
+    Map<String, String> imageUrls = getImageUrls(baseUrl, session);
     Map<String, Map<String, String>> moduleContents = new HashMap<>();
-    try (Stream<Path> readmePathStream = Files.walk(Paths.get(location))) {
-      List<Path> readmeFiles = readmePathStream.filter(Files::isRegularFile)
-          .filter(path -> path.getFileName().toString().startsWith(ReadmeConstants.README_FILE_NAME))
-          .toList();
-      if (readmeFiles.isEmpty()) {
-        return null;
-      }
-      for (Path readmeFile : readmeFiles) {
-        processReadme(readmeFile, moduleContents, baseUrl, location);
+    try {
+      for (Path readmeFile : session.getReadmeFiles()) {
+        processReadme(readmeFile, moduleContents, imageUrls);
       }
       return ReleasePreview.from(moduleContents);
     } catch (IOException e) {
-      log.error("Cannot get README file's content from folder {}: {}",
-          PREVIEW_DIR, e.getMessage());
+      log.error("Cannot get README file's content from folder {}: {}", session.getDirectory(), e.getMessage());
       return null;
     }
   }
 
-  public String updateImagesWithDownloadUrl(String unzippedFolderPath,
-      String readmeContents, String baseUrl) {
-    Map<String, String> imageUrls = new HashMap<>();
-    try (Stream<Path> imagePathStream = Files.walk(Paths.get(unzippedFolderPath))) {
-      List<Path> allImagePaths = imagePathStream.filter(Files::isRegularFile).filter(
-          path -> path.getFileName().toString().toLowerCase().matches(CommonConstants.IMAGE_EXTENSION)).toList();
-
-      allImagePaths.stream()
-          .filter(Objects::nonNull)
-          .forEach(imagePath -> {
-            String imageFileName = imagePath.getFileName().toString();
-            String downloadURLFormat = String.format(IMAGE_DOWNLOAD_URL, baseUrl, imageFileName);
-            imageUrls.put(imageFileName, downloadURLFormat);
-          });
-      return ProductContentUtils.replaceImageDirWithImageCustomId(imageUrls, readmeContents);
-    } catch (Exception e) {
-      log.error("#updateImagesWithDownloadUrl: Error update image url: {}", e.getMessage());
+  @Override
+  public Path findPreviewImage(String sessionId, String imageName) {
+    ReleasePreviewSession session = sessionId == null ? null : sessions.get(sessionId);
+    if (session == null || session.isExpired(Instant.now())) {
       return null;
     }
+    return session.findImage(imageName);
+  }
+
+  private static Map<String, String> getImageUrls(String baseUrl, ReleasePreviewSession session) {
+    Map<String, String> imageUrls = new HashMap<>();
+    for (Path imagePath : session.getImageFiles()) {
+      String imageFileName = imagePath.getFileName().toString();
+      imageUrls.put(imageFileName, String.format(IMAGE_DOWNLOAD_URL, baseUrl, session.getId(), imageFileName));
+    }
+    return imageUrls;
   }
 
   public void processReadme(Path readmeFile, Map<String, Map<String, String>> moduleContents,
-      String baseUrl, String location) throws IOException {
+      Map<String, String> imageUrls) throws IOException {
     String readmeContents = Files.readString(readmeFile);
     if (ProductContentUtils.hasImageDirectives(readmeContents)) {
-      readmeContents = updateImagesWithDownloadUrl(location, readmeContents, baseUrl);
+      readmeContents = ProductContentUtils.replaceImageDirWithImageCustomId(imageUrls, readmeContents);
     }
     ReadmeContentsModel readmeContentsModel = ProductContentUtils.getExtractedPartsOfReadme(readmeContents);
     ProductContentUtils.mappingDescriptionSetupAndDemo(
@@ -96,4 +108,48 @@ public class ReleasePreviewServiceImpl implements ReleasePreviewService {
     );
   }
 
+  /**
+   * Drops the expired sessions with their folders. Folders without a session, ex: left over from before a restart,
+   * are dropped once they are older than a session may live.
+   */
+  @Override
+  public void removeExpiredSessions() {
+    Instant now = Instant.now();
+    sessions.values().removeIf(session -> {
+      if (session.isExpired(now)) {
+        deleteDirectory(session.getDirectory());
+        return true;
+      }
+      return false;
+    });
+    Path previewDirectory = Paths.get(PREVIEW_DIR);
+    if (!Files.isDirectory(previewDirectory)) {
+      return;
+    }
+    Set<Path> sessionDirectories = sessions.values().stream().map(ReleasePreviewSession::getDirectory)
+        .collect(Collectors.toSet());
+    try (Stream<Path> directories = Files.list(previewDirectory)) {
+      directories.filter(directory -> !sessionDirectories.contains(directory))
+          .filter(directory -> isOlderThan(directory, now.minusMillis(sessionTtl)))
+          .forEach(ReleasePreviewServiceImpl::deleteDirectory);
+    } catch (IOException e) {
+      log.error("Cannot clean up the preview folder {}: {}", PREVIEW_DIR, e.getMessage());
+    }
+  }
+
+  private static boolean isOlderThan(Path path, Instant instant) {
+    try {
+      return Files.getLastModifiedTime(path).toInstant().isBefore(instant);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static void deleteDirectory(Path directory) {
+    try {
+      FileUtils.clearDirectory(directory);
+    } catch (IOException e) {
+      log.error("Cannot delete the preview folder {}: {}", directory, e.getMessage());
+    }
+  }
 }
@@ -7,7 +7,11 @@ import com.axonivy.market.repository.UserRepository;
 import com.axonivy.market.service.UserService;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class UserServiceImpl implements UserService {
@@ -29,6 +33,18 @@ public class UserServiceImpl implements UserService {
         .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND, "Not found user with id: " + id));
   }
 
+  /**
+   * Finds all given users with one query, users which do not exist are missing in the result.
+   */
+  @Override
+  public Map<String, User> findUsersByIds(Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    return userRepository.findAllById(ids).stream()
+        .collect(Collectors.toMap(User::getId, Function.identity(), (user, duplicatedUser) -> user));
+  }
+
   @Override
   public User createUser(User user) {
     return userRepository.save(user);
@@ -1,7 +1,6 @@
 package com.axonivy.market.service.impl;
 
 import com.axonivy.market.bo.Artifact;
-import com.axonivy.market.comparator.LatestVersionComparator;
 import com.axonivy.market.constants.MavenConstants;
 import com.axonivy.market.controller.ProductDetailsController;
 import com.axonivy.market.entity.MavenArtifactVersion;
@@ -16,9 +15,9 @@ import com.axonivy.market.repository.MetadataRepository;
 import com.axonivy.market.repository.ProductJsonContentRepository;
 import com.axonivy.market.repository.ProductModuleContentRepository;
 import com.axonivy.market.repository.ProductRepository;
+import com.axonivy.market.service.ProductVersionIndexService;
 import com.axonivy.market.service.VersionService;
 import com.axonivy.market.util.MavenUtils;
-import com.axonivy.market.util.VersionUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
@@ -50,6 +49,7 @@ public class VersionServiceImpl implements VersionService {
   private final ProductModuleContentRepository productContentRepo;
   private final ObjectMapper mapper = new ObjectMapper();
   private final MetadataRepository metadataRepo;
+  private final ProductVersionIndexService productVersionIndexService;
 
   public List<MavenArtifactVersionModel> getArtifactsAndVersionToDisplay(String productId, Boolean isShowDevVersion,
       String designerVersion) {
@@ -57,7 +57,7 @@ public class VersionServiceImpl implements VersionService {
         MavenArtifactVersion.builder().productId(productId).build());
     List<MavenArtifactVersionModel> results = new ArrayList<>();
 
-    for (String mavenVersion : MavenUtils.getAllExistingVersions(existingMavenArtifactVersion, isShowDevVersion,
+    for (String mavenVersion : productVersionIndexService.getVersionsToDisplay(productId, isShowDevVersion,
         designerVersion)) {
       List<MavenArtifactModel> artifactsByVersion = new ArrayList<>();
       artifactsByVersion.addAll(
@@ -94,14 +94,10 @@ public class VersionServiceImpl implements VersionService {
   @Override
   public List<VersionAndUrlModel> getVersionsForDesigner(String productId) {
     List<VersionAndUrlModel> versionAndUrlList = new ArrayList<>();
-    List<String> releasedVersions =
-        VersionUtils.getInstallableVersionsFromMetadataList(metadataRepo.findByProductId(productId));
-    if (CollectionUtils.isEmpty(releasedVersions)) {
+    List<String> versions = productVersionIndexService.getIndex(productId).getDesignerVersions();
+    if (CollectionUtils.isEmpty(versions)) {
       return Collections.emptyList();
     }
-    List<String> versions = releasedVersions.stream().filter(
-        version -> VersionUtils.isOfficialVersionOrUnReleasedDevVersion(releasedVersions, version)).sorted(
-        new LatestVersionComparator()).toList();
     for (String version : versions) {
       Link link = linkTo(
           methodOn(ProductDetailsController.class).findProductJsonContent(productId, version)).withSelfRel();
@@ -1,12 +1,19 @@
 package com.axonivy.market.util;
 
 import com.axonivy.market.controller.ImageController;
+import com.axonivy.market.entity.Image;
 import com.axonivy.market.entity.ProductModuleContent;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.hateoas.Link;
+import org.springframework.http.MediaType;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -19,6 +26,16 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 public class ImageUtils {
   public static final String IMAGE_ID_FORMAT_PATTERN = "imageId-\\w+";
   private static final Pattern PATTERN = Pattern.compile(IMAGE_ID_FORMAT_PATTERN);
+  private static final MediaType IMAGE_SVG = MediaType.valueOf("image/svg+xml");
+  private static final MediaType IMAGE_WEBP = MediaType.valueOf("image/webp");
+  private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G'};
+  private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+  private static final byte[] GIF_SIGNATURE = {'G', 'I', 'F', '8'};
+  private static final byte[] RIFF_SIGNATURE = {'R', 'I', 'F', 'F'};
+  private static final byte[] WEBP_SIGNATURE = {'W', 'E', 'B', 'P'};
+  private static final int WEBP_SIGNATURE_OFFSET = 8;
+  private static final int SVG_SNIFF_LENGTH = 512;
+  private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
 
   private ImageUtils() {
   }
@@ -41,13 +58,76 @@ public class ImageUtils {
       List<String> imageIds = extractAllImageIds(value);
       for (String imageId : imageIds) {
         String rawId = imageId.replace(IMAGE_ID_PREFIX, Strings.EMPTY);
-        Link link = linkTo(methodOn(ImageController.class).findImageById(rawId)).withSelfRel();
-        value = value.replace(imageId, link.getHref());
+        Link link = linkTo(methodOn(ImageController.class).findImageById(rawId, null, null, null)).withSelfRel();
+        value = value.replace(imageId, link.expand().getHref());
       }
       content.put(key, value);
     });
   }
 
+  /**
+   * Detects the media type from the leading bytes of the image. Images which are not recognized are served as PNG, as
+   * they always were.
+   */
+  public static MediaType getMediaType(byte[] imageData) {
+    if (startsWith(imageData, 0, PNG_SIGNATURE)) {
+      return MediaType.IMAGE_PNG;
+    }
+    if (startsWith(imageData, 0, JPEG_SIGNATURE)) {
+      return MediaType.IMAGE_JPEG;
+    }
+    if (startsWith(imageData, 0, GIF_SIGNATURE)) {
+      return MediaType.IMAGE_GIF;
+    }
+    if (startsWith(imageData, 0, RIFF_SIGNATURE) && startsWith(imageData, WEBP_SIGNATURE_OFFSET, WEBP_SIGNATURE)) {
+      return IMAGE_WEBP;
+    }
+    String leadingText = new String(imageData, 0, Math.min(imageData.length, SVG_SNIFF_LENGTH),
+        StandardCharsets.UTF_8);
+    if (leadingText.contains("<svg")) {
+      return IMAGE_SVG;
+    }
+    return MediaType.IMAGE_PNG;
+  }
+
+  /**
+   * SVG may carry scripts, so it needs to be served with a restrictive content security policy.
+   */
+  public static boolean isSvg(MediaType mediaType) {
+    return mediaType != null && IMAGE_SVG.isCompatibleWith(mediaType);
+  }
+
+  /**
+   * The content of an image never changes under the same id, so the GitHub sha, or the id of images without sha, is a
+   * strong validator.
+   */
+  public static String getETag(Image image) {
+    return StringUtils.defaultIfBlank(image.getSha(), image.getId());
+  }
+
+  /**
+   * The hex encoded SHA-256 of the image content, which addresses the image in the blob store.
+   */
+  public static String getContentHash(byte[] imageData) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance(CONTENT_HASH_ALGORITHM).digest(imageData));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static boolean startsWith(byte[] data, int offset, byte[] signature) {
+    if (data.length < offset + signature.length) {
+      return false;
+    }
+    for (int i = 0; i < signature.length; i++) {
+      if (data[offset + i] != signature[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private static List<String> extractAllImageIds(String content) {
     List<String> result = new ArrayList<>();
     Matcher matcher = PATTERN.matcher(content);
@@ -3,6 +3,7 @@ package com.axonivy.market.util;
 import com.axonivy.market.bo.ArchivedArtifact;
 import com.axonivy.market.bo.Artifact;
 import com.axonivy.market.comparator.MavenVersionComparator;
+import com.axonivy.market.config.MavenHttpClientInitializer;
 import com.axonivy.market.constants.CommonConstants;
 import com.axonivy.market.constants.MavenConstants;
 import com.axonivy.market.constants.ProductJsonConstants;
@@ -19,6 +20,10 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.client.RestTemplate;
 
@@ -33,6 +38,9 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.axonivy.market.constants.MavenConstants.DEFAULT_IVY_MAVEN_BASE_URL;
 
@@ -40,7 +48,16 @@ import static com.axonivy.market.constants.MavenConstants.DEFAULT_IVY_MAVEN_BASE
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class MavenUtils {
   private static final ObjectMapper objectMapper = new ObjectMapper();
-  private static final RestTemplate restTemplate = new RestTemplate();
+  private static volatile RestTemplate restTemplate = new RestTemplate();
+  private static volatile Executor asyncExecutor = ForkJoinPool.commonPool();
+
+  /**
+   * Switches the static helpers to the shared, pooled HTTP client, see {@link MavenHttpClientInitializer}.
+   */
+  public static void useHttpClient(RestTemplate sharedRestTemplate, Executor sharedAsyncExecutor) {
+    restTemplate = sharedRestTemplate;
+    asyncExecutor = sharedAsyncExecutor;
+  }
 
   public static List<Artifact> getMavenArtifactsFromProductJson(ProductJsonContent productJson) {
     if (Objects.isNull(productJson) || StringUtils.isBlank(productJson.getContent())) {
@@ -273,6 +290,19 @@ public class MavenUtils {
     }
   }
 
+  public static CompletableFuture<String> getMetadataContentFromUrlAsync(String metadataUrl) {
+    return CompletableFuture.supplyAsync(() -> getMetadataContentFromUrl(metadataUrl), asyncExecutor);
+  }
+
+  public static ResponseEntity<String> getMetadataResponseFromUrl(String metadataUrl, HttpHeaders headers) {
+    try {
+      return restTemplate.exchange(metadataUrl, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    } catch (Exception e) {
+      log.error("**MetadataService: Failed to fetch metadata from url {}", metadataUrl);
+      return null;
+    }
+  }
+
   public static boolean isProductArtifactId(String artifactId) {
     return StringUtils.endsWith(artifactId, MavenConstants.PRODUCT_ARTIFACT_POSTFIX);
   }
@@ -1,20 +1,23 @@
 package com.axonivy.market.util;
 
 import com.axonivy.market.bo.Artifact;
+import com.axonivy.market.bo.MavenMetadata;
 import com.axonivy.market.constants.MavenConstants;
 import com.axonivy.market.entity.Metadata;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
+import org.apache.commons.lang3.StringUtils;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.StringReader;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 @Log4j2
@@ -24,51 +27,49 @@ public class MetadataReaderUtils {
       MavenConstants.DATE_TIME_FORMAT);
   private static final DateTimeFormatter SNAPSHOT_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(
       MavenConstants.SNAPSHOT_LAST_UPDATED_DATE_TIME_FORMAT);
+  private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
 
   public static Metadata updateMetadataFromMavenXML(String xmlData, Metadata metadata,
       boolean isSnapShot) {
-    Document document = getDocumentFromXMLContent(xmlData);
+    MavenMetadata mavenMetadata = readMavenMetadata(xmlData);
     try {
-      LocalDateTime lastUpdated = getLastUpdatedTimeFromDocument(document, isSnapShot);
+      LocalDateTime lastUpdated = getLastUpdatedTime(mavenMetadata, isSnapShot);
       if (lastUpdated.equals(metadata.getLastUpdated())) {
         return metadata;
       }
       metadata.setLastUpdated(lastUpdated);
-      updateMetadataVersions(metadata, document, isSnapShot);
+      updateMetadataVersions(metadata, mavenMetadata, isSnapShot);
     } catch (Exception e) {
       log.error("Update metadata from maven failed {}", e.getMessage());
     }
     return metadata;
   }
 
-  private static void updateMetadataVersions(Metadata metadata, Document document, boolean isSnapShot) {
+  private static void updateMetadataVersions(Metadata metadata, MavenMetadata mavenMetadata, boolean isSnapShot) {
     if (isSnapShot) {
-      String value = document.getElementsByTagName(MavenConstants.VALUE_TAG).item(0).getTextContent();
-      metadata.setSnapshotVersionValue(value);
+      metadata.setSnapshotVersionValue(Objects.requireNonNull(mavenMetadata.snapshotValue()));
       return;
     }
-    metadata.setLatest(getElementValue(document, MavenConstants.LATEST_VERSION_TAG));
-    metadata.setRelease(getElementValue(document, MavenConstants.LATEST_RELEASE_TAG));
-    NodeList versionNodes = document.getElementsByTagName(MavenConstants.VERSION_TAG);
-    for (int i = 0; i < versionNodes.getLength(); i++) {
-      metadata.getVersions().add(versionNodes.item(i).getTextContent());
-    }
+    metadata.setLatest(mavenMetadata.latest());
+    metadata.setRelease(mavenMetadata.release());
+    metadata.getVersions().addAll(mavenMetadata.versions());
   }
 
-  private static LocalDateTime getLastUpdatedTimeFromDocument(Document document, boolean isSnapShot) {
-    String textValue = isSnapShot ? Objects.requireNonNull(getElementValue(document,
-        MavenConstants.SNAPSHOT_LAST_UPDATED_TAG)) : Objects.requireNonNull(getElementValue(document,
-        MavenConstants.LAST_UPDATED_TAG));
+  private static LocalDateTime getLastUpdatedTime(MavenMetadata mavenMetadata, boolean isSnapShot) {
+    String textValue = isSnapShot ? Objects.requireNonNull(mavenMetadata.snapshotTimestamp()) :
+        Objects.requireNonNull(mavenMetadata.lastUpdated());
     DateTimeFormatter lastUpdatedFormatter = isSnapShot ? SNAPSHOT_DATE_TIME_FORMATTER : DATE_TIME_FORMATTER;
     return LocalDateTime.parse(textValue, lastUpdatedFormatter);
   }
 
-  public static String getElementValue(Document doc, String tagName) {
-    NodeList nodeList = doc.getElementsByTagName(tagName);
-    if (nodeList.getLength() > 0) {
-      return nodeList.item(0).getTextContent();
-    }
-    return null;
+  /**
+   * Reads the lastUpdated marker of a maven-metadata.xml without parsing the whole document, so unchanged metadata
+   * can be detected cheaply.
+   */
+  public static String getLastUpdatedValue(String xmlData) {
+    String openTag = "<" + MavenConstants.LAST_UPDATED_TAG + ">";
+    String closeTag = "</" + MavenConstants.LAST_UPDATED_TAG + ">";
+    return StringUtils.trim(StringUtils.substringBetween(xmlData, openTag, closeTag));
   }
 
   public static String getSnapshotVersionValue(String version,
@@ -76,19 +77,72 @@ public class MetadataReaderUtils {
     String snapShotMetadataUrl = MavenUtils.buildSnapshotMetadataUrlFromArtifactInfo(mavenArtifact.getRepoUrl(),
         mavenArtifact.getGroupId(), mavenArtifact.getArtifactId(), version);
     String metadataContent = MavenUtils.getMetadataContentFromUrl(snapShotMetadataUrl);
-    Document document = getDocumentFromXMLContent(metadataContent);
-    return getElementValue(document, MavenConstants.VALUE_TAG);
+    return readMavenMetadata(metadataContent).snapshotValue();
   }
 
-  public static Document getDocumentFromXMLContent(String xmlData) {
-    Document document = null;
+  /**
+   * Reads a maven-metadata.xml in a single streaming pass. Every version element is collected in document order, for
+   * the other values the first occurrence wins. An unreadable content results in {@link MavenMetadata#EMPTY}.
+   */
+  public static MavenMetadata readMavenMetadata(String xmlData) {
+    if (StringUtils.isBlank(xmlData)) {
+      return MavenMetadata.EMPTY;
+    }
+    List<String> versions = new ArrayList<>();
+    String latest = null;
+    String release = null;
+    String lastUpdated = null;
+    String snapshotTimestamp = null;
+    String snapshotValue = null;
+    XMLStreamReader reader = null;
     try {
-      DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-      document = builder.parse(new InputSource(new StringReader(xmlData)));
-      document.getDocumentElement().normalize();
-    } catch (Exception e) {
+      reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xmlData));
+      while (reader.hasNext()) {
+        if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+          continue;
+        }
+        switch (reader.getLocalName()) {
+          case MavenConstants.VERSION_TAG -> versions.add(reader.getElementText());
+          case MavenConstants.LATEST_VERSION_TAG -> latest = firstValue(latest, reader);
+          case MavenConstants.LATEST_RELEASE_TAG -> release = firstValue(release, reader);
+          case MavenConstants.LAST_UPDATED_TAG -> lastUpdated = firstValue(lastUpdated, reader);
+          case MavenConstants.SNAPSHOT_LAST_UPDATED_TAG -> snapshotTimestamp = firstValue(snapshotTimestamp, reader);
+          case MavenConstants.VALUE_TAG -> snapshotValue = firstValue(snapshotValue, reader);
+          default -> {
+            // Other elements are not needed by the sync
+          }
+        }
+      }
+    } catch (XMLStreamException e) {
       log.error("Metadata Reader: can not read the metadata of {} with error", xmlData, e);
+      return MavenMetadata.EMPTY;
+    } finally {
+      closeQuietly(reader);
     }
-    return document;
+    return new MavenMetadata(versions, latest, release, lastUpdated, snapshotTimestamp, snapshotValue);
+  }
+
+  private static String firstValue(String currentValue, XMLStreamReader reader) throws XMLStreamException {
+    String value = reader.getElementText();
+    return currentValue == null ? value : currentValue;
+  }
+
+  private static void closeQuietly(XMLStreamReader reader) {
+    if (reader == null) {
+      return;
+    }
+    try {
+      reader.close();
+    } catch (XMLStreamException e) {
+      log.warn("Metadata Reader: can not close the reader {}", e.getMessage());
+    }
+  }
+
+  private static XMLInputFactory createXMLInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory;
   }
 }
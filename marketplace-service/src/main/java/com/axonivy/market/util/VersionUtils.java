@@ -1,7 +1,8 @@
 package com.axonivy.market.util;
 
+import com.axonivy.market.bo.VersionClassifier;
+import com.axonivy.market.bo.VersionResolver;
 import com.axonivy.market.comparator.LatestVersionComparator;
-import com.axonivy.market.comparator.MavenVersionComparator;
 import com.axonivy.market.constants.CommonConstants;
 import com.axonivy.market.entity.Metadata;
 import lombok.AccessLevel;
@@ -20,7 +21,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.axonivy.market.constants.CommonConstants.COMPATIBILITY_RANGE_FORMAT;
 import static com.axonivy.market.constants.CommonConstants.DOT_SEPARATOR;
+import static com.axonivy.market.constants.CommonConstants.PLUS;
 import static com.axonivy.market.constants.MavenConstants.*;
 @Log4j2
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -35,42 +38,19 @@ public class VersionUtils {
           new LatestVersionComparator()).toList();
     }
     if (BooleanUtils.isTrue(isShowDevVersion)) {
-      return versionStream.filter(version -> isOfficialVersionOrUnReleasedDevVersion(versions, version))
+      VersionClassifier classifier = VersionClassifier.of(versions);
+      return versionStream.filter(classifier::isOfficialVersionOrUnReleasedDevVersion)
           .sorted(new LatestVersionComparator()).toList();
     }
     return versions.stream().filter(VersionUtils::isReleasedVersion).sorted(new LatestVersionComparator()).toList();
   }
 
   public static String getBestMatchVersion(List<String> versions, String designerVersion) {
-    String bestMatchVersion = versions.stream().filter(
-        version -> StringUtils.equals(version, designerVersion)).findAny().orElse(null);
-    if (StringUtils.isBlank(bestMatchVersion)) {
-      bestMatchVersion = versions.stream().filter(
-          version -> MavenVersionComparator.compare(version, designerVersion) < 0 && isReleasedVersion(
-              version)).findAny().orElse(null);
-    }
-    if (StringUtils.isBlank(bestMatchVersion)) {
-      bestMatchVersion = versions.stream().filter(VersionUtils::isReleasedVersion).findAny().orElse(
-          CollectionUtils.firstElement(versions));
-    }
-    return bestMatchVersion;
+    return VersionResolver.of(versions).getBestMatchVersion(designerVersion);
   }
 
   public static boolean isOfficialVersionOrUnReleasedDevVersion(Collection<String> versions, String version) {
-    if (isReleasedVersion(version)) {
-      return true;
-    }
-    String bugfixVersion;
-    if (!isValidFormatReleasedVersion(version)) {
-      return false;
-    } else if (isSnapshotVersion(version)) {
-      bugfixVersion = getBugfixVersion(version.replace(SNAPSHOT_RELEASE_POSTFIX, StringUtils.EMPTY));
-    } else {
-      bugfixVersion = getBugfixVersion(version.split(SPRINT_RELEASE_POSTFIX)[0]);
-    }
-    return versions.stream().noneMatch(
-        currentVersion -> !currentVersion.equals(version) && isReleasedVersion(currentVersion) && getBugfixVersion(
-            currentVersion).equals(bugfixVersion));
+    return VersionClassifier.of(versions).isOfficialVersionOrUnReleasedDevVersion(version);
   }
 
   public static boolean isSnapshotVersion(String version) {
@@ -147,6 +127,29 @@ public class VersionUtils {
             Collectors.toList())).orElse(new ArrayList<>());
   }
 
+  /**
+   * MARP-975: Split the designer versions, sorted from the newest to the oldest, to their major.minor prefix and format
+   * them as compatibility range, ex: 11.0+ , 10.0 - 12.0+ , ...
+   */
+  public static String getCompatibilityRange(List<String> versions) {
+    if (CollectionUtils.isEmpty(versions)) {
+      return null;
+    }
+    if (versions.size() == 1) {
+      return getMinorVersionOf(versions.get(0)).concat(PLUS);
+    }
+    String maxVersion = getMinorVersionOf(versions.get(0)).concat(PLUS);
+    String minVersion = getMinorVersionOf(versions.get(versions.size() - 1));
+    return getPrefixOfVersion(minVersion).equals(getPrefixOfVersion(maxVersion)) ?
+        minVersion.concat(PLUS) : String.format(COMPATIBILITY_RANGE_FORMAT, minVersion, maxVersion);
+  }
+
+  private static String getMinorVersionOf(String version) {
+    int firstDot = version.indexOf(DOT_SEPARATOR);
+    int secondDot = version.indexOf(DOT_SEPARATOR, firstDot + 1);
+    return version.substring(0, secondDot);
+  }
+
   public static String getPrefixOfVersion(String version) {
     return version.substring(0, version.indexOf(DOT_SEPARATOR));
   }
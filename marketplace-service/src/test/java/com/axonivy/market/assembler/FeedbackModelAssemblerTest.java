@@ -0,0 +1,107 @@
+package com.axonivy.market.assembler;
+
+import com.axonivy.market.entity.Feedback;
+import com.axonivy.market.entity.User;
+import com.axonivy.market.model.FeedbackModel;
+import com.axonivy.market.repository.UserRepository;
+import com.axonivy.market.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackModelAssemblerTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  private FeedbackModelAssembler feedbackModelAssembler;
+
+  private final PagedResourcesAssembler<Feedback> pagedResourcesAssembler =
+      new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null);
+
+  @BeforeEach
+  void setup() {
+    feedbackModelAssembler = new FeedbackModelAssembler(new UserServiceImpl(userRepository));
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void testPageCostsConstantNumberOfQueries() {
+    when(userRepository.findAllById(any())).thenAnswer(invocation -> {
+      Iterable<String> ids = invocation.getArgument(0);
+      return StreamSupport.stream(ids.spliterator(), false).map(this::createUser).toList();
+    });
+
+    for (int pageSize : new int[] {1, 20}) {
+      List<Feedback> feedbacks = createFeedbacks(pageSize);
+      var page = new PageImpl<>(feedbacks, PageRequest.of(0, pageSize), pageSize);
+      PagedModel<FeedbackModel> result = pagedResourcesAssembler.toModel(page,
+          feedbackModelAssembler.forPage(feedbacks));
+
+      assertEquals(pageSize, result.getContent().size());
+      assertEquals("Name user-0", result.getContent().iterator().next().getUsername());
+      assertEquals(1, mockingDetails(userRepository).getInvocations().size(),
+          "A page of " + pageSize + " feedbacks should resolve its users with one query");
+      clearInvocations(userRepository);
+    }
+  }
+
+  @Test
+  void testMissingUserIsAssembledAsEmptyUser() {
+    when(userRepository.findAllById(any())).thenReturn(List.of());
+    Feedback feedback = createFeedbacks(1).get(0);
+
+    FeedbackModel result = feedbackModelAssembler.toModel(feedback);
+
+    assertNull(result.getUsername());
+    assertEquals(feedback.getContent(), result.getContent());
+    assertEquals(1, result.getLinks().stream().count());
+  }
+
+  private List<Feedback> createFeedbacks(int count) {
+    return IntStream.range(0, count).mapToObj(index -> {
+      Feedback feedback = new Feedback();
+      feedback.setId("feedback-" + index);
+      feedback.setUserId("user-" + index % 5);
+      feedback.setProductId("portal");
+      feedback.setContent("Content " + index);
+      feedback.setRating(index % 5 + 1);
+      return feedback;
+    }).toList();
+  }
+
+  private User createUser(String id) {
+    User user = new User();
+    user.setId(id);
+    user.setName("Name " + id);
+    return user;
+  }
+}
@@ -0,0 +1,21 @@
+package com.axonivy.market.bo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InstallationEventTest {
+  private static final LocalDate DATE = LocalDate.of(2024, 10, 1);
+
+  @Test
+  void testOfDesignerVersion() {
+    assertEquals("11", InstallationEvent.of("portal", "11.4.0", DATE).designerMajorVersion());
+    assertEquals("12", InstallationEvent.of("portal", "12.0.0-SNAPSHOT", DATE).designerMajorVersion());
+    assertEquals("10", InstallationEvent.of("portal", "v10.0", DATE).designerMajorVersion());
+    assertNull(InstallationEvent.of("portal", " ", DATE).designerMajorVersion());
+    assertNull(InstallationEvent.of("portal", null, DATE).designerMajorVersion());
+  }
+}
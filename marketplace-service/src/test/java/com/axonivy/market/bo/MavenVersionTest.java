@@ -0,0 +1,108 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.comparator.LatestVersionComparator;
+import com.axonivy.market.comparator.MavenVersionComparator;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class MavenVersionTest {
+  private static final List<String> VERSIONS = List.of("10.0.0", "10.0", "10", "10.0.0-SNAPSHOT", "10.0.0-m123",
+      "10.0.0-m45", "10.0.1", "10.0.10", "10.0.9", "11.3.0-SNAPSHOT", "11.3.0", "11.3.0-m264", "v12.0.0",
+      "12.0.0-beta", "12.0.0-alpha", "12.0.0-SNAPSHOT-1", "12.0.0-", "12.0.x", "dev", "", " ", "nightly-12.0",
+      "8.0.10.1", "8.0.10", "10.0.", "99999999999.0", "1.0-SNAPSHOT");
+
+  @Test
+  void testCompareHasSameResultAsLegacyComparator() {
+    List<String> versions = new ArrayList<>(VERSIONS);
+    var random = new Random(42);
+    String[] qualifiers = {"", "-SNAPSHOT", "-m" + random.nextInt(300), "-beta"};
+    for (int i = 0; i < 500; i++) {
+      versions.add(random.nextInt(13) + "." + random.nextInt(4) + "." + random.nextInt(25)
+          + qualifiers[random.nextInt(qualifiers.length)]);
+    }
+    for (String version : versions) {
+      for (String otherVersion : versions) {
+        Assertions.assertEquals(legacyCompare(version, otherVersion),
+            MavenVersionComparator.compare(version, otherVersion), version + " <> " + otherVersion);
+      }
+    }
+  }
+
+  @Test
+  void testSortLatestFirst() {
+    List<String> sortedVersions = List.of("11.3.0", "11.3.0-m264", "11.3.0-SNAPSHOT", "10.0.10", "10.0.1", "10.0.0",
+        "10.0.0-m45", "10.0.0-m123", "10.0.0-SNAPSHOT");
+    List<String> versions = new ArrayList<>(sortedVersions);
+    versions.sort(null);
+    versions.sort(new LatestVersionComparator());
+    Assertions.assertEquals(sortedVersions, versions);
+  }
+
+  @Test
+  void testParsedVersionIsShared() {
+    MavenVersion version = MavenVersion.of("v10.0.1-m12");
+    Assertions.assertSame(version, MavenVersion.of("v10.0.1-m12"));
+    Assertions.assertArrayEquals(new int[]{10, 0, 1}, version.segments());
+    Assertions.assertEquals("m12", version.qualifier());
+    Assertions.assertEquals(MavenVersion.QUALIFIER_RANK, version.qualifierRank());
+    Assertions.assertEquals(MavenVersion.SNAPSHOT_RANK, MavenVersion.of("10.0.1-SNAPSHOT").qualifierRank());
+    Assertions.assertEquals(MavenVersion.RELEASE_RANK, MavenVersion.of("10.0.1").qualifierRank());
+    Assertions.assertEquals(MavenVersion.of("10.0.1"), MavenVersion.of("v10.0.1"));
+  }
+
+  /**
+   * The comparison as it was implemented before the versions were parsed once, kept to prove the same ordering.
+   */
+  private static int legacyCompare(String version, String otherVersion) {
+    version = legacyStripLeadingChars(version);
+    otherVersion = legacyStripLeadingChars(otherVersion);
+    String[] versionParts = StringUtils.defaultIfBlank(version, "").split("-", 2);
+    String[] otherVersionParts = StringUtils.defaultIfBlank(otherVersion, "").split("-", 2);
+    String[] parts1 = versionParts[0].split("\\.");
+    String[] parts2 = otherVersionParts[0].split("\\.");
+    for (int i = 0; i < Math.max(parts1.length, parts2.length); i++) {
+      int num1 = i < parts1.length && NumberUtils.isDigits(parts1[i]) ? NumberUtils.toInt(parts1[i]) : 0;
+      int num2 = i < parts2.length && NumberUtils.isDigits(parts2[i]) ? NumberUtils.toInt(parts2[i]) : 0;
+      if (num1 != num2) {
+        return num1 - num2;
+      }
+    }
+    String qualifier1 = versionParts.length > 1 ? versionParts[1] : "";
+    String qualifier2 = otherVersionParts.length > 1 ? otherVersionParts[1] : "";
+    if (qualifier1.isEmpty() && !qualifier2.isEmpty()) {
+      return 1;
+    }
+    if (!qualifier1.isEmpty() && qualifier2.isEmpty()) {
+      return -1;
+    }
+    if ("SNAPSHOT".equals(qualifier1) && !"SNAPSHOT".equals(qualifier2)) {
+      return -1;
+    }
+    if (!"SNAPSHOT".equals(qualifier1) && "SNAPSHOT".equals(qualifier2)) {
+      return 1;
+    }
+    return qualifier1.compareTo(qualifier2);
+  }
+
+  private static String legacyStripLeadingChars(String version) {
+    Matcher matcher = Pattern.compile("([0-9]+.*)").matcher(version);
+    return matcher.find() ? matcher.group(1) : version;
+  }
+
+  @Test
+  void testRecentlyUsedVersionStaysCachedWhenCacheIsFull() {
+    MavenVersion version = MavenVersion.of("10.0.2");
+    for (int i = 0; i < 20_000; i++) {
+      MavenVersion.of("1.0." + i);
+      Assertions.assertSame(version, MavenVersion.of("10.0.2"));
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.criteria.ProductSearchCriteria;
+import com.axonivy.market.entity.Product;
+import com.axonivy.market.enums.DocumentField;
+import com.axonivy.market.enums.Language;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductSearchIndexTest {
+  private final ProductSearchIndex searchIndex = new ProductSearchIndex(List.of(
+      Product.builder().id("amazon-comprehend").vendor("Axon Ivy AG").tags(List.of("AI", "cloud"))
+          .names(Map.of("en", "Amazon Comprehend", "de", "Amazon Comprehend"))
+          .shortDescriptions(Map.of("en", "Text analysis with machine learning", "de", "Textanalyse")).build(),
+      Product.builder().id("openai-assistant").vendor("Axon Ivy AG").tags(List.of("AI"))
+          .names(Map.of("en", "OpenAI Assistant")).build(),
+      Product.builder().id("portal").vendor("Axon Ivy AG").names(Map.of("en", "Portal"))
+          .shortDescriptions(Map.of("en", "Process portal, with AI dashboards")).build()));
+
+  @Test
+  void testSearchRanksNameMatchesFirst() {
+    assertEquals(List.of("openai-assistant", "amazon-comprehend", "portal"),
+        searchIndex.search("ai", Language.EN, ProductSearchCriteria.DEFAULT_SEARCH_FIELDS));
+  }
+
+  @Test
+  void testSearchLongKeywordIgnoringCase() {
+    assertEquals(List.of("amazon-comprehend"),
+        searchIndex.search("Machine Learn", Language.EN, ProductSearchCriteria.DEFAULT_SEARCH_FIELDS));
+    assertEquals(List.of("portal"), searchIndex.search("portal", Language.EN, List.of(DocumentField.NAMES)));
+  }
+
+  @Test
+  void testSearchPerLanguageAndField() {
+    assertEquals(List.of("amazon-comprehend"),
+        searchIndex.search("textanalyse", Language.DE, ProductSearchCriteria.DEFAULT_SEARCH_FIELDS));
+    assertTrue(searchIndex.search("textanalyse", Language.EN, ProductSearchCriteria.DEFAULT_SEARCH_FIELDS).isEmpty());
+    assertTrue(searchIndex.search("machine", Language.EN, List.of(DocumentField.NAMES)).isEmpty());
+    assertTrue(searchIndex.search("", Language.EN, ProductSearchCriteria.DEFAULT_SEARCH_FIELDS).isEmpty());
+  }
+}
@@ -0,0 +1,67 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.util.VersionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import static com.axonivy.market.constants.MavenConstants.SNAPSHOT_RELEASE_POSTFIX;
+import static com.axonivy.market.constants.MavenConstants.SPRINT_RELEASE_POSTFIX;
+
+class VersionClassifierTest {
+  private static final List<String> VERSIONS = List.of("10.0.0", "10.0.0-SNAPSHOT", "10.0.0-m123", "10.0.1-SNAPSHOT",
+      "10.0.1-m12", "11.3.0-SNAPSHOT", "11.3.0-m264", "11.3.1", "11.3.1-m3-SNAPSHOT", "12.0", "12.0-SNAPSHOT",
+      "12.0.0-SNAPSHOT", "13", "13-m1", "dev-SNAPSHOT", "v14.0.0-SNAPSHOT", "8.0.10.1", "8.0.10-SNAPSHOT");
+
+  @Test
+  void testClassifyWithSameResultAsScanningAllVersions() {
+    List<String> versions = new ArrayList<>(VERSIONS);
+    var random = new Random(7);
+    String[] postfixes = {"", "-SNAPSHOT", "-m" + random.nextInt(300), "-m12-SNAPSHOT"};
+    for (int i = 0; i < 300; i++) {
+      versions.add(random.nextInt(13) + "." + random.nextInt(3) + "." + random.nextInt(8)
+          + postfixes[random.nextInt(postfixes.length)]);
+    }
+    VersionClassifier classifier = VersionClassifier.of(versions);
+    for (String version : versions) {
+      Assertions.assertEquals(legacyIsOfficialVersionOrUnReleasedDevVersion(versions, version),
+          classifier.isOfficialVersionOrUnReleasedDevVersion(version), version);
+    }
+  }
+
+  @Test
+  void testIsUnreleasedDevVersion() {
+    VersionClassifier classifier = VersionClassifier.of(VERSIONS);
+    Assertions.assertFalse(classifier.isUnreleasedDevVersion("10.0.0"));
+    Assertions.assertFalse(classifier.isUnreleasedDevVersion("10.0.0-SNAPSHOT"));
+    Assertions.assertFalse(classifier.isUnreleasedDevVersion("10.0.0-m123"));
+    Assertions.assertTrue(classifier.isUnreleasedDevVersion("10.0.1-SNAPSHOT"));
+    Assertions.assertTrue(classifier.isUnreleasedDevVersion("10.0.1-m12"));
+    Assertions.assertFalse(classifier.isUnreleasedDevVersion("11.3.1-m3-SNAPSHOT"));
+    Assertions.assertFalse(classifier.isUnreleasedDevVersion("12.0-SNAPSHOT"));
+    Assertions.assertFalse(classifier.isUnreleasedDevVersion("dev-SNAPSHOT"));
+    Assertions.assertTrue(classifier.isOfficialVersionOrUnReleasedDevVersion("11.3.1"));
+  }
+
+  private static boolean legacyIsOfficialVersionOrUnReleasedDevVersion(Collection<String> versions, String version) {
+    if (VersionUtils.isReleasedVersion(version)) {
+      return true;
+    }
+    String bugfixVersion;
+    if (!VersionUtils.isValidFormatReleasedVersion(version)) {
+      return false;
+    } else if (VersionUtils.isSnapshotVersion(version)) {
+      bugfixVersion = VersionUtils.getBugfixVersion(version.replace(SNAPSHOT_RELEASE_POSTFIX, StringUtils.EMPTY));
+    } else {
+      bugfixVersion = VersionUtils.getBugfixVersion(version.split(SPRINT_RELEASE_POSTFIX)[0]);
+    }
+    return versions.stream().noneMatch(
+        currentVersion -> !currentVersion.equals(version) && VersionUtils.isReleasedVersion(currentVersion)
+            && VersionUtils.getBugfixVersion(currentVersion).equals(bugfixVersion));
+  }
+}
@@ -0,0 +1,83 @@
+package com.axonivy.market.bo;
+
+import com.axonivy.market.comparator.LatestVersionComparator;
+import com.axonivy.market.comparator.MavenVersionComparator;
+import com.axonivy.market.util.VersionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class VersionResolverTest {
+  private static final List<String> VERSIONS = List.of("10.0.21-SNAPSHOT", "10.0.21", "10.0.19", "10.0.17",
+      "11.3.0-m264", "11.3.0-SNAPSHOT", "11.4.0-m1", "12.0.0-SNAPSHOT", "9.4.1", "9.4", "10.0.2");
+
+  @Test
+  void testResolveWithSameResultAsScanningSortedVersions() {
+    List<String> versions = new ArrayList<>(VERSIONS);
+    var random = new Random(13);
+    String[] postfixes = {"", "-SNAPSHOT", "-m" + random.nextInt(300)};
+    for (int i = 0; i < 200; i++) {
+      versions.add((8 + random.nextInt(5)) + "." + random.nextInt(4) + "." + random.nextInt(30)
+          + postfixes[random.nextInt(postfixes.length)]);
+    }
+    List<String> sortedVersions = versions.stream().distinct().sorted(new LatestVersionComparator()).toList();
+    List<String> releasedVersions = sortedVersions.stream().filter(VersionUtils::isReleasedVersion).toList();
+    VersionResolver resolver = VersionResolver.of(versions);
+    List<String> requestedVersions = new ArrayList<>(List.of("8", "9.4", "10.0", "10.0.1", "11.3.0", "12", "13.0"));
+    requestedVersions.addAll(versions.subList(0, 50));
+    for (String requestedVersion : requestedVersions) {
+      Assertions.assertEquals(legacyGetBestMatchVersion(sortedVersions, requestedVersion),
+          resolver.getBestMatchVersion(requestedVersion), requestedVersion);
+      Assertions.assertEquals(legacyFindVersionStartWith(sortedVersions, requestedVersion),
+          resolver.findLatestVersionStartWith(requestedVersion), requestedVersion);
+      Assertions.assertEquals(legacyFindVersionStartWith(releasedVersions, requestedVersion),
+          resolver.findLatestReleasedVersionStartWith(requestedVersion), requestedVersion);
+    }
+  }
+
+  @Test
+  void testLatestVersions() {
+    VersionResolver resolver = VersionResolver.of(VERSIONS);
+    Assertions.assertEquals("12.0.0-SNAPSHOT", resolver.getLatestVersion());
+    Assertions.assertEquals("10.0.21", resolver.getLatestReleasedVersion());
+    Assertions.assertEquals("10.0.19", resolver.getHighestReleasedVersionBelow("10.0.20"));
+    Assertions.assertNull(resolver.getHighestReleasedVersionBelow("9.4"));
+    Assertions.assertEquals("11.4.0-m1", resolver.findLatestVersionStartWith("11"));
+    Assertions.assertNull(resolver.findLatestReleasedVersionStartWith("11"));
+    Assertions.assertTrue(resolver.contains("9.4"));
+  }
+
+  @Test
+  void testEmptyVersions() {
+    VersionResolver resolver = VersionResolver.of(null);
+    Assertions.assertTrue(resolver.isEmpty());
+    Assertions.assertFalse(resolver.hasReleasedVersion());
+    Assertions.assertNull(resolver.getLatestVersion());
+    Assertions.assertNull(resolver.getBestMatchVersion("10.0.1"));
+    Assertions.assertNull(resolver.findLatestVersionStartWith("10"));
+  }
+
+  private static String legacyGetBestMatchVersion(List<String> versions, String designerVersion) {
+    String bestMatchVersion = versions.stream().filter(
+        version -> StringUtils.equals(version, designerVersion)).findAny().orElse(null);
+    if (StringUtils.isBlank(bestMatchVersion)) {
+      bestMatchVersion = versions.stream().filter(
+          version -> MavenVersionComparator.compare(version, designerVersion) < 0 && VersionUtils.isReleasedVersion(
+              version)).findAny().orElse(null);
+    }
+    if (StringUtils.isBlank(bestMatchVersion)) {
+      bestMatchVersion = versions.stream().filter(VersionUtils::isReleasedVersion).findAny().orElse(
+          CollectionUtils.firstElement(versions));
+    }
+    return bestMatchVersion;
+  }
+
+  private static String legacyFindVersionStartWith(List<String> versions, String version) {
+    return versions.stream().filter(ver -> ver.startsWith(version)).findFirst().orElse(null);
+  }
+}
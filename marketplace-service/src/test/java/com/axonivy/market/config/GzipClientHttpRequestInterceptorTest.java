@@ -0,0 +1,48 @@
+package com.axonivy.market.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GzipClientHttpRequestInterceptorTest {
+  private static final String CONTENT = "<metadata></metadata>";
+  private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+      URI.create("https://maven.axonivy.com/maven-metadata.xml"));
+  @Mock
+  private ClientHttpRequestExecution execution;
+  @Test
+  void testDecompressGzipResponse() throws IOException {
+    var compressed = new ByteArrayOutputStream();
+    try (var gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+    var mockResponse = new MockClientHttpResponse(compressed.toByteArray(), HttpStatus.OK);
+    mockResponse.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+    when(execution.execute(any(), any())).thenReturn(mockResponse);
+
+    var response = new GzipClientHttpRequestInterceptor().intercept(request, new byte[0], execution);
+
+    assertEquals("gzip", request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+    assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    assertEquals(CONTENT, new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+  }
+}
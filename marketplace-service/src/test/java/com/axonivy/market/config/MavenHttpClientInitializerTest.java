@@ -0,0 +1,28 @@
+package com.axonivy.market.config;
+
+import com.axonivy.market.util.MavenUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MavenHttpClientInitializerTest {
+  @Mock
+  private RestTemplate restTemplate;
+  @Mock
+  private ThreadPoolTaskExecutor httpClientExecutor;
+
+  @Test
+  void testInitSwitchesMavenUtilsToSharedClient() {
+    try (MockedStatic<MavenUtils> mockUtils = Mockito.mockStatic(MavenUtils.class)) {
+      new MavenHttpClientInitializer(restTemplate, httpClientExecutor).init();
+
+      mockUtils.verify(() -> MavenUtils.useHttpClient(restTemplate, httpClientExecutor));
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.axonivy.market.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsClientHttpRequestInterceptorTest {
+  private static final String CONTENT = "<metadata></metadata>";
+  private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+      URI.create("https://maven.axonivy.com/maven-metadata.xml"));
+  private final HttpClientMetrics httpClientMetrics = new HttpClientMetrics();
+  @Mock
+  private ClientHttpRequestExecution execution;
+
+  @Test
+  void testMetricsCountRequestAndBytes() throws IOException {
+    byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+    when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(content, HttpStatus.OK));
+
+    var response = new MetricsClientHttpRequestInterceptor(httpClientMetrics).intercept(request, new byte[0],
+        execution);
+    response.getBody().readAllBytes();
+
+    var hostMetrics = httpClientMetrics.getHostMetrics("maven.axonivy.com");
+    assertEquals(1, hostMetrics.getRequestCount());
+    assertEquals(content.length, hostMetrics.getBytesReceived());
+    assertEquals(1, Arrays.stream(hostMetrics.getLatencyHistogram()).sum());
+    assertTrue(httpClientMetrics.getSummary().contains("maven.axonivy.com{requests=1"));
+  }
+}
@@ -0,0 +1,47 @@
+package com.axonivy.market.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class RestTemplateConfigTest {
+  private static final String METADATA_URL = "https://maven.axonivy.com/maven-metadata.xml";
+  private static final String CONTENT = "<metadata></metadata>";
+
+  @Test
+  void testRetriedGzipResponseIsDecompressedAndCounted() throws IOException {
+    var compressed = new ByteArrayOutputStream();
+    try (var gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+    var restTemplate = new RestTemplate();
+    var server = MockRestServiceServer.bindTo(restTemplate).build();
+    var httpClientMetrics = new HttpClientMetrics();
+    restTemplate.setInterceptors(RestTemplateConfig.createInterceptors(httpClientMetrics, 1, 1));
+    server.expect(requestTo(METADATA_URL)).andExpect(header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+        .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+    var gzipHeaders = new HttpHeaders();
+    gzipHeaders.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+    server.expect(times(1), requestTo(METADATA_URL)).andExpect(header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+        .andRespond(withSuccess(compressed.toByteArray(), MediaType.APPLICATION_XML).headers(gzipHeaders));
+
+    assertEquals(CONTENT, restTemplate.getForObject(METADATA_URL, String.class));
+    server.verify();
+    assertEquals(1, httpClientMetrics.getHostMetrics("maven.axonivy.com").getRequestCount());
+  }
+}
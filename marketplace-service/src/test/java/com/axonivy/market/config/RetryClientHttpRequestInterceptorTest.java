@@ -0,0 +1,60 @@
+package com.axonivy.market.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetryClientHttpRequestInterceptorTest {
+  private static final byte[] EMPTY_BODY = new byte[0];
+  private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+      URI.create("https://maven.axonivy.com/maven-metadata.xml"));
+  @Mock
+  private ClientHttpRequestExecution execution;
+
+  @Test
+  void testRetryOnServerErrorAndTooManyRequests() throws IOException {
+    when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0],
+            HttpStatus.SERVICE_UNAVAILABLE), new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS),
+        new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+    var response = new RetryClientHttpRequestInterceptor(2, 1).intercept(request, EMPTY_BODY, execution);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    verify(execution, times(3)).execute(any(), any());
+  }
+
+  @Test
+  void testStopRetryingAfterMaxRetries() throws IOException {
+    when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0],
+        HttpStatus.BAD_GATEWAY));
+
+    var response = new RetryClientHttpRequestInterceptor(1, 1).intercept(request, EMPTY_BODY, execution);
+
+    assertEquals(HttpStatus.BAD_GATEWAY, response.getStatusCode());
+    verify(execution, times(2)).execute(any(), any());
+  }
+
+  @Test
+  void testNoRetryOnClientError() throws IOException {
+    when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_FOUND));
+
+    var response = new RetryClientHttpRequestInterceptor(2, 1).intercept(request, EMPTY_BODY, execution);
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    verify(execution, times(1)).execute(any(), any());
+  }
+}
@@ -1,5 +1,6 @@
 package com.axonivy.market.controller;
 
+import com.axonivy.market.bo.DocumentSyncStatistics;
 import com.axonivy.market.entity.ExternalDocumentMeta;
 import com.axonivy.market.entity.Product;
 import com.axonivy.market.github.service.GitHubService;
@@ -50,9 +51,12 @@ class ExternalDocumentControllerTest {
     assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode(), "Should be no product found");
 
     var mockProduct = mock(Product.class);
+    when(mockProduct.getId()).thenReturn("portal");
     when(service.findAllProductsHaveDocument()).thenReturn(List.of(mockProduct));
+    when(service.syncDocumentForProducts(List.of("portal"), true)).thenReturn(new DocumentSyncStatistics(2));
     result = externalDocumentController.syncDocumentForProduct(TOKEN, true);
     assertEquals(HttpStatus.OK, result.getStatusCode(), "Should return at least one product");
+    assertTrue(result.getBody().getMessageDetails().contains("0 of 2 versions"));
   }
 
   private ExternalDocumentMeta createExternalDocumentMock() {
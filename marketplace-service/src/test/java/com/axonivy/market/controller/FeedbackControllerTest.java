@@ -19,12 +19,14 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -85,10 +87,10 @@ class FeedbackControllerTest {
 
     Page<Feedback> mockFeedbacks = new PageImpl<>(List.of(mockFeedback), pageable, 1);
     when(service.findFeedbacks(any(), any())).thenReturn(mockFeedbacks);
-    when(userService.findUser(any())).thenReturn(mockUser);
+    when(userService.findUsersByIds(any())).thenReturn(Map.of(USER_ID_SAMPLE, mockUser));
     var mockFeedbackModel = feedbackModelAssembler.toModel(mockFeedback);
     var mockPagedModel = PagedModel.of(List.of(mockFeedbackModel), new PagedModel.PageMetadata(1, 0, 1));
-    when(pagedResourcesAssembler.toModel(any(), any(FeedbackModelAssembler.class))).thenReturn(mockPagedModel);
+    when(pagedResourcesAssembler.toModel(any(), any(RepresentationModelAssembler.class))).thenReturn(mockPagedModel);
     var result = feedbackController.findFeedbacks(PRODUCT_ID_SAMPLE, pageable);
     assertEquals(HttpStatus.OK, result.getStatusCode());
     assertTrue(result.hasBody());
@@ -101,7 +103,7 @@ class FeedbackControllerTest {
     Feedback mockFeedback = createFeedbackMock();
     User mockUser = createUserMock();
     when(service.findFeedback(FEEDBACK_ID_SAMPLE)).thenReturn(mockFeedback);
-    when(userService.findUser(any())).thenReturn(mockUser);
+    when(userService.findUsersByIds(any())).thenReturn(Map.of(USER_ID_SAMPLE, mockUser));
     var result = feedbackController.findFeedback(FEEDBACK_ID_SAMPLE);
     assertEquals(HttpStatus.OK, result.getStatusCode());
     assertTrue(result.hasBody());
@@ -113,7 +115,7 @@ class FeedbackControllerTest {
     Feedback mockFeedback = createFeedbackMock();
     User mockUser = createUserMock();
     when(service.findFeedbackByUserIdAndProductId(any(), any())).thenReturn(mockFeedback);
-    when(userService.findUser(any())).thenReturn(mockUser);
+    when(userService.findUsersByIds(any())).thenReturn(Map.of(USER_ID_SAMPLE, mockUser));
     var result = feedbackController.findFeedbackByUserIdAndProductId(USER_ID_SAMPLE, PRODUCT_ID_SAMPLE);
     assertEquals(HttpStatus.OK, result.getStatusCode());
     assertTrue(result.hasBody());
@@ -1,40 +1,204 @@
 package com.axonivy.market.controller;
 
+import com.axonivy.market.bo.ImageCacheStatistics;
+import com.axonivy.market.bo.ImageContent;
 import com.axonivy.market.service.ImageService;
+import com.axonivy.market.service.ImageVariantService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ImageControllerTest {
+  private static final String IMAGE_ID = "66e2b14868f2f95b2f95549a";
+  private static final String IMAGE_SHA = "914d9b6956db7a1404622f14265e435f36db81fa";
 
   @Mock
   private ImageService imageService;
 
+  @Mock
+  private ImageVariantService imageVariantService;
+
   @InjectMocks
   private ImageController imageController;
 
   @Test
   void test_getImageFromId() {
-    byte[] mockImageData = "image data".getBytes();
-    when(imageService.readImage("66e2b14868f2f95b2f95549a")).thenReturn(mockImageData);
+    Resource mockImageData = new ByteArrayResource("image data".getBytes());
+    when(imageService.readImage(IMAGE_ID)).thenReturn(
+        new ImageContent(mockImageData, 10, MediaType.IMAGE_PNG, IMAGE_SHA));
+
+    ResponseEntity<Resource> result = imageController.findImageById(IMAGE_ID, null, null, null);
+
+    assertEquals(HttpStatus.OK, result.getStatusCode());
+    assertSame(mockImageData, result.getBody());
+    HttpHeaders headers = result.getHeaders();
+    assertEquals(MediaType.IMAGE_PNG, headers.getContentType());
+    assertEquals(10, headers.getContentLength());
+    assertEquals("\"" + IMAGE_SHA + "\"", headers.getETag());
+    assertEquals("max-age=31536000, public, immutable", headers.getCacheControl());
+    assertEquals("nosniff", headers.getFirst("X-Content-Type-Options"));
+    assertNull(headers.getFirst("Content-Security-Policy"));
+    verify(imageService, never()).getImageETag(anyString());
+  }
+
+  @Test
+  void test_getSvgImageWithContentSecurityPolicy() {
+    MediaType svg = MediaType.valueOf("image/svg+xml");
+    when(imageService.findCachedImage(IMAGE_ID)).thenReturn(
+        new ImageContent(new ByteArrayResource("<svg/>".getBytes()), 6, svg, IMAGE_SHA));
+
+    HttpHeaders headers = imageController.findImageById(IMAGE_ID, null, null, null).getHeaders();
+
+    assertEquals(svg, headers.getContentType());
+    assertEquals("nosniff", headers.getFirst("X-Content-Type-Options"));
+    assertEquals("default-src 'none'; style-src 'unsafe-inline'; sandbox",
+        headers.getFirst("Content-Security-Policy"));
+  }
+
+  @Test
+  void test_getSvgPreviewImageWithContentSecurityPolicy() {
+    when(imageService.readPreviewImageByName("session", "logo.svg")).thenReturn(
+        "<svg onload=\"alert(1)\"/>".getBytes());
+
+    HttpHeaders headers = imageController.findPreviewImageByName("session", "logo.svg").getHeaders();
+
+    assertEquals(MediaType.valueOf("image/svg+xml"), headers.getContentType());
+    assertEquals("default-src 'none'; style-src 'unsafe-inline'; sandbox",
+        headers.getFirst("Content-Security-Policy"));
+  }
+
+  @Test
+  void test_getImageFromIdWithOutdatedETag() {
+    when(imageService.getImageETag(IMAGE_ID)).thenReturn(IMAGE_SHA);
+    when(imageService.readImage(IMAGE_ID)).thenReturn(
+        new ImageContent(new ByteArrayResource(new byte[]{1}), 1, MediaType.IMAGE_JPEG, IMAGE_SHA));
+
+    ResponseEntity<Resource> result = imageController.findImageById(IMAGE_ID, "\"outdated\"", null, null);
+
+    assertEquals(HttpStatus.OK, result.getStatusCode());
+    assertEquals(MediaType.IMAGE_JPEG, result.getHeaders().getContentType());
+  }
+
+  @Test
+  void test_getImageFromIdEmpty() {
+    when(imageService.readImage(IMAGE_ID)).thenReturn(
+        new ImageContent(new ByteArrayResource(new byte[0]), 0, MediaType.IMAGE_PNG, IMAGE_SHA));
+
+    assertEquals(HttpStatus.NO_CONTENT, imageController.findImageById(IMAGE_ID, null, null, null).getStatusCode());
+  }
+
+  @Test
+  void test_getImageFromIdNotModified() {
+    when(imageService.getImageETag(IMAGE_ID)).thenReturn(IMAGE_SHA);
+
+    ResponseEntity<Resource> result = imageController.findImageById(IMAGE_ID, "\"other\", W/\"" + IMAGE_SHA + "\"",
+        null, null);
+
+    assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+    assertNull(result.getBody());
+    assertEquals("\"" + IMAGE_SHA + "\"", result.getHeaders().getETag());
+    verify(imageService, never()).readImage(anyString());
+  }
 
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.IMAGE_PNG);
-    ResponseEntity<byte[]> expectedResult = new ResponseEntity<>(mockImageData, headers, HttpStatus.OK);
+  @Test
+  void test_getCachedImageNotModified() {
+    when(imageService.findCachedImage(IMAGE_ID)).thenReturn(
+        new ImageContent(new ByteArrayResource(new byte[]{1}), 1, MediaType.IMAGE_PNG, IMAGE_SHA));
+
+    ResponseEntity<Resource> result = imageController.findImageById(IMAGE_ID, "\"" + IMAGE_SHA + "\"", null, null);
+
+    assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+    verify(imageService, never()).getImageETag(anyString());
+    verify(imageService, never()).readImage(anyString());
+  }
+
+  @Test
+  void test_getImageFromIdNotFound() {
+    ResponseEntity<Resource> result = imageController.findImageById(IMAGE_ID, "*", null, null);
+
+    assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+    verify(imageService, never()).readImage(anyString());
+    assertEquals(HttpStatus.NOT_FOUND, imageController.findImageById(IMAGE_ID, null, null, null).getStatusCode());
+  }
+
+  @Test
+  void test_getImageVariant() {
+    Resource variant = new ByteArrayResource(new byte[]{1, 2});
+    when(imageVariantService.getVariantKey(64, null)).thenReturn("64-png");
+    when(imageVariantService.getVariant(IMAGE_ID, 64, null)).thenReturn(
+        new ImageContent(variant, 2, MediaType.IMAGE_PNG, IMAGE_SHA));
+
+    ResponseEntity<Resource> result = imageController.findImageById(IMAGE_ID, null, 64, null);
+
+    assertSame(variant, result.getBody());
+    assertEquals("\"" + IMAGE_SHA + "-64-png\"", result.getHeaders().getETag());
+    verify(imageService, never()).readImage(anyString());
+  }
+
+  @Test
+  void test_getCachedImageVariant() {
+    Resource variant = new ByteArrayResource(new byte[]{1, 2});
+    when(imageVariantService.getVariantKey(64, null)).thenReturn("64-png");
+    when(imageVariantService.findCachedVariant(IMAGE_ID, 64, null)).thenReturn(
+        new ImageContent(variant, 2, MediaType.IMAGE_PNG, IMAGE_SHA));
 
-    ResponseEntity<byte[]> result = imageController.findImageById("66e2b14868f2f95b2f95549a");
+    ResponseEntity<Resource> result = imageController.findImageById(IMAGE_ID, "\"outdated\"", 64, null);
 
-    assertEquals(expectedResult, result);
+    assertSame(variant, result.getBody());
+    verify(imageService, never()).getImageETag(anyString());
+    verify(imageVariantService, never()).getVariant(anyString(), any(), any());
   }
 
+  @Test
+  void test_getImageVariantNotModified() {
+    when(imageService.getImageETag(IMAGE_ID)).thenReturn(IMAGE_SHA);
+    when(imageVariantService.getVariantKey(64, "jpeg")).thenReturn("64-jpeg");
+
+    ResponseEntity<Resource> result = imageController.findImageById(IMAGE_ID, "\"" + IMAGE_SHA + "-64-jpeg\"", 64,
+        "jpeg");
+
+    assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+    verify(imageVariantService, never()).getVariant(anyString(), any(), any());
+  }
+
+  @Test
+  void test_getImageVariantFallbackToOriginal() {
+    Resource original = new ByteArrayResource(new byte[]{1});
+    when(imageVariantService.getVariantKey(64, null)).thenReturn("64-png");
+    when(imageService.readImage(IMAGE_ID)).thenReturn(new ImageContent(original, 1, MediaType.IMAGE_PNG, IMAGE_SHA));
+
+    ResponseEntity<Resource> result = imageController.findImageById(IMAGE_ID, null, 64, null);
+
+    assertSame(original, result.getBody());
+    assertEquals("\"" + IMAGE_SHA + "-64-png\"", result.getHeaders().getETag());
+  }
+
+  @Test
+  void test_getImageCacheStatistics() {
+    var statistics = new ImageCacheStatistics(3, 1, 0, 1, 7, 1024);
+    when(imageService.getImageCacheStatistics()).thenReturn(statistics);
+
+    ResponseEntity<ImageCacheStatistics> result = imageController.getImageCacheStatistics();
+
+    assertEquals(HttpStatus.OK, result.getStatusCode());
+    assertSame(statistics, result.getBody());
+  }
 }
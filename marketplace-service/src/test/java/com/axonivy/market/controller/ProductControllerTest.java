@@ -81,9 +81,9 @@ class ProductControllerTest extends BaseSetup {
   void testFindProductsAsEmpty() {
     PageRequest pageable = PageRequest.of(0, 20);
     Page<Product> mockProducts = new PageImpl<>(List.of(), pageable, 0);
-    when(service.findProducts(any(), any(), any(), any(), any())).thenReturn(mockProducts);
+    when(service.findProducts(any(), any(), any(), any(), any(), any())).thenReturn(mockProducts);
     when(pagedResourcesAssembler.toEmptyModel(any(), any())).thenReturn(PagedModel.empty());
-    var result = productController.findProducts(TypeOption.ALL.getOption(), null, "en", false, pageable);
+    var result = productController.findProducts(TypeOption.ALL.getOption(), null, "en", false, null, pageable);
     assertEquals(HttpStatus.OK, result.getStatusCode());
     assertTrue(result.hasBody());
     assertEquals(0, Objects.requireNonNull(result.getBody()).getContent().size());
@@ -95,12 +95,12 @@ class ProductControllerTest extends BaseSetup {
     Product mockProduct = createProductMock();
 
     Page<Product> mockProducts = new PageImpl<>(List.of(mockProduct), pageable, 1);
-    when(service.findProducts(any(), any(), any(), any(), any())).thenReturn(mockProducts);
+    when(service.findProducts(any(), any(), any(), any(), any(), any())).thenReturn(mockProducts);
     assembler = new ProductModelAssembler();
     var mockProductModel = assembler.toModel(mockProduct);
     var mockPagedModel = PagedModel.of(List.of(mockProductModel), new PageMetadata(1, 0, 1));
     when(pagedResourcesAssembler.toModel(any(), any(ProductModelAssembler.class))).thenReturn(mockPagedModel);
-    var result = productController.findProducts(TypeOption.ALL.getOption(), "", "en", false, pageable);
+    var result = productController.findProducts(TypeOption.ALL.getOption(), "", "en", false, null, pageable);
     assertEquals(HttpStatus.OK, result.getStatusCode());
     assertTrue(result.hasBody());
     assertEquals(1, Objects.requireNonNull(result.getBody()).getContent().size());
@@ -112,7 +112,7 @@ class ProductControllerTest extends BaseSetup {
 
   @Test
   void testSyncProductsSuccess() {
-    when(service.syncLatestDataFromMarketRepo(false)).thenReturn(List.of());
+    when(service.syncLatestDataFromMarketRepo(eq(false), any())).thenReturn(List.of());
 
     var response = productController.syncProducts(AUTHORIZATION_HEADER, false);
 
@@ -124,7 +124,7 @@ class ProductControllerTest extends BaseSetup {
 
   @Test
   void testSyncProductsWithResetSuccess() {
-    when(service.syncLatestDataFromMarketRepo(true)).thenReturn(List.of("portal"));
+    when(service.syncLatestDataFromMarketRepo(eq(true), any())).thenReturn(List.of("portal"));
 
     var response = productController.syncProducts(AUTHORIZATION_HEADER, true);
 
@@ -132,6 +132,7 @@ class ProductControllerTest extends BaseSetup {
     assertTrue(response.hasBody());
     assertEquals(ErrorCode.SUCCESSFUL.getCode(), Objects.requireNonNull(response.getBody()).getHelpCode());
     assertTrue(response.getBody().getMessageDetails().contains("Finished sync [[portal]] data in"));
+    assertTrue(response.getBody().getMessageDetails().contains("github-content="));
   }
 
   @Test
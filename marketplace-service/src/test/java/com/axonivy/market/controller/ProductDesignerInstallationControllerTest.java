@@ -1,6 +1,7 @@
 package com.axonivy.market.controller;
 
 import com.axonivy.market.model.DesignerInstallation;
+import com.axonivy.market.model.InstallationTrend;
 import com.axonivy.market.service.ProductDesignerInstallationService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -38,4 +39,15 @@ class ProductDesignerInstallationControllerTest {
     Assertions.assertEquals(5, result.getBody().get(0).getNumberOfDownloads());
     Assertions.assertEquals(models, result.getBody());
   }
+
+  @Test
+  void testGetInstallationTrendsByProductId() {
+    List<InstallationTrend> trends = List.of(new InstallationTrend("2024-10", 5,
+        List.of(new DesignerInstallation("11", 5))));
+    Mockito.when(productDesignerInstallationService.findInstallationTrends("portal", "month", 12)).thenReturn(trends);
+    ResponseEntity<List<InstallationTrend>> result =
+        productDesignerInstallationController.getInstallationTrendsByProductId("portal", "month", 12);
+    Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+    Assertions.assertEquals(trends, result.getBody());
+  }
 }
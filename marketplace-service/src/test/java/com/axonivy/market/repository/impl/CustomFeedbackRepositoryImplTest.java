@@ -0,0 +1,105 @@
+package com.axonivy.market.repository.impl;
+
+import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.entity.Feedback;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomFeedbackRepositoryImplTest {
+  private static final String USER_ID = "user1";
+  private static final String PRODUCT_ID = "portal";
+  @Mock
+  private MongoTemplate mongoTemplate;
+  @InjectMocks
+  private CustomFeedbackRepositoryImpl repo;
+
+  @Test
+  void testUpsertByUserIdAndProductId_Insert() {
+    Feedback feedback = createFeedback();
+    ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+
+    assertNull(repo.upsertByUserIdAndProductId(feedback));
+
+    verify(mongoTemplate).findAndModify(any(Query.class), updateCaptor.capture(), optionsCaptor.capture(),
+        eq(Feedback.class));
+    assertTrue(optionsCaptor.getValue().isUpsert());
+    assertFalse(optionsCaptor.getValue().isReturnNew());
+    Document setOnInsert = updateCaptor.getValue().getUpdateObject().get("$setOnInsert", Document.class);
+    assertEquals(setOnInsert.get(MongoDBConstants.ID).toString(), feedback.getId());
+    assertNotNull(feedback.getCreatedAt());
+  }
+
+  @Test
+  void testUpsertByUserIdAndProductId_Update() {
+    Feedback feedback = createFeedback();
+    Feedback previousFeedback = createFeedback();
+    previousFeedback.setId("existing-id");
+    previousFeedback.setCreatedAt(new Date(0));
+    when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+        eq(Feedback.class))).thenReturn(previousFeedback);
+
+    assertSame(previousFeedback, repo.upsertByUserIdAndProductId(feedback));
+    assertEquals("existing-id", feedback.getId());
+    assertEquals(new Date(0), feedback.getCreatedAt());
+  }
+
+  @Test
+  void testCountRatingsByProductId() {
+    var results = new AggregationResults<>(List.of(
+        new Document(MongoDBConstants.ID, new Document(MongoDBConstants.PRODUCT_ID, PRODUCT_ID)
+            .append(MongoDBConstants.RATING, 5)).append(MongoDBConstants.COUNT, 2),
+        new Document(MongoDBConstants.ID, new Document(MongoDBConstants.PRODUCT_ID, PRODUCT_ID)
+            .append(MongoDBConstants.RATING, 3)).append(MongoDBConstants.COUNT, 1)), new Document());
+    when(mongoTemplate.aggregate(any(Aggregation.class), eq(Feedback.class), eq(Document.class))).thenReturn(results);
+
+    assertEquals(Map.of(PRODUCT_ID, Map.of(5, 2, 3, 1)), repo.countRatingsByProductId());
+  }
+
+  @Test
+  void testEnsureUserIdAndProductIdIndex() {
+    IndexOperations indexOperations = mock(IndexOperations.class);
+    when(mongoTemplate.indexOps(Feedback.class)).thenReturn(indexOperations);
+    ArgumentCaptor<Index> indexCaptor = ArgumentCaptor.forClass(Index.class);
+
+    repo.ensureUserIdAndProductIdIndex();
+
+    verify(indexOperations).ensureIndex(indexCaptor.capture());
+    assertEquals(Boolean.TRUE, indexCaptor.getValue().getIndexOptions().get("unique"));
+  }
+
+  private static Feedback createFeedback() {
+    var feedback = new Feedback();
+    feedback.setUserId(USER_ID);
+    feedback.setProductId(PRODUCT_ID);
+    feedback.setRating(5);
+    feedback.setContent("Great product!");
+    return feedback;
+  }
+}
@@ -0,0 +1,55 @@
+package com.axonivy.market.repository.impl;
+
+import com.axonivy.market.entity.Image;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomImageRepositoryImplTest {
+  @Mock
+  private MongoTemplate mongoTemplate;
+  @InjectMocks
+  private CustomImageRepositoryImpl repo;
+
+  @Test
+  void testEnsureProductIdAndContentHashIndex() {
+    IndexOperations indexOperations = mock(IndexOperations.class);
+    when(mongoTemplate.indexOps(Image.class)).thenReturn(indexOperations);
+    ArgumentCaptor<Index> indexCaptor = ArgumentCaptor.forClass(Index.class);
+
+    repo.ensureProductIdAndContentHashIndex();
+
+    verify(indexOperations).ensureIndex(indexCaptor.capture());
+    assertEquals(new Document("productId", 1).append("contentHash", 1), indexCaptor.getValue().getIndexKeys());
+    assertEquals("productId_contentHash", indexCaptor.getValue().getIndexOptions().getString("name"));
+  }
+
+  @Test
+  void testSetVariantHash() {
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+
+    repo.setVariantHash("image-id", "64-png", "variant-hash");
+
+    verify(mongoTemplate).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq(Image.class));
+    assertEquals(new Document("_id", "image-id"), queryCaptor.getValue().getQueryObject());
+    assertEquals(new Document("$set", new Document("variantHashes.64-png", "variant-hash")),
+        updateCaptor.getValue().getUpdateObject());
+  }
+}
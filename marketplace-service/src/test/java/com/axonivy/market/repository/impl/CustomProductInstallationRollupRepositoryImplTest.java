@@ -0,0 +1,67 @@
+package com.axonivy.market.repository.impl;
+
+import com.axonivy.market.BaseSetup;
+import com.axonivy.market.bo.InstallationEvent;
+import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.entity.ProductInstallationRollup;
+import com.axonivy.market.enums.InstallationPeriod;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomProductInstallationRollupRepositoryImplTest extends BaseSetup {
+  private static final LocalDate FIRST_OF_OCTOBER = LocalDate.of(2024, 10, 1);
+  private static final LocalDate SECOND_OF_OCTOBER = LocalDate.of(2024, 10, 2);
+  @Mock
+  private MongoTemplate mongoTemplate;
+  @InjectMocks
+  private CustomProductInstallationRollupRepositoryImpl repo;
+
+  @Test
+  void testIncreaseInstallationCounts() {
+    BulkOperations bulkOperations = mock(BulkOperations.class);
+    when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductInstallationRollup.class))
+        .thenReturn(bulkOperations);
+
+    repo.increaseInstallationCounts(Map.of(
+        new InstallationEvent(MOCK_PRODUCT_ID, FIRST_OF_OCTOBER, "10"), 2L,
+        new InstallationEvent(MOCK_PRODUCT_ID, FIRST_OF_OCTOBER, "11"), 1L,
+        new InstallationEvent(MOCK_PRODUCT_ID, SECOND_OF_OCTOBER, null), 4L));
+
+    verify(bulkOperations, times(3)).upsert(any(Query.class), any(Update.class));
+    verify(bulkOperations).upsert(createQuery(InstallationPeriod.MONTH, "2024-10"), new Update()
+        .setOnInsert(MongoDBConstants.PRODUCT_ID, MOCK_PRODUCT_ID)
+        .setOnInsert(MongoDBConstants.PERIOD, InstallationPeriod.MONTH.name())
+        .setOnInsert(MongoDBConstants.BUCKET, "2024-10")
+        .inc(MongoDBConstants.INSTALLATION_COUNT, 7L)
+        .inc(MongoDBConstants.INSTALLATION_COUNT_BY_MAJOR_VERSION + ".10", 2L)
+        .inc(MongoDBConstants.INSTALLATION_COUNT_BY_MAJOR_VERSION + ".11", 1L));
+    verify(bulkOperations).upsert(createQuery(InstallationPeriod.DAY, "2024-10-02"), new Update()
+        .setOnInsert(MongoDBConstants.PRODUCT_ID, MOCK_PRODUCT_ID)
+        .setOnInsert(MongoDBConstants.PERIOD, InstallationPeriod.DAY.name())
+        .setOnInsert(MongoDBConstants.BUCKET, "2024-10-02")
+        .inc(MongoDBConstants.INSTALLATION_COUNT, 4L));
+    verify(bulkOperations).execute();
+
+    repo.increaseInstallationCounts(Map.of());
+    verify(mongoTemplate).bulkOps(any(BulkOperations.BulkMode.class), eq(ProductInstallationRollup.class));
+  }
+
+  private static Query createQuery(InstallationPeriod period, String bucket) {
+    return new Query(Criteria.where(MongoDBConstants.ID)
+        .is(ProductInstallationRollup.createId(MOCK_PRODUCT_ID, period, bucket)));
+  }
+}
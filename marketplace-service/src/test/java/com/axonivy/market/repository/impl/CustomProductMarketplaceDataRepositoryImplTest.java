@@ -4,18 +4,24 @@ import com.axonivy.market.BaseSetup;
 import com.axonivy.market.constants.MongoDBConstants;
 import com.axonivy.market.entity.ProductDesignerInstallation;
 import com.axonivy.market.entity.ProductMarketplaceData;
+import com.mongodb.bulk.BulkWriteResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,59 +32,84 @@ class CustomProductMarketplaceDataRepositoryImplTest extends BaseSetup {
   private CustomProductMarketplaceDataRepositoryImpl repo;
 
   @Test
-  void testIncreaseInstallationCount() {
-    ProductMarketplaceData mockProductMarketplaceData = getMockProductMarketplaceData();
-    when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
-        eq(ProductMarketplaceData.class))).thenReturn(mockProductMarketplaceData);
-
-    int updatedCount = repo.increaseInstallationCount(MOCK_PRODUCT_ID);
+  void testCheckAndInitProductMarketplaceDataIfNotExist(){
+    Query query = new Query(Criteria.where(MongoDBConstants.ID).is(MOCK_PRODUCT_ID));
+    when(mongoTemplate.exists(query, ProductMarketplaceData.class)).thenReturn(true);
+    repo.checkAndInitProductMarketplaceDataIfNotExist(MOCK_PRODUCT_ID);
+    verify(mongoTemplate, never()).insert(any(ProductMarketplaceData.class));
 
-    assertEquals(3, updatedCount);
+    when(mongoTemplate.exists(query, ProductMarketplaceData.class)).thenReturn(false);
+    repo.checkAndInitProductMarketplaceDataIfNotExist(MOCK_PRODUCT_ID);
+    verify(mongoTemplate, times(1)).insert(any(ProductMarketplaceData.class));
   }
 
   @Test
-  void testIncreaseInstallationCount_NullProduct() {
-    when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
-        eq(ProductMarketplaceData.class))).thenReturn(null);
-    int updatedCount = repo.increaseInstallationCount(MOCK_PRODUCT_ID);
-    assertEquals(0, updatedCount);
+  void testIncreaseInstallationCounts() {
+    BulkOperations bulkOperations = mock(BulkOperations.class);
+    when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductMarketplaceData.class))
+        .thenReturn(bulkOperations);
+
+    repo.increaseInstallationCounts(Map.of(MOCK_PRODUCT_ID, 3L, SAMPLE_PRODUCT_ID, 1L));
+
+    verify(bulkOperations).updateOne(new Query(Criteria.where(MongoDBConstants.ID).is(MOCK_PRODUCT_ID)),
+        new Update().inc(MongoDBConstants.INSTALLATION_COUNT, 3L));
+    verify(bulkOperations, times(2)).updateOne(any(Query.class), any(Update.class));
+    verify(bulkOperations).execute();
+
+    repo.increaseInstallationCounts(Map.of());
+    verify(mongoTemplate).bulkOps(any(BulkOperations.BulkMode.class), eq(ProductMarketplaceData.class));
   }
 
   @Test
-  void testUpdateInitialCount() {
-    int initialCount = 10;
+  void testIncreaseInstallationCountsByDesignerVersion() {
+    BulkOperations bulkOperations = mock(BulkOperations.class);
+    when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDesignerInstallation.class))
+        .thenReturn(bulkOperations);
 
-    ProductMarketplaceData updatedProductMarketplaceData = new ProductMarketplaceData();
-    updatedProductMarketplaceData.setId(MOCK_PRODUCT_ID);
-    updatedProductMarketplaceData.setInstallationCount(11);
+    repo.increaseInstallationCountsByDesignerVersion(
+        Map.of(MOCK_PRODUCT_ID, Map.of(MOCK_RELEASED_VERSION, 2L, "11.3.0", 1L)));
 
-    when(mongoTemplate.findAndModify(any(Query.class),
-        eq(new Update().inc(MongoDBConstants.INSTALLATION_COUNT, initialCount)
-            .set(MongoDBConstants.SYNCHRONIZED_INSTALLATION_COUNT, true)),
-        any(FindAndModifyOptions.class),
-        eq(ProductMarketplaceData.class))
-    ).thenReturn(updatedProductMarketplaceData);
+    verify(bulkOperations, times(2)).upsert(any(Query.class), any(Update.class));
+    verify(bulkOperations).execute();
+  }
 
-    int updatedCount = repo.updateInitialCount(MOCK_PRODUCT_ID, initialCount);
+  @Test
+  void testFindIdsWithoutSynchronizedInstallationCount() {
+    when(mongoTemplate.find(any(Query.class), eq(ProductMarketplaceData.class)))
+        .thenReturn(List.of(getMockProductMarketplaceData()));
 
-    assertEquals(11, updatedCount);
+    assertEquals(List.of(MOCK_PRODUCT_ID), repo.findIdsWithoutSynchronizedInstallationCount());
   }
 
   @Test
-  void testIncreaseInstallationCountForProductByDesignerVersion() {
-    repo.increaseInstallationCountForProductByDesignerVersion(MOCK_PRODUCT_ID, MOCK_RELEASED_VERSION);
-    verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(ProductDesignerInstallation.class));
+  void testUpdateInitialCounts() {
+    BulkOperations bulkOperations = mock(BulkOperations.class);
+    when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductMarketplaceData.class))
+        .thenReturn(bulkOperations);
+    when(bulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+    when(mongoTemplate.find(any(Query.class), eq(ProductMarketplaceData.class)))
+        .thenReturn(List.of(getMockProductMarketplaceData()));
+
+    assertEquals(List.of(MOCK_PRODUCT_ID),
+        repo.updateInitialCounts(Map.of(MOCK_PRODUCT_ID, 40, SAMPLE_PRODUCT_ID, 30)));
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+    verify(bulkOperations, times(2)).updateOne(any(Query.class), updateCaptor.capture());
+    Update update = updateCaptor.getAllValues().get(0);
+    assertTrue(update.modifies(MongoDBConstants.SYNCHRONIZED_INSTALLATION_COUNT));
+    assertTrue(update.modifies(MongoDBConstants.INSTALLATION_COUNT_MIGRATION_ID));
+    verify(mongoTemplate).updateMulti(any(Query.class),
+        eq(new Update().unset(MongoDBConstants.INSTALLATION_COUNT_MIGRATION_ID)), eq(ProductMarketplaceData.class));
+    assertEquals(List.of(), repo.updateInitialCounts(Map.of()));
   }
 
   @Test
-  void testCheckAndInitProductMarketplaceDataIfNotExist(){
-    Query query = new Query(Criteria.where(MongoDBConstants.ID).is(MOCK_PRODUCT_ID));
-    when(mongoTemplate.exists(query, ProductMarketplaceData.class)).thenReturn(true);
-    repo.checkAndInitProductMarketplaceDataIfNotExist(MOCK_PRODUCT_ID);
-    verify(mongoTemplate, never()).insert(any(ProductMarketplaceData.class));
+  void testUpdateInitialCountsWhenAllAreMigratedAlready() {
+    BulkOperations bulkOperations = mock(BulkOperations.class);
+    when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductMarketplaceData.class))
+        .thenReturn(bulkOperations);
+    when(bulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 0, List.of(), List.of()));
 
-    when(mongoTemplate.exists(query, ProductMarketplaceData.class)).thenReturn(false);
-    repo.checkAndInitProductMarketplaceDataIfNotExist(MOCK_PRODUCT_ID);
-    verify(mongoTemplate, times(1)).insert(any(ProductMarketplaceData.class));
+    assertEquals(List.of(), repo.updateInitialCounts(Map.of(MOCK_PRODUCT_ID, 40)));
+    verify(mongoTemplate, never()).find(any(Query.class), eq(ProductMarketplaceData.class));
   }
-}
\ No newline at end of file
+}
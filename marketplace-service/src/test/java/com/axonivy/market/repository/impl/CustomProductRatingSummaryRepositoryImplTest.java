@@ -0,0 +1,52 @@
+package com.axonivy.market.repository.impl;
+
+import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.entity.ProductRatingSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomProductRatingSummaryRepositoryImplTest {
+  private static final String PRODUCT_ID = "portal";
+  @Mock
+  private MongoTemplate mongoTemplate;
+  @InjectMocks
+  private CustomProductRatingSummaryRepositoryImpl repo;
+
+  @Test
+  void testIncreaseRatingCounts() {
+    repo.increaseRatingCounts(PRODUCT_ID, Map.of(5, 1, 3, -1));
+
+    verify(mongoTemplate).upsert(new Query(Criteria.where(MongoDBConstants.ID).is(PRODUCT_ID)),
+        new Update().inc("ratingCounts.5", 1).inc("ratingCounts.3", -1), ProductRatingSummary.class);
+
+    repo.increaseRatingCounts(PRODUCT_ID, Map.of());
+    verifyNoMoreInteractions(mongoTemplate);
+  }
+
+  @Test
+  void testReplaceRatingCounts() {
+    BulkOperations bulkOperations = mock(BulkOperations.class);
+    when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductRatingSummary.class))
+        .thenReturn(bulkOperations);
+
+    repo.replaceRatingCounts(Map.of(PRODUCT_ID, Map.of(5, 2, 3, 1)));
+
+    verify(bulkOperations).upsert(new Query(Criteria.where(MongoDBConstants.ID).is(PRODUCT_ID)),
+        new Update().set(MongoDBConstants.RATING_COUNTS, Map.of("5", 2, "3", 1)));
+    verify(bulkOperations).execute();
+    verify(mongoTemplate).remove(any(Query.class), eq(ProductRatingSummary.class));
+  }
+}
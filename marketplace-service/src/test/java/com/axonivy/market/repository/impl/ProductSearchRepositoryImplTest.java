@@ -1,18 +1,25 @@
 package com.axonivy.market.repository.impl;
 
 import com.axonivy.market.BaseSetup;
+import com.axonivy.market.bo.ProductSearchResult;
 import com.axonivy.market.constants.MongoDBConstants;
 import com.axonivy.market.criteria.ProductSearchCriteria;
 import com.axonivy.market.entity.Product;
 import com.axonivy.market.enums.DocumentField;
 import com.axonivy.market.enums.Language;
+import com.axonivy.market.enums.SortOption;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
@@ -24,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,13 +53,31 @@ class ProductSearchRepositoryImplTest extends BaseSetup {
     mockResultReturn = createPageProductsMock();
   }
 
+  private void mockSearchResult(ProductSearchResult searchResult) {
+    AggregationResults<ProductSearchResult> mockAggregationResults = mock(AggregationResults.class);
+    when(mockAggregationResults.getUniqueMappedResult()).thenReturn(searchResult);
+    when(mongoTemplate.aggregate(any(Aggregation.class), eq(MongoDBConstants.PRODUCT_COLLECTION),
+        eq(ProductSearchResult.class))).thenReturn(mockAggregationResults);
+  }
+
+  private Document captureContentFacet() {
+    ArgumentCaptor<Aggregation> aggregationCaptor = ArgumentCaptor.forClass(Aggregation.class);
+    verify(mongoTemplate).aggregate(aggregationCaptor.capture(), eq(MongoDBConstants.PRODUCT_COLLECTION),
+        eq(ProductSearchResult.class));
+    List<Document> pipeline = aggregationCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+    assertEquals(List.of("$match", "$facet", "$project"),
+        pipeline.stream().map(stage -> stage.keySet().iterator().next()).toList(),
+        "Page and count should be loaded by one aggregation");
+    return pipeline.get(1).get("$facet", Document.class);
+  }
+
+  private static List<String> getStageNames(Document facet, String name) {
+    return facet.getList(name, Document.class).stream().map(stage -> stage.keySet().iterator().next()).toList();
+  }
+
   @Test
   void testSearchByCriteria() {
-    AggregationResults<Product> mockAggregationResults = mock(AggregationResults.class);
-    when(mockAggregationResults.getMappedResults()).thenReturn(mockResultReturn.getContent());
-    when(mongoTemplate.aggregate(any(Aggregation.class), eq(MongoDBConstants.PRODUCT_COLLECTION), eq(Product.class)))
-        .thenReturn(mockAggregationResults);
-    when(mongoTemplate.count(any(Query.class), eq(Product.class))).thenReturn((long) mockResultReturn.getSize());
+    mockSearchResult(new ProductSearchResult(mockResultReturn.getContent(), (long) mockResultReturn.getSize()));
 
     Page<Product> result = productListedRepository.searchByCriteria(searchCriteria, PAGEABLE);
 
@@ -59,6 +86,50 @@ class ProductSearchRepositoryImplTest extends BaseSetup {
     assertEquals(2, result.getContent().size(), "Unexpected number of products");
     assertTrue(result.getContent().get(0).getNames().containsValue(SAMPLE_PRODUCT_NAME),
         "Expected product name not found in the result");
+    Document facet = captureContentFacet();
+    assertEquals(List.of("$sort", "$skip", "$limit", "$lookup"), getStageNames(facet, "content"),
+        "Marketplace data should be joined after the limit");
+    assertEquals(List.of("$count"), getStageNames(facet, "total"));
+    verify(mongoTemplate, never()).count(any(Query.class), eq(Product.class));
+  }
+
+  @Test
+  void testSearchByCriteriaSortedByMarketplaceData() {
+    mockSearchResult(null);
+    Pageable popularityPageable = PageRequest.of(1, 20,
+        Sort.by(Sort.Order.desc(SortOption.POPULARITY.getCode()), Sort.Order.asc(MongoDBConstants.ID)));
+
+    Page<Product> result = productListedRepository.searchByCriteria(searchCriteria, popularityPageable);
+
+    assertTrue(result.isEmpty(), "Result is not empty");
+    assertEquals(List.of("$lookup", "$sort", "$skip", "$limit"), getStageNames(captureContentFacet(), "content"),
+        "Marketplace data should be joined before sorting by it");
+  }
+
+  @Test
+  void testSearchByCriteriaAfterProduct() {
+    Document afterProduct = new Document(MongoDBConstants.ID, SAMPLE_PRODUCT_ID).append(
+        MongoDBConstants.MARKETPLACE_DATA, List.of(new Document("installationCount", 30)));
+    AggregationResults<Document> afterProductResults = mock(AggregationResults.class);
+    when(afterProductResults.getUniqueMappedResult()).thenReturn(afterProduct);
+    when(mongoTemplate.aggregate(any(Aggregation.class), eq(MongoDBConstants.PRODUCT_COLLECTION),
+        eq(Document.class))).thenReturn(afterProductResults);
+    mockSearchResult(new ProductSearchResult(mockResultReturn.getContent(), 5L));
+    searchCriteria.setAfterProductId(SAMPLE_PRODUCT_ID);
+    Pageable popularityPageable = PageRequest.of(0, 2,
+        Sort.by(Sort.Order.desc(SortOption.POPULARITY.getCode()), Sort.Order.asc(MongoDBConstants.ID)));
+
+    Page<Product> result = productListedRepository.searchByCriteria(searchCriteria, popularityPageable);
+
+    assertEquals(5, result.getTotalElements());
+    Document facet = captureContentFacet();
+    assertEquals(List.of("$lookup", "$match", "$sort", "$limit"), getStageNames(facet, "content"),
+        "Keyset page should not skip");
+    Document keysetMatch = facet.getList("content", Document.class).get(1).get("$match", Document.class);
+    List<Document> afterFilters = keysetMatch.getList("$or", Document.class);
+    assertEquals(2, afterFilters.size(), "Expected one filter per sort key");
+    assertTrue(afterFilters.get(1).toJson().contains(SAMPLE_PRODUCT_ID),
+        "Ties should be broken by the product id");
   }
 
   @Test
@@ -0,0 +1,74 @@
+package com.axonivy.market.schedulingtask;
+
+import com.axonivy.market.bo.SyncStatistics;
+import com.axonivy.market.enums.SyncStage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyncTaskExecutorTest {
+  private static final int WORKER_POOL_SIZE = 4;
+  private static final int GITHUB_MAX_CONCURRENT_REQUESTS = 2;
+  private SyncTaskExecutor syncTaskExecutor;
+
+  @BeforeEach
+  void setup() {
+    syncTaskExecutor = new SyncTaskExecutor(WORKER_POOL_SIZE, GITHUB_MAX_CONCURRENT_REQUESTS, 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    syncTaskExecutor.destroy();
+  }
+
+  @Test
+  void testInvokeAllKeepsOrderAndSkipsFailedTask() {
+    List<Callable<String>> tasks = List.of(() -> "first", () -> {
+      throw new IllegalStateException("Sync failed");
+    }, () -> "third");
+
+    var results = syncTaskExecutor.invokeAll(tasks);
+
+    assertEquals(List.of("first", "third"), results);
+  }
+
+  @Test
+  void testCallStageRespectsHostConcurrencyCap() {
+    var statistics = new SyncStatistics();
+    var runningTasks = new AtomicInteger();
+    var maxRunningTasks = new AtomicInteger();
+    List<Callable<Integer>> tasks = IntStream.range(0, 10).mapToObj(index -> (Callable<Integer>) () ->
+        syncTaskExecutor.callStage(SyncStage.GITHUB_CONTENT, statistics, () -> {
+          maxRunningTasks.accumulateAndGet(runningTasks.incrementAndGet(), Math::max);
+          Thread.sleep(20);
+          runningTasks.decrementAndGet();
+          return index;
+        })).toList();
+
+    var results = syncTaskExecutor.invokeAll(tasks);
+
+    assertEquals(10, results.size());
+    assertTrue(maxRunningTasks.get() <= GITHUB_MAX_CONCURRENT_REQUESTS);
+    assertTrue(statistics.getStageDuration(SyncStage.GITHUB_CONTENT) > 0);
+  }
+
+  @Test
+  void testRunStageRecordsDurationWhenTaskFails() {
+    var statistics = new SyncStatistics();
+
+    assertThrows(IllegalStateException.class, () -> syncTaskExecutor.runStage(SyncStage.PERSISTENCE, statistics,
+        () -> {
+          throw new IllegalStateException("Save failed");
+        }));
+    assertTrue(statistics.getSummary().contains(SyncStage.PERSISTENCE.getCode()));
+  }
+}
@@ -1,5 +1,6 @@
 package com.axonivy.market.service;
 
+import com.axonivy.market.config.HttpClientMetrics;
 import com.axonivy.market.entity.Product;
 import com.axonivy.market.repository.ProductRepository;
 import com.axonivy.market.schedulingtask.ScheduledTasks;
@@ -7,9 +8,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -28,6 +29,18 @@ class SystemTasksTest {
   @Mock
   ProductService productService;
 
+  @Spy
+  HttpClientMetrics httpClientMetrics;
+
+  @Mock
+  FeedbackService feedbackService;
+
+  @Mock
+  ImageService imageService;
+
+  @Mock
+  ReleasePreviewService releasePreviewService;
+
   @InjectMocks
   ScheduledTasks tasks;
 
@@ -37,7 +50,7 @@ class SystemTasksTest {
     when(productRepo.findAllProductsHaveDocument()).thenReturn(List.of(mockProduct));
     tasks.syncDataForProductDocuments();
     verify(productRepo, times(1)).findAllProductsHaveDocument();
-    verify(externalDocumentService, times(1)).syncDocumentForProduct(PORTAL, new ArrayList<>(), false);
+    verify(externalDocumentService, times(1)).syncDocumentForProducts(List.of(PORTAL), false);
   }
 
   @Test
@@ -45,4 +58,29 @@ class SystemTasksTest {
     tasks.syncDataForProductFromGitHubRepo();
     verify(productService, times(1)).syncLatestDataFromMarketRepo(false);
   }
+
+  @Test
+  void testRebuildProductRatings() {
+    tasks.rebuildProductRatings();
+    verify(feedbackService, times(1)).rebuildProductRatings();
+  }
+
+  @Test
+  void testDeleteUnreferencedImageBlobs() {
+    tasks.deleteUnreferencedImageBlobs();
+    verify(imageService, times(1)).deleteUnreferencedImageBlobs();
+  }
+
+  @Test
+  void testSkipDeleteUnreferencedImageBlobsWhileSyncIsRunning() {
+    when(productService.isSyncRunning()).thenReturn(true);
+    tasks.deleteUnreferencedImageBlobs();
+    verify(imageService, never()).deleteUnreferencedImageBlobs();
+  }
+
+  @Test
+  void testRemoveExpiredReleasePreviews() {
+    tasks.removeExpiredReleasePreviews();
+    verify(releasePreviewService, times(1)).removeExpiredSessions();
+  }
 }
@@ -1,23 +1,32 @@
 package com.axonivy.market.service.impl;
 
 import com.axonivy.market.bo.Artifact;
+import com.axonivy.market.bo.DocumentSyncStatistics;
 import com.axonivy.market.entity.ExternalDocumentMeta;
 import com.axonivy.market.entity.Product;
+import com.axonivy.market.enums.DocumentSyncStatus;
 import com.axonivy.market.repository.ExternalDocumentMetaRepository;
 import com.axonivy.market.repository.ProductRepository;
 import com.axonivy.market.service.FileDownloadService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +36,8 @@ class ExternalDocumentServiceImplTest {
 
   private static final String PORTAL = "portal";
 
+  private static final String CHECKSUM = "9f2a6c0e1b";
+
   @Mock
   ProductRepository productRepository;
 
@@ -36,9 +47,17 @@ class ExternalDocumentServiceImplTest {
   @Mock
   FileDownloadService fileDownloadService;
 
-  @InjectMocks
   ExternalDocumentServiceImpl service;
 
+  @TempDir
+  Path storageDirectory;
+
+  @BeforeEach
+  void setup() {
+    service = new ExternalDocumentServiceImpl(productRepository, externalDocumentMetaRepository, fileDownloadService,
+        Runnable::run);
+  }
+
   @Test
   void testSyncDocumentForProduct() throws IOException {
     when(productRepository.findById(PORTAL)).thenReturn(mockPortalProductHasNoArtifact());
@@ -55,6 +74,74 @@ class ExternalDocumentServiceImplTest {
     verify(externalDocumentMetaRepository, times(2)).save(any());
   }
 
+  @Test
+  void testSkipUnchangedVersionEvenOnReset() throws IOException {
+    when(productRepository.findById(PORTAL)).thenReturn(mockPortalProduct());
+    when(fileDownloadService.downloadChecksum(any())).thenReturn(CHECKSUM);
+    when(externalDocumentMetaRepository.findByProductIdAndVersion(eq(PORTAL), any())).thenAnswer(invocation ->
+        List.of(mockDocumentMeta(invocation.getArgument(1), CHECKSUM)));
+
+    service.syncDocumentForProduct(PORTAL, new ArrayList<>(), true);
+
+    verify(fileDownloadService, never()).downloadAndUnzipFile(any(), anyBoolean());
+    verify(externalDocumentMetaRepository, never()).save(any());
+  }
+
+  @Test
+  void testDownloadVersionWithChangedChecksum() throws IOException {
+    when(productRepository.findById(PORTAL)).thenReturn(mockPortalProduct());
+    when(fileDownloadService.downloadChecksum(any())).thenReturn(CHECKSUM);
+    when(externalDocumentMetaRepository.findByProductIdAndVersion(eq(PORTAL), any())).thenAnswer(invocation ->
+        List.of(mockDocumentMeta(invocation.getArgument(1), "republished")));
+    when(fileDownloadService.downloadAndUnzipFile(any(), eq(true))).thenReturn("data" + RELATIVE_LOCATION);
+
+    service.syncDocumentForProduct(PORTAL, List.of("10.0.0"), false);
+
+    verify(externalDocumentMetaRepository).save(argThat(meta -> CHECKSUM.equals(meta.getChecksum())
+        && "1".equals(meta.getId())));
+  }
+
+  @Test
+  void testKeepChecksumOfVersionSyncedBefore() throws IOException {
+    when(productRepository.findById(PORTAL)).thenReturn(mockPortalProduct());
+    when(fileDownloadService.downloadChecksum(any())).thenReturn(CHECKSUM);
+    when(externalDocumentMetaRepository.findByProductIdAndVersion(eq(PORTAL), any())).thenAnswer(invocation ->
+        List.of(mockDocumentMeta(invocation.getArgument(1), null)));
+
+    service.syncDocumentForProduct(PORTAL, List.of("10.0.0"), false);
+
+    verify(fileDownloadService, never()).downloadAndUnzipFile(any(), anyBoolean());
+    verify(externalDocumentMetaRepository).save(argThat(meta -> CHECKSUM.equals(meta.getChecksum())));
+  }
+
+  @Test
+  void testSyncDocumentForProductsInParallel() throws IOException {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.initialize();
+    service = new ExternalDocumentServiceImpl(productRepository, externalDocumentMetaRepository, fileDownloadService,
+        executor);
+    Product otherProduct = mockPortal(false);
+    otherProduct.setId("other");
+    when(productRepository.findAllById(List.of(PORTAL, "other"))).thenReturn(
+        List.of(mockPortalProduct().get(), otherProduct));
+    when(fileDownloadService.downloadAndUnzipFile(any(), anyBoolean())).thenReturn("data" + RELATIVE_LOCATION);
+    when(fileDownloadService.downloadAndUnzipFile(contains("8.0.0"), anyBoolean())).thenReturn(EMPTY);
+
+    try {
+      DocumentSyncStatistics statistics = service.syncDocumentForProducts(List.of(PORTAL, "other"), false);
+
+      assertEquals(4, statistics.getFinishedVersions());
+      assertEquals(2, statistics.getCount(DocumentSyncStatus.SYNCED));
+      assertEquals(2, statistics.getCount(DocumentSyncStatus.FAILED));
+      assertEquals(Set.of("portal/8.0.0", "portal/10.0.0", "other/8.0.0", "other/10.0.0"),
+          statistics.getVersionDurations().keySet());
+      verify(externalDocumentMetaRepository, times(2)).save(any());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   void testFindAllProductsHaveDocument() {
     var result = service.findAllProductsHaveDocument();
@@ -85,6 +172,11 @@ class ExternalDocumentServiceImplTest {
     assertTrue(result.getRelativeLink().contains("/index.html"));
   }
 
+  private ExternalDocumentMeta mockDocumentMeta(String version, String checksum) {
+    return ExternalDocumentMeta.builder().id("1").productId(PORTAL).artifactId("portal-guide").version(version)
+        .storageDirectory(storageDirectory.toString()).checksum(checksum).build();
+  }
+
   private Optional<Product> mockPortalProduct() {
     var product = mockPortal(false);
     return Optional.of(product);
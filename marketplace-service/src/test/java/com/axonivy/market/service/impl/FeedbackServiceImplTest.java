@@ -2,6 +2,7 @@ package com.axonivy.market.service.impl;
 
 import com.axonivy.market.entity.Feedback;
 import com.axonivy.market.entity.Product;
+import com.axonivy.market.entity.ProductRatingSummary;
 import com.axonivy.market.entity.User;
 import com.axonivy.market.enums.ErrorCode;
 import com.axonivy.market.exceptions.model.NoContentException;
@@ -10,6 +11,7 @@ import com.axonivy.market.model.FeedbackModel;
 import com.axonivy.market.model.FeedbackModelRequest;
 import com.axonivy.market.model.ProductRating;
 import com.axonivy.market.repository.FeedbackRepository;
+import com.axonivy.market.repository.ProductRatingSummaryRepository;
 import com.axonivy.market.repository.ProductRepository;
 import com.axonivy.market.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -25,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +46,9 @@ class FeedbackServiceImplTest {
   @Mock
   private ProductRepository productRepository;
 
+  @Mock
+  private ProductRatingSummaryRepository productRatingSummaryRepository;
+
   @InjectMocks
   private FeedbackServiceImpl feedbackService;
 
@@ -174,8 +181,7 @@ class FeedbackServiceImplTest {
     String productId = "product1";
 
     when(userRepository.findById(userId)).thenReturn(Optional.of(new User()));
-    when(feedbackRepository.findByUserIdAndProductId(userId, productId)).thenReturn(null);
-    when(feedbackRepository.save(any(Feedback.class))).thenReturn(feedback);
+    when(feedbackRepository.upsertByUserIdAndProductId(any(Feedback.class))).thenReturn(null);
 
     Feedback result = feedbackService.upsertFeedback(feedbackModelRequest, userId);
     assertNotNull(result);
@@ -184,17 +190,18 @@ class FeedbackServiceImplTest {
     assertEquals(feedbackModel.getRating(), result.getRating());
     assertEquals(feedbackModel.getContent(), result.getContent());
     verify(userRepository, times(1)).findById(userId);
-    verify(feedbackRepository, times(1)).findByUserIdAndProductId(userId, productId);
-    verify(feedbackRepository, times(1)).save(any(Feedback.class));
+    verify(feedbackRepository, times(1)).upsertByUserIdAndProductId(result);
+    verify(productRatingSummaryRepository, times(1)).increaseRatingCounts(productId, Map.of(5, 1));
+    verify(feedbackRepository, never()).save(any(Feedback.class));
   }
 
   @Test
   void testUpsertFeedback_Update() throws NotFoundException {
     String productId = "product1";
+    feedback.setRating(3);
 
     when(userRepository.findById(userId)).thenReturn(Optional.of(new User()));
-    when(feedbackRepository.findByUserIdAndProductId(userId, productId)).thenReturn(feedback);
-    when(feedbackRepository.save(any(Feedback.class))).thenReturn(feedback);
+    when(feedbackRepository.upsertByUserIdAndProductId(any(Feedback.class))).thenReturn(feedback);
 
     Feedback result = feedbackService.upsertFeedback(feedbackModelRequest, userId);
     assertNotNull(result);
@@ -203,30 +210,56 @@ class FeedbackServiceImplTest {
     assertEquals(feedbackModel.getRating(), result.getRating());
     assertEquals(feedbackModel.getContent(), result.getContent());
     verify(userRepository, times(1)).findById(userId);
-    verify(feedbackRepository, times(1)).findByUserIdAndProductId(userId, productId);
-    verify(feedbackRepository, times(1)).save(any(Feedback.class));
+    verify(feedbackRepository, times(1)).upsertByUserIdAndProductId(result);
+    verify(productRatingSummaryRepository, times(1)).increaseRatingCounts(productId, Map.of(5, 1, 3, -1));
+  }
+
+  @Test
+  void testUpsertFeedback_SameRating() throws NotFoundException {
+    when(userRepository.findById(userId)).thenReturn(Optional.of(new User()));
+    when(feedbackRepository.upsertByUserIdAndProductId(any(Feedback.class))).thenReturn(feedback);
+
+    feedbackService.upsertFeedback(feedbackModelRequest, userId);
+
+    verify(productRatingSummaryRepository, times(1)).increaseRatingCounts("product1", Map.of());
+  }
+
+  @Test
+  void testUpsertFeedback_ConcurrentInsert() throws NotFoundException {
+    when(userRepository.findById(userId)).thenReturn(Optional.of(new User()));
+    when(feedbackRepository.upsertByUserIdAndProductId(any(Feedback.class)))
+        .thenThrow(new DuplicateKeyException("Duplicate key userId_productId")).thenReturn(feedback);
+
+    feedbackService.upsertFeedback(feedbackModelRequest, userId);
+
+    verify(feedbackRepository, times(2)).upsertByUserIdAndProductId(any(Feedback.class));
+    verify(productRatingSummaryRepository, times(1)).increaseRatingCounts("product1", Map.of());
   }
 
   @Test
   void testGetProductRatingById() {
     String productId = "product1";
-    List<Feedback> feedbacks = Collections.singletonList(feedback);
+    ProductRatingSummary summary = ProductRatingSummary.builder().id(productId)
+        .ratingCounts(Map.of("5", 3, "2", 1)).build();
 
-    when(feedbackRepository.findByProductId(productId)).thenReturn(feedbacks);
+    when(productRatingSummaryRepository.findById(productId)).thenReturn(Optional.of(summary));
 
     List<ProductRating> ratings = feedbackService.getProductRatingById(productId);
     assertNotNull(ratings);
     assertEquals(5, ratings.size());
-    assertEquals(1, ratings.get(4).getCommentNumber());
-    assertEquals(100, ratings.get(4).getPercent());
-    verify(feedbackRepository, times(1)).findByProductId(productId);
+    assertEquals(3, ratings.get(4).getCommentNumber());
+    assertEquals(75, ratings.get(4).getPercent());
+    assertEquals(1, ratings.get(1).getCommentNumber());
+    assertEquals(25, ratings.get(1).getPercent());
+    assertEquals(0, ratings.get(0).getCommentNumber());
+    verify(feedbackRepository, never()).findByProductId(productId);
   }
 
   @Test
   void testGetProductRatingById_NoFeedbacks() {
     String productId = "product1";
 
-    when(feedbackRepository.findByProductId(productId)).thenReturn(Collections.emptyList());
+    when(productRatingSummaryRepository.findById(productId)).thenReturn(Optional.empty());
 
     List<ProductRating> ratings = feedbackService.getProductRatingById(productId);
     assertNotNull(ratings);
@@ -235,7 +268,28 @@ class FeedbackServiceImplTest {
       assertEquals(0, rating.getCommentNumber());
       assertEquals(0, rating.getPercent());
     }
-    verify(feedbackRepository, times(1)).findByProductId(productId);
+    verify(productRatingSummaryRepository, times(1)).findById(productId);
+  }
+
+  @Test
+  void testRebuildProductRatings() {
+    Map<String, Map<Integer, Integer>> ratingCounts = Map.of("product1", Map.of(5, 2), "product2", Map.of(1, 1));
+    when(feedbackRepository.countRatingsByProductId()).thenReturn(ratingCounts);
+
+    assertEquals(2, feedbackService.rebuildProductRatings());
+
+    verify(feedbackRepository, times(1)).ensureUserIdAndProductIdIndex();
+    verify(productRatingSummaryRepository, times(1)).replaceRatingCounts(ratingCounts);
+  }
+
+  @Test
+  void testRebuildProductRatings_DuplicatedFeedbacks() {
+    doThrow(new DuplicateKeyException("E11000 duplicate key")).when(feedbackRepository)
+        .ensureUserIdAndProductIdIndex();
+    when(feedbackRepository.countRatingsByProductId()).thenReturn(Map.of());
+
+    assertEquals(0, feedbackService.rebuildProductRatings());
+    verify(productRatingSummaryRepository, times(1)).replaceRatingCounts(Map.of());
   }
 
   @Test
@@ -6,8 +6,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
 
 import java.io.File;
 import java.io.IOException;
@@ -18,6 +24,10 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 
 @ExtendWith(MockitoExtension.class)
 class FileDownloadServiceImplTest {
@@ -25,6 +35,8 @@ class FileDownloadServiceImplTest {
   private static final String EXTRACT_DIR_LOCATION = "src/test/resources/zip/data";
   private static final String EXTRACTED_DIR_LOCATION = "src/test/resources/zip/data/text";
   private static final String DOWNLOAD_URL = "https://repo/axonivy/portal/portal-guide/10.0.0/portal-guide-10.0.0.zip";
+  @Spy
+  private RestTemplate restTemplate = new RestTemplate();
   @InjectMocks
   private FileDownloadServiceImpl fileDownloadService;
 
@@ -39,6 +51,39 @@ class FileDownloadServiceImplTest {
     assertThrows(ResourceAccessException.class, () -> fileDownloadService.downloadAndUnzipFile(DOWNLOAD_URL, true));
   }
 
+  @Test
+  void testDownloadChecksum() {
+    doReturn("9F2A6C0E1B  portal-guide-10.0.0.zip\n").when(restTemplate)
+        .getForObject(DOWNLOAD_URL + ".sha1", String.class);
+
+    assertEquals("9f2a6c0e1b", fileDownloadService.downloadChecksum(DOWNLOAD_URL));
+  }
+
+  @Test
+  void testDownloadChecksumMissing() {
+    doThrow(new ResourceAccessException("Not found")).when(restTemplate)
+        .getForObject(DOWNLOAD_URL + ".sha1", String.class);
+
+    assertNull(fileDownloadService.downloadChecksum(DOWNLOAD_URL));
+  }
+
+  @Test
+  void testDownloadFileToPathStreamsResponse() throws IOException {
+    byte[] zipContent = Files.readAllBytes(Paths.get(ZIP_FILE_PATH));
+    doAnswer(invocation -> {
+      ResponseExtractor<?> extractor = invocation.getArgument(3);
+      return extractor.extractData(new MockClientHttpResponse(zipContent, HttpStatus.OK));
+    }).when(restTemplate).execute(eq(DOWNLOAD_URL), eq(HttpMethod.GET), any(), any());
+    Path targetPath = Files.createTempFile("download", ".zip");
+
+    try {
+      assertEquals(targetPath, fileDownloadService.downloadFileToPath(DOWNLOAD_URL, targetPath));
+      assertArrayEquals(zipContent, Files.readAllBytes(targetPath));
+    } finally {
+      Files.delete(targetPath);
+    }
+  }
+
   @Test
   void testDownloadAndUnzipFileWithNullTempZipPath() throws IOException {
     try (MockedStatic<Files> mockedFiles = Mockito.mockStatic(Files.class);
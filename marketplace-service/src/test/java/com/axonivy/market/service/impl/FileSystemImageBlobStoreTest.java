@@ -0,0 +1,80 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.util.ImageUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileSystemImageBlobStoreTest {
+  private static final byte[] CONTENT = "image content".getBytes();
+  @TempDir
+  private Path rootDirectory;
+  private FileSystemImageBlobStore imageBlobStore;
+
+  @BeforeEach
+  void setup() {
+    imageBlobStore = new FileSystemImageBlobStore(rootDirectory.toString());
+  }
+
+  @Test
+  void testStoreAndRead() throws IOException {
+    String contentHash = imageBlobStore.store(CONTENT);
+
+    assertEquals(ImageUtils.getContentHash(CONTENT), contentHash);
+    assertTrue(Files.isRegularFile(rootDirectory.resolve(contentHash.substring(0, 2)).resolve(contentHash)));
+    Resource resource = imageBlobStore.read(contentHash);
+    assertEquals(CONTENT.length, resource.contentLength());
+    assertArrayEquals(CONTENT, resource.getContentAsByteArray());
+  }
+
+  @Test
+  void testStoreSameContentTwice() throws IOException {
+    String contentHash = imageBlobStore.store(CONTENT);
+
+    assertEquals(contentHash, imageBlobStore.store(CONTENT));
+    try (var files = Files.list(rootDirectory.resolve(contentHash.substring(0, 2)))) {
+      assertEquals(1, files.count());
+    }
+  }
+
+  @Test
+  void testStoreSameContentRefreshesLastModifiedTime() throws IOException {
+    String contentHash = imageBlobStore.store(CONTENT);
+    Path blobPath = rootDirectory.resolve(contentHash.substring(0, 2)).resolve(contentHash);
+    Files.setLastModifiedTime(blobPath, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+    imageBlobStore.store(CONTENT);
+
+    assertEquals(0, imageBlobStore.deleteUnreferenced(Set.of(), Instant.now().minus(Duration.ofDays(1))),
+        "A reused blob is not swept");
+    assertNotNull(imageBlobStore.read(contentHash));
+  }
+
+  @Test
+  void testDeleteUnreferenced() {
+    String contentHash = imageBlobStore.store(CONTENT);
+    String referencedHash = imageBlobStore.store("referenced content".getBytes());
+
+    assertEquals(0, imageBlobStore.deleteUnreferenced(Set.of(referencedHash), Instant.now().minusSeconds(60)),
+        "Recent blobs are kept");
+    assertEquals(1, imageBlobStore.deleteUnreferenced(Set.of(referencedHash), Instant.now().plusSeconds(60)));
+
+    assertNull(imageBlobStore.read(contentHash));
+    assertNotNull(imageBlobStore.read(referencedHash));
+  }
+}
@@ -0,0 +1,117 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.util.ImageUtils;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.gridfs.GridFSFindIterable;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GridFsImageBlobStoreTest {
+  private static final byte[] CONTENT = "image content".getBytes();
+  private static final String CONTENT_HASH = ImageUtils.getContentHash(CONTENT);
+  @Mock
+  private GridFsTemplate gridFsTemplate;
+  @Mock
+  private MongoTemplate mongoTemplate;
+  @InjectMocks
+  private GridFsImageBlobStore imageBlobStore;
+
+  @Test
+  void testStoreNewContent() {
+    mockTouch(0);
+
+    assertEquals(CONTENT_HASH, imageBlobStore.store(CONTENT));
+
+    verify(gridFsTemplate).store(any(InputStream.class), eq(CONTENT_HASH), eq("image/png"));
+  }
+
+  @Test
+  void testStoreExistingContentRefreshesUploadDate() {
+    mockTouch(1);
+
+    assertEquals(CONTENT_HASH, imageBlobStore.store(CONTENT));
+    verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq("ImageBlob.files"));
+
+    verify(gridFsTemplate, never()).store(any(InputStream.class), anyString(), anyString());
+  }
+
+  @Test
+  void testStoreFailure() {
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), anyString()))
+        .thenThrow(new DataAccessResourceFailureException("Mongo is down"));
+
+    assertNull(imageBlobStore.store(CONTENT));
+  }
+
+  @Test
+  void testDeleteUnreferenced() {
+    GridFSFile referencedFile = mock(GridFSFile.class);
+    GridFSFile unreferencedFile = mock(GridFSFile.class);
+    GridFSFindIterable files = mock(GridFSFindIterable.class);
+    MongoCursor<GridFSFile> cursor = mock(MongoCursor.class);
+    when(referencedFile.getFilename()).thenReturn(CONTENT_HASH);
+    when(unreferencedFile.getFilename()).thenReturn("unreferenced");
+    when(unreferencedFile.getObjectId()).thenReturn(new ObjectId());
+    when(cursor.hasNext()).thenReturn(true, true, false);
+    when(cursor.next()).thenReturn(referencedFile, unreferencedFile);
+    when(files.iterator()).thenReturn(cursor);
+    when(gridFsTemplate.find(any(Query.class))).thenReturn(files);
+
+    assertEquals(1, imageBlobStore.deleteUnreferenced(Set.of(CONTENT_HASH), Instant.now()));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(gridFsTemplate).delete(queryCaptor.capture());
+    assertTrue(queryCaptor.getValue().getQueryObject().containsKey("uploadDate"),
+        "A blob stored again since it was listed is not deleted");
+  }
+
+  private void mockTouch(long matchedCount) {
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), anyString()))
+        .thenReturn(UpdateResult.acknowledged(matchedCount, matchedCount, null));
+  }
+
+  @Test
+  void testRead() {
+    GridFSFile file = mock(GridFSFile.class);
+    GridFsResource resource = mock(GridFsResource.class);
+    when(gridFsTemplate.findOne(any(Query.class))).thenReturn(file);
+    when(gridFsTemplate.getResource(file)).thenReturn(resource);
+
+    assertSame(resource, imageBlobStore.read(CONTENT_HASH));
+  }
+
+  @Test
+  void testReadMissingContent() {
+    assertNull(imageBlobStore.read(CONTENT_HASH));
+  }
+}
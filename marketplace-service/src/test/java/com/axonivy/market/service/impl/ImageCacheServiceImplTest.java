@@ -0,0 +1,98 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.bo.ImageCacheStatistics;
+import com.axonivy.market.bo.ImageContent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageCacheServiceImplTest {
+  private static final String PRODUCT_ID = "portal";
+  private ImageCacheServiceImpl imageCacheService;
+
+  @BeforeEach
+  void setup() {
+    imageCacheService = new ImageCacheServiceImpl(80);
+  }
+
+  @Test
+  void testServeCachedImageFromStream() throws IOException {
+    imageCacheService = new ImageCacheServiceImpl(1024);
+    byte[] content = "logo-content".getBytes();
+    var streamedImage = new ImageContent(new InputStreamResource(new ByteArrayInputStream(content)), content.length,
+        MediaType.IMAGE_PNG, "sha");
+
+    assertNull(imageCacheService.get("1"));
+    ImageContent cachedImage = imageCacheService.put("1", PRODUCT_ID, streamedImage);
+
+    assertArrayEquals(content, cachedImage.resource().getContentAsByteArray());
+    ImageContent result = imageCacheService.get("1");
+    assertArrayEquals(content, result.resource().getContentAsByteArray());
+    assertArrayEquals(content, result.resource().getContentAsByteArray(), "Every read starts at the beginning");
+    assertEquals(content.length, result.resource().contentLength());
+    assertEquals(MediaType.IMAGE_PNG, result.mediaType());
+    assertEquals("sha", result.eTag());
+    assertEquals(new ImageCacheStatistics(1, 1, 0, 1, content.length, 1024), imageCacheService.getStatistics());
+  }
+
+  @Test
+  void testEvictLeastRecentlyUsedImage() {
+    imageCacheService.put("1", PRODUCT_ID, createImage(10));
+    imageCacheService.put("2", PRODUCT_ID, createImage(10));
+    imageCacheService.get("1");
+    for (int i = 3; i <= 9; i++) {
+      imageCacheService.put(String.valueOf(i), PRODUCT_ID, createImage(10));
+    }
+
+    assertTrue(imageCacheService.contains("1"));
+    assertFalse(imageCacheService.contains("2"));
+    ImageCacheStatistics statistics = imageCacheService.getStatistics();
+    assertEquals(1, statistics.evictionCount());
+    assertEquals(8, statistics.imageCount());
+    assertEquals(80, statistics.cachedBytes());
+  }
+
+  @Test
+  void testSkipImageLargerThanItsShare() {
+    ImageContent largeImage = createImage(11);
+
+    assertSame(largeImage, imageCacheService.put("1", PRODUCT_ID, largeImage));
+    assertFalse(imageCacheService.contains("1"));
+  }
+
+  @Test
+  void testEvictImages() {
+    imageCacheService.put("1", PRODUCT_ID, createImage(10));
+    imageCacheService.put("2", PRODUCT_ID, createImage(10));
+    imageCacheService.put("3", "other-product", createImage(10));
+    imageCacheService.put("3", "other-product", createImage(5));
+    imageCacheService.put("1-64-png", PRODUCT_ID, createImage(5));
+    imageCacheService.put("11", PRODUCT_ID, createImage(5));
+
+    imageCacheService.evict("1");
+    assertFalse(imageCacheService.contains("1"));
+    assertFalse(imageCacheService.contains("1-64-png"), "The variants are evicted with their image");
+    assertTrue(imageCacheService.contains("11"));
+    imageCacheService.evictByProductId(PRODUCT_ID);
+
+    assertFalse(imageCacheService.contains("2"));
+    assertTrue(imageCacheService.contains("3"));
+    assertEquals(5, imageCacheService.getStatistics().cachedBytes());
+  }
+
+  private static ImageContent createImage(int size) {
+    return new ImageContent(new ByteArrayResource(new byte[size]), size, MediaType.IMAGE_PNG, null);
+  }
+}
@@ -1,9 +1,15 @@
 package com.axonivy.market.service.impl;
 
 import com.axonivy.market.BaseSetup;
+import com.axonivy.market.bo.ImageContent;
 import com.axonivy.market.entity.Image;
 import com.axonivy.market.repository.ImageRepository;
 import com.axonivy.market.service.FileDownloadService;
+import com.axonivy.market.service.ImageBlobStore;
+import com.axonivy.market.service.ImageCacheService;
+import com.axonivy.market.service.ImageVariantService;
+import com.axonivy.market.service.ReleasePreviewService;
+import com.axonivy.market.util.ImageUtils;
 import com.axonivy.market.util.MavenUtils;
 import org.bson.types.Binary;
 import org.junit.jupiter.api.Test;
@@ -16,14 +22,21 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.axonivy.market.constants.CommonConstants.SLASH;
@@ -31,28 +44,44 @@ import static com.axonivy.market.constants.MetaConstants.META_FILE;
 import static org.bson.assertions.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mockStatic;
 
 @ExtendWith(MockitoExtension.class)
 class ImageServiceImplTest extends BaseSetup {
   @Captor
   ArgumentCaptor<Image> argumentCaptor = ArgumentCaptor.forClass(Image.class);
+  @Captor
+  ArgumentCaptor<List<Image>> imageListCaptor;
   @InjectMocks
   private ImageServiceImpl imageService;
   @Mock
   private ImageRepository imageRepository;
   @Mock
   private FileDownloadService fileDownloadService;
+  @Mock
+  private ImageBlobStore imageBlobStore;
+  @Mock
+  private ImageCacheService imageCacheService;
+  @Mock
+  private ReleasePreviewService releasePreviewService;
+  @Mock
+  private ImageVariantService imageVariantService;
   public static final String GOOGLE_MAPS_CONNECTOR = "google-maps-connector";
+  private static final String PREVIEW_SESSION_ID = "2f5c3b8e-5e8a-4c3e-9d0e-0d2a6f0f9a41";
+  private static final String CONTENT_HASH = "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
 
   @Test
   void testMappingImageFromGHContent() throws IOException {
@@ -90,79 +119,124 @@ class ImageServiceImplTest extends BaseSetup {
 
     when(content.read()).thenThrow(new UnsupportedOperationException("Unrecognized encoding"));
     when(fileDownloadService.downloadFile(MOCK_MAVEN_URL)).thenReturn("content".getBytes());
+    when(imageBlobStore.store("content".getBytes())).thenReturn(CONTENT_HASH);
 
     imageService.mappingImageFromGHContent(GOOGLE_MAPS_CONNECTOR, content);
 
     verify(imageRepository).save(argumentCaptor.capture());
     verify(fileDownloadService, times(1)).downloadFile(MOCK_MAVEN_URL);
-    assertEquals(new Binary("content".getBytes()), argumentCaptor.getValue().getImageData());
-
+    Image savedImage = argumentCaptor.getValue();
+    assertNull(savedImage.getImageData());
+    assertEquals(CONTENT_HASH, savedImage.getContentHash());
+    assertEquals(MediaType.IMAGE_PNG_VALUE, savedImage.getContentType());
+    assertEquals(7L, savedImage.getSize());
   }
 
   @Test
-  void testMappingImageFromDownloadedFolder() {
-    try (MockedStatic<MavenUtils> mockedMavenUtils = Mockito.mockStatic(MavenUtils.class)) {
-      String productId = "connectivity-demo";
-
-      byte[] newImageData = "connectivity-image-data".getBytes();
+  void testMappingImageFromGHContent_keepImageDataWhenBlobStoreFails() throws IOException {
+    GHContent content = mock(GHContent.class);
+    when(content.getSha()).thenReturn("914d9b6956db7a1404622f14265e435f36db81fa");
+    when(content.read()).thenReturn(new ByteArrayInputStream("content".getBytes()));
 
-      Path imagePath = Path.of("connectivity-image.png");
-      ByteArrayInputStream inputStream = new ByteArrayInputStream(newImageData);
-      mockedMavenUtils.when(() -> MavenUtils.extractedContentStream(imagePath)).thenReturn(inputStream);
-      when(imageRepository.findByProductId(productId)).thenReturn(Collections.emptyList());
+    imageService.mappingImageFromGHContent(GOOGLE_MAPS_CONNECTOR, content);
 
-      Image newImage = new Image();
-      newImage.setImageData(new Binary(newImageData));
-      newImage.setProductId(productId);
+    verify(imageRepository).save(argumentCaptor.capture());
+    Image savedImage = argumentCaptor.getValue();
+    assertEquals(new Binary("content".getBytes()), savedImage.getImageData());
+    assertEquals(CONTENT_HASH, savedImage.getContentHash());
+    assertEquals(MediaType.IMAGE_PNG_VALUE, savedImage.getContentType());
+    assertEquals(7L, savedImage.getSize());
+  }
 
-      when(imageRepository.save(any(Image.class))).thenReturn(newImage);
+  @Test
+  void testMappingImagesFromDownloadedFolderWhenBlobStoreFails() {
+    try (MockedStatic<MavenUtils> mockedMavenUtils = Mockito.mockStatic(MavenUtils.class)) {
+      Path imagePath = Path.of("connectivity-image.png");
+      mockedMavenUtils.when(() -> MavenUtils.extractedContentStream(imagePath))
+          .thenReturn(new ByteArrayInputStream("content".getBytes()));
+      when(imageRepository.insert(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
-      Image result = imageService.mappingImageFromDownloadedFolder(productId, imagePath);
+      imageService.mappingImagesFromDownloadedFolder("connectivity-demo", List.of(imagePath));
 
-      assertNotNull(result);
-      assertEquals(newImage, result);
-      verify(imageRepository).save(any(Image.class));
+      verify(imageRepository).insert(imageListCaptor.capture());
+      Image insertedImage = imageListCaptor.getValue().get(0);
+      assertEquals(CONTENT_HASH, insertedImage.getContentHash());
+      assertEquals(new Binary("content".getBytes()), insertedImage.getImageData());
     }
   }
 
   @Test
-  void testMappingImageFromDownloadedFolderWhenImageExists() {
+  void testMappingImagesFromDownloadedFolder() {
     try (MockedStatic<MavenUtils> mockedMavenUtils = Mockito.mockStatic(MavenUtils.class)) {
       String productId = "connectivity-demo";
-
-      byte[] existingImageData = "connectivity-image-data".getBytes();
       byte[] newImageData = "connectivity-image-data".getBytes();
+      byte[] existingImageData = "connectivity-existing-image-data".getBytes();
+      String newContentHash = ImageUtils.getContentHash(newImageData);
+      String existingContentHash = ImageUtils.getContentHash(existingImageData);
 
       Path imagePath = Path.of("connectivity-image.png");
-      ByteArrayInputStream inputStream = new ByteArrayInputStream(newImageData);
-      mockedMavenUtils.when(() -> MavenUtils.extractedContentStream(imagePath)).thenReturn(inputStream);
-
-      Image existingImage = new Image();
-      existingImage.setImageData(new Binary(existingImageData));
-      existingImage.setProductId(productId);
+      Path copiedImagePath = Path.of("de/connectivity-image.png");
+      Path existingImagePath = Path.of("connectivity-existing-image.png");
+      mockedMavenUtils.when(() -> MavenUtils.extractedContentStream(imagePath))
+          .thenReturn(new ByteArrayInputStream(newImageData));
+      mockedMavenUtils.when(() -> MavenUtils.extractedContentStream(copiedImagePath))
+          .thenReturn(new ByteArrayInputStream(newImageData));
+      mockedMavenUtils.when(() -> MavenUtils.extractedContentStream(existingImagePath))
+          .thenReturn(new ByteArrayInputStream(existingImageData));
+
+      Image existingImage = Image.builder().id("1").productId(productId).contentHash(existingContentHash).build();
+      Image newImage = Image.builder().id("2").productId(productId).contentHash(newContentHash).build();
+      when(imageRepository.findByProductIdAndContentHashIn(productId,
+          Set.of(newContentHash, existingContentHash))).thenReturn(List.of(existingImage));
+      when(imageBlobStore.store(newImageData)).thenReturn(newContentHash);
+      when(imageRepository.insert(anyList())).thenReturn(List.of(newImage));
+
+      Map<Path, Image> result = imageService.mappingImagesFromDownloadedFolder(productId,
+          List.of(imagePath, copiedImagePath, existingImagePath));
+
+      assertEquals(3, result.size());
+      assertEquals(newImage, result.get(imagePath));
+      assertEquals(newImage, result.get(copiedImagePath));
+      assertEquals(existingImage, result.get(existingImagePath));
+      verify(imageRepository).insert(imageListCaptor.capture());
+      assertEquals(1, imageListCaptor.getValue().size());
+      assertEquals(newContentHash, imageListCaptor.getValue().get(0).getContentHash());
+      assertEquals(productId, imageListCaptor.getValue().get(0).getProductId());
+    }
+  }
 
-      when(imageRepository.findByProductId(productId)).thenReturn(List.of(existingImage));
+  @Test
+  void testMappingImagesFromDownloadedFolderWhenImagesExist() {
+    try (MockedStatic<MavenUtils> mockedMavenUtils = Mockito.mockStatic(MavenUtils.class)) {
+      String productId = "connectivity-demo";
+      byte[] imageData = "connectivity-image-data".getBytes();
+      Path imagePath = Path.of("connectivity-image.png");
+      mockedMavenUtils.when(() -> MavenUtils.extractedContentStream(imagePath))
+          .thenReturn(new ByteArrayInputStream(imageData));
+      Image existingImage = Image.builder().id("1").contentHash(ImageUtils.getContentHash(imageData)).build();
+      when(imageRepository.findByProductIdAndContentHashIn(anyString(), any())).thenReturn(List.of(existingImage));
 
-      Image result = imageService.mappingImageFromDownloadedFolder(productId, imagePath);
+      Map<Path, Image> result = imageService.mappingImagesFromDownloadedFolder(productId, List.of(imagePath));
 
-      assertNotNull(result);
-      assertEquals(existingImage, result);
-      verify(imageRepository, never()).save(any(Image.class));
+      assertEquals(Map.of(imagePath, existingImage), result);
+      verify(imageRepository, never()).insert(anyList());
+      verify(imageBlobStore, never()).store(any());
     }
   }
 
   @Test
-  void testMappingImageFromDownloadedFolder_ReturnNull() {
+  void testMappingImagesFromDownloadedFolder_SkipUnreadableImage() {
     try (MockedStatic<MavenUtils> mockedMavenUtils = Mockito.mockStatic(MavenUtils.class)) {
       String productId = "connectivity-demo";
       Path imagePath = Path.of("connectivity-image.png");
       mockedMavenUtils.when(() -> MavenUtils.extractedContentStream(imagePath)).thenThrow(
           new NullPointerException("File not found"));
 
-      Image result = imageService.mappingImageFromDownloadedFolder(productId, imagePath);
+      Map<Path, Image> result = imageService.mappingImagesFromDownloadedFolder(productId, List.of(imagePath));
 
-      assertNull(result);
-      verify(imageRepository, times(0)).save(any(Image.class));
+      assertTrue(result.isEmpty());
+      verify(imageRepository, never()).findByProductIdAndContentHashIn(anyString(), any());
+      verify(imageRepository, never()).insert(anyList());
     }
   }
 
@@ -173,65 +247,160 @@ class ImageServiceImplTest extends BaseSetup {
   }
 
   @Test
-  void testReadPreviewImageByName_ImageExists() {
-    Path imagePath = Path.of(IMAGE_NAME);
+  void testReadPreviewImageByName_ImageExists() throws IOException {
+    Path imagePath = Files.createTempFile("preview", IMAGE_NAME);
+    Files.writeString(imagePath, "mocked image content");
+    when(releasePreviewService.findPreviewImage(PREVIEW_SESSION_ID, IMAGE_NAME)).thenReturn(imagePath);
 
-    try (MockedStatic<Files> mockedFiles = mockStatic(Files.class);
-         MockedStatic<MavenUtils> mockedMavenUtils = mockStatic(MavenUtils.class)) {
-      mockedFiles.when(() -> Files.exists(any())).thenReturn(true);
-      mockedFiles.when(() -> Files.isDirectory(any())).thenReturn(true);
-      mockedFiles.when(() -> Files.isRegularFile(any())).thenReturn(true);
-      mockedFiles.when(() -> Files.walk(any())).thenReturn(Stream.of(imagePath));
+    byte[] result = imageService.readPreviewImageByName(PREVIEW_SESSION_ID, IMAGE_NAME);
 
-      InputStream mockedInputStream = new ByteArrayInputStream("mocked image content".getBytes());
-      mockedMavenUtils.when(() -> MavenUtils.extractedContentStream(imagePath)).thenReturn(mockedInputStream);
+    assertArrayEquals("mocked image content".getBytes(), result);
+    Files.deleteIfExists(imagePath);
+  }
 
-      byte[] result = imageService.readPreviewImageByName(IMAGE_NAME);
+  @Test
+  void testReadPreviewImageByName_NotFoundImage() {
+    byte[] result = imageService.readPreviewImageByName(PREVIEW_SESSION_ID, "wrong.png");
 
-      assertNotNull(result);
-      assertArrayEquals("mocked image content".getBytes(), result);
-    }
+    assertEquals(0, result.length);
   }
 
   @Test
-  void testReadPreviewImageByName_NotFoundDirectory() {
-    try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
-      mockedFiles.when(() -> Files.exists(any())).thenReturn(false);
-      byte[] result = imageService.readPreviewImageByName(IMAGE_NAME);
+  void testReadPreviewImageByName_IOException() {
+    when(releasePreviewService.findPreviewImage(PREVIEW_SESSION_ID, IMAGE_NAME))
+        .thenReturn(Path.of("missing", IMAGE_NAME));
 
-      assertEquals(0, result.length);
-    }
+    assertEquals(0, imageService.readPreviewImageByName(PREVIEW_SESSION_ID, IMAGE_NAME).length);
   }
 
   @Test
-  void testReadPreviewImageByName_NotFoundImage() {
-    Path imagePath = Path.of(IMAGE_NAME);
+  void testGetImageETag() {
+    when(imageRepository.findMetadataById("1")).thenReturn(
+        Optional.of(Image.builder().id("1").sha("914d9b6956db7a1404622f14265e435f36db81fa").build()));
+    when(imageRepository.findMetadataById("2")).thenReturn(Optional.of(Image.builder().id("2").build()));
+
+    assertEquals("914d9b6956db7a1404622f14265e435f36db81fa", imageService.getImageETag("1"));
+    assertEquals("2", imageService.getImageETag("2"), "Images without sha are validated by their id");
+    assertNull(imageService.getImageETag("3"));
+  }
 
-    try (MockedStatic<Files> mockedFiles = mockStatic(Files.class);
-         MockedStatic<MavenUtils> mockedMavenUtils = mockStatic(MavenUtils.class)) {
+  @Test
+  void testReadImageFromBlobStore() {
+    Resource resource = new ByteArrayResource("content".getBytes());
+    when(imageRepository.findMetadataById("1")).thenReturn(Optional.of(Image.builder().id("1")
+        .contentHash(CONTENT_HASH).contentType(MediaType.IMAGE_JPEG_VALUE).size(7L).build()));
+    when(imageBlobStore.read(CONTENT_HASH)).thenReturn(resource);
+    when(imageCacheService.put(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+
+    ImageContent result = imageService.readImage("1");
+
+    assertEquals(new ImageContent(resource, 7L, MediaType.IMAGE_JPEG, "1"), result);
+    verify(imageRepository, never()).findById(anyString());
+    verify(imageCacheService).put("1", null, result);
+  }
 
-      mockedFiles.when(() -> Files.exists(any())).thenReturn(true);
-      mockedFiles.when(() -> Files.isDirectory(any())).thenReturn(true);
-      mockedFiles.when(() -> Files.isRegularFile(any())).thenReturn(true);
-      mockedFiles.when(() -> Files.walk(any())).thenReturn(Stream.of(imagePath));
+  @Test
+  void testReadImageFromDocumentWhenBlobIsMissing() throws IOException {
+    when(imageRepository.findMetadataById("1")).thenReturn(Optional.of(Image.builder().id("1")
+        .contentHash(CONTENT_HASH).contentType(MediaType.IMAGE_PNG_VALUE).size(7L).build()));
+    when(imageRepository.findById("1")).thenReturn(
+        Optional.of(Image.builder().id("1").imageData(new Binary("content".getBytes())).build()));
+    when(imageCacheService.put(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
 
-      byte[] result = imageService.readPreviewImageByName("wrong.png");
+    ImageContent result = imageService.readImage("1");
 
-      assertEquals(0, result.length);
-    }
+    assertArrayEquals("content".getBytes(), result.resource().getContentAsByteArray());
+    verify(imageBlobStore).read(CONTENT_HASH);
   }
 
   @Test
-  void testReadPreviewImageByName_IOException() {
-    try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
+  void testReadImageFromCache() {
+    var cachedImage = new ImageContent(new ByteArrayResource("content".getBytes()), 7L, MediaType.IMAGE_PNG, "1");
+    when(imageCacheService.get("1")).thenReturn(cachedImage);
 
-      mockedFiles.when(() -> Files.exists(any())).thenReturn(true);
-      mockedFiles.when(() -> Files.isDirectory(any())).thenReturn(true);
-      mockedFiles.when(() -> Files.isRegularFile(any())).thenReturn(true);
-      mockedFiles.when(() -> Files.walk(any())).thenThrow(new IOException("Exception!!"));
+    assertEquals(cachedImage, imageService.readImage("1"));
+    verify(imageRepository, never()).findMetadataById(anyString());
+  }
 
-      assertDoesNotThrow(() -> imageService.readPreviewImageByName(IMAGE_NAME));
-    }
+  @Test
+  void testWarmUpImageCache() {
+    when(imageCacheService.get("1")).thenReturn(
+        new ImageContent(new ByteArrayResource("content".getBytes()), 7L, MediaType.IMAGE_PNG, "1"));
+    when(imageRepository.findMetadataById("2")).thenReturn(Optional.of(Image.builder().id("2")
+        .contentHash(CONTENT_HASH).contentType(MediaType.IMAGE_PNG_VALUE).size(7L).productId("product").build()));
+    when(imageBlobStore.read(CONTENT_HASH)).thenReturn(new ByteArrayResource("content".getBytes()));
+
+    imageService.warmUpImageCache(Arrays.asList("1", "2", "2", null), null);
+
+    verify(imageRepository, never()).findMetadataById("1");
+    verify(imageCacheService).put(eq("2"), eq("product"), any());
+    verify(imageVariantService, never()).getVariant(any(), any(), any());
+  }
+
+  @Test
+  void testWarmUpImageCacheWithVariants() {
+    when(imageVariantService.getVariant("1", 64, null)).thenReturn(
+        new ImageContent(new ByteArrayResource("content".getBytes()), 7L, MediaType.IMAGE_PNG, "1"));
+    when(imageCacheService.get("2")).thenReturn(
+        new ImageContent(new ByteArrayResource("content".getBytes()), 7L, MediaType.IMAGE_PNG, "2"));
+
+    imageService.warmUpImageCache(List.of("1", "2"), 64);
+
+    verify(imageCacheService, never()).get("1");
+    verify(imageVariantService).getVariant("2", 64, null);
+    verify(imageRepository, never()).findMetadataById(anyString());
   }
 
+  @Test
+  void testReadImageNotMigrated() throws IOException {
+    when(imageRepository.findMetadataById("1")).thenReturn(Optional.of(Image.builder().id("1").build()));
+    when(imageRepository.findById("1")).thenReturn(
+        Optional.of(Image.builder().id("1").imageData(new Binary("content".getBytes())).build()));
+    when(imageCacheService.put(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+
+    ImageContent result = imageService.readImage("1");
+
+    assertEquals(7L, result.contentLength());
+    assertEquals(MediaType.IMAGE_PNG, result.mediaType());
+    assertArrayEquals("content".getBytes(), result.resource().getContentAsByteArray());
+    assertNull(imageService.readImage("2"));
+  }
+
+  @Test
+  void testDeleteUnreferencedImageBlobs() {
+    when(imageRepository.findAllContentHashes()).thenReturn(List.of(
+        Image.builder().contentHash(CONTENT_HASH).variantHashes(Map.of("64-png", "variant-hash")).build(),
+        Image.builder().contentHash("other-hash").build()));
+    when(imageBlobStore.deleteUnreferenced(eq(Set.of(CONTENT_HASH, "variant-hash", "other-hash")), any()))
+        .thenReturn(2);
+
+    assertEquals(2, imageService.deleteUnreferencedImageBlobs());
+  }
+
+  @Test
+  void testEnsureImageIndexes() {
+    doThrow(new DataAccessResourceFailureException("Mongo is down")).when(imageRepository)
+        .ensureProductIdAndContentHashIndex();
+
+    assertDoesNotThrow(() -> imageService.ensureImageIndexes());
+    verify(imageRepository).ensureProductIdAndContentHashIndex();
+  }
+
+  @Test
+  void testMigrateImageDataToBlobStore() {
+    Image legacyImage = Image.builder().id("1").imageData(new Binary("content".getBytes())).build();
+    Image failingImage = Image.builder().id("2").imageData(new Binary("other".getBytes())).build();
+    when(imageRepository.findIdsWithImageData()).thenReturn(
+        List.of(Image.builder().id("1").build(), Image.builder().id("2").build(), Image.builder().id("3").build()));
+    when(imageRepository.findById("1")).thenReturn(Optional.of(legacyImage));
+    when(imageRepository.findById("2")).thenReturn(Optional.of(failingImage));
+    when(imageBlobStore.store("content".getBytes())).thenReturn(CONTENT_HASH);
+
+    assertEquals(1, imageService.migrateImageDataToBlobStore());
+
+    verify(imageRepository).save(argumentCaptor.capture());
+    assertEquals("1", argumentCaptor.getValue().getId());
+    assertNull(argumentCaptor.getValue().getImageData());
+    assertEquals(CONTENT_HASH, argumentCaptor.getValue().getContentHash());
+  }
 }
@@ -0,0 +1,189 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.bo.ImageContent;
+import com.axonivy.market.entity.Image;
+import com.axonivy.market.repository.ImageRepository;
+import com.axonivy.market.service.ImageBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceImplTest {
+  private static final String IMAGE_ID = "66e2b14868f2f95b2f95549a";
+  private static final String CONTENT_HASH = "content-hash";
+  private static final String VARIANT_HASH = "variant-hash";
+  private static final long MAX_SOURCE_PIXELS = 4096 * 4096;
+  @Mock
+  private ImageRepository imageRepository;
+  @Mock
+  private ImageBlobStore imageBlobStore;
+  private ImageCacheServiceImpl imageCacheService;
+  private ImageVariantServiceImpl imageVariantService;
+
+  @BeforeEach
+  void setup() {
+    imageCacheService = new ImageCacheServiceImpl(1024 * 1024);
+    imageVariantService = new ImageVariantServiceImpl(imageRepository, imageBlobStore, imageCacheService,
+        MAX_SOURCE_PIXELS, 2);
+  }
+
+  @Test
+  void testGetVariantKey() {
+    assertEquals("64-png", imageVariantService.getVariantKey(64, null));
+    assertEquals("64-png", imageVariantService.getVariantKey(50, "webp"));
+    assertEquals("512-jpeg", imageVariantService.getVariantKey(4000, "JPG"));
+    assertEquals("0-jpeg", imageVariantService.getVariantKey(null, "jpeg"));
+    assertEquals("0-png", imageVariantService.getVariantKey(-1, null));
+  }
+
+  @Test
+  void testGenerateVariantOnce() throws IOException {
+    byte[] original = createImage(800, 400);
+    mockImage(Image.builder().id(IMAGE_ID).contentHash(CONTENT_HASH).contentType(MediaType.IMAGE_PNG_VALUE).build());
+    when(imageBlobStore.read(CONTENT_HASH)).thenReturn(new ByteArrayResource(original));
+    when(imageBlobStore.store(any())).thenReturn(VARIANT_HASH);
+
+    ImageContent variant = imageVariantService.getVariant(IMAGE_ID, 64, null);
+
+    assertEquals(MediaType.IMAGE_PNG, variant.mediaType());
+    assertTrue(variant.contentLength() * 10 < original.length,
+        "The thumbnail has " + variant.contentLength() + " bytes, the original " + original.length);
+    BufferedImage thumbnail = ImageIO.read(variant.resource().getInputStream());
+    assertEquals(64, thumbnail.getWidth());
+    assertEquals(32, thumbnail.getHeight());
+    verify(imageRepository).setVariantHash(IMAGE_ID, "64-png", VARIANT_HASH);
+
+    ImageContent cachedVariant = imageVariantService.getVariant(IMAGE_ID, 60, "png");
+    assertArrayEquals(variant.resource().getContentAsByteArray(), cachedVariant.resource().getContentAsByteArray());
+    assertEquals(IMAGE_ID, cachedVariant.eTag());
+    verify(imageRepository, times(1)).findMetadataById(IMAGE_ID);
+  }
+
+  @Test
+  void testReadStoredVariant() {
+    byte[] storedVariant = {1, 2, 3};
+    mockImage(Image.builder().id(IMAGE_ID).contentHash(CONTENT_HASH).contentType(MediaType.IMAGE_PNG_VALUE)
+        .variantHashes(Map.of("128-jpeg", VARIANT_HASH)).build());
+    when(imageBlobStore.read(VARIANT_HASH)).thenReturn(new ByteArrayResource(storedVariant));
+
+    ImageContent variant = imageVariantService.getVariant(IMAGE_ID, 100, "jpeg");
+
+    assertEquals(MediaType.IMAGE_JPEG, variant.mediaType());
+    assertEquals(3, variant.contentLength());
+    verify(imageBlobStore, never()).read(CONTENT_HASH);
+    verify(imageRepository, never()).setVariantHash(any(), any(), any());
+  }
+
+  @Test
+  void testSmallImageIsItsOwnVariant() throws IOException {
+    byte[] original = createImage(40, 40);
+    mockImage(Image.builder().id(IMAGE_ID).contentHash(CONTENT_HASH).contentType(MediaType.IMAGE_GIF_VALUE).build());
+    when(imageBlobStore.read(CONTENT_HASH)).thenReturn(new ByteArrayResource(original));
+
+    ImageContent variant = imageVariantService.getVariant(IMAGE_ID, 64, null);
+
+    assertArrayEquals(original, variant.resource().getContentAsByteArray());
+    assertEquals(MediaType.IMAGE_GIF, variant.mediaType());
+    verify(imageBlobStore, never()).store(any());
+    verify(imageRepository).setVariantHash(IMAGE_ID, "64-png", CONTENT_HASH);
+  }
+
+  @Test
+  void testNoVariantForImageWithoutContent() {
+    mockImage(Image.builder().id(IMAGE_ID).build());
+
+    assertNull(imageVariantService.getVariant(IMAGE_ID, 64, null));
+    assertNull(imageVariantService.getVariant("unknown", 64, null));
+  }
+
+  @Test
+  void testVariantsShareTheImageCache() {
+    mockImage(Image.builder().id(IMAGE_ID).sha("sha").contentHash(CONTENT_HASH).contentType(MediaType.IMAGE_PNG_VALUE)
+        .variantHashes(Map.of("32-png", VARIANT_HASH)).build());
+    when(imageBlobStore.read(VARIANT_HASH)).thenReturn(new ByteArrayResource(new byte[]{1, 2, 3}));
+
+    assertNull(imageVariantService.findCachedVariant(IMAGE_ID, 32, null));
+    imageVariantService.getVariant(IMAGE_ID, 32, null);
+
+    assertTrue(imageCacheService.contains(IMAGE_ID + "-32-png"));
+    assertEquals("sha", imageVariantService.findCachedVariant(IMAGE_ID, 30, null).eTag());
+    imageCacheService.evict(IMAGE_ID);
+    assertNull(imageVariantService.findCachedVariant(IMAGE_ID, 32, null));
+  }
+
+  @Test
+  void testCreateJpegVariant() throws IOException {
+    byte[] variant = ImageVariantServiceImpl.createVariant(createImage(600, 600), "256-jpeg", MAX_SOURCE_PIXELS);
+
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(variant));
+    assertEquals(256, image.getWidth());
+    assertEquals(256, image.getHeight());
+  }
+
+  @Test
+  void testNoVariantOfImageAboveMaxPixels() throws IOException {
+    assertNull(ImageVariantServiceImpl.createVariant(createImage(600, 600), "256-jpeg", 600 * 599),
+        "The original is served instead of decoding it");
+  }
+
+  @Test
+  void testServeOriginalWhenAllGenerationPermitsAreTaken() {
+    var busyVariantService = new ImageVariantServiceImpl(imageRepository, imageBlobStore, imageCacheService,
+        MAX_SOURCE_PIXELS, 0);
+    mockImage(Image.builder().id(IMAGE_ID).contentHash(CONTENT_HASH).contentType(MediaType.IMAGE_PNG_VALUE).build());
+
+    assertNull(busyVariantService.getVariant(IMAGE_ID, 64, null));
+    verify(imageBlobStore, never()).read(any());
+    verify(imageRepository, never()).setVariantHash(any(), any(), any());
+  }
+
+  private void mockImage(Image image) {
+    when(imageRepository.findMetadataById(any())).thenAnswer(invocation ->
+        IMAGE_ID.equals(invocation.getArgument(0)) ? Optional.of(image) : Optional.empty());
+  }
+
+  /**
+   * A noisy gradient like a screenshot, so the PNG encoding of the original is not trivially small.
+   */
+  private static byte[] createImage(int width, int height) throws IOException {
+    var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setPaint(new GradientPaint(0, 0, Color.BLUE, width, height, Color.ORANGE));
+    graphics.fillRect(0, 0, width, height);
+    graphics.dispose();
+    for (int x = 0; x < width; x += 3) {
+      for (int y = 0; y < height; y += 2) {
+        image.setRGB(x, y, image.getRGB(x, y) ^ ((x * 31 + y * 17) & 0xFF));
+      }
+    }
+    var output = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", output);
+    return output.toByteArray();
+  }
+}
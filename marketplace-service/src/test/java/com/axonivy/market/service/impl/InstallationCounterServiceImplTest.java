@@ -0,0 +1,158 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.BaseSetup;
+import com.axonivy.market.bo.InstallationEvent;
+import com.axonivy.market.repository.ProductInstallationRollupRepository;
+import com.axonivy.market.repository.ProductMarketplaceDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InstallationCounterServiceImplTest extends BaseSetup {
+  @Mock
+  private ProductMarketplaceDataRepository productMarketplaceDataRepo;
+  @Mock
+  private ProductInstallationRollupRepository productInstallationRollupRepo;
+  private InstallationCounterServiceImpl installationCounterService;
+
+  @BeforeEach
+  void setup() {
+    installationCounterService = new InstallationCounterServiceImpl(productMarketplaceDataRepo,
+        productInstallationRollupRepo, 3);
+  }
+
+  @Test
+  void testIncreaseLoadsPersistedCountOnce() {
+    var loadCount = new AtomicInteger();
+
+    assertEquals(11, installationCounterService.increase(MOCK_PRODUCT_ID, MOCK_RELEASED_VERSION, () -> {
+      loadCount.incrementAndGet();
+      return 10;
+    }));
+    assertEquals(12, installationCounterService.increase(MOCK_PRODUCT_ID, null, () -> 0));
+    assertEquals(12, installationCounterService.getInstallationCount(MOCK_PRODUCT_ID, () -> 0));
+    assertEquals(Map.of(MOCK_PRODUCT_ID, 12), installationCounterService.getInstallationCounts());
+    assertEquals(1, loadCount.get());
+    assertEquals(2, installationCounterService.getPendingCount());
+    verify(productMarketplaceDataRepo, never()).increaseInstallationCounts(anyMap());
+  }
+
+  @Test
+  void testFlushInBackgroundWhenMaxPendingIsReached() {
+    var flushThreadName = new AtomicReference<String>();
+    doAnswer(invocation -> {
+      flushThreadName.set(Thread.currentThread().getName());
+      return null;
+    }).when(productInstallationRollupRepo).increaseInstallationCounts(anyMap());
+    installationCounterService.increase(MOCK_PRODUCT_ID, MOCK_RELEASED_VERSION, () -> 0);
+    installationCounterService.increase(MOCK_PRODUCT_ID, MOCK_RELEASED_VERSION, () -> 0);
+    installationCounterService.increase(SAMPLE_PRODUCT_ID, null, () -> 5);
+
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    verify(productInstallationRollupRepo, timeout(1000)).increaseInstallationCounts(Map.of(
+        new InstallationEvent(MOCK_PRODUCT_ID, today, "10"), 2L,
+        new InstallationEvent(SAMPLE_PRODUCT_ID, today, null), 1L));
+    verify(productMarketplaceDataRepo).increaseInstallationCounts(Map.of(MOCK_PRODUCT_ID, 2L, SAMPLE_PRODUCT_ID, 1L));
+    verify(productMarketplaceDataRepo).increaseInstallationCountsByDesignerVersion(
+        Map.of(MOCK_PRODUCT_ID, Map.of(MOCK_RELEASED_VERSION, 2L)));
+    assertTrue(flushThreadName.get().startsWith("IC-Flush-Thread-"), "The click does not wait for the flush");
+    assertEquals(0, installationCounterService.getPendingCount());
+    assertEquals(6, installationCounterService.getInstallationCount(SAMPLE_PRODUCT_ID, () -> 0));
+
+    installationCounterService.flush();
+    verify(productMarketplaceDataRepo).increaseInstallationCounts(anyMap());
+  }
+
+  @Test
+  void testKeepPendingCountsWhenFlushFails() {
+    doThrow(new IllegalStateException("Mongo is down")).when(productMarketplaceDataRepo)
+        .increaseInstallationCounts(Map.of(MOCK_PRODUCT_ID, 1L));
+    installationCounterService.increase(MOCK_PRODUCT_ID, null, () -> 0);
+
+    installationCounterService.flush();
+    assertEquals(1, installationCounterService.getPendingCount());
+
+    installationCounterService.increase(MOCK_PRODUCT_ID, null, () -> 0);
+    installationCounterService.destroy();
+    verify(productMarketplaceDataRepo).increaseInstallationCounts(Map.of(MOCK_PRODUCT_ID, 2L));
+    verify(productMarketplaceDataRepo, times(2)).increaseInstallationCounts(anyMap());
+    assertEquals(0, installationCounterService.getPendingCount());
+  }
+
+  @Test
+  void testKeepRollupCountsWhenRollupWriteFails() {
+    Map<InstallationEvent, Long> rollupCounts = Map.of(
+        new InstallationEvent(MOCK_PRODUCT_ID, LocalDate.now(ZoneOffset.UTC), null), 1L);
+    doThrow(new IllegalStateException("Mongo is down")).doNothing().when(productInstallationRollupRepo)
+        .increaseInstallationCounts(rollupCounts);
+    installationCounterService.increase(MOCK_PRODUCT_ID, null, () -> 0);
+
+    installationCounterService.flush();
+    installationCounterService.destroy();
+
+    verify(productInstallationRollupRepo, times(2)).increaseInstallationCounts(rollupCounts);
+    verify(productMarketplaceDataRepo).increaseInstallationCounts(Map.of(MOCK_PRODUCT_ID, 1L));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testDropDrainedCountersOfPastDays() {
+    var installationEventCounters = (Map<InstallationEvent, LongAdder>) ReflectionTestUtils.getField(
+        installationCounterService, "installationEventCounters");
+    var yesterday = new InstallationEvent(MOCK_PRODUCT_ID, LocalDate.now(ZoneOffset.UTC).minusDays(1), null);
+    var today = new InstallationEvent(MOCK_PRODUCT_ID, LocalDate.now(ZoneOffset.UTC), null);
+    installationEventCounters.computeIfAbsent(yesterday, event -> new LongAdder()).add(2);
+    installationCounterService.increase(MOCK_PRODUCT_ID, null, () -> 0);
+
+    installationCounterService.flush();
+
+    verify(productInstallationRollupRepo).increaseInstallationCounts(Map.of(yesterday, 2L, today, 1L));
+    assertEquals(Set.of(today), installationEventCounters.keySet());
+    installationCounterService.increase(MOCK_PRODUCT_ID, null, () -> 0);
+    assertEquals(1, installationEventCounters.get(today).sum());
+  }
+
+  @Test
+  void testAddPersistedCounts() {
+    installationCounterService.increase(MOCK_PRODUCT_ID, null, () -> 0);
+    long loadStamp = installationCounterService.getLoadStamp();
+
+    installationCounterService.addPersistedCounts(Map.of(MOCK_PRODUCT_ID, 40, SAMPLE_PRODUCT_ID, 30), loadStamp);
+
+    assertEquals(41, installationCounterService.getInstallationCount(MOCK_PRODUCT_ID, () -> 0));
+    assertEquals(30, installationCounterService.getInstallationCount(SAMPLE_PRODUCT_ID, () -> 30));
+    assertEquals(1, installationCounterService.getPendingCount());
+  }
+
+  @Test
+  void testSkipPersistedCountsOfCounterLoadedAfterLoadStamp() {
+    long loadStamp = installationCounterService.getLoadStamp();
+    assertEquals(40, installationCounterService.getInstallationCount(MOCK_PRODUCT_ID, () -> 40));
+
+    installationCounterService.addPersistedCounts(Map.of(MOCK_PRODUCT_ID, 40), loadStamp);
+
+    assertEquals(40, installationCounterService.getInstallationCount(MOCK_PRODUCT_ID, () -> 0));
+  }
+}
@@ -0,0 +1,91 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.BaseSetup;
+import com.axonivy.market.entity.MetadataRevision;
+import com.axonivy.market.repository.MetadataRevisionRepository;
+import com.axonivy.market.util.MavenUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MetadataRevisionServiceImplTest extends BaseSetup {
+  private static final String MOCK_METADATA_URL = "https://maven.axonivy.com/com/axonivy/demo/maven-metadata.xml";
+  private static final String MOCK_ETAG = "\"abc\"";
+  private static final String MOCK_LAST_UPDATED = "20230924010101";
+  @Mock
+  private MetadataRevisionRepository metadataRevisionRepo;
+  @InjectMocks
+  private MetadataRevisionServiceImpl metadataRevisionService;
+
+  @Test
+  void testFetchMetadataSendsValidatorsOfPreviousRevision() {
+    var storedRevision = MetadataRevision.builder().url(MOCK_METADATA_URL).eTag(MOCK_ETAG).build();
+    when(metadataRevisionRepo.findById(MOCK_METADATA_URL)).thenReturn(Optional.of(storedRevision));
+    ArgumentCaptor<HttpHeaders> headersCaptor = ArgumentCaptor.forClass(HttpHeaders.class);
+    try (MockedStatic<MavenUtils> mockUtils = Mockito.mockStatic(MavenUtils.class)) {
+      mockUtils.when(() -> MavenUtils.getMetadataResponseFromUrl(eq(MOCK_METADATA_URL), headersCaptor.capture()))
+          .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+      var result = metadataRevisionService.fetchMetadata(MOCK_PRODUCT_ID, MOCK_METADATA_URL, true);
+
+      assertFalse(result.isChanged());
+      assertEquals(MOCK_ETAG, headersCaptor.getValue().getIfNoneMatch().get(0));
+    }
+  }
+
+  @Test
+  void testFetchMetadataDetectsChangedContent() {
+    when(metadataRevisionRepo.findById(MOCK_METADATA_URL)).thenReturn(Optional.empty());
+    try (MockedStatic<MavenUtils> mockUtils = Mockito.mockStatic(MavenUtils.class)) {
+      mockUtils.when(() -> MavenUtils.getMetadataResponseFromUrl(eq(MOCK_METADATA_URL), any()))
+          .thenReturn(ResponseEntity.ok().eTag(MOCK_ETAG).body(getMockMetadataContent()));
+
+      var result = metadataRevisionService.fetchMetadata(MOCK_PRODUCT_ID, MOCK_METADATA_URL, true);
+
+      assertTrue(result.isChanged());
+      assertEquals(MOCK_PRODUCT_ID, result.getProductId());
+      assertEquals(MOCK_ETAG, result.getETag());
+      assertEquals(MOCK_LAST_UPDATED, result.getLastUpdated());
+    }
+  }
+
+  @Test
+  void testFetchMetadataIgnoresSameLastUpdated() {
+    var storedRevision = MetadataRevision.builder().url(MOCK_METADATA_URL).lastUpdated(MOCK_LAST_UPDATED).build();
+    when(metadataRevisionRepo.findById(MOCK_METADATA_URL)).thenReturn(Optional.of(storedRevision));
+    try (MockedStatic<MavenUtils> mockUtils = Mockito.mockStatic(MavenUtils.class)) {
+      mockUtils.when(() -> MavenUtils.getMetadataResponseFromUrl(eq(MOCK_METADATA_URL), any()))
+          .thenReturn(ResponseEntity.ok().body(getMockMetadataContent()));
+
+      assertFalse(metadataRevisionService.fetchMetadata(MOCK_PRODUCT_ID, MOCK_METADATA_URL, true).isChanged());
+      assertTrue(metadataRevisionService.fetchMetadata(MOCK_PRODUCT_ID, MOCK_METADATA_URL, false).isChanged());
+    }
+  }
+
+  @Test
+  void testSaveRevisions() {
+    metadataRevisionService.saveRevisions(List.of());
+    verify(metadataRevisionRepo, never()).saveAll(anyList());
+
+    metadataRevisionService.saveRevisions(List.of(new MetadataRevision()));
+    verify(metadataRevisionRepo).saveAll(anyList());
+  }
+}
@@ -10,6 +10,7 @@ import com.axonivy.market.model.MavenArtifactModel;
 import com.axonivy.market.repository.MavenArtifactVersionRepository;
 import com.axonivy.market.repository.MetadataRepository;
 import com.axonivy.market.repository.MetadataSyncRepository;
+import com.axonivy.market.service.ProductVersionIndexService;
 import com.axonivy.market.repository.ProductJsonContentRepository;
 import com.axonivy.market.repository.ProductRepository;
 import com.axonivy.market.util.MavenUtils;
@@ -29,6 +30,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.times;
@@ -49,6 +51,8 @@ class MetadataServiceImplTest extends BaseSetup {
   private MavenArtifactVersionRepository mavenArtifactVersionRepo;
   @Mock
   private MetadataSyncRepository metadataSyncRepo;
+  @Mock
+  private ProductVersionIndexService productVersionIndexService;
 
   @Test
   void testUpdateArtifactAndMetaDataForProduct() {
@@ -59,13 +63,15 @@ class MetadataServiceImplTest extends BaseSetup {
     Metadata mockMetadata = buildMockMetadata();
     Product mockProduct = getMockProduct();
     try (MockedStatic<MavenUtils> mockUtils = Mockito.mockStatic(MavenUtils.class)) {
-      mockUtils.when(() -> MavenUtils.getMetadataContentFromUrl(ArgumentMatchers.anyString())).thenReturn(null);
+      mockUtils.when(() -> MavenUtils.getMetadataContentFromUrlAsync(ArgumentMatchers.anyString())).thenReturn(
+          CompletableFuture.completedFuture(null));
       mockUtils.when(() -> MavenUtils.convertArtifactsToMetadataSet(any(), any())).thenReturn(Set.of(mockMetadata));
 
       metadataService.updateArtifactAndMetadata(mockProduct.getId(), List.of(MOCK_RELEASED_VERSION) ,List.of(mockArtifact));
 
       verify(mavenArtifactVersionRepo, times(1)).save(any());
       verify(metadataRepo, times(1)).saveAll(any());
+      verify(productVersionIndexService, times(1)).rebuild(mockProduct.getId());
     }
   }
 
@@ -176,7 +182,8 @@ class MetadataServiceImplTest extends BaseSetup {
     Assertions.assertEquals(0, mockMavenArtifactVersion.getAdditionalArtifactsByVersion().size());
     Assertions.assertEquals(0, mockMavenArtifactVersion.getProductArtifactsByVersion().size());
     try (MockedStatic<MavenUtils> mockUtils = Mockito.mockStatic(MavenUtils.class)) {
-      mockUtils.when(() -> MavenUtils.getMetadataContentFromUrl(MOCK_MAVEN_URL)).thenReturn(getMockMetadataContent());
+      mockUtils.when(() -> MavenUtils.getMetadataContentFromUrlAsync(MOCK_MAVEN_URL)).thenReturn(
+          CompletableFuture.completedFuture(getMockMetadataContent()));
       metadataService.updateMavenArtifactVersionData(mockMetadataSet,
           mockMavenArtifactVersion);
       Assertions.assertEquals(2, mockMavenArtifactVersion.getProductArtifactsByVersion().size());
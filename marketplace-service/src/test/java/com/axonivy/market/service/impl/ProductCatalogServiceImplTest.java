@@ -0,0 +1,170 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.BaseSetup;
+import com.axonivy.market.constants.MongoDBConstants;
+import com.axonivy.market.criteria.ProductSearchCriteria;
+import com.axonivy.market.entity.Product;
+import com.axonivy.market.entity.ProductMarketplaceData;
+import com.axonivy.market.enums.Language;
+import com.axonivy.market.enums.SortOption;
+import com.axonivy.market.enums.TypeOption;
+import com.axonivy.market.repository.ProductMarketplaceDataRepository;
+import com.axonivy.market.repository.ProductRepository;
+import com.axonivy.market.service.InstallationCounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.axonivy.market.enums.DocumentField.SHORT_DESCRIPTIONS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogServiceImplTest extends BaseSetup {
+  private static final Pageable POPULARITY_PAGEABLE = PageRequest.of(0, 20,
+      Sort.by(Sort.Order.desc(SortOption.POPULARITY.getCode()), Sort.Order.asc(MongoDBConstants.ID)));
+  @Mock
+  private ProductRepository productRepo;
+  @Mock
+  private ProductMarketplaceDataRepository productMarketplaceDataRepo;
+  @Mock
+  private InstallationCounterService installationCounterService;
+  private ProductCatalogServiceImpl productCatalogService;
+
+  @BeforeEach
+  void setup() {
+    productCatalogService = new ProductCatalogServiceImpl(productRepo, productMarketplaceDataRepo,
+        installationCounterService, true);
+  }
+
+  private void mockCatalog() {
+    Product amazon = Product.builder().id("amazon-comprehend").type(TypeOption.CONNECTORS.getCode())
+        .names(Map.of(Language.EN.getValue(), "Amazon Comprehend"))
+        .shortDescriptions(Map.of(Language.EN.getValue(), "Text analysis with machine learning")).build();
+    Product portal = Product.builder().id("portal").type(TypeOption.SOLUTIONS.getCode())
+        .names(Map.of(Language.EN.getValue(), "Portal")).build();
+    Product hidden = Product.builder().id("hidden").type(TypeOption.CONNECTORS.getCode()).listed(false)
+        .names(Map.of(Language.EN.getValue(), "Hidden connector")).build();
+    when(productRepo.findAll()).thenReturn(List.of(amazon, portal, hidden));
+    when(productMarketplaceDataRepo.findAll()).thenReturn(
+        List.of(ProductMarketplaceData.builder().id("portal").installationCount(30).build()));
+  }
+
+  private static ProductSearchCriteria createCriteria(TypeOption type, String keyword) {
+    var criteria = new ProductSearchCriteria();
+    criteria.setListed(true);
+    criteria.setType(type);
+    criteria.setKeyword(keyword);
+    criteria.setLanguage(Language.EN);
+    return criteria;
+  }
+
+  @Test
+  void testSearchByTypeAndPopularity() {
+    mockCatalog();
+
+    Page<Product> result = productCatalogService.searchByCriteria(createCriteria(TypeOption.ALL, null),
+        POPULARITY_PAGEABLE).orElseThrow();
+
+    assertEquals(List.of("portal", "amazon-comprehend"), result.getContent().stream().map(Product::getId).toList());
+    assertEquals(2, result.getTotalElements());
+
+    result = productCatalogService.searchByCriteria(createCriteria(TypeOption.CONNECTORS, null),
+        POPULARITY_PAGEABLE).orElseThrow();
+    assertEquals(List.of("amazon-comprehend"), result.getContent().stream().map(Product::getId).toList());
+    verify(productRepo, times(1)).findAll();
+  }
+
+  @Test
+  void testSearchByPopularityReadsLiveInstallationCounts() {
+    mockCatalog();
+    when(installationCounterService.getInstallationCounts()).thenReturn(Map.of("amazon-comprehend", 31));
+
+    Page<Product> result = productCatalogService.searchByCriteria(createCriteria(TypeOption.ALL, null),
+        POPULARITY_PAGEABLE).orElseThrow();
+
+    assertEquals(List.of("amazon-comprehend", "portal"), result.getContent().stream().map(Product::getId).toList(),
+        "The installations counted since the snapshot are sorted without a rebuild");
+    verify(productMarketplaceDataRepo, times(1)).findAll();
+  }
+
+  @Test
+  void testSearchByKeywordHonorsExcludeFields() {
+    mockCatalog();
+    var criteria = createCriteria(TypeOption.ALL, "MACHINE");
+
+    assertEquals(1, productCatalogService.searchByCriteria(criteria, POPULARITY_PAGEABLE).orElseThrow()
+        .getTotalElements());
+
+    criteria.setExcludeFields(List.of(SHORT_DESCRIPTIONS));
+    assertEquals(0, productCatalogService.searchByCriteria(criteria, POPULARITY_PAGEABLE).orElseThrow()
+        .getTotalElements());
+  }
+
+  @Test
+  void testSearchByKeywordOrdersByRank() {
+    var criteria = createCriteria(TypeOption.ALL, "connector");
+    criteria.setListed(false);
+    when(productRepo.findAll()).thenReturn(List.of(
+        Product.builder().id("popular").names(Map.of(Language.EN.getValue(), "Workflow tools"))
+            .shortDescriptions(Map.of(Language.EN.getValue(), "Works with any connector")).build(),
+        Product.builder().id("named").names(Map.of(Language.EN.getValue(), "Connector kit")).build()));
+    when(productMarketplaceDataRepo.findAll()).thenReturn(
+        List.of(ProductMarketplaceData.builder().id("popular").installationCount(1000).build()));
+
+    Page<Product> result = productCatalogService.searchByCriteria(criteria, POPULARITY_PAGEABLE).orElseThrow();
+
+    assertEquals(List.of("named", "popular"), result.getContent().stream().map(Product::getId).toList(),
+        "A match in the name ranks before a more popular match in the description");
+  }
+
+  @Test
+  void testSearchPaging() {
+    mockCatalog();
+    Pageable secondPage = PageRequest.of(1, 1, POPULARITY_PAGEABLE.getSort());
+
+    Page<Product> result = productCatalogService.searchByCriteria(createCriteria(TypeOption.ALL, null), secondPage)
+        .orElseThrow();
+
+    assertEquals("amazon-comprehend", result.getContent().get(0).getId());
+    assertEquals(2, result.getTotalPages());
+  }
+
+  @Test
+  void testSearchAfterProduct() {
+    mockCatalog();
+    var criteria = createCriteria(TypeOption.ALL, null);
+    criteria.setAfterProductId("portal");
+    Pageable firstPage = PageRequest.of(0, 1, POPULARITY_PAGEABLE.getSort());
+
+    Page<Product> result = productCatalogService.searchByCriteria(criteria, firstPage).orElseThrow();
+    assertEquals(List.of("amazon-comprehend"), result.getContent().stream().map(Product::getId).toList());
+
+    criteria.setAfterProductId("unknown");
+    result = productCatalogService.searchByCriteria(criteria, firstPage).orElseThrow();
+    assertEquals(List.of("portal"), result.getContent().stream().map(Product::getId).toList());
+  }
+
+  @Test
+  void testFallbackToMongo() {
+    mockCatalog();
+    Pageable unsupportedSort = PageRequest.of(0, 20, Sort.by("vendor"));
+    assertTrue(productCatalogService.searchByCriteria(createCriteria(TypeOption.ALL, null), unsupportedSort)
+        .isEmpty());
+
+    var disabledCatalogService = new ProductCatalogServiceImpl(productRepo, productMarketplaceDataRepo,
+        installationCounterService, false);
+    disabledCatalogService.rebuild();
+    assertTrue(disabledCatalogService.searchByCriteria(createCriteria(TypeOption.ALL, null), POPULARITY_PAGEABLE)
+        .isEmpty());
+  }
+}
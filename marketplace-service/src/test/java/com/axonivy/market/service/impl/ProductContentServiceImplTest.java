@@ -21,6 +21,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -71,8 +72,8 @@ class ProductContentServiceImplTest extends BaseSetup {
       mockedFiles.when(() -> Files.isRegularFile(imagePath1)).thenReturn(true);
       mockedFiles.when(() -> Files.isRegularFile(imagePath2)).thenReturn(true);
 
-      when(imageService.mappingImageFromDownloadedFolder(productId, imagePath1)).thenReturn(getMockImage());
-      when(imageService.mappingImageFromDownloadedFolder(productId, imagePath2)).thenReturn(getMockImage2());
+      when(imageService.mappingImagesFromDownloadedFolder(productId, List.of(imagePath1, imagePath2))).thenReturn(
+          Map.of(imagePath1, getMockImage(), imagePath2, getMockImage2()));
 
       String result = productContentService.updateImagesWithDownloadUrl(productId, EXTRACT_DIR_LOCATION,
           readmeContent);
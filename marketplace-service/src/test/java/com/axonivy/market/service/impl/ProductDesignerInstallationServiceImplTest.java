@@ -2,8 +2,14 @@ package com.axonivy.market.service.impl;
 
 import com.axonivy.market.BaseSetup;
 import com.axonivy.market.entity.ProductDesignerInstallation;
+import com.axonivy.market.entity.ProductInstallationRollup;
+import com.axonivy.market.enums.ErrorCode;
+import com.axonivy.market.enums.InstallationPeriod;
+import com.axonivy.market.exceptions.model.InvalidParamException;
 import com.axonivy.market.model.DesignerInstallation;
+import com.axonivy.market.model.InstallationTrend;
 import com.axonivy.market.repository.ProductDesignerInstallationRepository;
+import com.axonivy.market.repository.ProductInstallationRollupRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,9 +17,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -22,6 +33,8 @@ class ProductDesignerInstallationServiceImplTest extends BaseSetup {
   private List<ProductDesignerInstallation> mockResultReturn;
   @Mock
   private ProductDesignerInstallationRepository productDesignerInstallationRepository;
+  @Mock
+  private ProductInstallationRollupRepository productInstallationRollupRepository;
 
   @InjectMocks
   private ProductDesignerInstallationServiceImpl productDesignerInstallationServiceImpl;
@@ -33,13 +46,48 @@ class ProductDesignerInstallationServiceImplTest extends BaseSetup {
 
   @Test
   void testFindByProductId() {
+    mockResultReturn.add(ProductDesignerInstallation.builder().productId(SAMPLE_PRODUCT_ID).designerVersion("9.4.1")
+        .installationCount(10).build());
     when(productDesignerInstallationRepository.findByProductId(any(), any())).thenReturn(this.mockResultReturn);
     List<DesignerInstallation> results = productDesignerInstallationServiceImpl.findByProductId(
         BaseSetup.SAMPLE_PRODUCT_ID);
-    assertEquals(2, results.size());
-    assertEquals("10.0.22", results.get(0).getDesignerVersion());
-    assertEquals(50, results.get(0).getNumberOfDownloads());
-    assertEquals("11.4.0", results.get(1).getDesignerVersion());
-    assertEquals(30, results.get(1).getNumberOfDownloads());
+    assertEquals(3, results.size());
+    assertEquals("11.4.0", results.get(0).getDesignerVersion());
+    assertEquals(30, results.get(0).getNumberOfDownloads());
+    assertEquals("10.0.22", results.get(1).getDesignerVersion());
+    assertEquals(50, results.get(1).getNumberOfDownloads());
+    assertEquals("9.4.1", results.get(2).getDesignerVersion());
+  }
+
+  @Test
+  void testFindInstallationTrends() {
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    String currentMonth = InstallationPeriod.MONTH.getBucket(today);
+    var rollup = ProductInstallationRollup.builder().productId(SAMPLE_PRODUCT_ID).period(InstallationPeriod.MONTH)
+        .bucket(currentMonth).installationCount(6).installationCountByMajorVersion(Map.of("9", 1L, "10", 2L, "12", 3L))
+        .build();
+    when(productInstallationRollupRepository.findAllById(List.of(
+        ProductInstallationRollup.createId(SAMPLE_PRODUCT_ID, InstallationPeriod.MONTH,
+            InstallationPeriod.MONTH.getBucket(today.minusMonths(1))),
+        ProductInstallationRollup.createId(SAMPLE_PRODUCT_ID, InstallationPeriod.MONTH, currentMonth))))
+        .thenReturn(List.of(rollup));
+
+    List<InstallationTrend> trends = productDesignerInstallationServiceImpl.findInstallationTrends(SAMPLE_PRODUCT_ID,
+        "Month", 2);
+
+    assertEquals(2, trends.size());
+    assertEquals(0, trends.get(0).getNumberOfDownloads());
+    assertTrue(trends.get(0).getDesignerInstallations().isEmpty());
+    assertEquals(currentMonth, trends.get(1).getBucket());
+    assertEquals(6, trends.get(1).getNumberOfDownloads());
+    assertEquals(List.of("12", "10", "9"), trends.get(1).getDesignerInstallations().stream()
+        .map(DesignerInstallation::getDesignerVersion).toList());
+  }
+
+  @Test
+  void testFindInstallationTrends_InvalidPeriod() {
+    InvalidParamException exception = assertThrows(InvalidParamException.class,
+        () -> productDesignerInstallationServiceImpl.findInstallationTrends(SAMPLE_PRODUCT_ID, "week", 2));
+    assertEquals(ErrorCode.INSTALLATION_PERIOD_INVALID.getCode(), exception.getCode());
   }
 }
@@ -11,15 +11,17 @@ import com.axonivy.market.exceptions.model.InvalidParamException;
 import com.axonivy.market.exceptions.model.NotFoundException;
 import com.axonivy.market.model.ProductCustomSortRequest;
 import com.axonivy.market.repository.ProductCustomSortRepository;
+import com.axonivy.market.repository.ProductInstallationRollupRepository;
 import com.axonivy.market.repository.ProductMarketplaceDataRepository;
 import com.axonivy.market.repository.ProductRepository;
+import com.axonivy.market.service.ProductCatalogService;
 import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -29,6 +31,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -37,7 +40,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,10 +55,24 @@ class ProductMarketplaceDataServiceImplTest extends BaseSetup {
   private ProductCustomSortRepository productCustomSortRepo;
   @Mock
   private ProductMarketplaceDataRepository productMarketplaceDataRepo;
-  @InjectMocks
+  @Mock
+  private ProductInstallationRollupRepository productInstallationRollupRepo;
+  @Mock
+  private ProductCatalogService productCatalogService;
+  private InstallationCounterServiceImpl installationCounterService;
   private ProductMarketplaceDataServiceImpl productMarketplaceDataService;
   @Captor
   ArgumentCaptor<ArrayList<ProductMarketplaceData>> productListArgumentCaptor;
+  @Captor
+  ArgumentCaptor<Map<String, Integer>> initialCountsCaptor;
+
+  @BeforeEach
+  void setup() {
+    installationCounterService = new InstallationCounterServiceImpl(productMarketplaceDataRepo,
+        productInstallationRollupRepo, 100);
+    productMarketplaceDataService = new ProductMarketplaceDataServiceImpl(productMarketplaceDataRepo,
+        productCustomSortRepo, mongoTemplate, productRepo, productCatalogService, installationCounterService);
+  }
 
   @Test
   void testRemoveFieldFromAllProductDocuments() {
@@ -78,6 +96,7 @@ class ProductMarketplaceDataServiceImplTest extends BaseSetup {
     productMarketplaceDataService.addCustomSortProduct(customSortRequest);
 
     verify(productCustomSortRepo).deleteAll();
+    verify(productCatalogService).rebuild();
     verify(mongoTemplate).updateMulti(any(Query.class), any(Update.class), eq(ProductMarketplaceData.class));
     verify(productCustomSortRepo).save(any(ProductCustomSort.class));
     verify(productMarketplaceDataRepo).saveAll(productListArgumentCaptor.capture());
@@ -111,38 +130,79 @@ class ProductMarketplaceDataServiceImplTest extends BaseSetup {
   }
 
   @Test
-  void testUpdateProductInstallationCountWhenNotSynchronized() {
-    ProductMarketplaceData mockProductMarketplaceData = getMockProductMarketplaceData();
-    mockProductMarketplaceData.setSynchronizedInstallationCount(false);
+  void testMigrateLegacyInstallationCounts() {
     ReflectionTestUtils.setField(productMarketplaceDataService, LEGACY_INSTALLATION_COUNT_PATH_FIELD_NAME,
         INSTALLATION_FILE_PATH);
+    when(productMarketplaceDataRepo.findById(MOCK_PRODUCT_ID)).thenReturn(Optional.of(getMockProductMarketplaceData()));
+    assertEquals(3, productMarketplaceDataService.updateProductInstallationCount(MOCK_PRODUCT_ID));
+    when(productMarketplaceDataRepo.findIdsWithoutSynchronizedInstallationCount())
+        .thenReturn(List.of(MOCK_PRODUCT_ID, SAMPLE_PRODUCT_ID));
+    when(productMarketplaceDataRepo.updateInitialCounts(anyMap())).thenReturn(List.of(MOCK_PRODUCT_ID,
+        SAMPLE_PRODUCT_ID));
+
+    assertEquals(2, productMarketplaceDataService.migrateLegacyInstallationCounts());
+
+    verify(productMarketplaceDataRepo).updateInitialCounts(initialCountsCaptor.capture());
+    Map<String, Integer> initialCounts = initialCountsCaptor.getValue();
+    assertEquals(40, initialCounts.get(MOCK_PRODUCT_ID));
+    assertTrue(initialCounts.get(SAMPLE_PRODUCT_ID) >= 20 && initialCounts.get(SAMPLE_PRODUCT_ID) <= 50);
+    assertEquals(43, productMarketplaceDataService.updateProductInstallationCount(MOCK_PRODUCT_ID));
+    verify(productMarketplaceDataRepo).findById(MOCK_PRODUCT_ID);
+  }
 
-    when(productMarketplaceDataRepo.findById(SAMPLE_PRODUCT_ID)).thenReturn(Optional.of(mockProductMarketplaceData));
-    when(productMarketplaceDataRepo.updateInitialCount(eq(SAMPLE_PRODUCT_ID), anyInt())).thenReturn(10);
+  @Test
+  void testMigrateLegacyInstallationCounts_MigratedByAnotherInstance() {
+    ReflectionTestUtils.setField(productMarketplaceDataService, LEGACY_INSTALLATION_COUNT_PATH_FIELD_NAME,
+        INSTALLATION_FILE_PATH);
+    when(productMarketplaceDataRepo.findById(MOCK_PRODUCT_ID)).thenReturn(Optional.of(getMockProductMarketplaceData()));
+    assertEquals(3, productMarketplaceDataService.updateProductInstallationCount(MOCK_PRODUCT_ID));
+    when(productMarketplaceDataRepo.findIdsWithoutSynchronizedInstallationCount())
+        .thenReturn(List.of(MOCK_PRODUCT_ID, SAMPLE_PRODUCT_ID));
+    when(productMarketplaceDataRepo.updateInitialCounts(anyMap())).thenReturn(List.of(SAMPLE_PRODUCT_ID));
+
+    assertEquals(1, productMarketplaceDataService.migrateLegacyInstallationCounts());
+    assertEquals(3, productMarketplaceDataService.updateProductInstallationCount(MOCK_PRODUCT_ID));
+  }
 
-    int result = productMarketplaceDataService.updateProductInstallationCount(SAMPLE_PRODUCT_ID);
+  @Test
+  void testMigrateLegacyInstallationCounts_NothingToMigrate() {
+    when(productMarketplaceDataRepo.findIdsWithoutSynchronizedInstallationCount()).thenReturn(List.of());
 
-    assertEquals(10, result);
-    verify(productMarketplaceDataRepo).updateInitialCount(eq(SAMPLE_PRODUCT_ID), anyInt());
+    assertEquals(0, productMarketplaceDataService.migrateLegacyInstallationCounts());
+    verify(productMarketplaceDataRepo, never()).updateInitialCounts(anyMap());
   }
 
   @Test
   void testUpdateInstallationCountForProduct() {
     ProductMarketplaceData mockProductMarketplaceData = getMockProductMarketplaceData();
     mockProductMarketplaceData.setSynchronizedInstallationCount(true);
-    ReflectionTestUtils.setField(productMarketplaceDataService, LEGACY_INSTALLATION_COUNT_PATH_FIELD_NAME,
-        INSTALLATION_FILE_PATH);
 
     when(productRepo.findById(SAMPLE_PRODUCT_ID)).thenReturn(Optional.of(new Product()));
     when(productMarketplaceDataRepo.findById(SAMPLE_PRODUCT_ID)).thenReturn(Optional.of(mockProductMarketplaceData));
-    when(productMarketplaceDataRepo.increaseInstallationCount(SAMPLE_PRODUCT_ID)).thenReturn(4);
 
     int result = productMarketplaceDataService.updateInstallationCountForProduct(SAMPLE_PRODUCT_ID,
         MOCK_RELEASED_VERSION);
     assertEquals(4, result);
 
     result = productMarketplaceDataService.updateInstallationCountForProduct(SAMPLE_PRODUCT_ID, StringUtils.EMPTY);
-    assertEquals(4, result);
+    assertEquals(5, result);
+    assertEquals(5, productMarketplaceDataService.updateProductInstallationCount(SAMPLE_PRODUCT_ID));
+    verify(productRepo).findById(SAMPLE_PRODUCT_ID);
+    verify(productMarketplaceDataRepo).findById(SAMPLE_PRODUCT_ID);
+
+    installationCounterService.flush();
+    verify(productMarketplaceDataRepo).increaseInstallationCounts(Map.of(SAMPLE_PRODUCT_ID, 2L));
+    verify(productMarketplaceDataRepo).increaseInstallationCountsByDesignerVersion(
+        Map.of(SAMPLE_PRODUCT_ID, Map.of(MOCK_RELEASED_VERSION, 1L)));
+  }
+
+  @Test
+  void testUpdateInstallationCountForProduct_ProductNotFound() {
+    when(productRepo.findById(SAMPLE_PRODUCT_ID)).thenReturn(Optional.empty());
+
+    assertThrows(NotFoundException.class,
+        () -> productMarketplaceDataService.updateInstallationCountForProduct(SAMPLE_PRODUCT_ID, null));
+    assertEquals(0, installationCounterService.getPendingCount());
   }
 
   @Test
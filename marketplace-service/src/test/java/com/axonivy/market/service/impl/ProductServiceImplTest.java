@@ -1,15 +1,16 @@
 package com.axonivy.market.service.impl;
 
 import com.axonivy.market.BaseSetup;
+import com.axonivy.market.bo.SyncStatistics;
 import com.axonivy.market.constants.GitHubConstants;
 import com.axonivy.market.constants.ProductJsonConstants;
 import com.axonivy.market.criteria.ProductSearchCriteria;
 import com.axonivy.market.entity.GitHubRepoMeta;
-import com.axonivy.market.entity.MavenArtifactVersion;
-import com.axonivy.market.entity.Metadata;
+import com.axonivy.market.entity.MetadataRevision;
 import com.axonivy.market.entity.Product;
 import com.axonivy.market.entity.ProductMarketplaceData;
 import com.axonivy.market.entity.ProductModuleContent;
+import com.axonivy.market.entity.ProductVersionIndex;
 import com.axonivy.market.enums.FileStatus;
 import com.axonivy.market.enums.FileType;
 import com.axonivy.market.enums.Language;
@@ -28,12 +29,15 @@ import com.axonivy.market.repository.ProductJsonContentRepository;
 import com.axonivy.market.repository.ProductMarketplaceDataRepository;
 import com.axonivy.market.repository.ProductModuleContentRepository;
 import com.axonivy.market.repository.ProductRepository;
+import com.axonivy.market.schedulingtask.SyncTaskExecutor;
 import com.axonivy.market.service.ExternalDocumentService;
 import com.axonivy.market.service.ImageService;
+import com.axonivy.market.service.MetadataRevisionService;
 import com.axonivy.market.service.MetadataService;
+import com.axonivy.market.service.ProductCatalogService;
 import com.axonivy.market.service.ProductContentService;
 import com.axonivy.market.service.ProductMarketplaceDataService;
-import com.axonivy.market.service.VersionService;
+import com.axonivy.market.service.ProductVersionIndexService;
 import com.axonivy.market.util.MavenUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,8 +52,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.exceptions.base.MockitoException;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -132,7 +138,15 @@ class ProductServiceImplTest extends BaseSetup {
   @Mock
   private ProductMarketplaceDataRepository productMarketplaceDataRepo;
   @Mock
-  private VersionService versionService;
+  private ProductVersionIndexService productVersionIndexService;
+  @Mock
+  private MetadataRevisionService metadataRevisionService;
+  @Mock
+  private ProductCatalogService productCatalogService;
+  @Spy
+  private SyncTaskExecutor syncTaskExecutor = new SyncTaskExecutor(2, 1, 1);
+  @Spy
+  private TaskExecutor productDetailExecutor = new org.springframework.core.task.SyncTaskExecutor();
   @InjectMocks
   private ProductServiceImpl productService;
 
@@ -147,23 +161,24 @@ class ProductServiceImplTest extends BaseSetup {
     // Start testing by All
     when(productRepo.searchByCriteria(any(), any(Pageable.class))).thenReturn(mockResultReturn);
     // Executes
-    var result = productService.findProducts(TypeOption.ALL.getOption(), keyword, language, false, PAGEABLE);
+    var result = productService.findProducts(TypeOption.ALL.getOption(), keyword, language, false, null, PAGEABLE);
     assertEquals(mockResultReturn, result);
 
     // Start testing by Connector
     // Executes
-    result = productService.findProducts(TypeOption.CONNECTORS.getOption(), keyword, language, false, PAGEABLE);
+    result = productService.findProducts(TypeOption.CONNECTORS.getOption(), keyword, language, false, null, PAGEABLE);
     assertEquals(mockResultReturn, result);
 
     // Start testing by Other
     // Executes
-    result = productService.findProducts(TypeOption.DEMOS.getOption(), keyword, language, false, PAGEABLE);
+    result = productService.findProducts(TypeOption.DEMOS.getOption(), keyword, language, false, null, PAGEABLE);
     assertEquals(2, result.getSize());
   }
 
   @Test
   void testFindProductsInRESTClientOfDesigner() {
-    productService.findProducts(TypeOption.CONNECTORS.getOption(), keyword, Language.EN.getValue(), true, PAGEABLE);
+    productService.findProducts(TypeOption.CONNECTORS.getOption(), keyword, Language.EN.getValue(), true, null,
+        PAGEABLE);
     verify(productRepo).searchByCriteria(productSearchCriteriaArgumentCaptor.capture(), any(Pageable.class));
     assertEquals(List.of(SHORT_DESCRIPTIONS), productSearchCriteriaArgumentCaptor.getValue().getExcludeFields());
   }
@@ -185,11 +200,17 @@ class ProductServiceImplTest extends BaseSetup {
     when(gitHubService.getGHContent(any(), anyString(), any())).thenReturn(mockGHContent);
     when(mockGHContent.read()).thenReturn(this.getClass().getResourceAsStream(EMPTY_SOURCE_URL_META_JSON_FILE));
     when(productRepo.save(any(Product.class))).thenReturn(new Product());
+    doAnswer(invocation -> {
+      assertTrue(productService.isSyncRunning());
+      return null;
+    }).when(productCatalogService).rebuild();
 
     // Executes
     var result = productService.syncLatestDataFromMarketRepo(false);
     assertNotNull(result);
     assertTrue(result.isEmpty());
+    assertFalse(productService.isSyncRunning());
+    verify(productCatalogService).rebuild();
 
     // Start testing by deleting new meta
     mockCommit = mockGHCommitHasSHA1(UUID.randomUUID().toString());
@@ -237,7 +258,7 @@ class ProductServiceImplTest extends BaseSetup {
     language = "en";
     when(productRepo.searchByCriteria(any(), any(Pageable.class))).thenReturn(mockResultReturn);
     // Executes
-    var result = productService.findProducts(TypeOption.ALL.getOption(), keyword, language, false, PAGEABLE);
+    var result = productService.findProducts(TypeOption.ALL.getOption(), keyword, language, false, null, PAGEABLE);
     assertEquals(mockResultReturn, result);
     verify(productRepo).searchByCriteria(any(), any(Pageable.class));
 
@@ -247,7 +268,8 @@ class ProductServiceImplTest extends BaseSetup {
             .filter(product -> product.getNames().get(Language.EN.getValue()).equals(SAMPLE_PRODUCT_NAME))
             .toList()));
     // Executes
-    result = productService.findProducts(TypeOption.ALL.getOption(), SAMPLE_PRODUCT_NAME, language, false, PAGEABLE);
+    result = productService.findProducts(TypeOption.ALL.getOption(), SAMPLE_PRODUCT_NAME, language, false, null,
+        PAGEABLE);
     assertTrue(result.hasContent());
     assertEquals(SAMPLE_PRODUCT_NAME, result.getContent().get(0).getNames().get(Language.EN.getValue()));
 
@@ -258,7 +280,7 @@ class ProductServiceImplTest extends BaseSetup {
                 && product.getType().equals(TypeOption.CONNECTORS.getCode()))
             .toList()));
     // Executes
-    result = productService.findProducts(TypeOption.CONNECTORS.getOption(), SAMPLE_PRODUCT_NAME, language, false,
+    result = productService.findProducts(TypeOption.CONNECTORS.getOption(), SAMPLE_PRODUCT_NAME, language, false, null,
         PAGEABLE);
     assertTrue(result.hasContent());
     assertEquals(SAMPLE_PRODUCT_NAME, result.getContent().get(0).getNames().get(Language.EN.getValue()));
@@ -266,19 +288,12 @@ class ProductServiceImplTest extends BaseSetup {
 
   @Test
   void testSyncProductsFirstTime() throws IOException {
-    var mockCommit = mockGHCommitHasSHA1(SHA1_SAMPLE);
-    when(marketRepoService.getLastCommit(anyLong())).thenReturn(mockCommit);
-    when(repoMetaRepo.findByRepoName(anyString())).thenReturn(null);
+    mockFirstSync();
     when(productContentService.getReadmeAndProductContentsFromVersion(any(), anyString(), anyString(),
         any(), anyString())).thenReturn(mockReadmeProductContent());
-
-    Map<String, List<GHContent>> mockGHContentMap = new HashMap<>();
-    mockGHContentMap.put(SAMPLE_PRODUCT_ID, mockMetaJsonAndLogoList());
-    when(marketRepoService.fetchAllMarketItems()).thenReturn(mockGHContentMap);
     when(productModuleContentRepo.saveAll(anyList())).thenReturn(List.of(mockReadmeProductContent()));
-
-    when(imageService.mappingImageFromGHContent(any(), any())).thenReturn(getMockImage());
-    when(productRepo.save(any(Product.class))).thenReturn(new Product());
+    when(metadataRevisionService.fetchMetadata(any(), any(), eq(false))).thenReturn(
+        MetadataRevision.builder().content(getMockMetadataContent()).changed(true).build());
     // Executes
     productService.syncLatestDataFromMarketRepo(false);
 
@@ -287,6 +302,30 @@ class ProductServiceImplTest extends BaseSetup {
 
     assertThat(argumentCaptorProductModuleContents.getValue().get(0).getId())
         .isEqualTo(mockReadmeProductContent().getId());
+    verify(metadataRevisionService).saveRevisions(argThat(revisions -> revisions.size() == 1));
+  }
+
+  @Test
+  void testSyncProductsFirstTimeWithUnchangedMetadata() throws IOException {
+    mockFirstSync();
+    when(metadataRevisionService.fetchMetadata(any(), any(), eq(false))).thenReturn(new MetadataRevision());
+    // Executes
+    productService.syncLatestDataFromMarketRepo(false);
+
+    verify(productModuleContentRepo, never()).saveAll(anyList());
+    verify(productRepo).save(any(Product.class));
+    verify(metadataRevisionService).saveRevisions(List.of());
+  }
+
+  private void mockFirstSync() throws IOException {
+    var mockCommit = mockGHCommitHasSHA1(SHA1_SAMPLE);
+    when(marketRepoService.getLastCommit(anyLong())).thenReturn(mockCommit);
+    when(repoMetaRepo.findByRepoName(anyString())).thenReturn(null);
+    Map<String, List<GHContent>> mockGHContentMap = new HashMap<>();
+    mockGHContentMap.put(SAMPLE_PRODUCT_ID, mockMetaJsonAndLogoList());
+    when(marketRepoService.fetchAllMarketItems()).thenReturn(mockGHContentMap);
+    when(imageService.mappingImageFromGHContent(any(), any())).thenReturn(getMockImage());
+    when(productRepo.save(any(Product.class))).thenReturn(new Product());
   }
 
   @Test
@@ -337,6 +376,8 @@ class ProductServiceImplTest extends BaseSetup {
           anyString())).thenReturn(mockReturnProductContent);
       when(productModuleContentRepo.saveAll(anyList()))
           .thenReturn(List.of(mockReadmeProductContent(), mockReturnProductContent));
+      when(metadataRevisionService.fetchMetadata(any(), any(), eq(true))).thenReturn(
+          MetadataRevision.builder().content(getMockMetadataContent()).changed(true).build());
       mockUtils.when(() -> MavenUtils.getMetadataContentFromUrl(any())).thenReturn(getMockMetadataContent());
       when(MavenUtils.buildDownloadUrl(any(), any(), any(), any(), any(), any())).thenReturn(MOCK_DOWNLOAD_URL);
       // Executes
@@ -349,6 +390,25 @@ class ProductServiceImplTest extends BaseSetup {
     }
   }
 
+  @Test
+  void testSyncProductsSecondTimeSkipsUnchangedMetadata() {
+    Product mockProduct = getMockProduct();
+    var gitHubRepoMeta = mock(GitHubRepoMeta.class);
+    when(gitHubRepoMeta.getLastSHA1()).thenReturn(SHA1_SAMPLE);
+    var mockCommit = mockGHCommitHasSHA1(SHA1_SAMPLE);
+    when(marketRepoService.getLastCommit(anyLong())).thenReturn(mockCommit);
+    when(repoMetaRepo.findByRepoName(anyString())).thenReturn(gitHubRepoMeta);
+    when(productRepo.findAll()).thenReturn(List.of(mockProduct));
+    when(metadataRevisionService.fetchMetadata(any(), any(), eq(true))).thenReturn(new MetadataRevision());
+
+    // Executes
+    productService.syncLatestDataFromMarketRepo(false);
+
+    verify(metadataService, never()).updateArtifactAndMetadata(any(), any(), any());
+    verify(externalDocumentService, never()).syncDocumentForProduct(any(), any(), anyBoolean());
+    verify(productRepo, never()).save(any());
+  }
+
   @Test
   void testNothingToSync() {
     var gitHubRepoMeta = mock(GitHubRepoMeta.class);
@@ -381,6 +441,28 @@ class ProductServiceImplTest extends BaseSetup {
     assertThat(argumentCaptor.getValue().getProductModuleContent()).isNull();
   }
 
+  @Test
+  void testSyncProductsFirstTimeIsolatesFailedProduct() {
+    var mockCommit = mockGHCommitHasSHA1(SHA1_SAMPLE);
+    when(marketRepoService.getLastCommit(anyLong())).thenReturn(mockCommit);
+    when(repoMetaRepo.findByRepoName(anyString())).thenReturn(null);
+
+    Map<String, List<GHContent>> mockGHContentMap = new HashMap<>();
+    mockGHContentMap.put(SAMPLE_PRODUCT_PATH, new ArrayList<>());
+    mockGHContentMap.put(MOCK_PRODUCT_ID, new ArrayList<>());
+    when(marketRepoService.fetchAllMarketItems()).thenReturn(mockGHContentMap);
+    when(productRepo.save(any(Product.class))).thenThrow(new IllegalStateException())
+        .thenReturn(Product.builder().id(SAMPLE_PRODUCT_ID).build());
+    var statistics = new SyncStatistics();
+
+    // Executes
+    var result = productService.syncLatestDataFromMarketRepo(false, statistics);
+
+    assertEquals(List.of(SAMPLE_PRODUCT_ID), result);
+    assertEquals(1, statistics.getFailedProductIds().size());
+    verify(productRepo, times(2)).save(any(Product.class));
+  }
+
   @Test
   void testSearchProducts() {
     var simplePageable = PageRequest.of(0, 20);
@@ -390,71 +472,56 @@ class ProductServiceImplTest extends BaseSetup {
     when(productRepo.searchByCriteria(any(), any(Pageable.class))).thenReturn(
         mockResultReturn);
 
-    var result = productService.findProducts(type, keyword, language, false, simplePageable);
+    var result = productService.findProducts(type, keyword, language, false, null, simplePageable);
     assertEquals(result, mockResultReturn);
     verify(productRepo).searchByCriteria(any(), any(Pageable.class));
   }
 
   @Test
   void testFetchProductDetail() {
-    MavenArtifactVersion mockMavenArtifactVersion = getMockMavenArtifactVersionWithData();
-    when(mavenArtifactVersionRepo.findById(MOCK_PRODUCT_ID)).thenReturn(
-        Optional.ofNullable(mockMavenArtifactVersion));
-    when(productRepo.getProductByIdAndVersion(MOCK_PRODUCT_ID, MOCK_SNAPSHOT_VERSION)).thenReturn(null);
+    when(productVersionIndexService.getVersionsToDisplay(MOCK_PRODUCT_ID, true, StringUtils.EMPTY))
+        .thenReturn(List.of(MOCK_SNAPSHOT_VERSION));
+    when(productRepo.findProductById(MOCK_PRODUCT_ID)).thenReturn(null);
     Product result = productService.fetchProductDetail(MOCK_PRODUCT_ID, true);
     assertNull(result);
+    verifyNoInteractions(productModuleContentRepo, productJsonContentRepo, productMarketplaceDataService);
   }
 
   @Test
   void testGetCompatibilityRangeAfterFetchProductDetail() {
-    MavenArtifactVersion mockMavenArtifactVersion = getMockMavenArtifactVersionWithData();
-    when(mavenArtifactVersionRepo.findById(MOCK_PRODUCT_ID)).thenReturn(
-        Optional.ofNullable(mockMavenArtifactVersion));
-
-
-    when(productRepo.getProductByIdAndVersion(MOCK_PRODUCT_ID, MOCK_SNAPSHOT_VERSION))
-        .thenReturn(getMockProduct());
-    when(versionService.getVersionsForDesigner(MOCK_PRODUCT_ID))
-        .thenReturn(mockVersionAndUrlModels(), mockVersionModels(), mockVersionModels2(), mockVersionModels3());
-
+    when(productVersionIndexService.getVersionsToDisplay(MOCK_PRODUCT_ID, true, StringUtils.EMPTY))
+        .thenReturn(List.of(MOCK_SNAPSHOT_VERSION));
+    when(productRepo.findProductById(MOCK_PRODUCT_ID)).thenReturn(getMockProduct());
+    when(productVersionIndexService.getIndex(MOCK_PRODUCT_ID)).thenReturn(
+        ProductVersionIndex.builder().productId(MOCK_PRODUCT_ID).compatibilityRange("10.0 - 11.3+").build());
 
     Product result = productService.fetchProductDetail(MOCK_PRODUCT_ID, true);
-    assertEquals("10.0+", result.getCompatibilityRange());
-
-    result = productService.fetchProductDetail(MOCK_PRODUCT_ID, true);
-    assertEquals("10.0 - 11.3+", result.getCompatibilityRange());
-
-    result = productService.fetchProductDetail(MOCK_PRODUCT_ID, true);
     assertEquals("10.0 - 11.3+", result.getCompatibilityRange());
-
-    result = productService.fetchProductDetail(MOCK_PRODUCT_ID, true);
-    assertEquals("10.0 - 12.0+", result.getCompatibilityRange());
   }
 
   @Test
   void testGetProductByIdWithNewestReleaseVersion() {
-    MavenArtifactVersion mockMavenArtifactVersion = getMockMavenArtifactVersionWithData();
     Product mockProduct = getMockProduct();
+    when(productVersionIndexService.getVersionsToDisplay(MOCK_PRODUCT_ID, true, StringUtils.EMPTY))
+        .thenReturn(List.of(MOCK_SNAPSHOT_VERSION));
+    when(productRepo.findProductById(MOCK_PRODUCT_ID)).thenReturn(mockProduct);
+    ProductModuleContent mockContent = mockReadmeProductContent();
+    when(productModuleContentRepo.findByVersionAndProductId(MOCK_SNAPSHOT_VERSION, MOCK_PRODUCT_ID))
+        .thenReturn(mockContent);
+    when(productJsonContentRepo.findByProductIdAndVersion(MOCK_PRODUCT_ID, MOCK_SNAPSHOT_VERSION))
+        .thenReturn(List.of(getMockProductJsonContentContainMavenDropins()));
+
+    Product result = productService.getProductByIdWithNewestReleaseVersion(MOCK_PRODUCT_ID, true);
+    assertEquals(mockProduct, result);
+    assertEquals(mockContent, result.getProductModuleContent());
 
-    try (MockedStatic<MavenUtils> mockUtils = Mockito.mockStatic(MavenUtils.class)) {
-      mockUtils.when(() -> mavenArtifactVersionRepo.findById(MOCK_PRODUCT_ID)).thenReturn(
-          Optional.of(mockMavenArtifactVersion));
-      when(MavenUtils.getAllExistingVersions(mockMavenArtifactVersion, true, StringUtils.EMPTY))
-          .thenReturn(List.of(MOCK_SNAPSHOT_VERSION));
-
-      when(productRepo.getProductByIdAndVersion(MOCK_PRODUCT_ID, MOCK_SNAPSHOT_VERSION)).thenReturn(mockProduct);
-      when(productJsonContentRepo.findByProductIdAndVersion(MOCK_PRODUCT_ID, MOCK_SNAPSHOT_VERSION))
-          .thenReturn(List.of(getMockProductJsonContentContainMavenDropins()));
-
-      Product result = productService.getProductByIdWithNewestReleaseVersion(MOCK_PRODUCT_ID, true);
-      assertEquals(mockProduct, result);
-
-      when(mavenArtifactVersionRepo.findById(MOCK_PRODUCT_ID)).thenReturn(Optional.empty());
-      when(productRepo.getReleasedVersionsById(MOCK_PRODUCT_ID)).thenReturn(List.of(MOCK_SNAPSHOT_VERSION));
-      when(productRepo.getProductByIdAndVersion(MOCK_PRODUCT_ID, MOCK_SNAPSHOT_VERSION)).thenReturn(mockProduct);
-      result = productService.getProductByIdWithNewestReleaseVersion(MOCK_PRODUCT_ID, true);
-      assertEquals(mockProduct, result);
-    }
+    when(productVersionIndexService.getVersionsToDisplay(MOCK_PRODUCT_ID, true, StringUtils.EMPTY))
+        .thenReturn(List.of());
+    mockProduct.setReleasedVersions(List.of(MOCK_SNAPSHOT_VERSION));
+    result = productService.getProductByIdWithNewestReleaseVersion(MOCK_PRODUCT_ID, true);
+    assertEquals(mockProduct, result);
+    verify(productRepo, never()).getReleasedVersionsById(MOCK_PRODUCT_ID);
+    verify(mavenArtifactVersionRepo, never()).findById(MOCK_PRODUCT_ID);
   }
 
   @Test
@@ -472,15 +539,18 @@ class ProductServiceImplTest extends BaseSetup {
   @Test
   void testFetchBestMatchProductDetailByIdAndVersion() {
     Product mockProduct = getMockProduct();
-    Metadata mockMetadata = getMockMetadataWithVersions();
     ProductMarketplaceData mockProductMarketplaceData = getMockProductMarketplaceData();
-    mockMetadata.setArtifactId(MOCK_PRODUCT_ARTIFACT_ID);
-    when(metadataRepo.findByProductId(MOCK_PRODUCT_ID)).thenReturn(List.of(mockMetadata));
+    when(productVersionIndexService.getIndex(MOCK_PRODUCT_ID)).thenReturn(ProductVersionIndex.builder()
+        .productId(MOCK_PRODUCT_ID).installableVersions(List.of(MOCK_SNAPSHOT_VERSION, MOCK_RELEASED_VERSION))
+        .compatibilityRange("10.0+").build());
     when(productRepo.getProductByIdAndVersion(MOCK_PRODUCT_ID, MOCK_RELEASED_VERSION)).thenReturn(mockProduct);
     when(productMarketplaceDataService.updateProductInstallationCount(MOCK_PRODUCT_ID)).thenReturn(
         mockProductMarketplaceData.getInstallationCount());
     Product result = productService.fetchBestMatchProductDetail(MOCK_PRODUCT_ID, MOCK_RELEASED_VERSION);
     assertEquals(mockProduct, result);
+    assertEquals(MOCK_RELEASED_VERSION, result.getBestMatchVersion());
+    assertEquals("10.0+", result.getCompatibilityRange());
+    verifyNoInteractions(metadataRepo);
   }
 
   @Test
@@ -571,11 +641,36 @@ class ProductServiceImplTest extends BaseSetup {
 
     verify(productRepo).deleteById(anyString());
     verify(imageRepo).deleteAllByProductId(anyString());
+    verify(imageService).evictCachedImagesByProductId(anyString());
+    verify(productVersionIndexService).delete(anyString());
     verify(imageRepo).findByImageUrlEndsWithIgnoreCase(anyString());
     assertNotNull(result);
     assertFalse(result.isEmpty());
   }
 
+  @Test
+  void testUpdateNewLogoFromGitHub_evictReplacedLogo() throws IOException {
+    mockMarketRepoMetaStatus();
+    var mockCommit = mockGHCommitHasSHA1(UUID.randomUUID().toString());
+    when(mockCommit.getCommitDate()).thenReturn(new Date());
+    when(marketRepoService.getLastCommit(anyLong())).thenReturn(mockCommit);
+    var mockGitHubFile = new GitHubFile();
+    mockGitHubFile.setFileName(LOGO_FILE);
+    mockGitHubFile.setType(FileType.LOGO);
+    mockGitHubFile.setStatus(FileStatus.MODIFIED);
+    when(marketRepoService.fetchMarketItemsBySHA1Range(any(), any())).thenReturn(List.of(mockGitHubFile));
+    Product product = getMockProduct();
+    product.setLogoId("66e2b14868f2f95b2f95550a");
+    when(productRepo.findByCriteria(any())).thenReturn(product);
+    when(imageService.mappingImageFromGHContent(any(), any())).thenReturn(getMockImage());
+
+    productService.syncLatestDataFromMarketRepo(false);
+
+    verify(imageRepo).deleteById("66e2b14868f2f95b2f95550a");
+    verify(imageService).evictCachedImage("66e2b14868f2f95b2f95550a");
+    assertEquals(getMockImage().getId(), product.getLogoId());
+  }
+
   @Test
   void testUpdateNewLogoFromGitHub_ModifyLogo() throws IOException {
     // Start testing by adding new logo
@@ -598,6 +693,9 @@ class ProductServiceImplTest extends BaseSetup {
     assertFalse(result.isEmpty());
     verify(productRepo).deleteById(anyString());
     verify(imageRepo).deleteAllByProductId(anyString());
+    verify(imageService).evictCachedImagesByProductId(anyString());
+    verify(productVersionIndexService).delete(anyString());
+    verify(imageService, times(1)).warmUpImageCache(anyList(), eq(64));
   }
 
   @Test
@@ -609,8 +707,10 @@ class ProductServiceImplTest extends BaseSetup {
     var mockContents = mockMetaJsonAndLogoList();
     when(marketRepoService.getMarketItemByPath(anyString())).thenReturn(mockContents);
     when(productRepo.save(any(Product.class))).thenReturn(mockProduct);
+    when(metadataRevisionService.fetchMetadata(any(), any(), eq(false))).thenReturn(new MetadataRevision());
     assertTrue(productService.syncOneProduct(SAMPLE_PRODUCT_ID, SAMPLE_PRODUCT_PATH, false));
     assertTrue(productService.syncOneProduct(SAMPLE_PRODUCT_ID, SAMPLE_PRODUCT_PATH, true));
+    verify(productMarketplaceDataService, never()).migrateLegacyInstallationCounts();
   }
 
   private List<GHContent> mockMetaJsonAndLogoList() throws IOException {
@@ -666,6 +766,7 @@ class ProductServiceImplTest extends BaseSetup {
     List<GHTag> tags = Arrays.asList(ghTagVersionOne, ghTagVersionTwo);
     when(gitHubService.getRepositoryTags(SAMPLE_PRODUCT_REPOSITORY_NAME)).thenReturn(tags);
     assertTrue(productService.syncFirstPublishedDateOfAllProducts());
+    verify(productCatalogService).rebuild();
   }
 
   @Test
@@ -676,6 +777,7 @@ class ProductServiceImplTest extends BaseSetup {
     mockProduct.setFirstPublishedDate(new Date());
     when(productRepo.findAll()).thenReturn(List.of(mockProduct));
     assertTrue(productService.syncFirstPublishedDateOfAllProducts());
+    verify(productCatalogService, never()).rebuild();
   }
 
   @Test
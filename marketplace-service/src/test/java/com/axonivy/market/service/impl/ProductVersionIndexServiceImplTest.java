@@ -0,0 +1,144 @@
+package com.axonivy.market.service.impl;
+
+import com.axonivy.market.BaseSetup;
+import com.axonivy.market.entity.MavenArtifactVersion;
+import com.axonivy.market.entity.Metadata;
+import com.axonivy.market.entity.ProductVersionIndex;
+import com.axonivy.market.repository.MavenArtifactVersionRepository;
+import com.axonivy.market.repository.MetadataRepository;
+import com.axonivy.market.repository.ProductVersionIndexRepository;
+import com.axonivy.market.util.VersionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductVersionIndexServiceImplTest extends BaseSetup {
+  private static final List<String> MAVEN_VERSIONS = List.of("10.0.1", "10.0.2", "10.0.3-SNAPSHOT", "10.0.12",
+      "11.1.0-SNAPSHOT", "11.1.0", "11.2.0-m250", "12.0.0");
+  @Mock
+  private ProductVersionIndexRepository productVersionIndexRepo;
+  @Mock
+  private MavenArtifactVersionRepository mavenArtifactVersionRepo;
+  @Mock
+  private MetadataRepository metadataRepo;
+  private ProductVersionIndexServiceImpl productVersionIndexService;
+
+  @BeforeEach
+  void setup() {
+    productVersionIndexService = new ProductVersionIndexServiceImpl(productVersionIndexRepo,
+        mavenArtifactVersionRepo, metadataRepo, 60_000);
+  }
+
+  private void mockMavenData() {
+    var mavenArtifactVersion = MavenArtifactVersion.builder().productId(MOCK_PRODUCT_ID)
+        .productArtifactsByVersion(new HashMap<>()).build();
+    MAVEN_VERSIONS.forEach(version -> mavenArtifactVersion.getProductArtifactsByVersion().put(version,
+        new ArrayList<>()));
+    Metadata productMetadata = Metadata.builder().productId(MOCK_PRODUCT_ID).artifactId(MOCK_PRODUCT_ARTIFACT_ID)
+        .versions(Set.copyOf(MAVEN_VERSIONS)).build();
+    when(mavenArtifactVersionRepo.findById(MOCK_PRODUCT_ID)).thenReturn(Optional.of(mavenArtifactVersion));
+    when(metadataRepo.findByProductId(MOCK_PRODUCT_ID)).thenReturn(List.of(productMetadata));
+    when(productVersionIndexRepo.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  void testRebuildComputesVersionLists() {
+    mockMavenData();
+
+    ProductVersionIndex index = productVersionIndexService.rebuild(MOCK_PRODUCT_ID);
+
+    assertEquals(VersionUtils.getVersionsToDisplay(MAVEN_VERSIONS, false, StringUtils.EMPTY),
+        index.getReleasedVersions());
+    assertEquals(VersionUtils.getVersionsToDisplay(MAVEN_VERSIONS, true, StringUtils.EMPTY), index.getDevVersions());
+    assertEquals(List.of("12.0.0", "11.2.0-m250", "11.1.0", "10.0.12", "10.0.3-SNAPSHOT", "10.0.2", "10.0.1"),
+        index.getDesignerVersions());
+    assertEquals("10.0 - 12.0+", index.getCompatibilityRange());
+    verify(productVersionIndexRepo).save(index);
+
+    assertSame(index, productVersionIndexService.getIndex(MOCK_PRODUCT_ID));
+    verify(productVersionIndexRepo, never()).findById(MOCK_PRODUCT_ID);
+  }
+
+  @Test
+  void testGetVersionsToDisplayMatchesVersionUtils() {
+    mockMavenData();
+    productVersionIndexService.rebuild(MOCK_PRODUCT_ID);
+
+    for (String designerVersion : List.of("10", "10.0", "10.0.1", "11.1.0", "12.0.0", "13.0.0")) {
+      assertEquals(VersionUtils.getVersionsToDisplay(MAVEN_VERSIONS, false, designerVersion),
+          productVersionIndexService.getVersionsToDisplay(MOCK_PRODUCT_ID, false, designerVersion),
+          "Unexpected versions of designer version " + designerVersion);
+    }
+    assertEquals(VersionUtils.getVersionsToDisplay(MAVEN_VERSIONS, true, null),
+        productVersionIndexService.getVersionsToDisplay(MOCK_PRODUCT_ID, true, null));
+  }
+
+  @Test
+  void testGetIndexBuildsMissingIndexOnce() {
+    when(productVersionIndexRepo.findById(MOCK_PRODUCT_ID)).thenReturn(Optional.empty());
+    mockMavenData();
+
+    ProductVersionIndex index = productVersionIndexService.getIndex(MOCK_PRODUCT_ID);
+    productVersionIndexService.getIndex(MOCK_PRODUCT_ID);
+
+    assertFalse(index.getReleasedVersions().isEmpty());
+    verify(productVersionIndexRepo, times(1)).findById(MOCK_PRODUCT_ID);
+    verify(productVersionIndexRepo, times(1)).save(index);
+  }
+
+  @Test
+  void testGetIndexOfProductWithoutMavenData() {
+    when(productVersionIndexRepo.findById(MOCK_PRODUCT_ID)).thenReturn(Optional.empty());
+    when(mavenArtifactVersionRepo.findById(MOCK_PRODUCT_ID)).thenReturn(Optional.empty());
+
+    ProductVersionIndex index = productVersionIndexService.getIndex(MOCK_PRODUCT_ID);
+    productVersionIndexService.getIndex(MOCK_PRODUCT_ID);
+
+    assertTrue(index.getDevVersions().isEmpty());
+    assertNull(index.getCompatibilityRange());
+    verify(productVersionIndexRepo, times(1)).findById(MOCK_PRODUCT_ID);
+    verify(mavenArtifactVersionRepo, times(1)).findById(MOCK_PRODUCT_ID);
+    verify(productVersionIndexRepo, never()).save(any());
+  }
+
+  @Test
+  void testExpiredIndexIsReadAgain() {
+    productVersionIndexService = new ProductVersionIndexServiceImpl(productVersionIndexRepo,
+        mavenArtifactVersionRepo, metadataRepo, -1);
+    var storedIndex = ProductVersionIndex.builder().productId(MOCK_PRODUCT_ID).releasedVersions(List.of("12.0.0"))
+        .build();
+    when(productVersionIndexRepo.findById(MOCK_PRODUCT_ID)).thenReturn(Optional.of(storedIndex));
+
+    productVersionIndexService.getIndex(MOCK_PRODUCT_ID);
+    productVersionIndexService.getIndex(MOCK_PRODUCT_ID);
+
+    verify(productVersionIndexRepo, times(2)).findById(MOCK_PRODUCT_ID);
+  }
+
+  @Test
+  void testDeleteEvictsCachedIndex() {
+    mockMavenData();
+    productVersionIndexService.rebuild(MOCK_PRODUCT_ID);
+    when(productVersionIndexRepo.findById(MOCK_PRODUCT_ID)).thenReturn(Optional.empty());
+
+    productVersionIndexService.delete(MOCK_PRODUCT_ID);
+    productVersionIndexService.getIndex(MOCK_PRODUCT_ID);
+
+    verify(productVersionIndexRepo).deleteById(MOCK_PRODUCT_ID);
+    verify(productVersionIndexRepo).findById(MOCK_PRODUCT_ID);
+  }
+}
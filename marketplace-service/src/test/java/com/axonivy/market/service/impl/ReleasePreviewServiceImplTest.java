@@ -1,45 +1,52 @@
 package com.axonivy.market.service.impl;
 
+import com.axonivy.market.bo.ReleasePreviewSession;
 import com.axonivy.market.model.ReleasePreview;
 import com.axonivy.market.util.FileUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static com.axonivy.market.constants.PreviewConstants.IMAGE_DOWNLOAD_URL;
+import static com.axonivy.market.constants.PreviewConstants.PREVIEW_DIR;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ReleasePreviewServiceImplTest {
 
-    private ReleasePreviewServiceImpl releasePreviewService;
-
-    private Path tempDirectory;
+    private static final long SESSION_TTL = 60_000;
 
     private static final String BASE_URL = "http://example.com";
 
     private static final String README_CONTENT = "# Sample README Content\n![image](image1.png)";
 
-    private static final String UPDATED_README_CONTENT = "# Sample README Content\n![image](http://example" +
-            ".com/api/image/preview/image1.png)";
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile("/api/image/preview/([^/]+)/image1.png");
+
+    private ReleasePreviewServiceImpl releasePreviewService;
+
+    private Path tempDirectory;
 
     @BeforeEach
     void setUp() throws IOException {
-        releasePreviewService = spy(new ReleasePreviewServiceImpl());
+        releasePreviewService = new ReleasePreviewServiceImpl(SESSION_TTL);
         tempDirectory = Files.createTempDirectory("test-dir");
     }
 
@@ -50,120 +57,107 @@ class ReleasePreviewServiceImplTest {
 
     @Test
     void testProcessReadme() throws IOException {
-        Path tempReadmeFile = Files.createTempFile("README", ".md");
+        Path tempReadmeFile = tempDirectory.resolve("README.md");
         Files.writeString(tempReadmeFile, README_CONTENT);
         Map<String, Map<String, String>> moduleContents = new HashMap<>();
 
-        doReturn(UPDATED_README_CONTENT).when(releasePreviewService)
-                .updateImagesWithDownloadUrl(tempDirectory.toString(), README_CONTENT, BASE_URL);
-        releasePreviewService.processReadme(tempReadmeFile, moduleContents, BASE_URL, tempDirectory.toString());
+        releasePreviewService.processReadme(tempReadmeFile, moduleContents,
+                Map.of("image1.png", "http://example.com/api/image/preview/session/image1.png"));
 
         assertEquals(3, moduleContents.size());
-        Files.deleteIfExists(tempReadmeFile);
+        assertTrue(moduleContents.toString().contains("http://example.com/api/image/preview/session/image1.png"));
     }
 
     @Test
-    void testUpdateImagesWithDownloadUrl_Success() throws IOException {
-        Path tempReadmeFile = Files.createTempFile("README", ".md");
-        Files.writeString(tempReadmeFile, README_CONTENT);
-        String parentPath = tempReadmeFile.getParent().toString();
-
-        Path imagePath1 = Paths.get(parentPath + "/image1.png");
-        try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.walk(Paths.get(parentPath)))
-                    .thenReturn(Stream.of(imagePath1));
-            mockedFiles.when(() -> Files.isRegularFile(any()))
-                    .thenReturn(true);
-            String result = releasePreviewService.updateImagesWithDownloadUrl(parentPath,
-                    README_CONTENT
-                    , BASE_URL);
-
-            assertNotNull(result);
-            assertTrue(result.contains(String.format(IMAGE_DOWNLOAD_URL, BASE_URL, "image1.png")));
-        }
-        Files.deleteIfExists(tempReadmeFile);
+    void testExtract_Success() throws IOException {
+        ReleasePreview result = releasePreviewService.extract(createZipFile(Map.of("README.md", README_CONTENT,
+                "images/image1.png", "content", "README_DE.md", README_CONTENT)), BASE_URL);
+
+        assertNotNull(result);
+        String description = result.getDescription().get("en");
+        Matcher sessionIdMatcher = SESSION_ID_PATTERN.matcher(description);
+        assertTrue(sessionIdMatcher.find(), description);
+        String sessionId = sessionIdMatcher.group(1);
+        assertTrue(description.contains(String.format(IMAGE_DOWNLOAD_URL, BASE_URL, sessionId, "image1.png")));
+        Path imagePath = releasePreviewService.findPreviewImage(sessionId, "IMAGE1.png");
+        assertEquals("content", Files.readString(imagePath));
+        assertTrue(imagePath.startsWith(Path.of(PREVIEW_DIR, sessionId)));
+        assertNull(releasePreviewService.findPreviewImage(sessionId, "missing.png"));
+        assertNull(releasePreviewService.findPreviewImage("unknown-session", "image1.png"));
     }
 
     @Test
-    void testUpdateImagesWithDownloadUrl_IOException() {
-        try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.walk(tempDirectory))
-                    .thenThrow(new IOException("Simulated IOException"));
-            assertDoesNotThrow(
-                    () -> releasePreviewService.updateImagesWithDownloadUrl(tempDirectory.toString()
-                            , README_CONTENT, BASE_URL));
-        }
+    void testExtract_SessionsDoNotShareImages() throws IOException {
+        ReleasePreview firstPreview = releasePreviewService.extract(createZipFile(Map.of("README.md", README_CONTENT,
+                "image1.png", "first")), BASE_URL);
+        ReleasePreview secondPreview = releasePreviewService.extract(createZipFile(Map.of("README.md", README_CONTENT,
+                "image1.png", "second")), BASE_URL);
+
+        assertEquals("first", Files.readString(findImage(firstPreview)));
+        assertEquals("second", Files.readString(findImage(secondPreview)));
     }
 
     @Test
-    void testExtractReadme_Success() throws IOException {
-        String parentPath = tempDirectory.getParent().toString();
-        Path readmeFile = FileUtils.createFile(parentPath + "/README.md").toPath();
-        Files.writeString(readmeFile, README_CONTENT);
-
-        try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.walk(tempDirectory))
-                    .thenReturn(Stream.of(readmeFile));
-            mockedFiles.when(() -> Files.isRegularFile(any()))
-                    .thenReturn(true);
-            mockedFiles.when(() -> Files.readString(any()))
-                    .thenReturn(README_CONTENT);
-            when(releasePreviewService.updateImagesWithDownloadUrl(any(), anyString(), anyString())).thenReturn(
-                    UPDATED_README_CONTENT);
-
-            ReleasePreview result = releasePreviewService.extractReadme(BASE_URL, tempDirectory.toString());
-            assertNotNull(result);
-        }
-        Files.deleteIfExists(readmeFile);
+    void testExtract_NoReadmeFiles() throws IOException {
+        assertNull(releasePreviewService.extract(createZipFile(Map.of("image1.png", "content")), BASE_URL));
     }
 
     @Test
-    void testExtractREADME_NoReadmeFiles() {
-        try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.walk(tempDirectory))
-                    .thenReturn(Stream.empty());
+    void testExtract_IOException() throws IOException {
+        MultipartFile brokenFile = mock(MultipartFile.class);
+        when(brokenFile.getInputStream()).thenThrow(new IOException("Simulated IOException"));
 
-            ReleasePreview result = releasePreviewService.extractReadme(BASE_URL, tempDirectory.toString());
-            assertNull(result);
-        }
+        assertNull(releasePreviewService.extract(brokenFile, BASE_URL));
     }
 
     @Test
-    void testExtractReadme_IOException() {
-        try (MockedStatic<Files> mockedFiles = mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.walk(tempDirectory))
-                    .thenThrow(new IOException("Simulated IOException"));
-
-            ReleasePreview result = releasePreviewService.extractReadme(BASE_URL, tempDirectory.toString());
-            assertNull(result);
-            assertDoesNotThrow(
-                    () -> releasePreviewService.extractReadme(BASE_URL, tempDirectory.toString()));
-        }
+    void testExpiredSessionIsRemoved() throws IOException {
+        releasePreviewService = new ReleasePreviewServiceImpl(-1);
+        ReleasePreview preview = releasePreviewService.extract(createZipFile(Map.of("README.md", README_CONTENT,
+                "image1.png", "content")), BASE_URL);
+        String sessionId = getSessionId(preview);
+
+        assertNull(releasePreviewService.findPreviewImage(sessionId, "image1.png"));
+        releasePreviewService.removeExpiredSessions();
+        assertFalse(Files.exists(Path.of(PREVIEW_DIR, sessionId)));
     }
 
     @Test
-    void testExtract_Success() {
-        MockMultipartFile mockMultipartFile = new MockMultipartFile("file", "mockFileName",
-                "application/zip", "test".getBytes());
-        try (MockedStatic<FileUtils> fileUtils = Mockito.mockStatic(FileUtils.class)) {
-            fileUtils.when(() -> FileUtils.unzip(any(), anyString())).thenAnswer(invocation -> null);
-        }
-        when(releasePreviewService.extractReadme(anyString(), anyString())).thenReturn(new ReleasePreview());
-        ReleasePreview result = releasePreviewService.extract(mockMultipartFile, tempDirectory.toString());
-        assertNotNull(result);
+    void testIndexSession() throws IOException {
+        Files.createDirectories(tempDirectory.resolve("sub"));
+        Files.writeString(tempDirectory.resolve("README.md"), README_CONTENT);
+        Files.writeString(tempDirectory.resolve("sub/Logo.PNG"), "content");
+        Files.writeString(tempDirectory.resolve("notes.txt"), "notes");
+
+        ReleasePreviewSession session = ReleasePreviewSession.index("session", tempDirectory,
+                Instant.now().plusMillis(SESSION_TTL));
+
+        assertEquals(1, session.getReadmeFiles().size());
+        assertEquals(1, session.getImageFiles().size());
+        assertEquals(tempDirectory.resolve("sub/Logo.PNG"), session.findImage("logo.png"));
+        assertFalse(session.isExpired(Instant.now()));
     }
 
-    @Test
-    void testExtract_IOException() {
-        MockMultipartFile mockMultipartFile = new MockMultipartFile("file", "mockFileName",
-                "application/zip", "test".getBytes());
-        try (MockedStatic<FileUtils> fileUtils = Mockito.mockStatic(FileUtils.class)) {
-            fileUtils.when(() -> FileUtils.unzip(any(), anyString())).thenThrow(new IOException());
+    private Path findImage(ReleasePreview preview) {
+        return releasePreviewService.findPreviewImage(getSessionId(preview), "image1.png");
+    }
+
+    private static String getSessionId(ReleasePreview preview) {
+        Matcher sessionIdMatcher = SESSION_ID_PATTERN.matcher(preview.getDescription().get("en"));
+        assertTrue(sessionIdMatcher.find());
+        return sessionIdMatcher.group(1);
+    }
+
+    private static MockMultipartFile createZipFile(Map<String, String> files) throws IOException {
+        var zipContent = new ByteArrayOutputStream();
+        try (var zipOutputStream = new ZipOutputStream(zipContent)) {
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                zipOutputStream.putNextEntry(new ZipEntry(file.getKey()));
+                zipOutputStream.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
         }
-        ReleasePreview result = releasePreviewService.extract(mockMultipartFile, tempDirectory.toString());
-        assertNull(result);
-        assertDoesNotThrow(
-                () -> releasePreviewService.extract(mockMultipartFile, tempDirectory.toString()));
+        return new MockMultipartFile("file", "preview.zip", "application/zip", zipContent.toByteArray());
     }
 
 }
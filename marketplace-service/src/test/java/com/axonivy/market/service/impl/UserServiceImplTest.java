@@ -13,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -71,6 +72,16 @@ class UserServiceImplTest {
     verify(userRepository, times(1)).findById(userId);
   }
 
+  @Test
+  void testFindUsersByIds() {
+    when(userRepository.findAllById(List.of("1", "2"))).thenReturn(List.of(user));
+
+    Map<String, User> result = userService.findUsersByIds(List.of("1", "2"));
+    assertEquals(Map.of("1", user), result);
+    assertTrue(userService.findUsersByIds(List.of()).isEmpty());
+    verify(userRepository, times(1)).findAllById(any());
+  }
+
   @Test
   void testCreateUser() {
     when(userRepository.save(any(User.class))).thenReturn(user);
@@ -5,8 +5,8 @@ import com.axonivy.market.bo.ArchivedArtifact;
 import com.axonivy.market.bo.Artifact;
 import com.axonivy.market.constants.MavenConstants;
 import com.axonivy.market.entity.MavenArtifactVersion;
-import com.axonivy.market.entity.Metadata;
 import com.axonivy.market.entity.ProductJsonContent;
+import com.axonivy.market.entity.ProductVersionIndex;
 import com.axonivy.market.enums.DevelopmentVersion;
 import com.axonivy.market.github.service.GHAxonIvyProductRepoService;
 import com.axonivy.market.model.MavenArtifactModel;
@@ -15,6 +15,7 @@ import com.axonivy.market.repository.MavenArtifactVersionRepository;
 import com.axonivy.market.repository.MetadataRepository;
 import com.axonivy.market.repository.ProductJsonContentRepository;
 import com.axonivy.market.repository.ProductRepository;
+import com.axonivy.market.service.ProductVersionIndexService;
 import com.axonivy.market.util.MavenUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -31,7 +32,6 @@ import org.springframework.util.CollectionUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -60,6 +60,9 @@ class VersionServiceImplTest extends BaseSetup {
   @Mock
   private MetadataRepository metadataRepo;
 
+  @Mock
+  private ProductVersionIndexService productVersionIndexService;
+
   @Test
   void testGetArtifactsAndVersionToDisplay() {
     when(mavenArtifactVersionRepo.findById(Mockito.anyString())).thenReturn(Optional.empty());
@@ -78,6 +81,8 @@ class VersionServiceImplTest extends BaseSetup {
     mockModel.setDownloadUrl(MavenConstants.DEFAULT_IVY_MAVEN_BASE_URL);
     proceededData.getAdditionalArtifactsByVersion().put(MOCK_RELEASED_VERSION, List.of(mockModel));
     when(mavenArtifactVersionRepo.findById(Mockito.anyString())).thenReturn(Optional.of(proceededData));
+    when(productVersionIndexService.getVersionsToDisplay(MOCK_PRODUCT_ID, false, MOCK_RELEASED_VERSION))
+        .thenReturn(List.of(MOCK_RELEASED_VERSION));
     Assertions.assertTrue(ObjectUtils.isNotEmpty(
         versionService.getArtifactsAndVersionToDisplay(MOCK_PRODUCT_ID, false, MOCK_RELEASED_VERSION)));
   }
@@ -125,18 +130,12 @@ class VersionServiceImplTest extends BaseSetup {
 
   @Test
   void testGetVersionsForDesigner() {
-    MavenArtifactVersion mockMavenArtifactVersion = new MavenArtifactVersion();
     List<String> mockVersions = List.of("11.3.0-SNAPSHOT", "11.1.1", "11.1.0", "10.0.2");
-    Metadata mockMetadata = getMockMetadata();
-    mockMetadata.setArtifactId(MOCK_PRODUCT_ARTIFACT_ID);
-    mockMetadata.setVersions(new HashSet<>());
-    mockMetadata.getVersions().addAll(mockVersions);
-    for (String version : mockVersions) {
-      mockMavenArtifactVersion.getProductArtifactsByVersion().put(version, new ArrayList<>());
-    }
+    when(productVersionIndexService.getIndex(MOCK_PRODUCT_ID)).thenReturn(
+        ProductVersionIndex.builder().productId(MOCK_PRODUCT_ID).designerVersions(List.of()).build(),
+        ProductVersionIndex.builder().productId(MOCK_PRODUCT_ID).designerVersions(mockVersions).build());
     List<VersionAndUrlModel> result = versionService.getVersionsForDesigner(MOCK_PRODUCT_ID);
     Assertions.assertTrue(CollectionUtils.isEmpty(result));
-    when(metadataRepo.findByProductId(MOCK_PRODUCT_ID)).thenReturn(List.of(mockMetadata));
     result = versionService.getVersionsForDesigner(MOCK_PRODUCT_ID);
     Assertions.assertEquals(result.stream().map(VersionAndUrlModel::getVersion).toList(), mockVersions);
     Assertions.assertTrue(result.get(0).getUrl().endsWith("/api/product-details/bpmn-statistic/11.3.0-SNAPSHOT/json"));
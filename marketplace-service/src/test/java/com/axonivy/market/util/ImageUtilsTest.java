@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,6 +21,19 @@ class ImageUtilsTest {
     Assertions.assertEquals(expectedValue, result.getSetup().get("de"));
   }
 
+  @Test
+  void testGetMediaType() {
+    Assertions.assertEquals(MediaType.IMAGE_PNG,
+        ImageUtils.getMediaType(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n'}));
+    Assertions.assertEquals(MediaType.IMAGE_JPEG,
+        ImageUtils.getMediaType(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0}));
+    Assertions.assertEquals(MediaType.IMAGE_GIF, ImageUtils.getMediaType("GIF89a".getBytes()));
+    Assertions.assertEquals(MediaType.valueOf("image/webp"), ImageUtils.getMediaType("RIFF0000WEBPVP8 ".getBytes()));
+    Assertions.assertEquals(MediaType.valueOf("image/svg+xml"),
+        ImageUtils.getMediaType("<?xml version=\"1.0\"?><svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes()));
+    Assertions.assertEquals(MediaType.IMAGE_PNG, ImageUtils.getMediaType("image data".getBytes()));
+  }
+
   private ProductModuleContent mockProductModuleContent() {
     ProductModuleContent productModuleContent = new ProductModuleContent();
     productModuleContent.setDescription(mockDescriptionForProductModuleContent());
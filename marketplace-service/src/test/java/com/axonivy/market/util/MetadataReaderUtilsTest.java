@@ -2,6 +2,7 @@ package com.axonivy.market.util;
 
 import com.axonivy.market.BaseSetup;
 import com.axonivy.market.bo.Artifact;
+import com.axonivy.market.bo.MavenMetadata;
 import com.axonivy.market.constants.MavenConstants;
 import com.axonivy.market.entity.Metadata;
 import org.junit.jupiter.api.Assertions;
@@ -14,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -56,6 +58,33 @@ class MetadataReaderUtilsTest extends BaseSetup {
     assertEquals("8.0.5-20221011.124215-170", metadata.getSnapshotVersionValue());
   }
 
+  @Test
+  void testReadMavenMetadata() {
+    MavenMetadata mavenMetadata = MetadataReaderUtils.readMavenMetadata(getMockMetadataContent());
+
+    assertEquals(List.of(MOCK_SPRINT_RELEASED_VERSION, MOCK_RELEASED_VERSION, MOCK_SNAPSHOT_VERSION),
+        mavenMetadata.versions());
+    assertEquals(MOCK_SPRINT_RELEASED_VERSION, mavenMetadata.latest());
+    assertEquals(MOCK_RELEASED_VERSION, mavenMetadata.release());
+    assertEquals("20230924010101", mavenMetadata.lastUpdated());
+    Assertions.assertNull(mavenMetadata.snapshotValue());
+  }
+
+  @Test
+  void testReadSnapshotMavenMetadata() {
+    MavenMetadata mavenMetadata = MetadataReaderUtils.readMavenMetadata(getMockSnapShotMetadataContent());
+
+    assertEquals("20221011.124215", mavenMetadata.snapshotTimestamp());
+    assertEquals("8.0.5-20221011.124215-170", mavenMetadata.snapshotValue());
+    assertEquals("20221011130000", mavenMetadata.lastUpdated());
+  }
+
+  @Test
+  void testReadInvalidMavenMetadata() {
+    assertEquals(MavenMetadata.EMPTY, MetadataReaderUtils.readMavenMetadata("<metadata><version>"));
+    assertEquals(MavenMetadata.EMPTY, MetadataReaderUtils.readMavenMetadata(null));
+  }
+
   @Test
   void testGetSnapshotVersionValue() {
     try (MockedStatic<MavenUtils> mockUtils = Mockito.mockStatic(MavenUtils.class)) {
@@ -1,6 +1,7 @@
 package com.axonivy.market.util;
 
 import com.axonivy.market.BaseSetup;
+import com.axonivy.market.model.VersionAndUrlModel;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -107,4 +108,18 @@ class VersionUtilsTest extends BaseSetup {
     Assertions.assertEquals(1, result.size());
     Assertions.assertEquals("2.0.0", result.get(0));
   }
+
+  @Test
+  void testGetCompatibilityRange() {
+    Assertions.assertNull(VersionUtils.getCompatibilityRange(Collections.emptyList()));
+    Assertions.assertEquals("10.0+", VersionUtils.getCompatibilityRange(getVersions(mockVersionAndUrlModels())));
+    Assertions.assertEquals("10.0 - 11.3+", VersionUtils.getCompatibilityRange(getVersions(mockVersionModels())));
+    Assertions.assertEquals("10.0 - 11.3+", VersionUtils.getCompatibilityRange(getVersions(mockVersionModels2())));
+    Assertions.assertEquals("10.0 - 12.0+", VersionUtils.getCompatibilityRange(getVersions(mockVersionModels3())));
+    Assertions.assertEquals("11.3+", VersionUtils.getCompatibilityRange(List.of("11.3.1")));
+  }
+
+  private static List<String> getVersions(List<VersionAndUrlModel> versionModels) {
+    return versionModels.stream().map(VersionAndUrlModel::getVersion).toList();
+  }
 }